@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.ingest;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.ingest.Processor;
+import org.opensearch.ingest.common.ConvertProcessor;
+import org.opensearch.ingest.common.DateProcessor;
+import org.opensearch.ingest.common.GsubProcessor;
+import org.opensearch.ingest.common.LowercaseProcessor;
+import org.opensearch.ingest.common.RemoveProcessor;
+import org.opensearch.ingest.common.RenameProcessor;
+import org.opensearch.ingest.common.SetProcessor;
+import org.opensearch.script.ScriptService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares executing an ingest processor on each document of a batch in turn, the way documents are processed when a pipeline
+ * is not run in batches, with executing it once on the whole batch.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ProcessorBatchExecuteBenchmark {
+
+    @Param({ "set", "rename", "convert", "date", "gsub", "lowercase", "remove" })
+    private String processorType;
+
+    @Param({ "100", "1000" })
+    private int batchSize;
+
+    private Processor processor;
+    private List<IngestDocumentWrapper> batch;
+
+    @Setup(Level.Trial)
+    public void setupProcessor() throws Exception {
+        // no script engine: property values are never templates
+        ScriptService scriptService = new ScriptService(Settings.EMPTY, Collections.emptyMap(), Collections.emptyMap());
+        Map<String, Object> config = new HashMap<>();
+        Processor.Factory factory;
+        switch (processorType) {
+            case "set":
+                factory = new SetProcessor.Factory(scriptService);
+                config.put("field", "event.dataset");
+                config.put("value", "benchmark");
+                break;
+            case "rename":
+                factory = new RenameProcessor.Factory(scriptService);
+                config.put("field", "message");
+                config.put("target_field", "event.original");
+                break;
+            case "convert":
+                factory = new ConvertProcessor.Factory();
+                config.put("field", "http.response.bytes");
+                config.put("type", "long");
+                break;
+            case "date":
+                factory = new DateProcessor.Factory(scriptService);
+                config.put("field", "timestamp");
+                config.put("formats", Collections.singletonList("dd/MMM/yyyy:HH:mm:ss Z"));
+                config.put("timezone", "Europe/Amsterdam");
+                break;
+            case "gsub":
+                factory = new GsubProcessor.Factory();
+                config.put("field", "url.path");
+                config.put("pattern", "/+");
+                config.put("replacement", "/");
+                break;
+            case "lowercase":
+                factory = new LowercaseProcessor.Factory();
+                config.put("field", "http.request.method");
+                break;
+            case "remove":
+                factory = new RemoveProcessor.Factory(scriptService);
+                config.put("field", Arrays.asList("agent", "referrer"));
+                break;
+            default:
+                throw new IllegalArgumentException("unknown processor type [" + processorType + "]");
+        }
+        processor = factory.create(Collections.emptyMap(), null, null, config);
+    }
+
+    // processors modify the documents, so every invocation gets fresh ones
+    @Setup(Level.Invocation)
+    public void setupBatch() {
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(new IngestDocumentWrapper(i, createDocument(i), null));
+        }
+    }
+
+    private static IngestDocument createDocument(int i) {
+        Map<String, Object> http = new HashMap<>();
+        Map<String, Object> request = new HashMap<>();
+        request.put("method", i % 2 == 0 ? "GET" : "POST");
+        http.put("request", request);
+        Map<String, Object> response = new HashMap<>();
+        response.put("bytes", Integer.toString(1024 + i));
+        http.put("response", response);
+        Map<String, Object> url = new HashMap<>();
+        url.put("path", "/index//_doc///" + i);
+
+        Map<String, Object> source = new HashMap<>();
+        source.put("message", "GET /index/_doc/" + i + " HTTP/1.1");
+        source.put("timestamp", "10/Oct/2024:13:55:" + (10 + i % 50) + " +0000");
+        source.put("http", http);
+        source.put("url", url);
+        source.put("agent", "Mozilla/5.0");
+        source.put("referrer", "-");
+        return new IngestDocument("index", Integer.toString(i), null, null, null, source);
+    }
+
+    @Benchmark
+    public void perDocument(Blackhole blackhole) {
+        for (IngestDocumentWrapper wrapper : batch) {
+            processor.execute(wrapper.getIngestDocument(), (result, e) -> blackhole.consume(e == null ? result : e));
+        }
+    }
+
+    @Benchmark
+    public void batch(Blackhole blackhole) {
+        processor.batchExecute(batch, blackhole::consume);
+    }
+}
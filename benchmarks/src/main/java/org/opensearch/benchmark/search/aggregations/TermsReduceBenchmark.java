@@ -125,7 +125,7 @@ public class TermsReduceBenchmark {
         @Param({ "1600172297" })
         long seed;
 
-        @Param({ "64", "128", "512" })
+        @Param({ "64", "128", "512", "1000" })
         int numShards;
 
         @Param({ "100" })
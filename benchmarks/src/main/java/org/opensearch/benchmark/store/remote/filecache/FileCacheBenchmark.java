@@ -37,6 +37,10 @@ import java.util.concurrent.TimeUnit;
  * Simple benchmark test of {@link FileCache}. It uses a uniform random distribution
  * of keys, which is very simple but unlikely to be representative of any real life
  * workload.
+ * <p>
+ * The {@code getAndDecRef} benchmarks mimic search threads reading cached files, which
+ * reference a file and release it once done. They run with 1, 8 and 64 threads to show how
+ * the eviction policies scale with the number of concurrent readers.
  */
 @Warmup(iterations = 1)
 @Measurement(iterations = 1)
@@ -54,6 +58,25 @@ public class FileCacheBenchmark {
         blackhole.consume(parameters.fileCache.get(randomKeyInCache(parameters)));
     }
 
+    @Benchmark
+    @Threads(1)
+    public void getAndDecRefSingleThread(CacheParameters parameters, Blackhole blackhole) {
+        getAndDecRef(parameters, blackhole);
+    }
+
+    @Benchmark
+    public void getAndDecRef(CacheParameters parameters, Blackhole blackhole) {
+        final Path key = randomKeyInCache(parameters);
+        blackhole.consume(parameters.fileCache.get(key));
+        parameters.fileCache.decRef(key);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void getAndDecRef64Threads(CacheParameters parameters, Blackhole blackhole) {
+        getAndDecRef(parameters, blackhole);
+    }
+
     @Benchmark
     public void replace(CacheParameters parameters, Blackhole blackhole) {
         blackhole.consume(parameters.fileCache.put(randomKeyInCache(parameters), INDEX_INPUT));
@@ -87,15 +110,20 @@ public class FileCacheBenchmark {
         @Param({ "1", "8" })
         int concurrencyLevel;
 
+        @Param({ "lru", "clock" })
+        String evictionPolicy;
+
         FileCache fileCache;
 
         @Setup
         public void setup() {
-            fileCache = FileCacheFactory.createConcurrentLRUFileCache(
-                (long) maximumNumberOfEntries * INDEX_INPUT.length(),
-                concurrencyLevel,
-                new NoopCircuitBreaker(CircuitBreaker.REQUEST)
-            );
+            final long capacity = (long) maximumNumberOfEntries * INDEX_INPUT.length();
+            final CircuitBreaker circuitBreaker = new NoopCircuitBreaker(CircuitBreaker.REQUEST);
+            if ("clock".equals(evictionPolicy)) {
+                fileCache = FileCacheFactory.createConcurrentClockFileCache(capacity, concurrencyLevel, circuitBreaker);
+            } else {
+                fileCache = FileCacheFactory.createConcurrentLRUFileCache(capacity, concurrencyLevel, circuitBreaker);
+            }
             for (long i = 0; i < maximumNumberOfEntries; i++) {
                 final Path key = Paths.get(Long.toString(i));
                 fileCache.put(key, INDEX_INPUT);
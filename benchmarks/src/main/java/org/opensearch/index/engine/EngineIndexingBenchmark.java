@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.TieredMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.env.ShardLock;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.VersionType;
+import org.opensearch.index.codec.CodecService;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.ParseContext;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.index.mapper.SourceFieldMapper;
+import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.seqno.RetentionLeases;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.index.translog.TranslogConfig;
+import org.opensearch.threadpool.ThreadPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures end-to-end indexing of documents with auto-generated ids into an {@link InternalEngine}, including the Lucene and
+ * translog writes, for regular indices and for append-only indices ({@code index.append_only.enabled}), whose appends take neither
+ * uid locks nor a place in the version map. Documents are indexed one at a time ({@code bulkSize} 1) or in blocks of operations
+ * like bulk shard requests do. The engine is refreshed every {@code docsPerRefresh} documents.
+ */
+@Fork(3)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class EngineIndexingBenchmark {
+
+    private static final BytesArray SOURCE = new BytesArray("{\"message\":\"the quick brown fox\"}".getBytes(StandardCharsets.UTF_8));
+
+    @Param({ "false", "true" })
+    public boolean appendOnly;
+
+    @Param({ "1", "100" })
+    public int bulkSize;
+
+    @Param({ "10000" })
+    public int docsPerRefresh;
+
+    private final AtomicLong indexedDocs = new AtomicLong();
+    private final AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
+    private Path dataPath;
+    private ThreadPool threadPool;
+    private Store store;
+    private InternalEngine engine;
+
+    @Setup
+    public void setup() throws IOException {
+        dataPath = Files.createTempDirectory("engine-indexing");
+        threadPool = new ThreadPool(Settings.builder().put("node.name", "benchmark").build());
+        final ShardId shardId = new ShardId("benchmark", UUIDs.randomBase64UUID(), 0);
+        final IndexMetadata indexMetadata = IndexMetadata.builder(shardId.getIndexName())
+            .settings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(IndexMetadata.SETTING_INDEX_UUID, shardId.getIndex().getUUID())
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                    .put(IndexSettings.INDEX_APPEND_ONLY_ENABLED_SETTING.getKey(), appendOnly)
+            )
+            .build();
+        final IndexSettings indexSettings = new IndexSettings(indexMetadata, Settings.EMPTY);
+        store = new Store(shardId, indexSettings, FSDirectory.open(dataPath.resolve("index")), new ShardLock(shardId) {
+            @Override
+            protected void closeInternal() {}
+        });
+        final Path translogPath = dataPath.resolve("translog");
+        store.createEmpty(Version.CURRENT.luceneVersion);
+        final String translogUUID = Translog.createEmptyTranslog(translogPath, SequenceNumbers.NO_OPS_PERFORMED, shardId, 1L);
+        store.associateIndexWithNewTranslog(translogUUID);
+
+        final EngineConfig config = new EngineConfig.Builder().shardId(shardId)
+            .threadPool(threadPool)
+            .indexSettings(indexSettings)
+            .store(store)
+            .mergePolicy(new TieredMergePolicy())
+            .analyzer(Lucene.STANDARD_ANALYZER)
+            .similarity(IndexSearcher.getDefaultSimilarity())
+            .codecService(new CodecService(null, indexSettings, LogManager.getLogger(EngineIndexingBenchmark.class)))
+            .eventListener(new Engine.EventListener() {})
+            .queryCache(IndexSearcher.getDefaultQueryCache())
+            .queryCachingPolicy(IndexSearcher.getDefaultQueryCachingPolicy())
+            .translogConfig(new TranslogConfig(shardId, translogPath, indexSettings, BigArrays.NON_RECYCLING_INSTANCE, "", false))
+            .flushMergesAfter(TimeValue.timeValueMinutes(5))
+            .externalRefreshListener(Collections.emptyList())
+            .internalRefreshListener(Collections.emptyList())
+            .circuitBreakerService(new NoneCircuitBreakerService())
+            .globalCheckpointSupplier(globalCheckpoint::get)
+            .retentionLeasesSupplier(() -> RetentionLeases.EMPTY)
+            .primaryTermSupplier(() -> 1L)
+            .build();
+        engine = new InternalEngine(config);
+        engine.translogManager().skipTranslogRecovery();
+    }
+
+    @TearDown(Level.Iteration)
+    public void flush() throws IOException {
+        // without replicas every processed operation is globally checkpointed, which lets the flush trim the translog
+        globalCheckpoint.set(engine.getProcessedLocalCheckpoint());
+        engine.translogManager().syncTranslog();
+        engine.flush(true, true);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        IOUtils.close(engine, store);
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        IOUtils.rm(dataPath);
+    }
+
+    @Benchmark
+    public void index() throws IOException {
+        if (bulkSize == 1) {
+            engine.index(newAppend());
+        } else {
+            final List<Engine.Index> operations = new ArrayList<>(bulkSize);
+            for (int i = 0; i < bulkSize; i++) {
+                operations.add(newAppend());
+            }
+            engine.indexAll(operations);
+        }
+        final long docs = indexedDocs.addAndGet(bulkSize);
+        if (docs / docsPerRefresh != (docs - bulkSize) / docsPerRefresh) {
+            engine.refresh("benchmark");
+        }
+    }
+
+    private static Engine.Index newAppend() {
+        final String id = UUIDs.base64UUID();
+        final ParseContext.Document document = new ParseContext.Document();
+        document.add(new TextField("message", "the quick brown fox", Field.Store.NO));
+        document.add(new Field(IdFieldMapper.NAME, Uid.encodeId(id), IdFieldMapper.Defaults.FIELD_TYPE));
+        final NumericDocValuesField versionField = new NumericDocValuesField("_version", 0);
+        document.add(versionField);
+        final SeqNoFieldMapper.SequenceIDFields seqID = SeqNoFieldMapper.SequenceIDFields.emptySeqID();
+        document.add(seqID.seqNo);
+        document.add(seqID.seqNoDocValue);
+        document.add(seqID.primaryTerm);
+        final BytesRef source = SOURCE.toBytesRef();
+        document.add(new StoredField(SourceFieldMapper.NAME, source.bytes, source.offset, source.length));
+        final ParsedDocument doc = new ParsedDocument(
+            versionField,
+            seqID,
+            id,
+            null,
+            Collections.singletonList(document),
+            SOURCE,
+            MediaTypeRegistry.JSON,
+            null
+        );
+        return new Engine.Index(
+            new Term(IdFieldMapper.NAME, Uid.encodeId(id)),
+            doc,
+            SequenceNumbers.UNASSIGNED_SEQ_NO,
+            1L,
+            Versions.MATCH_ANY,
+            VersionType.INTERNAL,
+            Engine.Operation.Origin.PRIMARY,
+            System.nanoTime(),
+            System.currentTimeMillis(),
+            false,
+            SequenceNumbers.UNASSIGNED_SEQ_NO,
+            0
+        );
+    }
+}
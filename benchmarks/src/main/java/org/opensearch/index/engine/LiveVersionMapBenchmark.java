@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.lease.Releasable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures only the version map bookkeeping of indexing documents under their uid lock, for regular indices and for append-only
+ * indices ({@code index.append_only.enabled}), with the map in unsafe mode and in safe access mode. The map is refreshed every
+ * {@code docsPerRefresh} documents, as the engine would. The documents with auto-generated ids of append-only indices skip this
+ * bookkeeping altogether; see {@link EngineIndexingBenchmark} for end-to-end indexing throughput.
+ */
+@Fork(3)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class LiveVersionMapBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean appendOnly;
+
+    @Param({ "false", "true" })
+    public boolean safeAccess;
+
+    @Param({ "10000" })
+    public int docsPerRefresh;
+
+    private LiveVersionMap versionMap;
+    private final AtomicLong seqNo = new AtomicLong();
+
+    @Setup
+    public void setup() {
+        versionMap = new LiveVersionMap();
+    }
+
+    @Benchmark
+    public void index() throws Exception {
+        final long docSeqNo = seqNo.getAndIncrement();
+        if (docSeqNo % docsPerRefresh == 0) {
+            synchronized (versionMap) {
+                versionMap.beforeRefresh();
+                versionMap.afterRefresh(true);
+            }
+        }
+        if (safeAccess) {
+            versionMap.enforceSafeAccess();
+        }
+        final BytesRef uid = new BytesRef(UUIDs.base64UUID());
+        final IndexVersionValue version = new IndexVersionValue(null, 1L, docSeqNo, 1L);
+        try (Releasable ignored = versionMap.acquireLock(uid)) {
+            if (appendOnly) {
+                versionMap.maybePutAppendedUnderLock(uid, version);
+            } else {
+                versionMap.maybePutIndexUnderLock(uid, version);
+            }
+        }
+    }
+}
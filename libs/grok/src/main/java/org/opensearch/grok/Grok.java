@@ -406,6 +406,17 @@ public final class Grok {
         return captureConfig;
     }
 
+    /**
+     * Returns literals that any text matched by the given grok pattern contains. A text that lacks one of them cannot match the
+     * pattern, which is much cheaper to check than running the regular expression. The list may be empty, and may not hold all
+     * the literals that the pattern requires.
+     *
+     * @param grokPattern the grok pattern, before its references to other patterns are resolved
+     */
+    public static List<String> requiredLiterals(String grokPattern) {
+        return GrokLiterals.required(grokPattern);
+    }
+
     /**
      * Load built-in patterns.
      */
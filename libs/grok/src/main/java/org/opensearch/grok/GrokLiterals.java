@@ -0,0 +1,192 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Extracts the literals that any text matched by a grok pattern contains, so that patterns can be ruled out for a text that
+ * lacks one of them without running the regular expression.
+ * <p>
+ * Only the literal text at the top level of the pattern is considered: references to other patterns, groups, character classes
+ * and quantified characters are skipped. Patterns using constructs whose effect on literals is not obvious, such as a top-level
+ * alternation, inline options or escapes taking arguments, have no required literals. Missing a literal only makes the
+ * prefiltering less selective, it never rules out a pattern that matches.
+ */
+final class GrokLiterals {
+
+    // escapes of a single letter that are not followed by arguments, they match a class of characters or a position
+    private static final String SIMPLE_ESCAPES = "dDsSwWbBhHAzZGRXNOKntrfvae";
+
+    private GrokLiterals() {}
+
+    static List<String> required(String grokPattern) {
+        final Set<String> literals = new LinkedHashSet<>();
+        final StringBuilder run = new StringBuilder();
+        final int length = grokPattern.length();
+        int depth = 0;
+        int i = 0;
+        while (i < length) {
+            final char c = grokPattern.charAt(i);
+            if (grokPattern.startsWith("%{", i)) {
+                final int end = grokPattern.indexOf('}', i + 2);
+                if (end == -1) {
+                    return Collections.emptyList();
+                }
+                flush(run, literals);
+                i = end + 1;
+                continue;
+            }
+            switch (c) {
+                case '\\': {
+                    if (i + 1 == length) {
+                        return Collections.emptyList();
+                    }
+                    final char escaped = grokPattern.charAt(i + 1);
+                    if (Character.isLetterOrDigit(escaped)) {
+                        if (SIMPLE_ESCAPES.indexOf(escaped) == -1) {
+                            return Collections.emptyList();
+                        }
+                        flush(run, literals);
+                        i += 2;
+                    } else {
+                        i = literal(grokPattern, escaped, i + 2, depth, run, literals);
+                    }
+                    break;
+                }
+                case '[':
+                    flush(run, literals);
+                    i = skipCharacterClass(grokPattern, i);
+                    if (i == -1) {
+                        return Collections.emptyList();
+                    }
+                    break;
+                case '(':
+                    if (grokPattern.startsWith("(?", i) && i + 2 < length) {
+                        final char next = grokPattern.charAt(i + 2);
+                        // comments and inline options, which may for instance make the pattern case insensitive
+                        if (next == '#' || next == '-' || Character.isLetter(next)) {
+                            return Collections.emptyList();
+                        }
+                    }
+                    flush(run, literals);
+                    depth++;
+                    i++;
+                    break;
+                case ')':
+                    flush(run, literals);
+                    if (--depth < 0) {
+                        return Collections.emptyList();
+                    }
+                    i++;
+                    break;
+                case '|':
+                    if (depth == 0) {
+                        return Collections.emptyList();
+                    }
+                    i++;
+                    break;
+                case '{': {
+                    // a repetition of the preceding group or reference
+                    flush(run, literals);
+                    final int end = grokPattern.indexOf('}', i + 1);
+                    i = end == -1 ? i + 1 : end + 1;
+                    break;
+                }
+                case '.':
+                case '^':
+                case '$':
+                case '?':
+                case '*':
+                case '+':
+                    flush(run, literals);
+                    i++;
+                    break;
+                default:
+                    if (Character.isSurrogate(c)) {
+                        flush(run, literals);
+                        i++;
+                    } else {
+                        i = literal(grokPattern, c, i + 1, depth, run, literals);
+                    }
+                    break;
+            }
+        }
+        if (depth != 0) {
+            return Collections.emptyList();
+        }
+        flush(run, literals);
+        return Collections.unmodifiableList(new ArrayList<>(literals));
+    }
+
+    /**
+     * Adds a literal character that ends before {@code next} to the current run, unless it is quantified, and returns the
+     * position of the next token.
+     */
+    private static int literal(String grokPattern, char c, int next, int depth, StringBuilder run, Set<String> literals) {
+        if (depth > 0) {
+            return next;
+        }
+        final char quantifier = next < grokPattern.length() ? grokPattern.charAt(next) : 0;
+        if (quantifier == '?' || quantifier == '*' || quantifier == '{') {
+            // the character may not occur
+            flush(run, literals);
+        } else if (quantifier == '+') {
+            // the character occurs, but what follows it may be another occurrence
+            run.append(c);
+            flush(run, literals);
+        } else {
+            run.append(c);
+        }
+        return next;
+    }
+
+    /**
+     * Returns the position after the character class that starts at the given position, or -1 if it is not closed.
+     */
+    private static int skipCharacterClass(String grokPattern, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < grokPattern.length()) {
+            final char c = grokPattern.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+                i++;
+                // a closing bracket right after the opening one, possibly negated, is a literal
+                if (i < grokPattern.length() && grokPattern.charAt(i) == '^') {
+                    i++;
+                }
+                if (i < grokPattern.length() && grokPattern.charAt(i) == ']') {
+                    i++;
+                }
+                continue;
+            }
+            if (c == ']' && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static void flush(StringBuilder run, Set<String> literals) {
+        if (run.length() > 0) {
+            literals.add(run.toString());
+            run.setLength(0);
+        }
+    }
+}
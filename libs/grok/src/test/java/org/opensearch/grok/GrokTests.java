@@ -763,6 +763,25 @@ public class GrokTests extends OpenSearchTestCase {
         assertThat(fromGrok, equalTo(new TreeMap<>(nameToType)));
     }
 
+    public void testRequiredLiterals() {
+        assertThat(Grok.requiredLiterals("%{IP:client} - %{WORD:method} \\[%{DATA:path}\\]"), equalTo(Arrays.asList(" - ", " [", "]")));
+        assertThat(Grok.requiredLiterals("GET /index"), equalTo(Collections.singletonList("GET /index")));
+        assertThat(Grok.requiredLiterals("%{WORD}"), equalTo(Collections.emptyList()));
+        // groups, character classes and quantified characters are skipped
+        assertThat(Grok.requiredLiterals("a(b|c)d[e\\]]f"), equalTo(Arrays.asList("a", "d", "f")));
+        assertThat(Grok.requiredLiterals("abc?d"), equalTo(Arrays.asList("ab", "d")));
+        assertThat(Grok.requiredLiterals("ab+c*d{2}e"), equalTo(Arrays.asList("ab", "e")));
+        assertThat(Grok.requiredLiterals("%{NUMBER}{2,3}x.y"), equalTo(Arrays.asList("x", "y")));
+        // escaped characters are literals, escaped letters are classes of characters or positions
+        assertThat(Grok.requiredLiterals("\\[%{DATA}\\]\\s+ok"), equalTo(Arrays.asList("[", "]", "ok")));
+        // patterns whose literals are not obvious have none
+        assertThat(Grok.requiredLiterals("foo|bar"), equalTo(Collections.emptyList()));
+        assertThat(Grok.requiredLiterals("(?i)foo"), equalTo(Collections.emptyList()));
+        assertThat(Grok.requiredLiterals("\\x41bc"), equalTo(Collections.emptyList()));
+        assertThat(Grok.requiredLiterals("foo(bar"), equalTo(Collections.emptyList()));
+        assertThat(Grok.requiredLiterals("foo%{WORD"), equalTo(Collections.emptyList()));
+    }
+
     private GrokCaptureConfig namedConfig(Grok grok, String name) {
         return grok.captureConfig().stream().filter(i -> i.name().equals(name)).findFirst().get();
     }
@@ -35,11 +35,13 @@ package org.opensearch.ingest.common;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Base class for processors that manipulate source strings and require a single "fields" array config value, which
@@ -51,12 +53,16 @@ abstract class AbstractStringProcessor<T> extends AbstractProcessor {
     private final String field;
     private final boolean ignoreMissing;
     private final String targetField;
+    private final CompiledFieldPath fieldPath;
+    private final CompiledFieldPath targetFieldPath;
 
     AbstractStringProcessor(String tag, String description, boolean ignoreMissing, String targetField, String field) {
         super(tag, description);
         this.field = field;
         this.ignoreMissing = ignoreMissing;
         this.targetField = targetField;
+        this.fieldPath = CompiledFieldPath.of(field);
+        this.targetFieldPath = CompiledFieldPath.of(targetField);
     }
 
     public String getField() {
@@ -73,7 +79,7 @@ abstract class AbstractStringProcessor<T> extends AbstractProcessor {
 
     @Override
     public final IngestDocument execute(IngestDocument document) {
-        Object val = document.getFieldValue(field, Object.class, ignoreMissing);
+        Object val = document.getFieldValue(fieldPath.resolve(document), Object.class, ignoreMissing);
         Object newValue;
 
         if (val == null && ignoreMissing) {
@@ -114,10 +120,15 @@ abstract class AbstractStringProcessor<T> extends AbstractProcessor {
 
         }
 
-        document.setFieldValue(targetField, newValue);
+        document.setFieldValue(targetFieldPath.resolve(document), newValue);
         return document;
     }
 
+    @Override
+    public final void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        executeSequentially(ingestDocumentWrappers, handler);
+    }
+
     protected abstract T process(String value);
 
     abstract static class Factory implements Processor.Factory {
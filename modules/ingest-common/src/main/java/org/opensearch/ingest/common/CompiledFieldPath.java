@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest.common;
+
+import org.opensearch.ingest.ConfigurationUtils;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.script.TemplateScript;
+
+/**
+ * The path of a field that a processor accesses in every document it processes. Paths that are the same for all documents are
+ * parsed once, templated paths are rendered and parsed for each document. Rendering a template copies the document into a
+ * template model, so skipping it for constant paths saves a map copy per document and field.
+ * <p>
+ * Invalid constant paths are not rejected up-front, they fail each document as they did before being compiled.
+ */
+final class CompiledFieldPath {
+
+    private final TemplateScript.Factory template;
+    private final String path;
+    private final IngestDocument.FieldPath parsed;
+
+    private CompiledFieldPath(TemplateScript.Factory template, String path) {
+        this.template = template;
+        this.path = path;
+        IngestDocument.FieldPath parsed = null;
+        if (path != null) {
+            try {
+                parsed = new IngestDocument.FieldPath(path);
+            } catch (IllegalArgumentException e) {
+                // reported when the path is used
+            }
+        }
+        this.parsed = parsed;
+    }
+
+    static CompiledFieldPath of(String path) {
+        return new CompiledFieldPath(null, path);
+    }
+
+    static CompiledFieldPath of(TemplateScript.Factory template) {
+        final String path = ConfigurationUtils.constantTemplateValue(template);
+        return new CompiledFieldPath(path == null ? template : null, path);
+    }
+
+    /**
+     * Returns the path of the field in the given document, which may be null or empty if it is rendered from a template
+     */
+    String render(IngestDocument document) {
+        return template == null ? path : document.renderTemplate(template);
+    }
+
+    /**
+     * Returns the parsed path of the field in the given document
+     *
+     * @throws IllegalArgumentException if the path is null, empty or invalid
+     */
+    IngestDocument.FieldPath resolve(IngestDocument document) {
+        return parsed != null ? parsed : new IngestDocument.FieldPath(render(document));
+    }
+
+    /**
+     * Returns the parsed form of a path returned by {@link #render}
+     *
+     * @throws IllegalArgumentException if the path is null, empty or invalid
+     */
+    IngestDocument.FieldPath resolve(String renderedPath) {
+        return parsed != null ? parsed : new IngestDocument.FieldPath(renderedPath);
+    }
+}
@@ -36,12 +36,14 @@ import org.opensearch.common.network.InetAddresses;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
 
@@ -184,6 +186,8 @@ public final class ConvertProcessor extends AbstractProcessor {
     private final String targetField;
     private final Type convertType;
     private final boolean ignoreMissing;
+    private final CompiledFieldPath fieldPath;
+    private final CompiledFieldPath targetFieldPath;
 
     ConvertProcessor(String tag, String description, String field, String targetField, Type convertType, boolean ignoreMissing) {
         super(tag, description);
@@ -191,6 +195,8 @@ public final class ConvertProcessor extends AbstractProcessor {
         this.targetField = targetField;
         this.convertType = convertType;
         this.ignoreMissing = ignoreMissing;
+        this.fieldPath = CompiledFieldPath.of(field);
+        this.targetFieldPath = CompiledFieldPath.of(targetField);
     }
 
     String getField() {
@@ -211,7 +217,7 @@ public final class ConvertProcessor extends AbstractProcessor {
 
     @Override
     public IngestDocument execute(IngestDocument document) {
-        Object oldValue = document.getFieldValue(field, Object.class, ignoreMissing);
+        Object oldValue = document.getFieldValue(fieldPath.resolve(document), Object.class, ignoreMissing);
         Object newValue;
 
         if (oldValue == null && ignoreMissing) {
@@ -230,10 +236,15 @@ public final class ConvertProcessor extends AbstractProcessor {
         } else {
             newValue = convertType.convert(oldValue);
         }
-        document.setFieldValue(targetField, newValue);
+        document.setFieldValue(targetFieldPath.resolve(document), newValue);
         return document;
     }
 
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        executeSequentially(ingestDocumentWrappers, handler);
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -39,6 +39,7 @@ import org.opensearch.common.util.LocaleUtils;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.script.ScriptService;
 import org.opensearch.script.TemplateScript;
@@ -47,9 +48,11 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public final class DateProcessor extends AbstractProcessor {
@@ -66,6 +69,10 @@ public final class DateProcessor extends AbstractProcessor {
     private final List<String> formats;
     private final List<Function<Map<String, Object>, Function<String, ZonedDateTime>>> dateParsers;
     private final String outputFormat;
+    // the date parsers, if they don't depend on the document because neither the timezone nor the locale is templated
+    private final List<Function<String, ZonedDateTime>> constantDateParsers;
+    private final CompiledFieldPath fieldPath;
+    private final CompiledFieldPath targetFieldPath;
 
     DateProcessor(
         String tag,
@@ -102,6 +109,30 @@ public final class DateProcessor extends AbstractProcessor {
         }
         this.outputFormat = outputFormat;
         formatter = DateFormatter.forPattern(this.outputFormat);
+        this.constantDateParsers = constantDateParsers();
+        this.fieldPath = CompiledFieldPath.of(field);
+        this.targetFieldPath = CompiledFieldPath.of(targetField);
+    }
+
+    /**
+     * Builds the date parsers once if the timezone and locale are the same for all documents, rather than building date
+     * formatters for each document. Returns null if they are templated, or if a parser cannot be built, in which case building
+     * it fails each document as it would have done otherwise.
+     */
+    private List<Function<String, ZonedDateTime>> constantDateParsers() {
+        if ((timezone != null && ConfigurationUtils.constantTemplateValue(timezone) == null)
+            || (locale != null && ConfigurationUtils.constantTemplateValue(locale) == null)) {
+            return null;
+        }
+        List<Function<String, ZonedDateTime>> parsers = new ArrayList<>(dateParsers.size());
+        try {
+            for (Function<Map<String, Object>, Function<String, ZonedDateTime>> dateParser : dateParsers) {
+                parsers.add(dateParser.apply(Collections.emptyMap()));
+            }
+        } catch (Exception e) {
+            return null;
+        }
+        return parsers;
     }
 
     private ZoneId newDateTimeZone(Map<String, Object> params) {
@@ -114,7 +145,7 @@ public final class DateProcessor extends AbstractProcessor {
 
     @Override
     public IngestDocument execute(IngestDocument ingestDocument) {
-        Object obj = ingestDocument.getFieldValue(field, Object.class);
+        Object obj = ingestDocument.getFieldValue(fieldPath.resolve(ingestDocument), Object.class);
         String value = null;
         if (obj != null) {
             // Not use Objects.toString(...) here, because null gets changed to "null" which may confuse some date parsers
@@ -123,9 +154,12 @@ public final class DateProcessor extends AbstractProcessor {
 
         ZonedDateTime dateTime = null;
         Exception lastException = null;
-        for (Function<Map<String, Object>, Function<String, ZonedDateTime>> dateParser : dateParsers) {
+        for (int i = 0; i < dateParsers.size(); i++) {
             try {
-                dateTime = dateParser.apply(ingestDocument.getSourceAndMetadata()).apply(value);
+                Function<String, ZonedDateTime> dateParser = constantDateParsers != null
+                    ? constantDateParsers.get(i)
+                    : dateParsers.get(i).apply(ingestDocument.getSourceAndMetadata());
+                dateTime = dateParser.apply(value);
             } catch (Exception e) {
                 // try the next parser and keep track of the exceptions
                 lastException = ExceptionsHelper.useOrSuppress(lastException, e);
@@ -136,10 +170,15 @@ public final class DateProcessor extends AbstractProcessor {
             throw new IllegalArgumentException("unable to parse date [" + value + "]", lastException);
         }
 
-        ingestDocument.setFieldValue(targetField, formatter.format(dateTime));
+        ingestDocument.setFieldValue(targetFieldPath.resolve(ingestDocument), formatter.format(dateTime));
         return ingestDocument;
     }
 
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        executeSequentially(ingestDocumentWrappers, handler);
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -34,6 +34,8 @@ package org.opensearch.ingest.common;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.grok.Grok;
 import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.ingest.AbstractProcessor;
@@ -41,9 +43,12 @@ import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.Processor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
 
@@ -51,13 +56,29 @@ public final class GrokProcessor extends AbstractProcessor {
 
     public static final String TYPE = "grok";
     private static final String PATTERN_MATCH_KEY = "_ingest._grok_match_index";
+    private static final String PATTERN_MATCH_KEY_PREFIX = PATTERN_MATCH_KEY + ".";
     private static final Logger logger = LogManager.getLogger(GrokProcessor.class);
 
+    // the patterns that may match a text are tracked as the bits of a long
+    private static final int MAX_PREFILTERED_PATTERNS = Long.SIZE;
+    // how many alternations of subsets of the patterns may be compiled, on top of the alternation of all of them
+    static final int MAX_COMPILED_SUBSETS = 64;
+    // how many leading characters of a text its message template is derived from
+    private static final int MESSAGE_TEMPLATE_SOURCE_LENGTH = 256;
+
     private final String matchField;
     private final List<String> matchPatterns;
     private final Grok grok;
     private final boolean traceMatch;
     private final boolean ignoreMissing;
+    private final Map<String, String> patternBank;
+    private final MatcherWatchdog matcherWatchdog;
+    private final long allPatterns;
+    // the literals required by each pattern, or null if no pattern can be ruled out this way
+    private final List<List<String>> requiredLiterals;
+    private final ConcurrentMap<Long, Grok> subsetGroks = new ConcurrentHashMap<>();
+    // the pattern that matched the last text of each message template, or null if disabled
+    private final Cache<String, Integer> matchCache;
 
     GrokProcessor(
         String tag,
@@ -68,6 +89,20 @@ public final class GrokProcessor extends AbstractProcessor {
         boolean traceMatch,
         boolean ignoreMissing,
         MatcherWatchdog matcherWatchdog
+    ) {
+        this(tag, description, patternBank, matchPatterns, matchField, traceMatch, ignoreMissing, matcherWatchdog, 0);
+    }
+
+    GrokProcessor(
+        String tag,
+        String description,
+        Map<String, String> patternBank,
+        List<String> matchPatterns,
+        String matchField,
+        boolean traceMatch,
+        boolean ignoreMissing,
+        MatcherWatchdog matcherWatchdog,
+        int matchCacheSize
     ) {
         super(tag, description);
         this.matchField = matchField;
@@ -75,9 +110,33 @@ public final class GrokProcessor extends AbstractProcessor {
         this.grok = new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::debug);
         this.traceMatch = traceMatch;
         this.ignoreMissing = ignoreMissing;
+        this.patternBank = patternBank;
+        this.matcherWatchdog = matcherWatchdog;
         // Joni warnings are only emitted on an attempt to match, and the warning emitted for every call to match which is too verbose
         // so here we emit a warning (if there is one) to the logfile at warn level on construction / processor creation.
         new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::warn).match("___nomatch___");
+
+        final boolean selectable = matchPatterns.size() <= MAX_PREFILTERED_PATTERNS;
+        this.allPatterns = selectable ? -1L >>> (Long.SIZE - matchPatterns.size()) : -1L;
+        List<List<String>> requiredLiterals = null;
+        if (selectable) {
+            requiredLiterals = new ArrayList<>(matchPatterns.size());
+            boolean anyLiteral = false;
+            for (String matchPattern : matchPatterns) {
+                List<String> literals = Grok.requiredLiterals(matchPattern);
+                anyLiteral |= literals.isEmpty() == false;
+                requiredLiterals.add(literals);
+            }
+            if (anyLiteral == false) {
+                requiredLiterals = null;
+            }
+        }
+        this.requiredLiterals = requiredLiterals;
+        if (selectable && matchPatterns.size() > 1 && matchCacheSize > 0) {
+            this.matchCache = CacheBuilder.<String, Integer>builder().setMaximumWeight(matchCacheSize).build();
+        } else {
+            this.matchCache = null;
+        }
     }
 
     @Override
@@ -90,7 +149,7 @@ public final class GrokProcessor extends AbstractProcessor {
             throw new IllegalArgumentException("field [" + matchField + "] is null, cannot process it.");
         }
 
-        Map<String, Object> matches = grok.captures(fieldValue);
+        Map<String, Object> matches = captures(fieldValue);
         if (matches == null) {
             throw new IllegalArgumentException("Provided Grok expressions do not match field value: [" + fieldValue + "]");
         }
@@ -109,6 +168,131 @@ public final class GrokProcessor extends AbstractProcessor {
         return ingestDocument;
     }
 
+    /**
+     * Matches the text against the alternation of the patterns, leaving out the patterns that cannot match it because it lacks
+     * one of their required literals. The outcome is the same as matching against all the patterns, unless the match cache is
+     * enabled: the pattern that matched the previous text of the same message template is then tried first, and its match is
+     * used even if a pattern that comes first in the list would have matched as well.
+     */
+    private Map<String, Object> captures(String text) {
+        if (requiredLiterals == null && matchCache == null) {
+            return grok.captures(text);
+        }
+        long candidates = candidates(text);
+        if (candidates == 0) {
+            return null;
+        }
+        String template = null;
+        if (matchCache != null) {
+            template = messageTemplate(text);
+            final Integer cached = matchCache.get(template);
+            if (cached != null) {
+                final long pattern = 1L << cached;
+                if ((candidates & pattern) != 0 && candidates != pattern) {
+                    final Map<String, Object> matches = subsetGrok(pattern).captures(text);
+                    if (matches != null) {
+                        return withoutMatchIndex(matches);
+                    }
+                    // the pattern doesn't match anywhere in the text, leaving it out doesn't change the outcome
+                    candidates &= ~pattern;
+                }
+            }
+        }
+        final Grok subsetGrok = subsetGrok(candidates);
+        final Map<String, Object> matches = subsetGrok.captures(text);
+        if (matches != null && matchCache != null) {
+            final int matchedPattern = matchedPattern(matches, candidates);
+            if (matchedPattern >= 0) {
+                matchCache.put(template, matchedPattern);
+            }
+        }
+        return withoutMatchIndex(matches);
+    }
+
+    /**
+     * Returns the patterns that the text contains the required literals of
+     */
+    private long candidates(String text) {
+        if (requiredLiterals == null) {
+            return allPatterns;
+        }
+        long candidates = 0;
+        for (int i = 0; i < requiredLiterals.size(); i++) {
+            boolean candidate = true;
+            for (String literal : requiredLiterals.get(i)) {
+                if (text.contains(literal) == false) {
+                    candidate = false;
+                    break;
+                }
+            }
+            if (candidate) {
+                candidates |= 1L << i;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the grok of the alternation of the given patterns. The alternations of subsets of the patterns name the pattern
+     * that matched if the match cache is enabled, so that it can be recorded.
+     */
+    private Grok subsetGrok(long patterns) {
+        if (patterns == allPatterns && (traceMatch || matchCache == null)) {
+            return grok;
+        }
+        Grok subsetGrok = subsetGroks.get(patterns);
+        if (subsetGrok == null) {
+            if (subsetGroks.size() >= MAX_COMPILED_SUBSETS) {
+                // the patterns that are left out cannot match, so matching against all of them has the same outcome
+                return grok;
+            }
+            final boolean nameMatchedPattern = traceMatch || matchCache != null;
+            subsetGrok = subsetGroks.computeIfAbsent(
+                patterns,
+                p -> new Grok(patternBank, combinePatterns(matchPatterns, p, nameMatchedPattern), matcherWatchdog, logger::debug)
+            );
+        }
+        return subsetGrok;
+    }
+
+    /**
+     * Returns the index of the pattern that produced the given matches, or -1 if it is unknown
+     */
+    private static int matchedPattern(Map<String, Object> matches, long candidates) {
+        if (Long.bitCount(candidates) == 1) {
+            return Long.numberOfTrailingZeros(candidates);
+        }
+        for (String key : matches.keySet()) {
+            if (key.startsWith(PATTERN_MATCH_KEY_PREFIX)) {
+                return Integer.parseInt(key.substring(PATTERN_MATCH_KEY_PREFIX.length()));
+            }
+        }
+        return -1;
+    }
+
+    private Map<String, Object> withoutMatchIndex(Map<String, Object> matches) {
+        if (matches != null && matchCache != null && traceMatch == false) {
+            matches.keySet().removeIf(key -> key.startsWith(PATTERN_MATCH_KEY_PREFIX));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the message template of a text: its punctuation and whitespace, which texts of the same format share whatever
+     * values they hold.
+     */
+    static String messageTemplate(String text) {
+        final int length = Math.min(text.length(), MESSAGE_TEMPLATE_SOURCE_LENGTH);
+        final StringBuilder template = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c) == false) {
+                template.append(c);
+            }
+        }
+        return template.toString();
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -131,10 +315,20 @@ public final class GrokProcessor extends AbstractProcessor {
     }
 
     static String combinePatterns(List<String> patterns, boolean traceMatch) {
+        return combinePatterns(patterns, -1L, traceMatch);
+    }
+
+    /**
+     * Combines the patterns whose bits are set in the given subset, patterns beyond the 64th are always included
+     */
+    static String combinePatterns(List<String> patterns, long subset, boolean traceMatch) {
         String combinedPattern;
         if (patterns.size() > 1) {
             combinedPattern = "";
             for (int i = 0; i < patterns.size(); i++) {
+                if (i < Long.SIZE && (subset & (1L << i)) == 0) {
+                    continue;
+                }
                 String pattern = patterns.get(i);
                 String valueWrap;
                 if (traceMatch) {
@@ -176,10 +370,14 @@ public final class GrokProcessor extends AbstractProcessor {
             List<String> matchPatterns = ConfigurationUtils.readList(TYPE, processorTag, config, "patterns");
             boolean traceMatch = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, "trace_match", false);
             boolean ignoreMissing = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, "ignore_missing", false);
+            int matchCacheSize = ConfigurationUtils.readIntProperty(TYPE, processorTag, config, "match_cache_size", 0);
 
             if (matchPatterns.isEmpty()) {
                 throw newConfigurationException(TYPE, processorTag, "patterns", "List of patterns must not be empty");
             }
+            if (matchCacheSize < 0) {
+                throw newConfigurationException(TYPE, processorTag, "match_cache_size", "must not be negative");
+            }
             Map<String, String> customPatternBank = ConfigurationUtils.readOptionalMap(TYPE, processorTag, config, "pattern_definitions");
             Map<String, String> patternBank = new HashMap<>(builtinPatterns);
             if (customPatternBank != null) {
@@ -195,7 +393,8 @@ public final class GrokProcessor extends AbstractProcessor {
                     matchField,
                     traceMatch,
                     ignoreMissing,
-                    matcherWatchdog
+                    matcherWatchdog,
+                    matchCacheSize
                 );
             } catch (Exception e) {
                 throw newConfigurationException(
@@ -38,16 +38,20 @@ import org.opensearch.index.VersionType;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.script.ScriptService;
 import org.opensearch.script.TemplateScript;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
@@ -59,9 +63,16 @@ public final class RemoveProcessor extends AbstractProcessor {
 
     public static final String TYPE = "remove";
 
+    private static final Set<String> METADATA_FIELDS = Collections.unmodifiableSet(
+        Arrays.stream(IngestDocument.Metadata.values()).map(IngestDocument.Metadata::getFieldName).collect(Collectors.toSet())
+    );
+
     private final List<TemplateScript.Factory> fields;
     private final List<TemplateScript.Factory> excludeFields;
     private final boolean ignoreMissing;
+    private final List<CompiledFieldPath> fieldPaths;
+    // the fields to keep if none of them is templated, null otherwise
+    private final Set<String> constantExcludeFieldSet;
 
     RemoveProcessor(
         String tag,
@@ -77,9 +88,13 @@ public final class RemoveProcessor extends AbstractProcessor {
         if (fields != null) {
             this.fields = new ArrayList<>(fields);
             this.excludeFields = null;
+            this.fieldPaths = fields.stream().map(CompiledFieldPath::of).collect(Collectors.toList());
+            this.constantExcludeFieldSet = null;
         } else {
             this.fields = null;
             this.excludeFields = new ArrayList<>(excludeFields);
+            this.fieldPaths = null;
+            this.constantExcludeFieldSet = constantExcludeFieldSet(excludeFields);
         }
 
         this.ignoreMissing = ignoreMissing;
@@ -93,13 +108,28 @@ public final class RemoveProcessor extends AbstractProcessor {
         return excludeFields;
     }
 
+    private static Set<String> constantExcludeFieldSet(List<TemplateScript.Factory> excludeFields) {
+        Set<String> excludeFieldSet = new HashSet<>();
+        for (TemplateScript.Factory excludeField : excludeFields) {
+            String path = ConfigurationUtils.constantTemplateValue(excludeField);
+            if (path == null) {
+                return null;
+            }
+            // ignore the empty field path
+            if (!path.isEmpty()) {
+                excludeFieldSet.add(path);
+            }
+        }
+        return excludeFieldSet;
+    }
+
     @Override
     public IngestDocument execute(IngestDocument document) {
         if (fields != null && !fields.isEmpty()) {
-            fields.forEach(field -> {
-                String path = document.renderTemplate(field);
+            fieldPaths.forEach(fieldPath -> {
+                String path = fieldPath.render(document);
                 final boolean fieldPathIsNullOrEmpty = Strings.isNullOrEmpty(path);
-                if (fieldPathIsNullOrEmpty || document.hasField(path) == false) {
+                if (fieldPathIsNullOrEmpty || document.hasField(fieldPath.resolve(path), false) == false) {
                     if (ignoreMissing) {
                         return;
                     } else if (fieldPathIsNullOrEmpty) {
@@ -129,39 +159,42 @@ public final class RemoveProcessor extends AbstractProcessor {
                         );
                     }
                 }
-                document.removeField(path);
+                document.removeField(fieldPath.resolve(path));
             });
         }
 
         if (excludeFields != null && !excludeFields.isEmpty()) {
-            Set<String> excludeFieldSet = new HashSet<>();
-            excludeFields.forEach(field -> {
-                String path = document.renderTemplate(field);
-                // ignore the empty or null field path
-                if (!Strings.isNullOrEmpty(path)) {
-                    excludeFieldSet.add(path);
+            Set<String> excludeFieldSet = constantExcludeFieldSet;
+            if (excludeFieldSet == null) {
+                excludeFieldSet = new HashSet<>();
+                for (TemplateScript.Factory field : excludeFields) {
+                    String path = document.renderTemplate(field);
+                    // ignore the empty or null field path
+                    if (!Strings.isNullOrEmpty(path)) {
+                        excludeFieldSet.add(path);
+                    }
                 }
-            });
+            }
 
             if (!excludeFieldSet.isEmpty()) {
                 Set<String> existingFields = new HashSet<>(document.getSourceAndMetadata().keySet());
-                Set<String> metadataFields = document.getMetadata()
-                    .keySet()
-                    .stream()
-                    .map(IngestDocument.Metadata::getFieldName)
-                    .collect(Collectors.toSet());
-                existingFields.forEach(field -> {
+                for (String field : existingFields) {
                     // ignore metadata fields such as _index, _id, etc.
-                    if (!metadataFields.contains(field) && !excludeFieldSet.contains(field)) {
+                    if (!METADATA_FIELDS.contains(field) && !excludeFieldSet.contains(field)) {
                         document.removeField(field);
                     }
-                });
+                }
             }
         }
 
         return document;
     }
 
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        executeSequentially(ingestDocumentWrappers, handler);
+    }
+
     @Override
     public String getType() {
         return TYPE;
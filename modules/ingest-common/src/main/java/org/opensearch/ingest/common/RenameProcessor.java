@@ -36,11 +36,14 @@ import org.opensearch.core.common.Strings;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.script.ScriptService;
 import org.opensearch.script.TemplateScript;
 
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Processor that allows to rename existing fields. Will throw exception if the field is not present.
@@ -53,6 +56,8 @@ public final class RenameProcessor extends AbstractProcessor {
     private final TemplateScript.Factory targetField;
     private final boolean ignoreMissing;
     private final boolean overrideTarget;
+    private final CompiledFieldPath fieldPath;
+    private final CompiledFieldPath targetFieldPath;
 
     RenameProcessor(
         String tag,
@@ -67,6 +72,8 @@ public final class RenameProcessor extends AbstractProcessor {
         this.targetField = targetField;
         this.ignoreMissing = ignoreMissing;
         this.overrideTarget = overrideTarget;
+        this.fieldPath = CompiledFieldPath.of(field);
+        this.targetFieldPath = CompiledFieldPath.of(targetField);
     }
 
     TemplateScript.Factory getField() {
@@ -87,9 +94,9 @@ public final class RenameProcessor extends AbstractProcessor {
 
     @Override
     public IngestDocument execute(IngestDocument document) {
-        String path = document.renderTemplate(field);
+        String path = fieldPath.render(document);
         final boolean fieldPathIsNullOrEmpty = Strings.isNullOrEmpty(path);
-        if (fieldPathIsNullOrEmpty || document.hasField(path, true) == false) {
+        if (fieldPathIsNullOrEmpty || document.hasField(fieldPath.resolve(path), true) == false) {
             if (ignoreMissing) {
                 return document;
             } else if (fieldPathIsNullOrEmpty) {
@@ -103,23 +110,29 @@ public final class RenameProcessor extends AbstractProcessor {
         // and then on failure processors would not see that value we tried to rename as we already
         // removed it. If the target field is out of range, we throw the exception no matter
         // what the parameter overrideTarget is.
-        String target = document.renderTemplate(targetField);
+        final IngestDocument.FieldPath source = fieldPath.resolve(path);
+        final IngestDocument.FieldPath target = targetFieldPath.resolve(document);
         if (document.hasField(target, true) && !overrideTarget) {
             throw new IllegalArgumentException("field [" + target + "] already exists");
         }
 
-        Object value = document.getFieldValue(path, Object.class);
-        document.removeField(path);
+        Object value = document.getFieldValue(source, Object.class);
+        document.removeField(source);
         try {
             document.setFieldValue(target, value);
         } catch (Exception e) {
             // setting the value back to the original field shouldn't as we just fetched it from that field:
-            document.setFieldValue(path, value);
+            document.setFieldValue(source, value);
             throw e;
         }
         return document;
     }
 
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        executeSequentially(ingestDocumentWrappers, handler);
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -35,12 +35,16 @@ package org.opensearch.ingest.common;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ingest.ValueSource;
 import org.opensearch.script.ScriptService;
 import org.opensearch.script.TemplateScript;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Processor that adds new fields with their corresponding values. If the field is already present, its value
@@ -54,6 +58,9 @@ public final class SetProcessor extends AbstractProcessor {
     private final TemplateScript.Factory field;
     private final ValueSource value;
     private final boolean ignoreEmptyValue;
+    private final CompiledFieldPath fieldPath;
+    // whether the value doesn't depend on the document, it is then resolved without building a template model
+    private final boolean constantValue;
 
     SetProcessor(String tag, String description, TemplateScript.Factory field, ValueSource value) {
         this(tag, description, field, value, true, false);
@@ -72,6 +79,8 @@ public final class SetProcessor extends AbstractProcessor {
         this.field = field;
         this.value = value;
         this.ignoreEmptyValue = ignoreEmptyValue;
+        this.fieldPath = CompiledFieldPath.of(field);
+        this.constantValue = value instanceof ValueSource.ObjectValue || value instanceof ValueSource.ByteValue;
     }
 
     public boolean isOverrideEnabled() {
@@ -92,12 +101,23 @@ public final class SetProcessor extends AbstractProcessor {
 
     @Override
     public IngestDocument execute(IngestDocument document) {
-        if (overrideEnabled || document.hasField(field) == false || document.getFieldValue(field, Object.class) == null) {
-            document.setFieldValue(field, value, ignoreEmptyValue);
+        final IngestDocument.FieldPath path = fieldPath.resolve(document);
+        if (overrideEnabled || document.hasField(path, false) == false || document.getFieldValue(path, Object.class) == null) {
+            if (constantValue) {
+                // ignoreEmptyValue only applies to templated values
+                document.setFieldValue(path, value.copyAndResolve(Collections.emptyMap()));
+            } else {
+                document.setFieldValue(field, value, ignoreEmptyValue);
+            }
         }
         return document;
     }
 
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        executeSequentially(ingestDocumentWrappers, handler);
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -32,7 +32,9 @@
 
 package org.opensearch.ingest.common;
 
+import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.RandomDocumentPicks;
 import org.opensearch.ingest.TestTemplateService;
 import org.opensearch.script.TemplateScript;
@@ -318,6 +320,55 @@ public class DateProcessorTests extends OpenSearchTestCase {
         assertThat(e.getCause().getMessage(), equalTo("Unknown language: invalid"));
     }
 
+    public void testConstantTimezoneAndLocale() {
+        DateProcessor processor = new DateProcessor(
+            randomAlphaOfLength(10),
+            null,
+            ConfigurationUtils.compileTemplate(DateProcessor.TYPE, null, "timezone", "Europe/Amsterdam", TestTemplateService.instance()),
+            ConfigurationUtils.compileTemplate(DateProcessor.TYPE, null, "locale", "en", TestTemplateService.instance()),
+            "date_as_string",
+            Collections.singletonList("yyyy dd MM HH:mm:ss"),
+            "date_as_date"
+        );
+        String[] dates = { "2010 12 06 11:05:15", "invalid", "2010 13 06 11:05:15" };
+        List<IngestDocumentWrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < dates.length; i++) {
+            Map<String, Object> document = new HashMap<>();
+            document.put("date_as_string", dates[i]);
+            wrappers.add(new IngestDocumentWrapper(i, RandomDocumentPicks.randomIngestDocument(random(), document), null));
+        }
+        List<List<IngestDocumentWrapper>> results = new ArrayList<>();
+        processor.batchExecute(wrappers, results::add);
+        assertThat(results.size(), equalTo(1));
+        List<IngestDocumentWrapper> batch = results.get(0);
+        assertThat(batch.size(), equalTo(3));
+        assertThat(batch.get(0).getIngestDocument().getFieldValue("date_as_date", String.class), equalTo("2010-06-12T11:05:15.000+02:00"));
+        assertThat(batch.get(1).getSlot(), equalTo(1));
+        assertNull(batch.get(1).getIngestDocument());
+        assertThat(batch.get(1).getException().getMessage(), equalTo("unable to parse date [invalid]"));
+        assertThat(batch.get(2).getIngestDocument().getFieldValue("date_as_date", String.class), equalTo("2010-06-13T11:05:15.000+02:00"));
+    }
+
+    public void testInvalidConstantTimezone() {
+        DateProcessor processor = new DateProcessor(
+            randomAlphaOfLength(10),
+            null,
+            ConfigurationUtils.compileTemplate(DateProcessor.TYPE, null, "timezone", "invalid_timezone", TestTemplateService.instance()),
+            null,
+            "date_as_string",
+            Collections.singletonList("yyyy"),
+            "date_as_date"
+        );
+        Map<String, Object> document = new HashMap<>();
+        document.put("date_as_string", "2010");
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> processor.execute(RandomDocumentPicks.randomIngestDocument(random(), document))
+        );
+        assertThat(e.getMessage(), equalTo("unable to parse date [2010]"));
+        assertThat(e.getCause().getMessage(), equalTo("Unknown time-zone ID: invalid_timezone"));
+    }
+
     public void testOutputFormat() {
         long nanosAfterEpoch = randomLongBetween(1, 999999);
         DateProcessor processor = new DateProcessor(
@@ -100,6 +100,16 @@ public class GrokProcessorFactoryTests extends OpenSearchTestCase {
         assertThat(e.getMessage(), equalTo("[patterns] List of patterns must not be empty"));
     }
 
+    public void testBuildNegativeMatchCacheSize() throws Exception {
+        GrokProcessor.Factory factory = new GrokProcessor.Factory(Collections.emptyMap(), MatcherWatchdog.noop());
+        Map<String, Object> config = new HashMap<>();
+        config.put("field", "foo");
+        config.put("patterns", Collections.singletonList("(?<foo>\\w+)"));
+        config.put("match_cache_size", -1);
+        OpenSearchParseException e = expectThrows(OpenSearchParseException.class, () -> factory.create(null, null, null, config));
+        assertThat(e.getMessage(), equalTo("[match_cache_size] must not be negative"));
+    }
+
     public void testCreateWithCustomPatterns() throws Exception {
         GrokProcessor.Factory factory = new GrokProcessor.Factory(Collections.emptyMap(), MatcherWatchdog.noop());
 
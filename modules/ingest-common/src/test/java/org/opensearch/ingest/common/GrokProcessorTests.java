@@ -398,4 +398,84 @@ public class GrokProcessorTests extends OpenSearchTestCase {
         assertFalse(doc.hasField("first"));
         assertThat(doc.getFieldValue("second", String.class), equalTo("3"));
     }
+
+    public void testPrefilteredPatterns() throws Exception {
+        Map<String, String> patternBank = new HashMap<>();
+        patternBank.put("NUMBER", "[0-9]+");
+        patternBank.put("WORD", "[a-z]+");
+        boolean traceMatch = randomBoolean();
+        GrokProcessor processor = new GrokProcessor(
+            randomAlphaOfLength(10),
+            null,
+            patternBank,
+            Arrays.asList("%{WORD:word} took %{NUMBER:took}ms", "%{WORD:word} failed: %{WORD:reason}", "%{WORD:word} %{NUMBER:code}"),
+            "message",
+            traceMatch,
+            false,
+            MatcherWatchdog.noop()
+        );
+        for (int i = 0; i < 10; i++) {
+            IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+            doc.setFieldValue("message", "search took 12ms");
+            processor.execute(doc);
+            assertThat(doc.getFieldValue("took", String.class), equalTo("12"));
+            assertThat(doc.hasField("code"), equalTo(false));
+            assertThat(doc.hasField("_ingest._grok_match_index"), equalTo(traceMatch));
+            if (traceMatch) {
+                assertThat(doc.getFieldValue("_ingest._grok_match_index", String.class), equalTo("0"));
+            }
+
+            doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+            doc.setFieldValue("message", "search 404");
+            processor.execute(doc);
+            assertThat(doc.getFieldValue("code", String.class), equalTo("404"));
+            assertThat(doc.hasField("took"), equalTo(false));
+            if (traceMatch) {
+                assertThat(doc.getFieldValue("_ingest._grok_match_index", String.class), equalTo("2"));
+            }
+
+            // contains the literals of the first pattern, but only matches the last one
+            doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+            doc.setFieldValue("message", "index 500 took ms");
+            processor.execute(doc);
+            assertThat(doc.getFieldValue("code", String.class), equalTo("500"));
+
+            IngestDocument noMatch = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+            noMatch.setFieldValue("message", "Search: failed");
+            Exception e = expectThrows(Exception.class, () -> processor.execute(noMatch));
+            assertThat(e.getMessage(), equalTo("Provided Grok expressions do not match field value: [Search: failed]"));
+        }
+    }
+
+    public void testMatchCache() throws Exception {
+        Map<String, String> patternBank = new HashMap<>();
+        patternBank.put("NUMBER", "[0-9]+");
+        patternBank.put("WORD", "[a-z]+");
+        patternBank.put("DATA", ".*");
+        GrokProcessor processor = new GrokProcessor(
+            randomAlphaOfLength(10),
+            null,
+            patternBank,
+            Arrays.asList("%{WORD:first} %{NUMBER:number}", "%{WORD:second} %{DATA:word}"),
+            "message",
+            false,
+            false,
+            MatcherWatchdog.noop(),
+            10
+        );
+        IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue("message", "get abc");
+        processor.execute(doc);
+        assertThat(doc.getFieldValue("word", String.class), equalTo("abc"));
+        assertThat(doc.hasField("_ingest._grok_match_index"), equalTo(false));
+
+        // the pattern that matched the previous text of the same template is tried first, even though the first pattern matches
+        doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue("message", "get 123");
+        processor.execute(doc);
+        assertThat(doc.getFieldValue("word", String.class), equalTo("123"));
+        assertThat(doc.hasField("number"), equalTo(false));
+
+        assertThat(GrokProcessor.messageTemplate("GET /index/_doc/1 HTTP/1.1"), equalTo(" //_/ /."));
+    }
 }
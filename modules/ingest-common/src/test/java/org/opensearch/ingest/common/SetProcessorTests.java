@@ -34,6 +34,7 @@ package org.opensearch.ingest.common;
 
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocument.Metadata;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ingest.RandomDocumentPicks;
 import org.opensearch.ingest.TestTemplateService;
@@ -41,7 +42,10 @@ import org.opensearch.ingest.ValueSource;
 import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.Matchers;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.equalTo;
 
@@ -155,6 +159,41 @@ public class SetProcessorTests extends OpenSearchTestCase {
         assertThat(ingestDocument.getFieldValue(Metadata.IF_PRIMARY_TERM.getFieldName(), Long.class), Matchers.equalTo(ifPrimaryTerm));
     }
 
+    public void testBatchExecuteWithConstantField() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put("field", "foo.bar");
+        config.put("value", "baz");
+        Processor processor = new SetProcessor.Factory(TestTemplateService.instance()).create(null, null, null, config);
+        int numDocs = randomIntBetween(1, 20);
+        List<IngestDocumentWrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < numDocs; i++) {
+            Map<String, Object> source = new HashMap<>();
+            if (i % 3 == 1) {
+                // a string can't be the parent of the field
+                source.put("foo", "value");
+            }
+            wrappers.add(new IngestDocumentWrapper(i, new IngestDocument(source, new HashMap<>()), null));
+        }
+        List<List<IngestDocumentWrapper>> results = new ArrayList<>();
+        processor.batchExecute(wrappers, results::add);
+        assertThat(results.size(), equalTo(1));
+        assertThat(results.get(0).size(), equalTo(numDocs));
+        for (int i = 0; i < numDocs; i++) {
+            IngestDocumentWrapper result = results.get(0).get(i);
+            assertThat(result.getSlot(), equalTo(i));
+            if (i % 3 == 1) {
+                assertNull(result.getIngestDocument());
+                assertThat(
+                    result.getException().getMessage(),
+                    equalTo("cannot set [bar] with parent object of type [java.lang.String] as part of path [foo.bar]")
+                );
+            } else {
+                assertNull(result.getException());
+                assertThat(result.getIngestDocument().getFieldValue("foo.bar", String.class), equalTo("baz"));
+            }
+        }
+    }
+
     private static Processor createSetProcessor(String fieldName, Object fieldValue, boolean overrideEnabled, boolean ignoreEmptyValue) {
         return new SetProcessor(
             randomAlphaOfLength(10),
@@ -32,7 +32,7 @@
 
 package org.opensearch.ingest.geoip;
 
-import com.maxmind.geoip2.DatabaseReader;
+import com.maxmind.db.Reader;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -57,13 +57,13 @@ class DatabaseReaderLazyLoader implements Closeable {
     private static final Logger LOGGER = LogManager.getLogger(DatabaseReaderLazyLoader.class);
 
     private final Path databasePath;
-    private final CheckedSupplier<DatabaseReader, IOException> loader;
-    final SetOnce<DatabaseReader> databaseReader;
+    private final CheckedSupplier<Reader, IOException> loader;
+    final SetOnce<Reader> databaseReader;
 
     // cache the database type so that we do not re-read it on every pipeline execution
     final SetOnce<String> databaseType;
 
-    DatabaseReaderLazyLoader(final Path databasePath, final CheckedSupplier<DatabaseReader, IOException> loader) {
+    DatabaseReaderLazyLoader(final Path databasePath, final CheckedSupplier<Reader, IOException> loader) {
         this.databasePath = Objects.requireNonNull(databasePath);
         this.loader = Objects.requireNonNull(loader);
         this.databaseReader = new SetOnce<>();
@@ -140,6 +140,10 @@ class DatabaseReaderLazyLoader implements Closeable {
         return databaseType.get();
     }
 
+    Path getDatabasePath() {
+        return databasePath;
+    }
+
     long databaseFileSize() throws IOException {
         return Files.size(databasePath);
     }
@@ -148,7 +152,7 @@ class DatabaseReaderLazyLoader implements Closeable {
         return Files.newInputStream(databasePath);
     }
 
-    DatabaseReader get() throws IOException {
+    Reader get() throws IOException {
         if (databaseReader.get() == null) {
             synchronized (databaseReader) {
                 if (databaseReader.get() == null) {
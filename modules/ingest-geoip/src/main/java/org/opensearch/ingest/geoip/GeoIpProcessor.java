@@ -32,16 +32,7 @@
 
 package org.opensearch.ingest.geoip;
 
-import com.maxmind.db.Network;
-import com.maxmind.geoip2.exception.AddressNotFoundException;
-import com.maxmind.geoip2.model.AsnResponse;
-import com.maxmind.geoip2.model.CityResponse;
-import com.maxmind.geoip2.model.CountryResponse;
-import com.maxmind.geoip2.record.City;
-import com.maxmind.geoip2.record.Continent;
-import com.maxmind.geoip2.record.Country;
-import com.maxmind.geoip2.record.Location;
-import com.maxmind.geoip2.record.Subdivision;
+import com.maxmind.db.DatabaseRecord;
 
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.SpecialPermission;
@@ -49,10 +40,18 @@ import org.opensearch.common.network.InetAddresses;
 import org.opensearch.common.network.NetworkAddress;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestStats;
 import org.opensearch.ingest.Processor;
+import org.opensearch.ingest.geoip.GeoIpRecords.AsnRecord;
+import org.opensearch.ingest.geoip.GeoIpRecords.CityRecord;
+import org.opensearch.ingest.geoip.GeoIpRecords.CountryRecord;
+import org.opensearch.ingest.geoip.GeoIpRecords.Location;
+import org.opensearch.ingest.geoip.GeoIpRecords.Place;
+import org.opensearch.ingest.geoip.GeoIpRecords.Region;
 import org.opensearch.ingest.geoip.IngestGeoIpModulePlugin.GeoIpCache;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.InetAddress;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -171,23 +170,11 @@ public final class GeoIpProcessor extends AbstractProcessor {
         final InetAddress ipAddress = InetAddresses.forString(ip);
         Map<String, Object> geoData;
         if (databaseType.endsWith(CITY_DB_SUFFIX)) {
-            try {
-                geoData = retrieveCityGeoData(ipAddress);
-            } catch (AddressNotFoundRuntimeException e) {
-                geoData = Collections.emptyMap();
-            }
+            geoData = retrieveCityGeoData(ipAddress);
         } else if (databaseType.endsWith(COUNTRY_DB_SUFFIX)) {
-            try {
-                geoData = retrieveCountryGeoData(ipAddress);
-            } catch (AddressNotFoundRuntimeException e) {
-                geoData = Collections.emptyMap();
-            }
+            geoData = retrieveCountryGeoData(ipAddress);
         } else if (databaseType.endsWith(ASN_DB_SUFFIX)) {
-            try {
-                geoData = retrieveAsnGeoData(ipAddress);
-            } catch (AddressNotFoundRuntimeException e) {
-                geoData = Collections.emptyMap();
-            }
+            geoData = retrieveAsnGeoData(ipAddress);
         } else {
             throw new OpenSearchParseException(
                 "Unsupported database type [" + lazyLoader.getDatabaseType() + "]",
@@ -218,26 +205,40 @@ public final class GeoIpProcessor extends AbstractProcessor {
         return properties;
     }
 
+    /**
+     * Returns the record of the address in the database, or null if it is not found. Records are shared by all the geoip
+     * processors of the node through the cache, so they must not be modified.
+     */
     @SuppressWarnings("removal")
-    private Map<String, Object> retrieveCityGeoData(InetAddress ipAddress) {
+    private <T> T retrieveRecord(InetAddress ipAddress, Class<T> recordType) {
         SpecialPermission.check();
-        CityResponse response = AccessController.doPrivileged(
-            (PrivilegedAction<CityResponse>) () -> cache.putIfAbsent(ipAddress, CityResponse.class, ip -> {
+        return AccessController.doPrivileged(
+            (PrivilegedAction<T>) () -> cache.putIfAbsent(ipAddress, lazyLoader.getDatabasePath(), recordType, ip -> {
                 try {
-                    return lazyLoader.get().city(ip);
-                } catch (AddressNotFoundException e) {
-                    throw new AddressNotFoundRuntimeException(e);
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
+                    DatabaseRecord<T> record = lazyLoader.get().getRecord(ip, recordType);
+                    T data = record.getData();
+                    if (data instanceof AsnRecord && record.getNetwork() != null) {
+                        ((AsnRecord) data).network = record.getNetwork().toString();
+                    }
+                    return data;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
             })
         );
+    }
+
+    private Map<String, Object> retrieveCityGeoData(InetAddress ipAddress) {
+        CityRecord record = retrieveRecord(ipAddress, CityRecord.class);
+        if (record == null) {
+            return Collections.emptyMap();
+        }
 
-        Country country = response.getCountry();
-        City city = response.getCity();
-        Location location = response.getLocation();
-        Continent continent = response.getContinent();
-        Subdivision subdivision = response.getMostSpecificSubdivision();
+        Region country = record.country;
+        Place city = record.city;
+        Location location = record.location;
+        Place continent = record.continent;
+        Region subdivision = record.subdivision;
 
         Map<String, Object> geoData = new HashMap<>();
         for (Property property : this.properties) {
@@ -246,58 +247,48 @@ public final class GeoIpProcessor extends AbstractProcessor {
                     geoData.put("ip", NetworkAddress.format(ipAddress));
                     break;
                 case COUNTRY_ISO_CODE:
-                    String countryIsoCode = country.getIsoCode();
-                    if (countryIsoCode != null) {
-                        geoData.put("country_iso_code", countryIsoCode);
+                    if (country != null && country.isoCode != null) {
+                        geoData.put("country_iso_code", country.isoCode);
                     }
                     break;
                 case COUNTRY_NAME:
-                    String countryName = country.getName();
-                    if (countryName != null) {
-                        geoData.put("country_name", countryName);
+                    if (country != null && country.name != null) {
+                        geoData.put("country_name", country.name);
                     }
                     break;
                 case CONTINENT_NAME:
-                    String continentName = continent.getName();
-                    if (continentName != null) {
-                        geoData.put("continent_name", continentName);
+                    if (continent != null && continent.name != null) {
+                        geoData.put("continent_name", continent.name);
                     }
                     break;
                 case REGION_ISO_CODE:
                     // ISO 3166-2 code for country subdivisions.
                     // See iso.org/iso-3166-country-codes.html
-                    String countryIso = country.getIsoCode();
-                    String subdivisionIso = subdivision.getIsoCode();
-                    if (countryIso != null && subdivisionIso != null) {
-                        String regionIsoCode = countryIso + "-" + subdivisionIso;
+                    if (country != null && country.isoCode != null && subdivision != null && subdivision.isoCode != null) {
+                        String regionIsoCode = country.isoCode + "-" + subdivision.isoCode;
                         geoData.put("region_iso_code", regionIsoCode);
                     }
                     break;
                 case REGION_NAME:
-                    String subdivisionName = subdivision.getName();
-                    if (subdivisionName != null) {
-                        geoData.put("region_name", subdivisionName);
+                    if (subdivision != null && subdivision.name != null) {
+                        geoData.put("region_name", subdivision.name);
                     }
                     break;
                 case CITY_NAME:
-                    String cityName = city.getName();
-                    if (cityName != null) {
-                        geoData.put("city_name", cityName);
+                    if (city != null && city.name != null) {
+                        geoData.put("city_name", city.name);
                     }
                     break;
                 case TIMEZONE:
-                    String locationTimeZone = location.getTimeZone();
-                    if (locationTimeZone != null) {
-                        geoData.put("timezone", locationTimeZone);
+                    if (location != null && location.timeZone != null) {
+                        geoData.put("timezone", location.timeZone);
                     }
                     break;
                 case LOCATION:
-                    Double latitude = location.getLatitude();
-                    Double longitude = location.getLongitude();
-                    if (latitude != null && longitude != null) {
+                    if (location != null && location.latitude != null && location.longitude != null) {
                         Map<String, Object> locationObject = new HashMap<>();
-                        locationObject.put("lat", latitude);
-                        locationObject.put("lon", longitude);
+                        locationObject.put("lat", location.latitude);
+                        locationObject.put("lon", location.longitude);
                         geoData.put("location", locationObject);
                     }
                     break;
@@ -306,23 +297,14 @@ public final class GeoIpProcessor extends AbstractProcessor {
         return geoData;
     }
 
-    @SuppressWarnings("removal")
     private Map<String, Object> retrieveCountryGeoData(InetAddress ipAddress) {
-        SpecialPermission.check();
-        CountryResponse response = AccessController.doPrivileged(
-            (PrivilegedAction<CountryResponse>) () -> cache.putIfAbsent(ipAddress, CountryResponse.class, ip -> {
-                try {
-                    return lazyLoader.get().country(ip);
-                } catch (AddressNotFoundException e) {
-                    throw new AddressNotFoundRuntimeException(e);
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            })
-        );
+        CountryRecord record = retrieveRecord(ipAddress, CountryRecord.class);
+        if (record == null) {
+            return Collections.emptyMap();
+        }
 
-        Country country = response.getCountry();
-        Continent continent = response.getContinent();
+        Region country = record.country;
+        Place continent = record.continent;
 
         Map<String, Object> geoData = new HashMap<>();
         for (Property property : this.properties) {
@@ -331,21 +313,18 @@ public final class GeoIpProcessor extends AbstractProcessor {
                     geoData.put("ip", NetworkAddress.format(ipAddress));
                     break;
                 case COUNTRY_ISO_CODE:
-                    String countryIsoCode = country.getIsoCode();
-                    if (countryIsoCode != null) {
-                        geoData.put("country_iso_code", countryIsoCode);
+                    if (country != null && country.isoCode != null) {
+                        geoData.put("country_iso_code", country.isoCode);
                     }
                     break;
                 case COUNTRY_NAME:
-                    String countryName = country.getName();
-                    if (countryName != null) {
-                        geoData.put("country_name", countryName);
+                    if (country != null && country.name != null) {
+                        geoData.put("country_name", country.name);
                     }
                     break;
                 case CONTINENT_NAME:
-                    String continentName = continent.getName();
-                    if (continentName != null) {
-                        geoData.put("continent_name", continentName);
+                    if (continent != null && continent.name != null) {
+                        geoData.put("continent_name", continent.name);
                     }
                     break;
             }
@@ -353,24 +332,15 @@ public final class GeoIpProcessor extends AbstractProcessor {
         return geoData;
     }
 
-    @SuppressWarnings("removal")
     private Map<String, Object> retrieveAsnGeoData(InetAddress ipAddress) {
-        SpecialPermission.check();
-        AsnResponse response = AccessController.doPrivileged(
-            (PrivilegedAction<AsnResponse>) () -> cache.putIfAbsent(ipAddress, AsnResponse.class, ip -> {
-                try {
-                    return lazyLoader.get().asn(ip);
-                } catch (AddressNotFoundException e) {
-                    throw new AddressNotFoundRuntimeException(e);
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            })
-        );
+        AsnRecord record = retrieveRecord(ipAddress, AsnRecord.class);
+        if (record == null) {
+            return Collections.emptyMap();
+        }
 
-        Long asn = response.getAutonomousSystemNumber();
-        String organization_name = response.getAutonomousSystemOrganization();
-        Network network = response.getNetwork();
+        Long asn = record.asn;
+        String organization_name = record.organizationName;
+        String network = record.network;
 
         Map<String, Object> geoData = new HashMap<>();
         for (Property property : this.properties) {
@@ -390,7 +360,7 @@ public final class GeoIpProcessor extends AbstractProcessor {
                     break;
                 case NETWORK:
                     if (network != null) {
-                        geoData.put("network", network.toString());
+                        geoData.put("network", network);
                     }
                     break;
             }
@@ -430,6 +400,11 @@ public final class GeoIpProcessor extends AbstractProcessor {
             this.cache = cache;
         }
 
+        @Override
+        public IngestStats.CacheStat getCacheStats() {
+            return cache.stats();
+        }
+
         @Override
         public GeoIpProcessor create(
             final Map<String, Processor.Factory> registry,
@@ -493,17 +468,6 @@ public final class GeoIpProcessor extends AbstractProcessor {
         }
     }
 
-    // Geoip2's AddressNotFoundException is checked and due to the fact that we need run their code
-    // inside a PrivilegedAction code block, we are forced to catch any checked exception and rethrow
-    // it with an unchecked exception.
-    // package private for testing
-    static final class AddressNotFoundRuntimeException extends RuntimeException {
-
-        AddressNotFoundRuntimeException(Throwable cause) {
-            super(cause);
-        }
-    }
-
     enum Property {
 
         IP,
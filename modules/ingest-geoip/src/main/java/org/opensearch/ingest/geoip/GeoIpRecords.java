@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest.geoip;
+
+import com.maxmind.db.MaxMindDbConstructor;
+import com.maxmind.db.MaxMindDbParameter;
+
+import java.util.List;
+
+/**
+ * The records of the geo-IP databases, as far as the properties of the geoip processor need them. The reader decodes the values
+ * of the keys that are parameters of the constructors only, and skips the others in the memory-mapped database: the English
+ * names of places are decoded but not their names in other languages, nor the traits, postal codes, registered countries,
+ * geoname ids and confidences that the full MaxMind response models are made of.
+ * <p>
+ * The classes and their constructors are public so that the reader can instantiate them.
+ */
+final class GeoIpRecords {
+
+    private GeoIpRecords() {}
+
+    /**
+     * The names of a place
+     */
+    public static final class Names {
+        final String en;
+
+        @MaxMindDbConstructor
+        public Names(@MaxMindDbParameter(name = "en") String en) {
+            this.en = en;
+        }
+    }
+
+    /**
+     * A place that only the name of is used: a continent or a city
+     */
+    public static final class Place {
+        final String name;
+
+        @MaxMindDbConstructor
+        public Place(@MaxMindDbParameter(name = "names") Names names) {
+            this.name = names == null ? null : names.en;
+        }
+    }
+
+    /**
+     * A country or a subdivision of a country
+     */
+    public static final class Region {
+        final String isoCode;
+        final String name;
+
+        @MaxMindDbConstructor
+        public Region(@MaxMindDbParameter(name = "iso_code") String isoCode, @MaxMindDbParameter(name = "names") Names names) {
+            this.isoCode = isoCode;
+            this.name = names == null ? null : names.en;
+        }
+    }
+
+    /**
+     * The location of a city
+     */
+    public static final class Location {
+        final Double latitude;
+        final Double longitude;
+        final String timeZone;
+
+        @MaxMindDbConstructor
+        public Location(
+            @MaxMindDbParameter(name = "latitude") Double latitude,
+            @MaxMindDbParameter(name = "longitude") Double longitude,
+            @MaxMindDbParameter(name = "time_zone") String timeZone
+        ) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.timeZone = timeZone;
+        }
+    }
+
+    /**
+     * A record of a city database
+     */
+    public static final class CityRecord {
+        final Region country;
+        final Place continent;
+        final Place city;
+        final Location location;
+        // the most specific subdivision, which is the last one
+        final Region subdivision;
+
+        @MaxMindDbConstructor
+        public CityRecord(
+            @MaxMindDbParameter(name = "country") Region country,
+            @MaxMindDbParameter(name = "continent") Place continent,
+            @MaxMindDbParameter(name = "city") Place city,
+            @MaxMindDbParameter(name = "location") Location location,
+            @MaxMindDbParameter(name = "subdivisions") List<Region> subdivisions
+        ) {
+            this.country = country;
+            this.continent = continent;
+            this.city = city;
+            this.location = location;
+            this.subdivision = subdivisions == null || subdivisions.isEmpty() ? null : subdivisions.get(subdivisions.size() - 1);
+        }
+    }
+
+    /**
+     * A record of a country database
+     */
+    public static final class CountryRecord {
+        final Region country;
+        final Place continent;
+
+        @MaxMindDbConstructor
+        public CountryRecord(
+            @MaxMindDbParameter(name = "country") Region country,
+            @MaxMindDbParameter(name = "continent") Place continent
+        ) {
+            this.country = country;
+            this.continent = continent;
+        }
+    }
+
+    /**
+     * A record of an ASN database, along with the network it applies to which is not part of the record itself
+     */
+    public static final class AsnRecord {
+        final Long asn;
+        final String organizationName;
+        String network;
+
+        @MaxMindDbConstructor
+        public AsnRecord(
+            @MaxMindDbParameter(name = "autonomous_system_number") Long asn,
+            @MaxMindDbParameter(name = "autonomous_system_organization") String organizationName
+        ) {
+            this.asn = asn;
+            this.organizationName = organizationName;
+        }
+    }
+}
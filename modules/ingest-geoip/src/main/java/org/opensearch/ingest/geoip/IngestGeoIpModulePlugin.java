@@ -35,8 +35,6 @@ package org.opensearch.ingest.geoip;
 import com.maxmind.db.NoCache;
 import com.maxmind.db.NodeCache;
 import com.maxmind.db.Reader;
-import com.maxmind.geoip2.DatabaseReader;
-import com.maxmind.geoip2.model.AbstractResponse;
 
 import org.opensearch.common.Booleans;
 import org.opensearch.common.SuppressForbidden;
@@ -46,11 +44,13 @@ import org.opensearch.common.io.PathUtils;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.ingest.IngestStats;
 import org.opensearch.ingest.Processor;
 import org.opensearch.plugins.IngestPlugin;
 import org.opensearch.plugins.Plugin;
 
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.nio.file.Files;
@@ -155,15 +155,9 @@ public class IngestGeoIpModulePlugin extends Plugin implements IngestPlugin, Clo
     }
 
     private static DatabaseReaderLazyLoader createLoader(Path databasePath, boolean loadDatabaseOnHeap) {
-        return new DatabaseReaderLazyLoader(databasePath, () -> {
-            DatabaseReader.Builder builder = createDatabaseBuilder(databasePath).withCache(NoCache.getInstance());
-            if (loadDatabaseOnHeap) {
-                builder.fileMode(Reader.FileMode.MEMORY);
-            } else {
-                builder.fileMode(Reader.FileMode.MEMORY_MAPPED);
-            }
-            return builder.build();
-        });
+        // records are decoded straight from the memory-mapped database, unless it is loaded on heap
+        final Reader.FileMode fileMode = loadDatabaseOnHeap ? Reader.FileMode.MEMORY : Reader.FileMode.MEMORY_MAPPED;
+        return new DatabaseReaderLazyLoader(databasePath, () -> new Reader(databaseFile(databasePath), fileMode, NoCache.getInstance()));
     }
 
     private static void assertDatabaseExistence(final Path path, final boolean exists) throws IOException {
@@ -176,8 +170,8 @@ public class IngestGeoIpModulePlugin extends Plugin implements IngestPlugin, Clo
     }
 
     @SuppressForbidden(reason = "Maxmind API requires java.io.File")
-    private static DatabaseReader.Builder createDatabaseBuilder(Path databasePath) {
-        return new DatabaseReader.Builder(databasePath.toFile());
+    private static File databaseFile(Path databasePath) {
+        return databasePath.toFile();
     }
 
     @Override
@@ -212,60 +206,70 @@ public class IngestGeoIpModulePlugin extends Plugin implements IngestPlugin, Clo
     }
 
     /**
-     * The in-memory cache for the geoip data. There should only be 1 instance of this class..
-     * This cache differs from the maxmind's {@link NodeCache} such that this cache stores the deserialized Json objects to avoid the
-     * cost of deserialization for each lookup (cached or not). This comes at slight expense of higher memory usage, but significant
-     * reduction of CPU usage.
+     * The in-memory cache for the geoip data. There should only be 1 instance of this class, which is shared by all the geoip
+     * processors of the node. This cache differs from the maxmind's {@link NodeCache} such that this cache stores the decoded
+     * records to avoid the cost of decoding for each lookup (cached or not). Addresses that are not found are cached as well.
+     * The underlying cache is made of segments that are locked independently, so that concurrent lookups rarely contend.
      */
     static class GeoIpCache {
-        private final Cache<CacheKey<?>, AbstractResponse> cache;
+        // the value of addresses that are not found in a database
+        private static final Object NOT_FOUND = new Object();
+
+        private final Cache<CacheKey, Object> cache;
 
         // package private for testing
         GeoIpCache(long maxSize) {
             if (maxSize < 0) {
                 throw new IllegalArgumentException("geoip max cache size must be 0 or greater");
             }
-            this.cache = CacheBuilder.<CacheKey<?>, AbstractResponse>builder().setMaximumWeight(maxSize).build();
+            this.cache = CacheBuilder.<CacheKey, Object>builder().setMaximumWeight(maxSize).build();
         }
 
-        <T extends AbstractResponse> T putIfAbsent(
-            InetAddress ip,
-            Class<T> responseType,
-            Function<InetAddress, AbstractResponse> retrieveFunction
-        ) {
-
-            // can't use cache.computeIfAbsent due to the elevated permissions for the jackson (run via the cache loader)
-            CacheKey<T> cacheKey = new CacheKey<>(ip, responseType);
+        /**
+         * Returns the record of the address in the database, retrieving it if it is not cached yet. Returns null if the address is
+         * not found in the database, which is what the retrieve function returns as well.
+         */
+        <T> T putIfAbsent(InetAddress ip, Path database, Class<T> recordType, Function<InetAddress, T> retrieveFunction) {
+            // can't use cache.computeIfAbsent due to the elevated permissions needed to read the database (run via the cache loader)
+            CacheKey cacheKey = new CacheKey(ip, database, recordType);
             // intentionally non-locking for simplicity...it's OK if we re-put the same key/value in the cache during a race condition.
-            AbstractResponse response = cache.get(cacheKey);
-            if (response == null) {
-                response = retrieveFunction.apply(ip);
-                cache.put(cacheKey, response);
+            Object record = cache.get(cacheKey);
+            if (record == null) {
+                record = retrieveFunction.apply(ip);
+                if (record == null) {
+                    record = NOT_FOUND;
+                }
+                cache.put(cacheKey, record);
             }
-            return responseType.cast(response);
+            return record == NOT_FOUND ? null : recordType.cast(record);
         }
 
         // only useful for testing
-        <T extends AbstractResponse> T get(InetAddress ip, Class<T> responseType) {
-            CacheKey<T> cacheKey = new CacheKey<>(ip, responseType);
-            return responseType.cast(cache.get(cacheKey));
+        <T> T get(InetAddress ip, Path database, Class<T> recordType) {
+            Object record = cache.get(new CacheKey(ip, database, recordType));
+            return record == NOT_FOUND ? null : recordType.cast(record);
+        }
+
+        IngestStats.CacheStat stats() {
+            Cache.CacheStats stats = cache.stats();
+            return new IngestStats.CacheStat(stats.getHits(), stats.getMisses(), stats.getEvictions(), cache.count());
         }
 
         /**
-        * The key to use for the cache. Since this cache can span multiple geoip processors that all use different databases, the response
-        * type is needed to be included in the cache key. For example, if we only used the IP address as the key the City and ASN the same
-        * IP may be in both with different values and we need to cache both. The response type scopes the IP to the correct database
-        * provides a means to safely cast the return objects.
-        * @param <T> The AbstractResponse type used to scope the key and cast the result.
+        * The key to use for the cache. Since this cache can span multiple geoip processors that all use different databases, the
+        * database is included in the cache key: the same IP may be in both the City and ASN databases with different values and we
+        * need to cache both. The record type provides a means to safely cast the returned objects.
         */
-        private static class CacheKey<T extends AbstractResponse> {
+        private static class CacheKey {
 
             private final InetAddress ip;
-            private final Class<T> responseType;
+            private final Path database;
+            private final Class<?> recordType;
 
-            private CacheKey(InetAddress ip, Class<T> responseType) {
+            private CacheKey(InetAddress ip, Path database, Class<?> recordType) {
                 this.ip = ip;
-                this.responseType = responseType;
+                this.database = database;
+                this.recordType = recordType;
             }
 
             // generated
@@ -273,14 +277,16 @@ public class IngestGeoIpModulePlugin extends Plugin implements IngestPlugin, Clo
             public boolean equals(Object o) {
                 if (this == o) return true;
                 if (o == null || getClass() != o.getClass()) return false;
-                CacheKey<?> cacheKey = (CacheKey<?>) o;
-                return Objects.equals(ip, cacheKey.ip) && Objects.equals(responseType, cacheKey.responseType);
+                CacheKey cacheKey = (CacheKey) o;
+                return Objects.equals(ip, cacheKey.ip)
+                    && Objects.equals(database, cacheKey.database)
+                    && Objects.equals(recordType, cacheKey.recordType);
             }
 
             // generated
             @Override
             public int hashCode() {
-                return Objects.hash(ip, responseType);
+                return Objects.hash(ip, database, recordType);
             }
         }
     }
@@ -32,7 +32,7 @@
 
 package org.opensearch.ingest.geoip;
 
-import com.maxmind.geoip2.DatabaseReader;
+import com.maxmind.db.Reader;
 
 import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.io.PathUtils;
@@ -484,8 +484,7 @@ public class GeoIpProcessorTests extends OpenSearchTestCase {
 
     private DatabaseReaderLazyLoader loader(final String path) {
         final Supplier<InputStream> databaseInputStreamSupplier = () -> GeoIpProcessor.class.getResourceAsStream(path);
-        final CheckedSupplier<DatabaseReader, IOException> loader = () -> new DatabaseReader.Builder(databaseInputStreamSupplier.get())
-            .build();
+        final CheckedSupplier<Reader, IOException> loader = () -> new Reader(databaseInputStreamSupplier.get());
         return new DatabaseReaderLazyLoader(PathUtils.get(path), loader) {
 
             @Override
@@ -32,12 +32,12 @@
 
 package org.opensearch.ingest.geoip;
 
-import com.maxmind.geoip2.model.AbstractResponse;
-
+import org.opensearch.common.io.PathUtils;
 import org.opensearch.common.network.InetAddresses;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.env.TestEnvironment;
+import org.opensearch.ingest.IngestStats;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ingest.geoip.IngestGeoIpModulePlugin.GeoIpCache;
 import org.opensearch.test.OpenSearchTestCase;
@@ -50,36 +50,59 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
-
-import static org.mockito.Mockito.mock;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class IngestGeoIpModulePluginTests extends OpenSearchTestCase {
 
     public void testCachesAndEvictsResults() {
         GeoIpCache cache = new GeoIpCache(1);
-        AbstractResponse response1 = mock(AbstractResponse.class);
-        AbstractResponse response2 = mock(AbstractResponse.class);
+        Path database = PathUtils.get("GeoLite2-City.mmdb");
+        Object response1 = new Object();
+        Object response2 = new Object();
 
         // add a key
-        AbstractResponse cachedResponse = cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> response1);
+        Object cachedResponse = cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), database, Object.class, ip -> response1);
         assertSame(cachedResponse, response1);
-        assertSame(cachedResponse, cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> response1));
-        assertSame(cachedResponse, cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
+        assertSame(cachedResponse, cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), database, Object.class, ip -> response1));
+        assertSame(cachedResponse, cache.get(InetAddresses.forString("127.0.0.1"), database, Object.class));
 
         // evict old key by adding another value
-        cachedResponse = cache.putIfAbsent(InetAddresses.forString("127.0.0.2"), AbstractResponse.class, ip -> response2);
+        cachedResponse = cache.putIfAbsent(InetAddresses.forString("127.0.0.2"), database, Object.class, ip -> response2);
         assertSame(cachedResponse, response2);
-        assertSame(cachedResponse, cache.putIfAbsent(InetAddresses.forString("127.0.0.2"), AbstractResponse.class, ip -> response2));
-        assertSame(cachedResponse, cache.get(InetAddresses.forString("127.0.0.2"), AbstractResponse.class));
+        assertSame(cachedResponse, cache.putIfAbsent(InetAddresses.forString("127.0.0.2"), database, Object.class, ip -> response2));
+        assertSame(cachedResponse, cache.get(InetAddresses.forString("127.0.0.2"), database, Object.class));
+
+        assertNotSame(response1, cache.get(InetAddresses.forString("127.0.0.1"), database, Object.class));
 
-        assertNotSame(response1, cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
+        IngestStats.CacheStat stats = cache.stats();
+        assertEquals(4, stats.getHits());
+        assertEquals(3, stats.getMisses());
+        assertEquals(1, stats.getEvictions());
+        assertEquals(1, stats.getCount());
+    }
+
+    public void testCachesAddressesNotFound() {
+        GeoIpCache cache = new GeoIpCache(10);
+        Path database = PathUtils.get("GeoLite2-City.mmdb");
+        AtomicInteger retrievals = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            assertNull(cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), database, Object.class, ip -> {
+                retrievals.incrementAndGet();
+                return null;
+            }));
+        }
+        assertEquals(1, retrievals.get());
+        // the same address in another database is another entry
+        Object response = new Object();
+        Path asnDatabase = PathUtils.get("GeoLite2-ASN.mmdb");
+        assertSame(response, cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), asnDatabase, Object.class, ip -> response));
     }
 
     public void testThrowsFunctionsException() {
         GeoIpCache cache = new GeoIpCache(1);
         IllegalArgumentException ex = expectThrows(
             IllegalArgumentException.class,
-            () -> cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> {
+            () -> cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), PathUtils.get("GeoLite2-City.mmdb"), Object.class, ip -> {
                 throw new IllegalArgumentException("bad");
             })
         );
@@ -32,48 +32,173 @@
 
 package org.opensearch.ingest.useragent;
 
-import org.opensearch.common.cache.Cache;
-import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.ingest.useragent.UserAgentParser.Details;
 
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+/**
+ * A concurrent cache of the details parsed from user agent strings, which evicts the least frequently used of a sample of its
+ * entries when it is full. User agent strings follow a long-tail distribution: few strings make most of the traffic, while many
+ * strings are seen once. Evicting by frequency keeps the frequent strings cached however many one-off strings go through the
+ * cache, which evicting the least recently used entry does not. Frequencies are halved periodically, so that strings that are
+ * not frequent anymore are evicted eventually.
+ * <p>
+ * Lookups don't lock: entries are held by a concurrent map, and their frequencies are approximate counters that concurrent hits
+ * may race on. Entries are also held by slots, which evictions sample from. Slots are allocated in pages as the cache fills up,
+ * so that a large cache size only costs memory once the cache holds that many entries.
+ */
 class UserAgentCache {
-    private final Cache<CompositeCacheKey, Details> cache;
+    private static final int SAMPLE_SIZE = 8;
+    private static final int MAX_FREQUENCY = 15;
+    // frequencies are halved after this many insertions per slot
+    private static final int AGING_PERIOD = 10;
+    // the number of times a full cache samples for an entry to evict before it gives up on caching a new entry
+    private static final int MAX_EVICTION_ATTEMPTS = 4;
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final int capacity;
+    private final int agingPeriod;
+    private final ConcurrentHashMap<CacheKey, Entry> entries;
+    private final AtomicReferenceArray<AtomicReferenceArray<Entry>> pages;
+    private final AtomicInteger usedSlots = new AtomicInteger();
+    private final AtomicInteger insertions = new AtomicInteger();
 
     UserAgentCache(long cacheSize) {
-        cache = CacheBuilder.<CompositeCacheKey, Details>builder().setMaximumWeight(cacheSize).build();
+        this.capacity = (int) Math.min(cacheSize, Integer.MAX_VALUE - 8);
+        this.agingPeriod = (int) Math.min((long) capacity * AGING_PERIOD, Integer.MAX_VALUE);
+        this.entries = new ConcurrentHashMap<>();
+        this.pages = new AtomicReferenceArray<>((int) (((long) capacity + PAGE_SIZE - 1) >>> PAGE_SHIFT));
     }
 
     public Details get(String parserName, String userAgent) {
-        return cache.get(new CompositeCacheKey(parserName, userAgent));
+        final Entry entry = entries.get(new CacheKey(parserName, userAgent));
+        if (entry == null) {
+            return null;
+        }
+        if (entry.frequency < MAX_FREQUENCY) {
+            entry.frequency++;
+        }
+        return entry.details;
     }
 
     public void put(String parserName, String userAgent, Details details) {
-        cache.put(new CompositeCacheKey(parserName, userAgent), details);
+        if (capacity == 0) {
+            return;
+        }
+        final CacheKey key = new CacheKey(parserName, userAgent);
+        final Entry entry = new Entry(key, details);
+        if (entries.putIfAbsent(key, entry) != null) {
+            return;
+        }
+        int slot = usedSlots.get();
+        while (slot < capacity && usedSlots.compareAndSet(slot, slot + 1) == false) {
+            slot = usedSlots.get();
+        }
+        if (slot < capacity) {
+            page(slot).set(slot & PAGE_MASK, entry);
+        } else if (replaceVictim(entry) == false) {
+            entries.remove(key, entry);
+            return;
+        }
+        if (insertions.incrementAndGet() == agingPeriod) {
+            insertions.set(0);
+            age();
+        }
+    }
+
+    // package private for testing
+    int count() {
+        return entries.size();
+    }
+
+    private AtomicReferenceArray<Entry> page(int slot) {
+        final int index = slot >>> PAGE_SHIFT;
+        AtomicReferenceArray<Entry> page = pages.get(index);
+        if (page == null) {
+            final AtomicReferenceArray<Entry> newPage = new AtomicReferenceArray<>(Math.min(PAGE_SIZE, capacity - (index << PAGE_SHIFT)));
+            page = pages.compareAndSet(index, null, newPage) ? newPage : pages.get(index);
+        }
+        return page;
+    }
+
+    private boolean replaceVictim(Entry entry) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < MAX_EVICTION_ATTEMPTS; attempt++) {
+            int victimSlot = -1;
+            Entry victim = null;
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                final int slot = random.nextInt(capacity);
+                // the page of a slot that was just taken may not be allocated yet
+                final AtomicReferenceArray<Entry> page = pages.get(slot >>> PAGE_SHIFT);
+                final Entry candidate = page == null ? null : page.get(slot & PAGE_MASK);
+                if (candidate != null && (victim == null || candidate.frequency < victim.frequency)) {
+                    victim = candidate;
+                    victimSlot = slot;
+                }
+            }
+            if (victim != null && page(victimSlot).compareAndSet(victimSlot & PAGE_MASK, victim, entry)) {
+                entries.remove(victim.key, victim);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void age() {
+        for (int p = 0; p < pages.length(); p++) {
+            final AtomicReferenceArray<Entry> page = pages.get(p);
+            if (page == null) {
+                continue;
+            }
+            for (int i = 0; i < page.length(); i++) {
+                final Entry entry = page.get(i);
+                if (entry != null) {
+                    entry.frequency >>= 1;
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final CacheKey key;
+        private final Details details;
+        // approximate, concurrent updates may be lost
+        private int frequency;
+
+        Entry(CacheKey key, Details details) {
+            this.key = key;
+            this.details = details;
+        }
     }
 
-    private static final class CompositeCacheKey {
+    private static final class CacheKey {
         private final String parserName;
         private final String userAgent;
+        private final int hashCode;
 
-        CompositeCacheKey(String parserName, String userAgent) {
+        CacheKey(String parserName, String userAgent) {
             this.parserName = parserName;
             this.userAgent = userAgent;
+            this.hashCode = 31 * parserName.hashCode() + userAgent.hashCode();
         }
 
         @Override
         public boolean equals(Object obj) {
-            if (obj != null && obj instanceof CompositeCacheKey) {
-                CompositeCacheKey s = (CompositeCacheKey) obj;
-                return parserName.equals(s.parserName) && userAgent.equals(s.userAgent);
+            if (obj instanceof CacheKey) {
+                CacheKey s = (CacheKey) obj;
+                return hashCode == s.hashCode && parserName.equals(s.parserName) && userAgent.equals(s.userAgent);
             }
             return false;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(parserName, userAgent);
+            return hashCode;
         }
     }
 }
@@ -53,6 +53,9 @@ final class UserAgentParser {
     private final List<UserAgentSubpattern> uaPatterns = new ArrayList<>();
     private final List<UserAgentSubpattern> osPatterns = new ArrayList<>();
     private final List<UserAgentSubpattern> devicePatterns = new ArrayList<>();
+    private final UserAgentPatternIndex uaIndex;
+    private final UserAgentPatternIndex osIndex;
+    private final UserAgentPatternIndex deviceIndex;
     private final String name;
 
     UserAgentParser(String name, InputStream regexStream, UserAgentCache cache) {
@@ -64,6 +67,9 @@ final class UserAgentParser {
         } catch (IOException e) {
             throw new OpenSearchParseException("error parsing regular expression file", e);
         }
+        this.uaIndex = new UserAgentPatternIndex(uaPatterns);
+        this.osIndex = new UserAgentPatternIndex(osPatterns);
+        this.deviceIndex = new UserAgentPatternIndex(devicePatterns);
     }
 
     private void init(InputStream regexStream) throws IOException {
@@ -197,9 +203,10 @@ final class UserAgentParser {
         Details details = cache.get(name, agentString);
 
         if (details == null) {
-            VersionedName userAgent = findMatch(uaPatterns, agentString);
-            VersionedName operatingSystem = findMatch(osPatterns, agentString);
-            VersionedName device = findMatch(devicePatterns, agentString);
+            String lowerCaseAgentString = UserAgentPatternIndex.toLowerCaseAscii(agentString);
+            VersionedName userAgent = uaIndex.findMatch(agentString, lowerCaseAgentString);
+            VersionedName operatingSystem = osIndex.findMatch(agentString, lowerCaseAgentString);
+            VersionedName device = deviceIndex.findMatch(agentString, lowerCaseAgentString);
 
             details = new Details(userAgent, operatingSystem, device);
 
@@ -209,19 +216,6 @@ final class UserAgentParser {
         return details;
     }
 
-    private VersionedName findMatch(List<UserAgentSubpattern> possiblePatterns, String agentString) {
-        VersionedName name;
-        for (UserAgentSubpattern pattern : possiblePatterns) {
-            name = pattern.match(agentString);
-
-            if (name != null) {
-                return name;
-            }
-        }
-
-        return null;
-    }
-
     static final class Details {
         public final VersionedName userAgent;
         public final VersionedName operatingSystem;
@@ -273,6 +267,10 @@ final class UserAgentParser {
             this.v4Replacement = v4Replacement;
         }
 
+        Pattern getPattern() {
+            return pattern;
+        }
+
         public VersionedName match(String agentString) {
             String name = null, major = null, minor = null, patch = null, build = null;
             Matcher matcher = pattern.matcher(agentString);
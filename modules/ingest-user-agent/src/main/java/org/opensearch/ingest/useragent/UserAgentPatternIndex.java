@@ -0,0 +1,393 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest.useragent;
+
+import org.opensearch.ingest.useragent.UserAgentParser.UserAgentSubpattern;
+import org.opensearch.ingest.useragent.UserAgentParser.VersionedName;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds the first of a list of patterns that matches a user agent string without running every pattern on it.
+ * <p>
+ * The literal tokens that any match of a pattern contains are extracted from its regular expression, as clauses of alternative
+ * literals that the string must contain one of. Each pattern is indexed by the first three characters of the literals of one of
+ * its clauses. Only the patterns that are indexed under one of the three-character sequences of the string, and whose clauses
+ * the string satisfies, are run. Patterns that have no clause of literals of three characters or more are always run.
+ * <p>
+ * Literals and strings are compared with their ASCII letters in lower case, which is a necessary condition of a match for
+ * case-sensitive and case-insensitive patterns alike. The outcome is the same as running all patterns in order.
+ */
+final class UserAgentPatternIndex {
+
+    private static final int TOKEN_LENGTH = 3;
+    // escapes of a single letter that are not followed by arguments, they match a class of characters, a position, or a control
+    // character which is not considered to be part of a literal
+    private static final String SIMPLE_ESCAPES = "dDsSwWbBAzZGhHvVRXtnrfae";
+
+    private final List<UserAgentSubpattern> patterns;
+    // the clauses of each pattern, with their literals in lower case
+    private final String[][][] clauses;
+    // the patterns that are always run
+    private final long[] unindexed;
+    // open-addressing table from three-character tokens to the patterns that are indexed under them
+    private final long[] tokens;
+    private final int[][] tokenPatterns;
+    private final int mask;
+
+    UserAgentPatternIndex(List<UserAgentSubpattern> patterns) {
+        this.patterns = patterns;
+        this.clauses = new String[patterns.size()][][];
+        this.unindexed = new long[(patterns.size() + Long.SIZE - 1) / Long.SIZE];
+        final List<Long> indexedTokens = new ArrayList<>();
+        final List<Integer> indexedPatterns = new ArrayList<>();
+        for (int i = 0; i < patterns.size(); i++) {
+            final List<List<String>> required = requiredLiterals(patterns.get(i).getPattern().pattern());
+            clauses[i] = new String[required.size()][];
+            String[] anchor = null;
+            for (int j = 0; j < required.size(); j++) {
+                final List<String> clause = required.get(j);
+                clauses[i][j] = new String[clause.size()];
+                int shortest = Integer.MAX_VALUE;
+                for (int k = 0; k < clause.size(); k++) {
+                    clauses[i][j][k] = toLowerCaseAscii(clause.get(k));
+                    shortest = Math.min(shortest, clause.get(k).length());
+                }
+                // prefer the clauses with the fewest alternatives, then the longest literals
+                if (shortest >= TOKEN_LENGTH
+                    && (anchor == null
+                        || clause.size() < anchor.length
+                        || (clause.size() == anchor.length && shortest > shortestLength(anchor)))) {
+                    anchor = clauses[i][j];
+                }
+            }
+            if (anchor == null) {
+                unindexed[i / Long.SIZE] |= 1L << i;
+            } else {
+                for (String literal : anchor) {
+                    indexedTokens.add(token(literal, 0));
+                    indexedPatterns.add(i);
+                }
+            }
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(indexedTokens.size(), 1) * 4 - 1) << 1;
+        this.tokens = new long[capacity];
+        this.tokenPatterns = new int[capacity][];
+        this.mask = capacity - 1;
+        for (int i = 0; i < indexedTokens.size(); i++) {
+            final long token = indexedTokens.get(i);
+            int slot = slot(token);
+            while (tokenPatterns[slot] != null && tokens[slot] != token) {
+                slot = (slot + 1) & mask;
+            }
+            final int[] previous = tokenPatterns[slot];
+            final int pattern = indexedPatterns.get(i);
+            if (previous != null && previous[previous.length - 1] == pattern) {
+                // several literals of the clause start with the same token
+                continue;
+            }
+            final int[] current = previous == null ? new int[1] : new int[previous.length + 1];
+            if (previous != null) {
+                System.arraycopy(previous, 0, current, 0, previous.length);
+            }
+            current[current.length - 1] = pattern;
+            tokens[slot] = token;
+            tokenPatterns[slot] = current;
+        }
+    }
+
+    private static int shortestLength(String[] literals) {
+        int shortest = Integer.MAX_VALUE;
+        for (String literal : literals) {
+            shortest = Math.min(shortest, literal.length());
+        }
+        return shortest;
+    }
+
+    /**
+     * Returns the name that the first matching pattern extracts from the string, or null if none matches
+     *
+     * @param agentString the user agent string
+     * @param lowerCaseAgentString the user agent string with its ASCII letters in lower case
+     */
+    VersionedName findMatch(String agentString, String lowerCaseAgentString) {
+        final long[] candidates = unindexed.clone();
+        for (int i = 0; i + TOKEN_LENGTH <= lowerCaseAgentString.length(); i++) {
+            final long token = token(lowerCaseAgentString, i);
+            int slot = slot(token);
+            while (tokenPatterns[slot] != null) {
+                if (tokens[slot] == token) {
+                    for (int pattern : tokenPatterns[slot]) {
+                        candidates[pattern / Long.SIZE] |= 1L << pattern;
+                    }
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+        for (int word = 0; word < candidates.length; word++) {
+            long bits = candidates[word];
+            while (bits != 0) {
+                final int pattern = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (satisfies(lowerCaseAgentString, clauses[pattern])) {
+                    final VersionedName name = patterns.get(pattern).match(agentString);
+                    if (name != null) {
+                        return name;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean satisfies(String string, String[][] clauses) {
+        for (String[] clause : clauses) {
+            boolean satisfied = false;
+            for (String literal : clause) {
+                if (string.contains(literal)) {
+                    satisfied = true;
+                    break;
+                }
+            }
+            if (satisfied == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long token(String string, int offset) {
+        return ((long) string.charAt(offset) << 32) | ((long) string.charAt(offset + 1) << 16) | string.charAt(offset + 2);
+    }
+
+    private int slot(long token) {
+        return (int) ((token * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    static String toLowerCaseAscii(String string) {
+        for (int i = 0; i < string.length(); i++) {
+            final char c = string.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                final char[] chars = string.toCharArray();
+                for (int j = i; j < chars.length; j++) {
+                    if (chars[j] >= 'A' && chars[j] <= 'Z') {
+                        chars[j] = (char) (chars[j] + ('a' - 'A'));
+                    }
+                }
+                return new String(chars);
+            }
+        }
+        return string;
+    }
+
+    /**
+     * Returns the literals that any text matched by the regular expression contains, as clauses of alternative literals that the
+     * text contains one of. The literal text of the expression and of its groups is considered, unless the group is optional,
+     * repeated any number of times or a lookaround. A group with alternatives requires the longest literal of one of them.
+     * Character classes and quantified characters are skipped. Expressions using constructs whose effect on literals is not
+     * obvious, such as inline flags or escapes taking arguments, have no required literals. Missing a literal only makes the index
+     * less selective, it never rules out a pattern that matches.
+     */
+    static List<List<String>> requiredLiterals(String regex) {
+        final Set<List<String>> clauses = new LinkedHashSet<>();
+        if (sequence(regex, 0, clauses) != regex.length()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(clauses));
+    }
+
+    /**
+     * Adds the clauses of the sequence that starts at the given position and ends at the closing parenthesis of its group or at
+     * the end of the expression, and returns the position where it ends. Returns -1 if the sequence uses constructs that are not
+     * supported.
+     */
+    private static int sequence(String regex, int start, Set<List<String>> clauses) {
+        final List<Set<List<String>>> alternatives = new ArrayList<>();
+        Set<List<String>> alternative = new LinkedHashSet<>();
+        alternatives.add(alternative);
+        final StringBuilder run = new StringBuilder();
+        final int length = regex.length();
+        int i = start;
+        while (i < length && regex.charAt(i) != ')') {
+            final char c = regex.charAt(i);
+            switch (c) {
+                case '\\': {
+                    if (i + 1 == length) {
+                        return -1;
+                    }
+                    final char escaped = regex.charAt(i + 1);
+                    if (Character.isLetterOrDigit(escaped)) {
+                        if (SIMPLE_ESCAPES.indexOf(escaped) == -1) {
+                            return -1;
+                        }
+                        flush(run, alternative);
+                        i += 2;
+                    } else {
+                        i = literal(regex, escaped, i + 2, run, alternative);
+                    }
+                    break;
+                }
+                case '[':
+                    flush(run, alternative);
+                    i = skipCharacterClass(regex, i);
+                    if (i == -1) {
+                        return -1;
+                    }
+                    break;
+                case '(': {
+                    flush(run, alternative);
+                    int contentStart = i + 1;
+                    boolean lookaround = false;
+                    if (regex.startsWith("(?", i)) {
+                        if (regex.startsWith("(?:", i) || regex.startsWith("(?>", i)) {
+                            contentStart = i + 3;
+                        } else if (regex.startsWith("(?=", i) || regex.startsWith("(?!", i)) {
+                            lookaround = true;
+                            contentStart = i + 3;
+                        } else if (regex.startsWith("(?<=", i) || regex.startsWith("(?<!", i)) {
+                            lookaround = true;
+                            contentStart = i + 4;
+                        } else if (regex.startsWith("(?<", i) && regex.indexOf('>', i) != -1) {
+                            contentStart = regex.indexOf('>', i) + 1;
+                        } else {
+                            // inline flags, which may for instance make the expression case insensitive
+                            return -1;
+                        }
+                    }
+                    final Set<List<String>> groupClauses = new LinkedHashSet<>();
+                    final int end = sequence(regex, contentStart, groupClauses);
+                    if (end == -1 || end == length) {
+                        return -1;
+                    }
+                    i = end + 1;
+                    final char quantifier = i < length ? regex.charAt(i) : 0;
+                    if (lookaround == false && quantifier != '?' && quantifier != '*' && quantifier != '{') {
+                        alternative.addAll(groupClauses);
+                    }
+                    break;
+                }
+                case '|':
+                    flush(run, alternative);
+                    alternative = new LinkedHashSet<>();
+                    alternatives.add(alternative);
+                    i++;
+                    break;
+                case '{': {
+                    // a repetition of the preceding group
+                    flush(run, alternative);
+                    final int end = regex.indexOf('}', i + 1);
+                    i = end == -1 ? i + 1 : end + 1;
+                    break;
+                }
+                case '.':
+                case '^':
+                case '$':
+                case '?':
+                case '*':
+                case '+':
+                    flush(run, alternative);
+                    i++;
+                    break;
+                default:
+                    if (Character.isSurrogate(c)) {
+                        flush(run, alternative);
+                        i++;
+                    } else {
+                        i = literal(regex, c, i + 1, run, alternative);
+                    }
+                    break;
+            }
+        }
+        flush(run, alternative);
+        if (alternatives.size() == 1) {
+            clauses.addAll(alternative);
+        } else {
+            // any match contains the longest literal of one of the alternatives, if they all have one
+            final Set<String> clause = new LinkedHashSet<>();
+            for (Set<List<String>> alternativeClauses : alternatives) {
+                String longest = null;
+                for (List<String> alternativeClause : alternativeClauses) {
+                    if (alternativeClause.size() == 1 && (longest == null || alternativeClause.get(0).length() > longest.length())) {
+                        longest = alternativeClause.get(0);
+                    }
+                }
+                if (longest == null) {
+                    return i;
+                }
+                clause.add(longest);
+            }
+            clauses.add(Collections.unmodifiableList(new ArrayList<>(clause)));
+        }
+        return i;
+    }
+
+    /**
+     * Adds a literal character that ends before {@code next} to the current run, unless it is quantified, and returns the
+     * position of the next token.
+     */
+    private static int literal(String regex, char c, int next, StringBuilder run, Set<List<String>> clauses) {
+        final char quantifier = next < regex.length() ? regex.charAt(next) : 0;
+        if (quantifier == '?' || quantifier == '*' || quantifier == '{') {
+            // the character may not occur
+            flush(run, clauses);
+        } else if (quantifier == '+') {
+            // the character occurs, but what follows it may be another occurrence
+            run.append(c);
+            flush(run, clauses);
+        } else {
+            run.append(c);
+        }
+        return next;
+    }
+
+    /**
+     * Returns the position after the character class that starts at the given position, or -1 if it is not closed.
+     */
+    private static int skipCharacterClass(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+                i++;
+                // a closing bracket right after the opening one, possibly negated, is a literal
+                if (i < regex.length() && regex.charAt(i) == '^') {
+                    i++;
+                }
+                if (i < regex.length() && regex.charAt(i) == ']') {
+                    i++;
+                }
+                continue;
+            }
+            if (c == ']' && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static void flush(StringBuilder run, Set<List<String>> clauses) {
+        if (run.length() > 0) {
+            clauses.add(Collections.singletonList(run.toString()));
+            run.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest.useragent;
+
+import org.opensearch.ingest.useragent.UserAgentParser.Details;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class UserAgentCacheTests extends OpenSearchTestCase {
+
+    public void testGetAndPut() {
+        UserAgentCache cache = new UserAgentCache(10);
+        Details details = new Details(null, null, null);
+        assertNull(cache.get("parser", "agent"));
+        cache.put("parser", "agent", details);
+        assertSame(details, cache.get("parser", "agent"));
+        assertNull(cache.get("other_parser", "agent"));
+        assertEquals(1, cache.count());
+    }
+
+    public void testZeroSize() {
+        UserAgentCache cache = new UserAgentCache(0);
+        cache.put("parser", "agent", new Details(null, null, null));
+        assertNull(cache.get("parser", "agent"));
+        assertEquals(0, cache.count());
+    }
+
+    public void testLargeSizeIsNotAllocatedUpFront() {
+        UserAgentCache cache = new UserAgentCache(Long.MAX_VALUE);
+        Details details = new Details(null, null, null);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put("parser", "agent-" + i, details);
+        }
+        assertSame(details, cache.get("parser", "agent-0"));
+        assertEquals(10_000, cache.count());
+    }
+
+    public void testFrequentEntriesAreKept() {
+        int capacity = 100;
+        UserAgentCache cache = new UserAgentCache(capacity);
+        int frequent = 10;
+        for (int i = 0; i < frequent; i++) {
+            cache.put("parser", "frequent-" + i, new Details(null, null, null));
+        }
+        // one-off strings, with hits on the frequent strings in between
+        int hits = 0;
+        for (int i = 0; i < 10_000; i++) {
+            cache.put("parser", "one-off-" + i, new Details(null, null, null));
+            String frequentAgent = "frequent-" + (i % frequent);
+            if (cache.get("parser", frequentAgent) != null) {
+                hits++;
+            } else {
+                cache.put("parser", frequentAgent, new Details(null, null, null));
+            }
+            assertThat(cache.count(), lessThanOrEqualTo(capacity));
+        }
+        // evictions sample entries, so a frequent entry is evicted on rare occasions right after it was inserted or aged
+        assertThat(hits, greaterThanOrEqualTo(9_000));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest.useragent;
+
+import org.opensearch.ingest.useragent.UserAgentParser.UserAgentSubpattern;
+import org.opensearch.ingest.useragent.UserAgentParser.VersionedName;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class UserAgentPatternIndexTests extends OpenSearchTestCase {
+
+    public void testRequiredLiterals() {
+        assertThat(UserAgentPatternIndex.requiredLiterals("(Firefox)/(\\d+)\\.(\\d+)"), equalTo(clauses("Firefox", "/", ".")));
+        assertThat(UserAgentPatternIndex.requiredLiterals("Opera Mini(?:/att|)/?(\\d+|)"), equalTo(clauses("Opera Mini")));
+        assertThat(
+            UserAgentPatternIndex.requiredLiterals("(Chromium|Chrome)/(\\d+)"),
+            equalTo(List.of(List.of("Chromium", "Chrome"), List.of("/")))
+        );
+        assertThat(UserAgentPatternIndex.requiredLiterals("; *([^;]+) Build"), equalTo(clauses(";", " Build")));
+        assertThat(UserAgentPatternIndex.requiredLiterals("Silk-?(\\d+)"), equalTo(clauses("Silk")));
+        assertThat(UserAgentPatternIndex.requiredLiterals("(?:Mobile )?Safari"), equalTo(clauses("Safari")));
+        // an alternative without a literal
+        assertThat(UserAgentPatternIndex.requiredLiterals("(Edge|[A-Z]+)/(\\d+)"), equalTo(clauses("/")));
+        // inline flags and escapes taking arguments
+        assertThat(UserAgentPatternIndex.requiredLiterals("(?i)bot"), empty());
+        assertThat(UserAgentPatternIndex.requiredLiterals("\\x41bot"), empty());
+        assertThat(UserAgentPatternIndex.requiredLiterals("(bot"), empty());
+    }
+
+    public void testToLowerCaseAscii() {
+        assertThat(UserAgentPatternIndex.toLowerCaseAscii("Mozilla/5.0 (X11; Linux)"), equalTo("mozilla/5.0 (x11; linux)"));
+        assertThat(UserAgentPatternIndex.toLowerCaseAscii("\u00C9CLAIR"), equalTo("\u00C9clair"));
+        String lowerCase = "already lower case";
+        assertSame(lowerCase, UserAgentPatternIndex.toLowerCaseAscii(lowerCase));
+    }
+
+    public void testSameMatchesAsSequentialMatching() throws IOException {
+        UserAgentParser parser;
+        try (InputStream regexStream = UserAgentProcessor.class.getResourceAsStream("/regexes.yml")) {
+            parser = new UserAgentParser(randomAlphaOfLength(10), regexStream, new UserAgentCache(0));
+        }
+        List<List<UserAgentSubpattern>> patternLists = List.of(parser.getUaPatterns(), parser.getOsPatterns(), parser.getDevicePatterns());
+
+        // user agent strings made of the literals of the patterns, so that many patterns are candidates
+        List<String> literals = new ArrayList<>();
+        for (List<UserAgentSubpattern> patterns : patternLists) {
+            for (UserAgentSubpattern pattern : patterns) {
+                UserAgentPatternIndex.requiredLiterals(pattern.getPattern().pattern()).forEach(literals::addAll);
+            }
+        }
+        List<String> agentStrings = new ArrayList<>(
+            Arrays.asList(
+                "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36",
+                "Mozilla/5.0 (iPhone; CPU iPhone OS 17_1 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Mobile/15E148",
+                "Mozilla/5.0 (Linux; Android 13; SM-S918B Build/TP1A.220624.014) AppleWebKit/537.36 Chrome/119.0 Mobile Safari/537.36",
+                "Mozilla/5.0 (compatible; Googlebot/2.1; +http://www.google.com/bot.html)",
+                "curl/8.4.0",
+                ""
+            )
+        );
+        for (int i = 0; i < 500; i++) {
+            StringBuilder agentString = new StringBuilder();
+            int parts = randomIntBetween(1, 6);
+            for (int j = 0; j < parts; j++) {
+                String literal = randomFrom(literals);
+                agentString.append(randomBoolean() ? literal : literal.toUpperCase(Locale.ROOT));
+                agentString.append(randomBoolean() ? "/" + randomIntBetween(0, 99) + "." + randomIntBetween(0, 9) : " ");
+                agentString.append(randomFrom("(", "; ", ""));
+            }
+            agentStrings.add(agentString.toString());
+        }
+
+        for (List<UserAgentSubpattern> patterns : patternLists) {
+            UserAgentPatternIndex index = new UserAgentPatternIndex(patterns);
+            for (String agentString : agentStrings) {
+                VersionedName expected = null;
+                for (UserAgentSubpattern pattern : patterns) {
+                    expected = pattern.match(agentString);
+                    if (expected != null) {
+                        break;
+                    }
+                }
+                VersionedName actual = index.findMatch(agentString, UserAgentPatternIndex.toLowerCaseAscii(agentString));
+                assertThat(agentString, toString(actual), equalTo(toString(expected)));
+            }
+        }
+    }
+
+    private static List<List<String>> clauses(String... literals) {
+        List<List<String>> clauses = new ArrayList<>();
+        for (String literal : literals) {
+            clauses.add(Collections.singletonList(literal));
+        }
+        return clauses;
+    }
+
+    private static String toString(VersionedName name) {
+        if (name == null) {
+            return null;
+        }
+        return name.name + " " + name.major + " " + name.minor + " " + name.patch + " " + name.build;
+    }
+}
@@ -540,50 +540,44 @@ public class EhcacheDiskCache<K, V> implements ICache<K, V> {
             this.weigher = weigher;
         }
 
-        private long getOldValuePairSize(CacheEvent<? extends ICacheKey<K>, ? extends ByteArrayWrapper> event) {
-            return weigher.applyAsLong(event.getKey(), deserializeValue(event.getOldValue()));
-        }
-
-        private long getNewValuePairSize(CacheEvent<? extends ICacheKey<K>, ? extends ByteArrayWrapper> event) {
-            return weigher.applyAsLong(event.getKey(), deserializeValue(event.getNewValue()));
-        }
-
         @Override
         public void onEvent(CacheEvent<? extends ICacheKey<K>, ? extends ByteArrayWrapper> event) {
+            // removed values are deserialized once for both the removal listener and the weigher
+            final V oldValue;
             switch (event.getType()) {
                 case CREATED:
                     cacheStatsHolder.incrementItems(event.getKey().dimensions);
-                    cacheStatsHolder.incrementSizeInBytes(event.getKey().dimensions, getNewValuePairSize(event));
+                    cacheStatsHolder.incrementSizeInBytes(
+                        event.getKey().dimensions,
+                        weigher.applyAsLong(event.getKey(), deserializeValue(event.getNewValue()))
+                    );
                     assert event.getOldValue() == null;
                     break;
                 case EVICTED:
-                    this.removalListener.onRemoval(
-                        new RemovalNotification<>(event.getKey(), deserializeValue(event.getOldValue()), RemovalReason.EVICTED)
-                    );
+                    oldValue = deserializeValue(event.getOldValue());
+                    this.removalListener.onRemoval(new RemovalNotification<>(event.getKey(), oldValue, RemovalReason.EVICTED));
                     cacheStatsHolder.decrementItems(event.getKey().dimensions);
-                    cacheStatsHolder.decrementSizeInBytes(event.getKey().dimensions, getOldValuePairSize(event));
+                    cacheStatsHolder.decrementSizeInBytes(event.getKey().dimensions, weigher.applyAsLong(event.getKey(), oldValue));
                     cacheStatsHolder.incrementEvictions(event.getKey().dimensions);
                     assert event.getNewValue() == null;
                     break;
                 case REMOVED:
-                    this.removalListener.onRemoval(
-                        new RemovalNotification<>(event.getKey(), deserializeValue(event.getOldValue()), RemovalReason.EXPLICIT)
-                    );
+                    oldValue = deserializeValue(event.getOldValue());
+                    this.removalListener.onRemoval(new RemovalNotification<>(event.getKey(), oldValue, RemovalReason.EXPLICIT));
                     cacheStatsHolder.decrementItems(event.getKey().dimensions);
-                    cacheStatsHolder.decrementSizeInBytes(event.getKey().dimensions, getOldValuePairSize(event));
+                    cacheStatsHolder.decrementSizeInBytes(event.getKey().dimensions, weigher.applyAsLong(event.getKey(), oldValue));
                     assert event.getNewValue() == null;
                     break;
                 case EXPIRED:
-                    this.removalListener.onRemoval(
-                        new RemovalNotification<>(event.getKey(), deserializeValue(event.getOldValue()), RemovalReason.INVALIDATED)
-                    );
+                    oldValue = deserializeValue(event.getOldValue());
+                    this.removalListener.onRemoval(new RemovalNotification<>(event.getKey(), oldValue, RemovalReason.INVALIDATED));
                     cacheStatsHolder.decrementItems(event.getKey().dimensions);
-                    cacheStatsHolder.decrementSizeInBytes(event.getKey().dimensions, getOldValuePairSize(event));
+                    cacheStatsHolder.decrementSizeInBytes(event.getKey().dimensions, weigher.applyAsLong(event.getKey(), oldValue));
                     assert event.getNewValue() == null;
                     break;
                 case UPDATED:
-                    long newSize = getNewValuePairSize(event);
-                    long oldSize = getOldValuePairSize(event);
+                    long newSize = weigher.applyAsLong(event.getKey(), deserializeValue(event.getNewValue()));
+                    long oldSize = weigher.applyAsLong(event.getKey(), deserializeValue(event.getOldValue()));
                     cacheStatsHolder.incrementSizeInBytes(event.getKey().dimensions, newSize - oldSize);
                     break;
                 default:
@@ -125,7 +125,13 @@ public class CommonStatsFlags implements Writeable, Cloneable {
         out.writeBoolean(includeAllShardIndexingPressureTrackers);
         out.writeBoolean(includeOnlyTopIndexingPressureMetrics);
         if (out.getVersion().onOrAfter(Version.V_2_14_0)) {
-            out.writeEnumSet(includeCaches);
+            if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+                out.writeEnumSet(includeCaches);
+            } else {
+                EnumSet<CacheType> knownCaches = EnumSet.copyOf(includeCaches);
+                knownCaches.remove(CacheType.INDICES_FILTER_CACHE);
+                out.writeEnumSet(knownCaches);
+            }
             out.writeStringArrayNullable(levels);
         }
         if (out.getVersion().onOrAfter(Version.V_2_17_0)) {
@@ -35,14 +35,19 @@ package org.opensearch.action.bulk;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.support.replication.TransportWriteAction;
+import org.opensearch.common.Nullable;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.translog.Translog;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * This is a utility class that holds the per request state needed to perform bulk operations on the primary.
@@ -83,6 +88,7 @@ class BulkPrimaryExecutionContext {
 
     private final BulkShardRequest request;
     private final IndexShard primary;
+    private final ParallelBulkItemParser itemParser;
     private Translog.Location locationToSync = null;
     private int currentIndex = -1;
 
@@ -92,8 +98,13 @@ class BulkPrimaryExecutionContext {
     private int retryCounter;
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
+        this(request, primary, null);
+    }
+
+    BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary, @Nullable ParallelBulkItemParser itemParser) {
         this.request = request;
         this.primary = primary;
+        this.itemParser = itemParser;
         advance();
     }
 
@@ -126,6 +137,69 @@ class BulkPrimaryExecutionContext {
         return getCurrentItem().request();
     }
 
+    /**
+     * returns the operation of the current, untranslated index request if its document was parsed ahead of its execution, or null
+     * if the document is to be parsed now. Only returns the operation once per item.
+     */
+    @Nullable
+    Engine.Index takeParsedIndexOperation() {
+        return itemParser == null ? null : itemParser.take(currentIndex);
+    }
+
+    /**
+     * returns the prepared operations of the current item and of the items following it that append documents with auto-generated
+     * ids, up to {@code maxOperations} of them and {@code maxBytes} of sources, so that they are executed together. Stops at the first
+     * item that does something else or whose document can't be prepared, e.g. because it requires a mapping update. The items are
+     * then completed one after the other, in order.
+     */
+    List<Engine.Index> prepareAppendOperations(int maxOperations, long maxBytes) {
+        assert assertInvariants(ItemProcessingState.INITIAL);
+        final List<Engine.Index> operations = new ArrayList<>();
+        final BulkItemRequest[] items = request.items();
+        long bytes = 0;
+        for (int i = currentIndex; i < items.length && operations.size() < maxOperations; i = findNextNonAborted(i + 1)) {
+            if (isAppend(items[i].request()) == false) {
+                break;
+            }
+            final IndexRequest indexRequest = (IndexRequest) items[i].request();
+            bytes += indexRequest.source().length();
+            if (bytes > maxBytes && operations.isEmpty() == false) {
+                break;
+            }
+            Engine.Index operation = itemParser == null ? null : itemParser.take(i);
+            if (operation == null) {
+                operation = primary.prepareIndexOperationOnPrimary(
+                    indexRequest.version(),
+                    indexRequest.versionType(),
+                    new SourceToParse(
+                        indexRequest.index(),
+                        indexRequest.id(),
+                        indexRequest.source(),
+                        indexRequest.getContentType(),
+                        indexRequest.routing()
+                    ),
+                    indexRequest.ifSeqNo(),
+                    indexRequest.ifPrimaryTerm(),
+                    indexRequest.getAutoGeneratedTimestamp(),
+                    indexRequest.isRetry()
+                );
+                if (operation == null) {
+                    break;
+                }
+            }
+            operations.add(operation);
+        }
+        return operations;
+    }
+
+    private static boolean isAppend(DocWriteRequest<?> docWriteRequest) {
+        if (docWriteRequest instanceof IndexRequest == false) {
+            return false;
+        }
+        final IndexRequest indexRequest = (IndexRequest) docWriteRequest;
+        return indexRequest.getAutoGeneratedTimestamp() != IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP && indexRequest.isRetry() == false;
+    }
+
     public BulkShardRequest getBulkShardRequest() {
         return request;
     }
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.shard.IndexShard;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Parses the documents of the index operations of a bulk shard request on the primary ahead of their execution, on threads of
+ * the dedicated bulk parse thread pool, while the write thread that executes the request applies its operations one after the
+ * other. Operations are still applied in the order of the request, so they get their sequence numbers in that order.
+ * <p>
+ * Parsing ahead is only an optimization: the write thread parses the documents that no other thread started parsing itself, and
+ * documents that need a mapping update, fail to parse, or were parsed with a mapping that has changed since are parsed again
+ * when their operation is applied, exactly as without parsing ahead. Helper threads never wait on the write thread, so helpers
+ * that are queued behind other work on a busy node can't hold up the request, and helpers that the bounded parse thread pool
+ * rejects leave the documents to the write thread.
+ *
+ * @opensearch.internal
+ */
+final class ParallelBulkItemParser {
+
+    private static final Logger logger = LogManager.getLogger(ParallelBulkItemParser.class);
+
+    /** The minimum number of index operations that a request needs per thread parsing it */
+    static final int MIN_ITEMS_PER_THREAD = 16;
+
+    private static final int UNCLAIMED = 0;
+    private static final int PARSING = 1;
+    private static final int PARSED = 2;
+    private static final int TAKEN = 3;
+
+    private final BulkShardRequest request;
+    private final IndexShard primary;
+    private final AtomicIntegerArray states;
+    private final Engine.Index[] operations;
+    private final DocumentMapper[] mappers;
+    private final AtomicInteger nextItem = new AtomicInteger();
+
+    private ParallelBulkItemParser(BulkShardRequest request, IndexShard primary) {
+        this.request = request;
+        this.primary = primary;
+        this.states = new AtomicIntegerArray(request.items().length);
+        this.operations = new Engine.Index[request.items().length];
+        this.mappers = new DocumentMapper[request.items().length];
+    }
+
+    /**
+     * Starts parsing the documents of the request on helper threads, and returns the parser to take the parsed operations from, or
+     * null if the request is too small to be parsed on several threads.
+     *
+     * @param parallelism the maximum number of threads parsing the request, including the write thread that executes it
+     * @param executor the executor that helper threads run on
+     */
+    static ParallelBulkItemParser fork(BulkShardRequest request, IndexShard primary, int parallelism, Executor executor) {
+        if (parallelism <= 1) {
+            return null;
+        }
+        int indexOperations = 0;
+        for (BulkItemRequest item : request.items()) {
+            if (isParsedAhead(item)) {
+                indexOperations++;
+            }
+        }
+        final int helpers = Math.min(parallelism - 1, indexOperations / MIN_ITEMS_PER_THREAD - 1);
+        if (helpers <= 0) {
+            return null;
+        }
+        final ParallelBulkItemParser parser = new ParallelBulkItemParser(request, primary);
+        for (int i = 0; i < helpers; i++) {
+            executor.execute(new AbstractRunnable() {
+                @Override
+                protected void doRun() {
+                    parser.parseAhead();
+                }
+
+                @Override
+                public void onRejection(Exception e) {
+                    // no parse thread is free, the write thread parses the documents itself
+                    logger.trace(() -> new ParameterizedMessage("{} rejected parsing bulk items ahead", primary.shardId()), e);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    // the write thread parses the documents that were not parsed ahead
+                    logger.debug(() -> new ParameterizedMessage("{} failed to parse bulk items ahead", primary.shardId()), e);
+                }
+            });
+        }
+        return parser;
+    }
+
+    private static boolean isParsedAhead(BulkItemRequest item) {
+        // updates need to fetch the document they update first, and aborted items are not executed
+        return item.request() instanceof IndexRequest && item.getPrimaryResponse() == null;
+    }
+
+    private void parseAhead() {
+        final BulkItemRequest[] items = request.items();
+        for (int i = nextItem.getAndIncrement(); i < items.length; i = nextItem.getAndIncrement()) {
+            if (isParsedAhead(items[i]) == false || states.compareAndSet(i, UNCLAIMED, PARSING) == false) {
+                continue;
+            }
+            final IndexRequest indexRequest = (IndexRequest) items[i].request();
+            try {
+                mappers[i] = primary.mapperService().documentMapper();
+                operations[i] = primary.prepareIndexOperationOnPrimary(
+                    indexRequest.version(),
+                    indexRequest.versionType(),
+                    new SourceToParse(
+                        indexRequest.index(),
+                        indexRequest.id(),
+                        indexRequest.source(),
+                        indexRequest.getContentType(),
+                        indexRequest.routing()
+                    ),
+                    indexRequest.ifSeqNo(),
+                    indexRequest.ifPrimaryTerm(),
+                    indexRequest.getAutoGeneratedTimestamp(),
+                    indexRequest.isRetry()
+                );
+            } finally {
+                if (states.compareAndSet(i, PARSING, PARSED) == false) {
+                    // the write thread gave up waiting
+                    operations[i] = null;
+                    mappers[i] = null;
+                }
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the operation of the item with the given index if it was parsed ahead and is still valid, or null if the write thread
+     * should parse the item itself. The operation of an item is returned at most once, later calls for the same item return null.
+     */
+    Engine.Index take(int itemIndex) {
+        if (states.compareAndSet(itemIndex, UNCLAIMED, TAKEN)) {
+            // not parsed ahead, and no helper will parse it anymore
+            return null;
+        }
+        if (states.get(itemIndex) == PARSING) {
+            synchronized (this) {
+                while (states.get(itemIndex) == PARSING) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        if (states.compareAndSet(itemIndex, PARSING, TAKEN)) {
+                            return null;
+                        }
+                    }
+                }
+            }
+        }
+        if (states.compareAndSet(itemIndex, PARSED, TAKEN) == false) {
+            return null;
+        }
+        final Engine.Index operation = operations[itemIndex];
+        final DocumentMapper mapper = mappers[itemIndex];
+        operations[itemIndex] = null;
+        mappers[itemIndex] = null;
+        if (operation == null
+            || mapper != primary.mapperService().documentMapper()
+            || operation.primaryTerm() != primary.getOperationPrimaryTerm()) {
+            return null;
+        }
+        return operation;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContent;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a bulk body that is received in chunks into the complete bulk items it holds, so that they can be parsed by
+ * {@link BulkRequestParser} before the whole body is received. An item may span several chunks: the bytes of the items that
+ * are not complete yet are kept as slices of the chunks they were received in, until {@link #copyPendingBytesOfLastChunk()}
+ * copies those of the last chunk so that it can be released. Each byte of the body is copied at most once.
+ * <p>
+ * Items are made of an action line, followed by a source line unless the action is a delete. Only the action lines are parsed
+ * here, as far as needed to tell whether a source line follows.
+ *
+ * @opensearch.internal
+ */
+public final class StreamingBulkItemSplitter {
+
+    private final XContent xContent;
+    private final byte marker;
+
+    // the chunks, or the tails of the chunks, received after the last complete item. They are kept in a list rather than nested
+    // composite references, so that an item spanning many chunks doesn't make every access to its bytes walk a deep tree.
+    private final List<BytesReference> pendingChunks = new ArrayList<>();
+    private BytesReference pending = BytesArray.EMPTY;
+    // the end of the action line of the first pending item, -1 if the action line is not complete yet
+    private int actionLineEnd = -1;
+    // whether the last element of the pending chunks is a slice of the last appended chunk
+    private boolean lastChunkPending;
+
+    public StreamingBulkItemSplitter(MediaType mediaType) {
+        this.xContent = mediaType.xContent();
+        this.marker = xContent.streamSeparator();
+    }
+
+    /**
+     * Adds the next chunk of the body and returns the bytes of the items that it completes, which may be empty.
+     */
+    public BytesReference append(BytesReference chunk) {
+        if (chunk.length() == 0) {
+            lastChunkPending = false;
+            return BytesArray.EMPTY;
+        }
+        // the pending bytes were already searched for markers, except for the end of the action line that is already known
+        final int searchFrom = pending.length();
+        pendingChunks.add(chunk);
+        pending = CompositeBytesReference.of(pendingChunks.toArray(new BytesReference[0]));
+        int itemStart = 0;
+        while (true) {
+            if (actionLineEnd == -1) {
+                actionLineEnd = pending.indexOf(marker, Math.max(itemStart, searchFrom));
+                if (actionLineEnd == -1) {
+                    break;
+                }
+            }
+            final int itemEnd;
+            if (hasSourceLine(itemStart, actionLineEnd)) {
+                itemEnd = pending.indexOf(marker, Math.max(actionLineEnd + 1, searchFrom));
+                if (itemEnd == -1) {
+                    break;
+                }
+            } else {
+                itemEnd = actionLineEnd;
+            }
+            itemStart = itemEnd + 1;
+            actionLineEnd = -1;
+        }
+        final BytesReference items = pending.slice(0, itemStart);
+        discardPending(itemStart);
+        if (actionLineEnd != -1) {
+            actionLineEnd -= itemStart;
+        }
+        // the chunk is the last one unless it was fully consumed, in which case nothing is pending
+        lastChunkPending = pendingChunks.isEmpty() == false;
+        return items;
+    }
+
+    /**
+     * Copies the pending bytes that are slices of the last appended chunk, so that the chunk can be released while its bytes
+     * are still needed to complete the next item. The items returned by {@link #append} remain slices of their chunks.
+     */
+    public void copyPendingBytesOfLastChunk() {
+        if (lastChunkPending == false) {
+            return;
+        }
+        final int last = pendingChunks.size() - 1;
+        pendingChunks.set(last, new BytesArray(BytesReference.toBytes(pendingChunks.get(last))));
+        pending = CompositeBytesReference.of(pendingChunks.toArray(new BytesReference[0]));
+        lastChunkPending = false;
+    }
+
+    private void discardPending(int length) {
+        int discarded = 0;
+        while (pendingChunks.isEmpty() == false && discarded + pendingChunks.get(0).length() <= length) {
+            discarded += pendingChunks.remove(0).length();
+        }
+        if (discarded < length) {
+            final BytesReference first = pendingChunks.get(0);
+            final int offset = length - discarded;
+            pendingChunks.set(0, first.slice(offset, first.length() - offset));
+        }
+        pending = CompositeBytesReference.of(pendingChunks.toArray(new BytesReference[0]));
+    }
+
+    /**
+     * Returns the bytes received after the last complete item, which are empty if the body is well-formed and was fully received.
+     */
+    public BytesReference remaining() {
+        return pending;
+    }
+
+    private boolean hasSourceLine(int from, int to) {
+        // EMPTY is safe here because we never call namedObject
+        try (
+            XContentParser parser = xContent.createParser(
+                NamedXContentRegistry.EMPTY,
+                LoggingDeprecationHandler.INSTANCE,
+                pending.slice(from, to - from).streamInput()
+            )
+        ) {
+            // malformed action lines are reported by the bulk request parser, they are considered to be a single line here
+            return parser.nextToken() == XContentParser.Token.START_OBJECT
+                && parser.nextToken() == XContentParser.Token.FIELD_NAME
+                && "delete".equals(parser.currentName()) == false;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+}
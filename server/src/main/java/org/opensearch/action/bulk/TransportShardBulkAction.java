@@ -36,6 +36,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.logging.log4j.util.MessageSupplier;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.action.ActionRunnable;
@@ -70,6 +71,8 @@ import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
@@ -78,6 +81,8 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.tasks.TaskId;
 import org.opensearch.core.xcontent.MediaType;
@@ -90,6 +95,7 @@ import org.opensearch.index.get.GetResult;
 import org.opensearch.index.mapper.MapperException;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.mapper.Uid;
 import org.opensearch.index.remote.RemoteStorePressureService;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.IndexShard;
@@ -109,6 +115,8 @@ import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -126,6 +134,39 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
 
     public static final String ACTION_NAME = BulkAction.NAME + "[s]";
 
+    /**
+     * The maximum number of threads that parse the documents of a bulk shard request on the primary, including the write thread
+     * that executes it. Threads beyond the write thread are taken from the bulk parse thread pool when a request has enough index
+     * operations for them (default: 1, documents are parsed by the write thread only).
+     */
+    public static final Setting<Integer> PARSE_PARALLELISM_SETTING = Setting.intSetting(
+        "indices.bulk.parse_parallelism",
+        1,
+        1,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * Whether consecutive operations of a bulk shard request that append documents with auto-generated ids are executed together on
+     * the primary, so that the engine writes their documents at once (default: false, operations are executed one after the other).
+     */
+    public static final Setting<Boolean> GROUP_APPEND_OPERATIONS_SETTING = Setting.boolSetting(
+        "indices.bulk.group_append_operations",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /** The maximum number of operations appending documents with auto-generated ids that are executed together */
+    static final int MAX_APPEND_OPERATIONS = 512;
+
+    /**
+     * The maximum size of the sources of the operations appending documents with auto-generated ids that are executed together, as
+     * all of their documents are held in memory until they are written
+     */
+    static final long MAX_APPEND_OPERATIONS_BYTES = new ByteSizeValue(5, ByteSizeUnit.MB).getBytes();
+
     private static final Logger logger = LogManager.getLogger(TransportShardBulkAction.class);
     private static final Function<IndexShard, String> EXECUTOR_NAME_FUNCTION = shard -> {
         if (shard.indexSettings().getIndexMetadata().isSystem()) {
@@ -139,6 +180,8 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
     private final MappingUpdatedAction mappingUpdatedAction;
     private final SegmentReplicationPressureService segmentReplicationPressureService;
     private final RemoteStorePressureService remoteStorePressureService;
+    private volatile int parseParallelism;
+    private volatile boolean groupAppendOperations;
 
     /**
      * This action is used for performing primary term validation. With remote translog enabled, the translogs would
@@ -188,6 +231,11 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         this.mappingUpdatedAction = mappingUpdatedAction;
         this.segmentReplicationPressureService = segmentReplicationPressureService;
         this.remoteStorePressureService = remoteStorePressureService;
+        this.parseParallelism = PARSE_PARALLELISM_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(PARSE_PARALLELISM_SETTING, value -> this.parseParallelism = value);
+        this.groupAppendOperations = GROUP_APPEND_OPERATIONS_SETTING.get(settings);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(GROUP_APPEND_OPERATIONS_SETTING, value -> this.groupAppendOperations = value);
 
         this.transportPrimaryTermValidationAction = ACTION_NAME + "[validate_primary_term]";
 
@@ -432,7 +480,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             public void onTimeout(TimeValue timeout) {
                 mappingUpdateListener.onFailure(new MapperException("timed out while waiting for a dynamic mapping update"));
             }
-        }), listener, threadPool, executor(primary));
+        }), listener, threadPool, executor(primary), parseParallelism, groupAppendOperations);
     }
 
     @Override
@@ -459,15 +507,69 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         ThreadPool threadPool,
         String executorName
     ) {
+        performOnPrimary(
+            request,
+            primary,
+            updateHelper,
+            nowInMillisSupplier,
+            mappingUpdater,
+            waitForMappingUpdate,
+            listener,
+            threadPool,
+            executorName,
+            1,
+            false
+        );
+    }
+
+    /**
+     * Executes the operations of a bulk shard request on the primary in order, with the documents of index operations parsed
+     * ahead by up to {@code parseParallelism} threads, and consecutive operations appending documents with auto-generated ids
+     * executed together if {@code groupAppendOperations} is set.
+     */
+    public static void performOnPrimary(
+        BulkShardRequest request,
+        IndexShard primary,
+        UpdateHelper updateHelper,
+        LongSupplier nowInMillisSupplier,
+        MappingUpdatePerformer mappingUpdater,
+        Consumer<ActionListener<Void>> waitForMappingUpdate,
+        ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener,
+        ThreadPool threadPool,
+        String executorName,
+        int parseParallelism,
+        boolean groupAppendOperations
+    ) {
+        final List<BytesRef> uids = new ArrayList<>(request.items().length);
+        for (BulkItemRequest item : request.items()) {
+            final DocWriteRequest<?> docWriteRequest = item.request();
+            // documents with auto-generated ids are appended without looking up their version
+            if (docWriteRequest.id() != null && hasAutoGeneratedId(docWriteRequest) == false) {
+                uids.add(Uid.encodeId(docWriteRequest.id()));
+            }
+        }
+        preloadDocVersions(primary, uids);
+        final ParallelBulkItemParser itemParser = ParallelBulkItemParser.fork(
+            request,
+            primary,
+            parseParallelism,
+            threadPool.executor(Names.BULK_PARSE)
+        );
         new ActionRunnable<PrimaryResult<BulkShardRequest, BulkShardResponse>>(listener) {
 
             private final Executor executor = threadPool.executor(executorName);
 
-            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
+            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary, itemParser);
 
             @Override
             protected void doRun() throws Exception {
                 while (context.hasMoreOperationsToExecute()) {
+                    if (groupAppendOperations) {
+                        executeAppendOperations(context);
+                        if (context.hasMoreOperationsToExecute() == false) {
+                            break;
+                        }
+                    }
                     if (executeBulkItemRequest(
                         context,
                         updateHelper,
@@ -550,6 +652,22 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         return super.checkPrimaryLimits(request, rerouteWasLocal, localRerouteInitiatedByNodeClient);
     }
 
+    /**
+     * Executes the current item and the items following it that append documents with auto-generated ids together, so that the
+     * engine writes their documents to Lucene and their operations to the translog at once. Items still succeed or fail on their own.
+     */
+    static void executeAppendOperations(BulkPrimaryExecutionContext context) throws IOException {
+        final List<Engine.Index> operations = context.prepareAppendOperations(MAX_APPEND_OPERATIONS, MAX_APPEND_OPERATIONS_BYTES);
+        if (operations.isEmpty()) {
+            return;
+        }
+        final List<Engine.IndexResult> results = context.getPrimary().applyPreparedIndexOperationsOnPrimary(operations);
+        for (Engine.IndexResult result : results) {
+            context.setRequestToExecute(context.getCurrent());
+            onComplete(result, context, null);
+        }
+    }
+
     /**
      * Executes bulk item requests and handles request execution exceptions.
      * @return {@code true} if request completed on this thread and the listener was invoked, {@code false} if the request triggered
@@ -622,15 +740,21 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             );
         } else {
             final IndexRequest request = context.getRequestToExecute();
-            result = primary.applyIndexOperationOnPrimary(
-                version,
-                request.versionType(),
-                new SourceToParse(request.index(), request.id(), request.source(), request.getContentType(), request.routing()),
-                request.ifSeqNo(),
-                request.ifPrimaryTerm(),
-                request.getAutoGeneratedTimestamp(),
-                request.isRetry()
-            );
+            // a document parsed ahead is the one of the item itself, not of the index request an update was translated to
+            final Engine.Index parsedOperation = updateResult == null ? context.takeParsedIndexOperation() : null;
+            if (parsedOperation != null) {
+                result = primary.applyPreparedIndexOperationOnPrimary(parsedOperation);
+            } else {
+                result = primary.applyIndexOperationOnPrimary(
+                    version,
+                    request.versionType(),
+                    new SourceToParse(request.index(), request.id(), request.source(), request.getContentType(), request.routing()),
+                    request.ifSeqNo(),
+                    request.ifPrimaryTerm(),
+                    request.getAutoGeneratedTimestamp(),
+                    request.isRetry()
+                );
+            }
         }
         if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
 
@@ -820,6 +944,17 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
     }
 
     public static Translog.Location performOnReplica(BulkShardRequest request, IndexShard replica) throws Exception {
+        final List<BytesRef> uids = new ArrayList<>(request.items().length);
+        for (BulkItemRequest item : request.items()) {
+            final BulkItemResponse response = item.getPrimaryResponse();
+            // documents with auto-generated ids are appended without looking up their version
+            if (response.isFailed() == false
+                && response.getResponse().getResult() != DocWriteResponse.Result.NOOP
+                && hasAutoGeneratedId(item.request()) == false) {
+                uids.add(Uid.encodeId(response.getResponse().getId()));
+            }
+        }
+        preloadDocVersions(replica, uids);
         Translog.Location location = null;
         for (int i = 0; i < request.items().length; i++) {
             final BulkItemRequest item = request.items()[i];
@@ -855,6 +990,27 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         return location;
     }
 
+    /**
+     * Resolves the versions of all the documents of a bulk shard request in a single pass over the index, so that the engine
+     * doesn't look up each document on its own. This is only an optimization, the operations resolve their versions themselves
+     * if it fails.
+     */
+    private static void preloadDocVersions(IndexShard indexShard, List<BytesRef> uids) {
+        if (uids.size() < 2 || indexShard.indexSettings().isBulkPreloadVersions() == false) {
+            return;
+        }
+        try {
+            indexShard.preloadDocVersions(uids);
+        } catch (Exception e) {
+            logger.debug(() -> new ParameterizedMessage("{} failed to preload document versions", indexShard.shardId()), e);
+        }
+    }
+
+    private static boolean hasAutoGeneratedId(DocWriteRequest<?> docWriteRequest) {
+        return docWriteRequest instanceof IndexRequest
+            && ((IndexRequest) docWriteRequest).getAutoGeneratedTimestamp() != IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP;
+    }
+
     private static Engine.Result performOpOnReplica(
         DocWriteResponse primaryResponse,
         DocWriteRequest<?> docWriteRequest,
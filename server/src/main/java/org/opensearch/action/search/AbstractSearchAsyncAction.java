@@ -44,13 +44,16 @@ import org.opensearch.cluster.routing.FailAwareWeightedRouting;
 import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.SetOnce;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.action.ShardOperationFailedException;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.core.tasks.resourcetracker.TaskResourceInfo;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
@@ -59,10 +62,12 @@ import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.pipeline.PipelinedRequest;
+import org.opensearch.tasks.Task;
 import org.opensearch.telemetry.tracing.Span;
 import org.opensearch.telemetry.tracing.SpanCreationContext;
 import org.opensearch.telemetry.tracing.SpanScope;
 import org.opensearch.telemetry.tracing.Tracer;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.transport.Transport;
 
 import java.util.ArrayDeque;
@@ -123,6 +128,9 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
     private final SearchRequestContext searchRequestContext;
     private final Tracer tracer;
 
+    private ShardRequestHedging hedging;
+    private HedgedShard[] hedgedShards;
+
     private SearchPhase currentPhase;
     private boolean currentPhaseHasLifecycle;
 
@@ -294,13 +302,17 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                 : null;
             Runnable r = () -> {
                 final Thread thread = Thread.currentThread();
+                final HedgedShard hedgedShard = hedgedShards == null ? null : hedgedShards[shardIndex];
+                final int hedgingAttempt = hedgedShard == null ? 0 : hedgedShard.startAttempt();
                 try {
                     final SearchPhase phase = this;
-                    executePhaseOnShard(shardIt, shard, new SearchActionListener<Result>(shard, shardIndex) {
+                    executeHedgeablePhaseOnShard(shardIt, shard, hedgedShard, new SearchActionListener<Result>(shard, shardIndex) {
                         @Override
                         public void innerOnResponse(Result result) {
                             try {
-                                onShardResult(result, shardIt);
+                                if (hedgedShard == null || onHedgedShardResponse(hedgedShard, result)) {
+                                    onShardResult(result, shardIt);
+                                }
                             } finally {
                                 executeNext(pendingExecutions, thread);
                             }
@@ -309,6 +321,9 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                         @Override
                         public void onFailure(Exception t) {
                             try {
+                                if (hedgedShard != null && onHedgedShardFailure(hedgedShard, shardIndex, shard, t)) {
+                                    return;
+                                }
                                 // It only happens when onPhaseDone() is called and executePhaseOnShard() fails hard with an exception.
                                 if (totalOps.get() == expectedTotalOps) {
                                     onPhaseFailure(phase, "The phase has failed", t);
@@ -320,6 +335,9 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                             }
                         }
                     });
+                    if (hedgedShard != null) {
+                        scheduleHedgedRequest(shardIndex, shardIt, shard, hedgedShard, hedgingAttempt);
+                    }
                 } catch (final Exception e) {
                     try {
                         /*
@@ -327,6 +345,9 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                          * run into nodes that are not connected. In this case, on shard failure will move us to the next shard copy.
                          */
                         fork(() -> {
+                            if (hedgedShard != null && onHedgedShardFailure(hedgedShard, shardIndex, shard, e)) {
+                                return;
+                            }
                             // It only happens when onPhaseDone() is called and executePhaseOnShard() fails hard with an exception.
                             // In this case calling onShardFailure() would overflow the operations counter, so the best we could do
                             // here is to fail the phase and move on to the next one.
@@ -349,6 +370,190 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         }
     }
 
+    /**
+     * Enables the hedging of the shard requests of this phase: once the request of a shard copy has been outstanding for longer
+     * than a percentile of the recent response times of the copy, the request is sent to another copy of the shard as well, and
+     * the first response of the two copies is used. Must be called before the phase is started.
+     */
+    void enableShardRequestHedging(ShardRequestHedging hedging) {
+        this.hedging = hedging;
+        this.hedgedShards = new HedgedShard[shardsIts.size()];
+        for (int i = 0; i < hedgedShards.length; i++) {
+            hedgedShards[i] = new HedgedShard();
+        }
+    }
+
+    private void scheduleHedgedRequest(
+        final int shardIndex,
+        final SearchShardIterator shardIt,
+        final SearchShardTarget shard,
+        final HedgedShard hedgedShard,
+        final int attempt
+    ) {
+        if (hedgedShard.canHedge() == false || shardIt.remaining() == 0) {
+            return;
+        }
+        final TimeValue delay = hedging.delay(shard);
+        if (delay != null) {
+            hedgedShard.setTimer(
+                attempt,
+                hedging.schedule(() -> fork(() -> sendHedgedRequest(shardIndex, shardIt, hedgedShard, attempt)), delay)
+            );
+        }
+    }
+
+    private void sendHedgedRequest(
+        final int shardIndex,
+        final SearchShardIterator shardIt,
+        final HedgedShard hedgedShard,
+        final int attempt
+    ) {
+        if (task.isCancelled()) {
+            return;
+        }
+        final SearchShardTarget shard = hedgedShard.tryHedge(attempt, shardIt, hedging);
+        if (shard == null) {
+            return;
+        }
+        logger.trace("{}: hedging the shard request of [{}]", shard, request);
+        // hedged requests are not throttled, they are bounded by the hedging budget of the search request
+        try {
+            executeHedgeablePhaseOnShard(shardIt, shard, hedgedShard, new SearchActionListener<Result>(shard, shardIndex) {
+                @Override
+                public void innerOnResponse(Result result) {
+                    if (onHedgedShardResponse(hedgedShard, result)) {
+                        onShardResult(result, shardIt);
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    onHedgedRequestFailure(shardIndex, shard, shardIt, hedgedShard, e);
+                }
+            });
+        } catch (final Exception e) {
+            fork(() -> onHedgedRequestFailure(shardIndex, shard, shardIt, hedgedShard, e));
+        }
+    }
+
+    /**
+     * Executes the phase on the given shard copy, under a task of its own if the request of the shard may be hedged, so that the
+     * request can be cancelled once another copy of the shard responded.
+     */
+    private void executeHedgeablePhaseOnShard(
+        final SearchShardIterator shardIt,
+        final SearchShardTarget shard,
+        final HedgedShard hedgedShard,
+        final SearchActionListener<Result> listener
+    ) {
+        if (hedgedShard == null) {
+            executePhaseOnShard(shardIt, shard, listener);
+            return;
+        }
+        final ShardRequestHedging.ShardRequestTask requestTask = hedging.registerShardRequestTask(task, shard);
+        if (hedgedShard.addRequestTask(requestTask) == false) {
+            hedging.unregister(requestTask);
+            throw new TaskCancelledException("another copy of the shard responded first");
+        }
+        try {
+            executePhaseOnShard(shardIt, shard, requestTask, new SearchActionListener<Result>(shard, listener.requestIndex) {
+                @Override
+                protected void innerOnResponse(Result result) {
+                    endShardRequestTask(hedgedShard, requestTask);
+                    listener.onResponse(result);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    endShardRequestTask(hedgedShard, requestTask);
+                    listener.onFailure(e);
+                }
+            });
+        } catch (final Exception e) {
+            endShardRequestTask(hedgedShard, requestTask);
+            throw e;
+        }
+    }
+
+    private void endShardRequestTask(HedgedShard hedgedShard, ShardRequestHedging.ShardRequestTask requestTask) {
+        hedgedShard.removeRequestTask(requestTask);
+        hedging.unregister(requestTask);
+    }
+
+    private void onHedgedRequestFailure(
+        final int shardIndex,
+        final SearchShardTarget shard,
+        final SearchShardIterator shardIt,
+        final HedgedShard hedgedShard,
+        final Exception e
+    ) {
+        if (onHedgedShardFailure(hedgedShard, shardIndex, shard, e)) {
+            return;
+        }
+        if (totalOps.get() == expectedTotalOps) {
+            onPhaseFailure(this, "The phase has failed", e);
+        } else {
+            onShardFailure(shardIndex, shard, shardIt, e);
+        }
+    }
+
+    /**
+     * Returns true if the given result is the first response of its shard, which may have several requests in flight once its
+     * request was hedged. The requests still in flight are cancelled on their shard copies then. The search context of a later
+     * response is released since its result is ignored.
+     */
+    private boolean onHedgedShardResponse(HedgedShard hedgedShard, Result result) {
+        if (hedgedShard.onResponse() == false) {
+            releaseAbandonedResult(result);
+            return false;
+        }
+        for (ShardRequestHedging.ShardRequestTask requestTask : hedgedShard.takeRequestTasks()) {
+            logger.trace("cancelling the {} since another copy of the shard responded first", requestTask.getDescription());
+            hedging.cancel(requestTask);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the given failure of a request of a shard whose request may be hedged was fully handled, which is the case
+     * if the shard already has a response, or if another request of the shard is still in flight. The failure is deferred in the
+     * latter case, it is only recorded if the other request fails too.
+     */
+    private boolean onHedgedShardFailure(HedgedShard hedgedShard, int shardIndex, SearchShardTarget shard, Exception e) {
+        switch (hedgedShard.onFailure(shard, e)) {
+            case LATE:
+            case OTHER_REQUEST_IN_FLIGHT:
+                return true;
+            default:
+                final Tuple<SearchShardTarget, Exception> deferredFailure = hedgedShard.takeDeferredFailure();
+                if (deferredFailure != null) {
+                    onShardFailure(shardIndex, deferredFailure.v1(), deferredFailure.v2());
+                }
+                return false;
+        }
+    }
+
+    /**
+     * Returns the number of requests of the given shard that were sent to copies taken from the shard iterator and ended without
+     * being accounted for in the total ops, because another request of the shard was in flight, so that the request that resolves
+     * the shard accounts for them.
+     */
+    private int takeUnaccountedHedgedOps(int shardIndex) {
+        return hedgedShards == null ? 0 : hedgedShards[shardIndex].takeUnaccountedOps();
+    }
+
+    private void releaseAbandonedResult(Result result) {
+        if (result.getContextId() != null) {
+            try {
+                final SearchShardTarget searchShardTarget = result.getSearchShardTarget();
+                final Transport.Connection connection = getConnection(searchShardTarget.getClusterAlias(), searchShardTarget.getNodeId());
+                sendReleaseSearchContext(result.getContextId(), connection, searchShardTarget.getOriginalIndices());
+            } catch (Exception e) {
+                logger.trace("failed to release context", e);
+            }
+        }
+    }
+
     /**
      * Sends the request to the actual shard.
      * @param shardIt the shards iterator
@@ -361,6 +566,20 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         SearchActionListener<Result> listener
     );
 
+    /**
+     * Sends the request of this phase to the given shard copy as a child request of the given task, which is the task of the
+     * request of a shard whose request may be hedged. The default sends the request as a child request of the search task, so
+     * phases whose shard requests are hedged override it for the requests to be cancelled on their own.
+     */
+    protected void executePhaseOnShard(
+        SearchShardIterator shardIt,
+        SearchShardTarget shard,
+        Task parentTask,
+        SearchActionListener<Result> listener
+    ) {
+        executePhaseOnShard(shardIt, shard, listener);
+    }
+
     private void fork(final Runnable runnable) {
         executor.execute(new AbstractRunnable() {
             @Override
@@ -542,7 +761,7 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         if (lastShard) {
             onShardGroupFailure(shardIndex, shard, e);
         }
-        final int totalOps = this.totalOps.incrementAndGet();
+        final int totalOps = this.totalOps.addAndGet(1 + takeUnaccountedHedgedOps(shardIndex));
         if (totalOps == expectedTotalOps) {
             try {
                 onPhaseDone();
@@ -647,17 +866,21 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         // cause the successor to read a wrong value from successfulOps if second phase is very fast ie. count etc.
         // increment all the "future" shards to update the total ops since we some may work and some may not...
         // and when that happens, we break on total ops, so we must maintain them
-        successfulShardExecution(shardIt);
+        successfulShardExecution(shardIt, takeUnaccountedHedgedOps(result.getShardIndex()));
     }
 
     private void successfulShardExecution(SearchShardIterator shardsIt) {
+        successfulShardExecution(shardsIt, 0);
+    }
+
+    private void successfulShardExecution(SearchShardIterator shardsIt, int unaccountedHedgedOps) {
         final int remainingOpsOnIterator;
         if (shardsIt.skip()) {
             remainingOpsOnIterator = shardsIt.remaining();
         } else {
             remainingOpsOnIterator = shardsIt.remaining() + 1;
         }
-        final int xTotalOps = totalOps.addAndGet(remainingOpsOnIterator);
+        final int xTotalOps = totalOps.addAndGet(remainingOpsOnIterator + unaccountedHedgedOps);
         if (xTotalOps == expectedTotalOps) {
             try {
                 onPhaseDone();
@@ -934,4 +1157,155 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
             return toExecute;
         }
     }
+
+    /**
+     * Outcome of the failure of a request of a shard whose request may be hedged
+     *
+     * @opensearch.internal
+     */
+    private enum HedgedShardFailure {
+        /** the shard already has a response */
+        LATE,
+        /** another request of the shard is still in flight */
+        OTHER_REQUEST_IN_FLIGHT,
+        /** no other request of the shard is in flight, the next copy of the shard is tried */
+        LAST_REQUEST
+    }
+
+    /**
+     * The requests in flight of a shard whose request may be hedged. The request of a shard is hedged at most once, and the
+     * first response of the shard wins, later responses are ignored. The shard iterator is only advanced by the hedged
+     * request while the request it duplicates is in flight, and by the failure handling once no request is in flight, so
+     * they never advance it concurrently.
+     * <p>
+     * A request that ends while another request of the shard is in flight, or that is still in flight when the shard gets its
+     * response, is not accounted for in the total ops when it ends: the request that resolves the shard, by succeeding or by
+     * failing last, accounts for it, so that the phase is only done once every shard is resolved.
+     *
+     * @opensearch.internal
+     */
+    private static final class HedgedShard {
+        private int attempt;
+        private int inFlight;
+        private boolean hedged;
+        private boolean done;
+        private int unaccountedOps;
+        private SearchShardTarget deferredFailureShard;
+        private Exception deferredFailure;
+        private Scheduler.Cancellable timer;
+        private final List<ShardRequestHedging.ShardRequestTask> requestTasks = new ArrayList<>(2);
+
+        synchronized int startAttempt() {
+            inFlight++;
+            return ++attempt;
+        }
+
+        synchronized boolean canHedge() {
+            return hedged == false && done == false;
+        }
+
+        synchronized void setTimer(int attempt, Scheduler.Cancellable timer) {
+            if (done || hedged || inFlight == 0 || this.attempt != attempt) {
+                timer.cancel();
+            } else {
+                this.timer = timer;
+            }
+        }
+
+        synchronized SearchShardTarget tryHedge(int attempt, SearchShardIterator shardIt, ShardRequestHedging hedging) {
+            if (done || hedged || inFlight != 1 || this.attempt != attempt || shardIt.remaining() == 0 || hedging.tryAcquire() == false) {
+                return null;
+            }
+            final SearchShardTarget shard = shardIt.nextOrNull();
+            if (shard != null) {
+                hedged = true;
+                inFlight++;
+                timer = null;
+            }
+            return shard;
+        }
+
+        /**
+         * Returns true if this is the first response of the shard, in which case the requests still in flight are abandoned and
+         * the failure of another request of the shard is dropped.
+         */
+        synchronized boolean onResponse() {
+            if (done) {
+                return false;
+            }
+            done = true;
+            inFlight--;
+            cancelTimer();
+            unaccountedOps += inFlight;
+            deferredFailureShard = null;
+            deferredFailure = null;
+            return true;
+        }
+
+        synchronized HedgedShardFailure onFailure(SearchShardTarget shard, Exception e) {
+            if (done) {
+                return HedgedShardFailure.LATE;
+            }
+            inFlight--;
+            if (inFlight > 0) {
+                unaccountedOps++;
+                deferredFailureShard = shard;
+                deferredFailure = e;
+                return HedgedShardFailure.OTHER_REQUEST_IN_FLIGHT;
+            }
+            cancelTimer();
+            return HedgedShardFailure.LAST_REQUEST;
+        }
+
+        /**
+         * Returns the failure of a request that ended while another request of the shard was in flight, which failed too.
+         */
+        synchronized Tuple<SearchShardTarget, Exception> takeDeferredFailure() {
+            if (deferredFailure == null) {
+                return null;
+            }
+            final Tuple<SearchShardTarget, Exception> failure = new Tuple<>(deferredFailureShard, deferredFailure);
+            deferredFailureShard = null;
+            deferredFailure = null;
+            return failure;
+        }
+
+        /**
+         * Adds the task of a request of the shard, returns false if the shard already has a response.
+         */
+        synchronized boolean addRequestTask(ShardRequestHedging.ShardRequestTask requestTask) {
+            if (done) {
+                return false;
+            }
+            requestTasks.add(requestTask);
+            return true;
+        }
+
+        synchronized void removeRequestTask(ShardRequestHedging.ShardRequestTask requestTask) {
+            requestTasks.remove(requestTask);
+        }
+
+        /**
+         * Returns the tasks of the requests of the shard that are still in flight once the shard has a response.
+         */
+        synchronized List<ShardRequestHedging.ShardRequestTask> takeRequestTasks() {
+            assert done;
+            final List<ShardRequestHedging.ShardRequestTask> tasks = new ArrayList<>(requestTasks);
+            requestTasks.clear();
+            return tasks;
+        }
+
+        synchronized int takeUnaccountedOps() {
+            final int ops = unaccountedOps;
+            unaccountedOps = 0;
+            return ops;
+        }
+
+        private void cancelTimer() {
+            if (timer != null) {
+                timer.cancel();
+                timer = null;
+            }
+        }
+    }
 }
@@ -45,7 +45,8 @@ import java.util.function.BiFunction;
 /**
  * A wrapper of search action listeners (search results) that unwraps the query
  * result to get the piggybacked queue size and service time EWMA, adding those
- * values to the coordinating nodes' {@link ResponseCollectorService}.
+ * values and the response time of the shard copy to the coordinating nodes'
+ * {@link ResponseCollectorService}.
  *
  * @opensearch.internal
  */
@@ -95,6 +96,9 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
             if (serviceTimeEWMA > 0 && queueSize >= 0) {
                 collector.addNodeStatistics(nodeId, queueSize, responseDuration, serviceTimeEWMA);
             }
+            if (response.getSearchShardTarget() != null) {
+                collector.addShardCopyResponseTime(response.getSearchShardTarget().getShardId(), nodeId, responseDuration);
+            }
         }
         listener.onResponse(response);
     }
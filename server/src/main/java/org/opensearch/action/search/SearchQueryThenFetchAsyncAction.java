@@ -43,6 +43,7 @@ import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.tasks.Task;
 import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.transport.Transport;
 
@@ -130,12 +131,28 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         final SearchShardTarget shard,
         final SearchActionListener<SearchPhaseResult> listener
     ) {
+        ShardSearchRequest request = buildQueryShardRequest(shardIt);
+        getSearchTransport().sendExecuteQuery(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, getTask(), listener);
+    }
+
+    @Override
+    protected void executePhaseOnShard(
+        final SearchShardIterator shardIt,
+        final SearchShardTarget shard,
+        final Task parentTask,
+        final SearchActionListener<SearchPhaseResult> listener
+    ) {
+        ShardSearchRequest request = buildQueryShardRequest(shardIt);
+        getSearchTransport().sendExecuteQuery(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, parentTask, listener);
+    }
+
+    private ShardSearchRequest buildQueryShardRequest(SearchShardIterator shardIt) {
         ShardSearchRequest request = rewriteShardSearchRequest(super.buildShardSearchRequest(shardIt));
         // update inbound network time with current time before sending request over n/w to data node
         if (request != null) {
             request.setInboundNetworkTime(System.currentTimeMillis());
         }
-        getSearchTransport().sendExecuteQuery(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, getTask(), listener);
+        return request;
     }
 
     @Override
@@ -60,6 +60,7 @@ import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.query.ScrollQuerySearchResult;
+import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.RemoteClusterService;
 import org.opensearch.transport.Transport;
@@ -237,6 +238,19 @@ public class SearchTransportService {
         final ShardSearchRequest request,
         SearchTask task,
         final SearchActionListener<SearchPhaseResult> listener
+    ) {
+        sendExecuteQuery(connection, request, (Task) task, listener);
+    }
+
+    /**
+     * Sends the query of a shard as a child request of the given task, which is the search task or a task of its own that is a
+     * child of the search task, so that the request can be cancelled on its own.
+     */
+    public void sendExecuteQuery(
+        Transport.Connection connection,
+        final ShardSearchRequest request,
+        Task task,
+        final SearchActionListener<SearchPhaseResult> listener
     ) {
         // we optimize this and expect a QueryFetchSearchResult if we only have a single shard in the search request
         // this used to be the QUERY_AND_FETCH which doesn't exist anymore.
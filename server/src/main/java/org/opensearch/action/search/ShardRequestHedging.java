@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.node.ResponseCollectorService;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides when the shard requests of a search request are hedged. A shard request is hedged, that is a duplicate of it is sent to
+ * another copy of the shard and the first of the two responses is used, once the request has been outstanding for longer than a
+ * percentile of the recent response times of its shard copy. A search request hedges a limited number of shard requests, so that
+ * hedging adds a bounded load to a cluster where many shard copies are slow at once.
+ * <p>
+ * The requests of a shard whose request may be hedged are sent under tasks of their own, children of the search task, so that
+ * the request still in flight is cancelled on its shard copy once the other copy of the shard responded.
+ *
+ * @opensearch.internal
+ */
+final class ShardRequestHedging {
+
+    static final String SHARD_REQUEST_ACTION_NAME = SearchAction.NAME + "[hedgeable_shard_request]";
+
+    private final ResponseCollectorService responseCollectorService;
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final DiscoveryNode localNode;
+    private final double latencyPercentile;
+    private final TimeValue minDelay;
+    private final AtomicInteger budget;
+
+    ShardRequestHedging(
+        ResponseCollectorService responseCollectorService,
+        ThreadPool threadPool,
+        TaskManager taskManager,
+        DiscoveryNode localNode,
+        double latencyPercentile,
+        TimeValue minDelay,
+        int budget
+    ) {
+        this.responseCollectorService = responseCollectorService;
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.localNode = localNode;
+        this.latencyPercentile = latencyPercentile;
+        this.minDelay = minDelay;
+        this.budget = new AtomicInteger(budget);
+    }
+
+    /**
+     * Returns how long to wait for the response of the given shard copy before hedging its request, or null if the request should
+     * not be hedged because too few response times of the shard copy are known.
+     */
+    TimeValue delay(SearchShardTarget shard) {
+        final long responseTimeNanos = responseCollectorService.getShardCopyResponseTimePercentile(
+            shard.getShardId(),
+            shard.getNodeId(),
+            latencyPercentile
+        );
+        if (responseTimeNanos < 0) {
+            return null;
+        }
+        return TimeValue.timeValueMillis(Math.max(minDelay.millis(), TimeUnit.NANOSECONDS.toMillis(responseTimeNanos)));
+    }
+
+    /**
+     * Schedules the given command, which must be lightweight as it runs on the scheduler thread.
+     */
+    Scheduler.ScheduledCancellable schedule(Runnable command, TimeValue delay) {
+        return threadPool.schedule(command, delay, ThreadPool.Names.SAME);
+    }
+
+    /**
+     * Takes a hedged request from the budget of the search request, returns false if the budget is exhausted.
+     */
+    boolean tryAcquire() {
+        return budget.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0;
+    }
+
+    /**
+     * Registers the task under which a request to the given shard copy is sent. The local node is registered as a child node of
+     * the search task, so that cancelling the search task cancels the task, and the request it sent, too. Throws a
+     * {@link org.opensearch.core.tasks.TaskCancelledException} if the search task is cancelled.
+     */
+    ShardRequestTask registerShardRequestTask(SearchTask searchTask, SearchShardTarget shard) {
+        final Releasable childNode = taskManager.registerChildNode(searchTask.getId(), localNode);
+        try {
+            final TaskId parentTaskId = new TaskId(localNode.getId(), searchTask.getId());
+            final TaskAwareRequest request = new TaskAwareRequest() {
+                @Override
+                public void setParentTask(TaskId taskId) {
+                    throw new UnsupportedOperationException("the parent task of a shard request task is the search task");
+                }
+
+                @Override
+                public TaskId getParentTask() {
+                    return parentTaskId;
+                }
+
+                @Override
+                public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                    return new ShardRequestTask(id, type, action, "shard request to " + shard, parentTaskId, headers, childNode);
+                }
+            };
+            return (ShardRequestTask) taskManager.register("transport", SHARD_REQUEST_ACTION_NAME, request);
+        } catch (Exception e) {
+            childNode.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Cancels the given task, and the request it sent, once another copy of its shard responded.
+     */
+    void cancel(ShardRequestTask task) {
+        taskManager.cancelTaskAndDescendants(task, "another copy of the shard responded first", false, ActionListener.wrap(() -> {}));
+    }
+
+    /**
+     * Unregisters the given task once its request ended, does nothing if the task is already unregistered.
+     */
+    void unregister(ShardRequestTask task) {
+        if (task.unregistered.compareAndSet(false, true)) {
+            try {
+                taskManager.unregister(task);
+            } finally {
+                task.childNode.close();
+            }
+        }
+    }
+
+    /**
+     * The task under which a request to a copy of a shard whose request may be hedged is sent.
+     *
+     * @opensearch.internal
+     */
+    static final class ShardRequestTask extends CancellableTask {
+        private final Releasable childNode;
+        private final AtomicBoolean unregistered = new AtomicBoolean();
+
+        ShardRequestTask(
+            long id,
+            String type,
+            String action,
+            String description,
+            TaskId parentTaskId,
+            Map<String, String> headers,
+            Releasable childNode
+        ) {
+            super(id, type, action, description, parentTaskId, headers);
+            this.childNode = childNode;
+        }
+
+        @Override
+        public boolean shouldCancelChildrenOnCancellation() {
+            return true;
+        }
+    }
+}
@@ -54,9 +54,11 @@ import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.cluster.routing.OperationRouting;
 import org.opensearch.cluster.routing.ShardIterator;
+import org.opensearch.cluster.routing.WeightedRoutingUtils;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.unit.TimeValue;
@@ -72,6 +74,7 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.indices.breaker.CircuitBreakerService;
 import org.opensearch.core.tasks.TaskId;
 import org.opensearch.index.query.Rewriteable;
+import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.SearchShardTarget;
@@ -162,6 +165,41 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.Property.NodeScope
     );
 
+    // cluster level settings of the hedging of the shard requests of the query phase, see ShardRequestHedging
+    public static final Setting<Boolean> SEARCH_HEDGED_REQUESTS_ENABLED = Setting.boolSetting(
+        "search.hedged_requests.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final Setting<Double> SEARCH_HEDGED_REQUESTS_LATENCY_PERCENTILE = Setting.doubleSetting(
+        "search.hedged_requests.latency_percentile",
+        95.0,
+        50.0,
+        100.0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final Setting<TimeValue> SEARCH_HEDGED_REQUESTS_MIN_DELAY = Setting.timeSetting(
+        "search.hedged_requests.min_delay",
+        TimeValue.timeValueMillis(10),
+        TimeValue.ZERO,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /** The maximum number of hedged shard requests of a search request, as a ratio of its number of shards; at least one is allowed */
+    public static final Setting<Double> SEARCH_HEDGED_REQUESTS_BUDGET_RATIO = Setting.doubleSetting(
+        "search.hedged_requests.budget_ratio",
+        0.1,
+        0.0,
+        1.0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     private final NodeClient client;
     private final ThreadPool threadPool;
     private final ClusterService clusterService;
@@ -1305,6 +1343,15 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                         searchRequestContext,
                         tracer
                     );
+                    final ShardRequestHedging hedging = buildShardRequestHedging(
+                        searchRequest,
+                        clusterState,
+                        shardIterators.size(),
+                        threadPool
+                    );
+                    if (hedging != null) {
+                        searchAsyncAction.enableShardRequestHedging(hedging);
+                    }
                     break;
                 default:
                     throw new IllegalStateException("Unknown search type: [" + searchRequest.searchType() + "]");
@@ -1313,6 +1360,41 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         }
     }
 
+    private ShardRequestHedging buildShardRequestHedging(
+        SearchRequest searchRequest,
+        ClusterState clusterState,
+        int numShards,
+        ThreadPool threadPool
+    ) {
+        final ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        final ResponseCollectorService responseCollectorService = searchService.getResponseCollectorService();
+        if (clusterSettings.get(SEARCH_HEDGED_REQUESTS_ENABLED) == false || responseCollectorService == null) {
+            return null;
+        }
+        // the search context of a scroll or point in time is kept open on the copy that answered beyond the query phase
+        if (searchRequest.scroll() != null || searchRequest.pointInTimeBuilder() != null) {
+            return null;
+        }
+        // hedged requests must not be sent to the copies that weighted routing moves the search traffic away from
+        final boolean weightedRouting = WeightedRoutingUtils.shouldPerformWeightedRouting(
+            OperationRouting.IGNORE_WEIGHTED_SHARD_ROUTING.get(clusterState.metadata().settings()),
+            clusterState.metadata().weightedRoutingMetadata()
+        );
+        if (weightedRouting) {
+            return null;
+        }
+        final int budget = (int) Math.max(1, Math.ceil(numShards * clusterSettings.get(SEARCH_HEDGED_REQUESTS_BUDGET_RATIO)));
+        return new ShardRequestHedging(
+            responseCollectorService,
+            threadPool,
+            taskManager,
+            clusterService.localNode(),
+            clusterSettings.get(SEARCH_HEDGED_REQUESTS_LATENCY_PERCENTILE),
+            clusterSettings.get(SEARCH_HEDGED_REQUESTS_MIN_DELAY),
+            budget
+        );
+    }
+
     private void cancelTask(SearchTask task, Exception exc) {
         String errorMsg = exc.getMessage() != null ? exc.getMessage() : "";
         CancelTasksRequest req = new CancelTasksRequest().setTaskId(new TaskId(client.getLocalNodeId(), task.getId()))
@@ -978,6 +978,11 @@ public class MetadataCreateIndexService {
             final Settings templateAndRequestSettings = Settings.builder().put(combinedTemplateSettings).put(request.settings()).build();
 
             final boolean isDataStreamIndex = request.dataStreamName() != null;
+            // documents are only ever added to data streams: their backing indices are append-only, unless templates or the request
+            // say otherwise
+            if (isDataStreamIndex) {
+                additionalIndexSettings.put(IndexSettings.INDEX_APPEND_ONLY_ENABLED_SETTING.getKey(), true);
+            }
             // Loop through all the explicit index setting providers, adding them to the
             // additionalIndexSettings map
             for (IndexSettingProvider provider : indexSettingProviders) {
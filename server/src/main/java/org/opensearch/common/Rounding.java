@@ -65,6 +65,7 @@ import java.time.zone.ZoneRules;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.concurrent.TimeUnit;
 
@@ -1399,6 +1400,19 @@ public abstract class Rounding implements Writeable {
         return OptionalLong.of(interval);
     }
 
+    /**
+     * Extracts the calendar {@link DateTimeUnit} from the {@link Rounding} instance
+     * @param rounding {@link Rounding} instance
+     * @return the calendar unit if the rounding is a UTC calendar unit rounding without offset,
+     * or {@code Optional.empty()} otherwise
+     */
+    public static Optional<DateTimeUnit> getUTCCalendarUnit(Rounding rounding) {
+        if (rounding instanceof TimeUnitRounding && isUTCTimeZone(((TimeUnitRounding) rounding).timeZone)) {
+            return Optional.of(((TimeUnitRounding) rounding).unit);
+        }
+        return Optional.empty();
+    }
+
     /**
      * Helper function for checking if the time zone requested for date histogram
      * aggregation is utc or not
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.serializer;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.io.Streams;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.compress.ZstdCompressor;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A serializer which transforms BytesReference to byte[] without first compacting the reference into a single array.
+ * <p>
+ * The pages of the reference are copied straight into the serialized array, or streamed through a zstd compressor when
+ * compression is enabled. Uncompressed values are deserialized as a view over the serialized array, compressed values
+ * are decompressed into a paged reference so that large values never need a single contiguous array on the heap.
+ * The first byte of the serialized form records whether the value is compressed, so that both forms can be read
+ * regardless of the current setting.
+ */
+public class PagedBytesReferenceSerializer implements Serializer<BytesReference, byte[]> {
+    // This class does not get passed to ehcache itself, so it's not required that classes match after deserialization.
+
+    static final byte UNCOMPRESSED = 0;
+    static final byte ZSTD = 1;
+
+    private final boolean compress;
+
+    public PagedBytesReferenceSerializer() {
+        this(false);
+    }
+
+    public PagedBytesReferenceSerializer(boolean compress) {
+        this.compress = compress;
+    }
+
+    @Override
+    public byte[] serialize(BytesReference object) {
+        if (object == null) {
+            return null;
+        }
+        try {
+            return compress ? serializeCompressed(object) : serializeUncompressed(object);
+        } catch (IOException e) {
+            throw new OpenSearchException("Unable to serialize cache value", e);
+        }
+    }
+
+    private static byte[] serializeUncompressed(BytesReference object) throws IOException {
+        final byte[] bytes = new byte[object.length() + 1];
+        bytes[0] = UNCOMPRESSED;
+        int offset = 1;
+        final BytesRefIterator iterator = object.iterator();
+        BytesRef page;
+        while ((page = iterator.next()) != null) {
+            System.arraycopy(page.bytes, page.offset, bytes, offset, page.length);
+            offset += page.length;
+        }
+        assert offset == bytes.length;
+        return bytes;
+    }
+
+    private static byte[] serializeCompressed(BytesReference object) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeByte(ZSTD);
+            try (OutputStream compressed = zstd().threadLocalOutputStream(Streams.flushOnCloseStream(out))) {
+                object.writeTo(compressed);
+            }
+            return BytesReference.toBytes(out.bytes());
+        }
+    }
+
+    @Override
+    public BytesReference deserialize(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        switch (bytes[0]) {
+            case UNCOMPRESSED:
+                return new BytesArray(bytes, 1, bytes.length - 1);
+            case ZSTD:
+                try (InputStream in = zstd().threadLocalInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+                    return Streams.readFully(in);
+                } catch (IOException e) {
+                    throw new OpenSearchException("Unable to deserialize cache value", e);
+                }
+            default:
+                throw new IllegalArgumentException("Unknown cache value encoding [" + bytes[0] + "]");
+        }
+    }
+
+    @Override
+    public boolean equals(BytesReference object, byte[] bytes) {
+        if (object == null || bytes == null) {
+            return object == null && bytes == null;
+        }
+        if (bytes[0] != UNCOMPRESSED) {
+            return object.equals(deserialize(bytes));
+        }
+        if (object.length() != bytes.length - 1) {
+            return false;
+        }
+        try {
+            int offset = 1;
+            final BytesRefIterator iterator = object.iterator();
+            BytesRef page;
+            while ((page = iterator.next()) != null) {
+                if (Arrays.equals(page.bytes, page.offset, page.offset + page.length, bytes, offset, offset + page.length) == false) {
+                    return false;
+                }
+                offset += page.length;
+            }
+            return true;
+        } catch (IOException e) {
+            // this is really an error since we don't do IO in our bytesreferences
+            throw new AssertionError("won't happen", e);
+        }
+    }
+
+    private static Compressor zstd() {
+        return CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+    }
+}
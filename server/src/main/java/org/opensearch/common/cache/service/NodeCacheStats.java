@@ -8,6 +8,7 @@
 
 package org.opensearch.common.cache.service;
 
+import org.opensearch.Version;
 import org.opensearch.action.admin.cluster.node.stats.NodesStatsRequest;
 import org.opensearch.action.admin.indices.stats.CommonStatsFlags;
 import org.opensearch.common.annotation.ExperimentalApi;
@@ -22,6 +23,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import java.io.IOException;
 import java.util.Objects;
 import java.util.SortedMap;
+import java.util.TreeMap;
 
 /**
  * A class creating XContent responses to cache stats API requests.
@@ -47,7 +49,13 @@ public class NodeCacheStats implements ToXContentFragment, Writeable {
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         flags.writeTo(out);
-        out.writeMap(statsByCache, StreamOutput::writeEnum, (o, immutableCacheStatsHolder) -> immutableCacheStatsHolder.writeTo(o));
+        SortedMap<CacheType, ImmutableCacheStatsHolder> stats = statsByCache;
+        if (out.getVersion().before(Version.V_3_0_0) && statsByCache.containsKey(CacheType.INDICES_FILTER_CACHE)) {
+            // the filter cache is unknown to older nodes
+            stats = new TreeMap<>(statsByCache);
+            stats.remove(CacheType.INDICES_FILTER_CACHE);
+        }
+        out.writeMap(stats, StreamOutput::writeEnum, (o, immutableCacheStatsHolder) -> immutableCacheStatsHolder.writeTo(o));
     }
 
     @Override
@@ -48,6 +48,7 @@ import org.opensearch.index.mapper.SeqNoFieldMapper;
 import org.opensearch.index.mapper.VersionFieldMapper;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_PRIMARY_TERM;
 import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
@@ -71,6 +72,9 @@ final class PerThreadIDVersionAndSeqNoLookup {
     /** terms enum for uid field */
     final String uidField;
     private final TermsEnum termsEnum;
+    /** smallest and largest uid of the segment, null if the segment has no uid */
+    private final BytesRef minId;
+    private final BytesRef maxId;
 
     /** Reused for iteration (when the term exists) */
     private PostingsEnum docsEnum;
@@ -101,8 +105,12 @@ final class PerThreadIDVersionAndSeqNoLookup {
                 );
             }
             termsEnum = null;
+            minId = null;
+            maxId = null;
         } else {
             termsEnum = terms.iterator();
+            minId = BytesRef.deepCopyOf(terms.getMin());
+            maxId = BytesRef.deepCopyOf(terms.getMax());
         }
         if (reader.getNumericDocValues(VersionFieldMapper.NAME) == null) {
             throw new IllegalArgumentException("reader misses the [" + VersionFieldMapper.NAME + "] field; _uid terms [" + terms + "]");
@@ -140,6 +148,34 @@ final class PerThreadIDVersionAndSeqNoLookup {
         }
     }
 
+    /**
+     * Looks up the versions of the given ids, which must be sorted, and stores the ones found in this segment in {@code results}
+     * at the index of their id. Ids that already have a result are skipped. The ids are seeked in order, so that the terms enum
+     * can reuse the blocks it already loaded, and ids outside the range of uids of this segment are not seeked at all.
+     *
+     * @return the number of ids found in this segment
+     */
+    int lookupVersions(BytesRef[] ids, DocIdAndVersion[] results, boolean loadSeqNo, LeafReaderContext context) throws IOException {
+        assert ids.length == results.length;
+        if (termsEnum == null) {
+            return 0;
+        }
+        int from = Arrays.binarySearch(ids, minId);
+        from = from >= 0 ? from : -1 - from;
+        int to = Arrays.binarySearch(ids, maxId);
+        to = to >= 0 ? to + 1 : -1 - to;
+        int found = 0;
+        for (int i = from; i < to; i++) {
+            if (results[i] == null) {
+                results[i] = lookupVersion(ids[i], loadSeqNo, context);
+                if (results[i] != null) {
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
     /**
      * returns the internal lucene doc id for the given id bytes.
      * {@link DocIdSetIterator#NO_MORE_DOCS} is returned if not found
@@ -36,6 +36,7 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.CloseableThreadLocal;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
@@ -171,6 +172,35 @@ public final class VersionsAndSeqNoResolver {
         return null;
     }
 
+    /**
+     * Load the internal doc IDs and versions of the given uids, which must be sorted and unique, from the reader. Each segment is
+     * visited once for all the uids that were not found in a more recent segment yet. The returned array holds at the index of
+     * each uid either null if the uid wasn't found, or its doc ID and version.
+     */
+    public static DocIdAndVersion[] loadDocIdsAndVersions(IndexReader reader, String field, BytesRef[] uids, boolean loadSeqNo)
+        throws IOException {
+        assert isSortedAndUnique(uids) : "uids must be sorted and unique";
+        final DocIdAndVersion[] results = new DocIdAndVersion[uids.length];
+        final PerThreadIDVersionAndSeqNoLookup[] lookups = getLookupState(reader, field);
+        final List<LeafReaderContext> leaves = reader.leaves();
+        int remaining = uids.length;
+        // iterate backwards, like the single uid lookup, so that both resolve a uid to the same document
+        for (int i = leaves.size() - 1; i >= 0 && remaining > 0; i--) {
+            final LeafReaderContext leaf = leaves.get(i);
+            remaining -= lookups[leaf.ord].lookupVersions(uids, results, loadSeqNo, leaf);
+        }
+        return results;
+    }
+
+    private static boolean isSortedAndUnique(BytesRef[] uids) {
+        for (int i = 1; i < uids.length; i++) {
+            if (uids[i - 1].compareTo(uids[i]) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Loads the internal docId and sequence number of the latest copy for a given uid from the provided reader.
      * The result is either null or the live and latest version of the given uid.
@@ -153,6 +153,10 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexSettings.MAX_TERMS_COUNT_SETTING,
                 IndexSettings.MAX_NESTED_QUERY_DEPTH_SETTING,
                 IndexSettings.INDEX_TRANSLOG_SYNC_INTERVAL_SETTING,
+                IndexSettings.INDEX_TRANSLOG_GROUP_COMMIT_SETTING,
+                IndexSettings.INDEX_TRANSLOG_GROUP_COMMIT_WINDOW_SETTING,
+                IndexSettings.INDEX_APPEND_ONLY_ENABLED_SETTING,
+                IndexSettings.INDEX_BULK_PRELOAD_VERSIONS_SETTING,
                 IndexSettings.DEFAULT_FIELD_SETTING,
                 IndexSettings.QUERY_STRING_LENIENT_SETTING,
                 IndexSettings.ALLOW_UNMAPPED,
@@ -38,11 +38,15 @@ import org.apache.lucene.util.automaton.CharacterRunAutomaton;
 import org.apache.lucene.util.automaton.Operations;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.Booleans;
+import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.regex.Regex;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -217,16 +221,37 @@ public class XContentMapValues {
      */
     public static Function<Map<String, ?>, Map<String, Object>> filter(String[] includes, String[] excludes) {
         CharacterRunAutomaton matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+        CharacterRunAutomaton include = includeAutomaton(includes, matchAllAutomaton);
+        CharacterRunAutomaton exclude = excludeAutomaton(excludes);
 
-        CharacterRunAutomaton include;
+        // NOTE: We cannot use Operations.minus because of the special case that
+        // we want all sub properties to match as soon as an object matches
+
+        return (map) -> filter(map, include, 0, exclude, 0, matchAllAutomaton);
+    }
+
+    /**
+     * Returns a function that copies the properties of the document read by a parser that match the given include and exclude
+     * rules to a builder, token by token, without parsing the document into a map. Properties are kept exactly as by
+     * {@link #filter(String[], String[])}, but in the order of the document.
+     */
+    public static CheckedBiConsumer<XContentParser, XContentBuilder, IOException> streamingFilter(String[] includes, String[] excludes) {
+        CharacterRunAutomaton matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+        CharacterRunAutomaton include = includeAutomaton(includes, matchAllAutomaton);
+        CharacterRunAutomaton exclude = excludeAutomaton(excludes);
+        return (parser, builder) -> new StreamingFilter(parser, builder, exclude, matchAllAutomaton).filter(include);
+    }
+
+    private static CharacterRunAutomaton includeAutomaton(String[] includes, CharacterRunAutomaton matchAllAutomaton) {
         if (includes == null || includes.length == 0) {
-            include = matchAllAutomaton;
-        } else {
-            Automaton includeA = Regex.simpleMatchToAutomaton(includes);
-            includeA = makeMatchDotsInFieldNames(includeA);
-            include = new CharacterRunAutomaton(includeA);
+            return matchAllAutomaton;
         }
+        Automaton includeA = Regex.simpleMatchToAutomaton(includes);
+        includeA = makeMatchDotsInFieldNames(includeA);
+        return new CharacterRunAutomaton(includeA);
+    }
 
+    private static CharacterRunAutomaton excludeAutomaton(String[] excludes) {
         Automaton excludeA;
         if (excludes == null || excludes.length == 0) {
             excludeA = Automata.makeEmpty();
@@ -234,12 +259,7 @@ public class XContentMapValues {
             excludeA = Regex.simpleMatchToAutomaton(excludes);
             excludeA = makeMatchDotsInFieldNames(excludeA);
         }
-        CharacterRunAutomaton exclude = new CharacterRunAutomaton(excludeA);
-
-        // NOTE: We cannot use Operations.minus because of the special case that
-        // we want all sub properties to match as soon as an object matches
-
-        return (map) -> filter(map, include, 0, exclude, 0, matchAllAutomaton);
+        return new CharacterRunAutomaton(excludeA);
     }
 
     /** Make matches on objects also match dots in field names.
@@ -396,6 +416,189 @@ public class XContentMapValues {
         return filtered;
     }
 
+    /**
+     * Filters a document while it is parsed, following the same steps as the filtering of a map. Objects and arrays whose
+     * properties may be filtered out are only started in the builder once one of their properties is kept.
+     */
+    private static final class StreamingFilter {
+
+        private final XContentParser parser;
+        private final XContentBuilder builder;
+        private final CharacterRunAutomaton excludeAutomaton;
+        private final CharacterRunAutomaton matchAllAutomaton;
+        // the objects and arrays being filtered, the first started of them are already started in the builder
+        private final List<Container> containers = new ArrayList<>();
+        private int started;
+
+        private StreamingFilter(
+            XContentParser parser,
+            XContentBuilder builder,
+            CharacterRunAutomaton excludeAutomaton,
+            CharacterRunAutomaton matchAllAutomaton
+        ) {
+            this.parser = parser;
+            this.builder = builder;
+            this.excludeAutomaton = excludeAutomaton;
+            this.matchAllAutomaton = matchAllAutomaton;
+        }
+
+        private void filter(CharacterRunAutomaton includeAutomaton) throws IOException {
+            XContentParser.Token token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+            if (token != XContentParser.Token.START_OBJECT) {
+                throw new OpenSearchParseException("expected an object to filter but got [{}]", token);
+            }
+            open(null, true);
+            filterObject(includeAutomaton, 0, 0);
+            close(true);
+        }
+
+        private void filterObject(CharacterRunAutomaton includeAutomaton, int initialIncludeState, int initialExcludeState)
+            throws IOException {
+            for (XContentParser.Token token = parser.nextToken(); token != XContentParser.Token.END_OBJECT; token = parser.nextToken()) {
+                String key = parser.currentName();
+                token = parser.nextToken();
+
+                int includeState = step(includeAutomaton, key, initialIncludeState);
+                if (includeState == -1) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                int excludeState = step(excludeAutomaton, key, initialExcludeState);
+                if (excludeState != -1 && excludeAutomaton.isAccept(excludeState)) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                CharacterRunAutomaton subIncludeAutomaton = includeAutomaton;
+                int subIncludeState = includeState;
+                if (includeAutomaton.isAccept(includeState)) {
+                    if (excludeState == -1 || excludeAutomaton.step(excludeState, '.') == -1) {
+                        // the exclude has no chances to match inner properties
+                        copy(key);
+                        continue;
+                    } else {
+                        // the object matched, so consider that the include matches every inner property
+                        // we only care about excludes now
+                        subIncludeAutomaton = matchAllAutomaton;
+                        subIncludeState = 0;
+                    }
+                }
+
+                if (token == XContentParser.Token.START_OBJECT) {
+                    subIncludeState = subIncludeAutomaton.step(subIncludeState, '.');
+                    if (subIncludeState == -1) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    if (excludeState != -1) {
+                        excludeState = excludeAutomaton.step(excludeState, '.');
+                    }
+                    open(key, true);
+                    filterObject(subIncludeAutomaton, subIncludeState, excludeState);
+                    close(includeAutomaton.isAccept(includeState));
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    open(key, false);
+                    filterArray(subIncludeAutomaton, subIncludeState, excludeState);
+                    close(includeAutomaton.isAccept(includeState));
+                } else {
+                    // leaf property
+                    if (includeAutomaton.isAccept(includeState)
+                        && (excludeState == -1 || excludeAutomaton.isAccept(excludeState) == false)) {
+                        copy(key);
+                    }
+                }
+            }
+        }
+
+        private void filterArray(CharacterRunAutomaton includeAutomaton, int initialIncludeState, int initialExcludeState)
+            throws IOException {
+            boolean isInclude = includeAutomaton.isAccept(initialIncludeState);
+            for (XContentParser.Token token = parser.nextToken(); token != XContentParser.Token.END_ARRAY; token = parser.nextToken()) {
+                if (token == XContentParser.Token.START_OBJECT) {
+                    int includeState = includeAutomaton.step(initialIncludeState, '.');
+                    if (includeState == -1) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    int excludeState = initialExcludeState;
+                    if (excludeState != -1) {
+                        excludeState = excludeAutomaton.step(excludeState, '.');
+                    }
+                    open(null, true);
+                    filterObject(includeAutomaton, includeState, excludeState);
+                    close(false);
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    open(null, false);
+                    filterArray(includeAutomaton, initialIncludeState, initialExcludeState);
+                    close(false);
+                } else if (isInclude) {
+                    // #22557: only accept this array value if the key we are on is accepted:
+                    copy(null);
+                }
+            }
+        }
+
+        private void open(String name, boolean object) {
+            containers.add(new Container(name, object));
+        }
+
+        /**
+         * Ends the current object or array, which is dropped if none of its properties were kept unless it must be kept empty.
+         */
+        private void close(boolean keepEmpty) throws IOException {
+            if (started < containers.size()) {
+                if (keepEmpty == false) {
+                    containers.remove(containers.size() - 1);
+                    return;
+                }
+                start();
+            }
+            Container container = containers.remove(containers.size() - 1);
+            started--;
+            if (container.object) {
+                builder.endObject();
+            } else {
+                builder.endArray();
+            }
+        }
+
+        private void start() throws IOException {
+            for (; started < containers.size(); started++) {
+                Container container = containers.get(started);
+                if (container.name != null) {
+                    builder.field(container.name);
+                }
+                if (container.object) {
+                    builder.startObject();
+                } else {
+                    builder.startArray();
+                }
+            }
+        }
+
+        /**
+         * Copies the current value, and the field name it belongs to if any, to the builder.
+         */
+        private void copy(String name) throws IOException {
+            start();
+            if (name != null) {
+                builder.field(name);
+            }
+            builder.copyCurrentStructure(parser);
+        }
+
+        private static final class Container {
+            private final String name;
+            private final boolean object;
+
+            private Container(String name, boolean object) {
+                this.name = name;
+                this.object = object;
+            }
+        }
+    }
+
     public static boolean isObject(Object node) {
         return node instanceof Map;
     }
@@ -97,6 +97,7 @@ import org.opensearch.index.store.CompositeDirectory;
 import org.opensearch.index.store.RemoteSegmentStoreDirectoryFactory;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.remote.filecache.FileCache;
+import org.opensearch.index.store.remote.filecache.FileCacheSettings;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogFactory;
 import org.opensearch.indices.RemoteStoreSettings;
@@ -649,7 +650,13 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
             // TODO : Need to remove this check after support for hot indices is added in Composite Directory
                 this.indexSettings.isStoreLocalityPartial()) {
                 Directory localDirectory = directoryFactory.newDirectory(this.indexSettings, path);
-                directory = new CompositeDirectory(localDirectory, remoteDirectory, fileCache);
+                directory = new CompositeDirectory(
+                    localDirectory,
+                    remoteDirectory,
+                    fileCache,
+                    threadPool.executor(ThreadPool.Names.REMOTE_PREFETCH),
+                    FileCacheSettings.READ_AHEAD_BLOCKS_SETTING.get(this.indexSettings.getNodeSettings())
+                );
             } else {
                 directory = directoryFactory.newDirectory(this.indexSettings, path);
             }
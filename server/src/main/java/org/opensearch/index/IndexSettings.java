@@ -186,6 +186,49 @@ public final class IndexSettings {
         Property.Dynamic,
         Property.IndexScope
     );
+    /**
+     * Whether the translog fsyncs requested by write operations are grouped and performed on the translog sync thread pool, instead
+     * of on the write thread that happens to be the first to request a sync.
+     */
+    public static final Setting<Boolean> INDEX_TRANSLOG_GROUP_COMMIT_SETTING = Setting.boolSetting(
+        "index.translog.group_commit.enabled",
+        false,
+        Property.IndexScope,
+        Property.Final
+    );
+    /**
+     * The minimum interval between the starts of two grouped translog fsyncs. Requests arriving within the window are grouped into
+     * the next fsync. A zero window starts the next fsync as soon as the previous one completes.
+     */
+    public static final Setting<TimeValue> INDEX_TRANSLOG_GROUP_COMMIT_WINDOW_SETTING = Setting.timeSetting(
+        "index.translog.group_commit.window",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+    /**
+     * Whether documents are only ever added to the index: documents can't be overwritten, updated or deleted by id. The engine then
+     * appends documents with auto-generated ids without taking their uid locks and without adding them to its version map, and writes
+     * them to Lucene in blocks. Defaults to true for the backing indices of data streams, see
+     * {@code MetadataCreateIndexService#aggregateIndexSettings}.
+     */
+    public static final Setting<Boolean> INDEX_APPEND_ONLY_ENABLED_SETTING = Setting.boolSetting(
+        "index.append_only.enabled",
+        false,
+        Property.IndexScope,
+        Property.Final
+    );
+    /**
+     * Whether the versions of the documents of a bulk shard request are resolved together ahead of its operations, instead of
+     * one document at a time by each operation.
+     */
+    public static final Setting<Boolean> INDEX_BULK_PRELOAD_VERSIONS_SETTING = Setting.boolSetting(
+        "index.bulk.preload_versions",
+        true,
+        Property.Dynamic,
+        Property.IndexScope
+    );
     public static final Setting<Boolean> INDEX_WARMER_ENABLED_SETTING = Setting.boolSetting(
         "index.warmer.enabled",
         true,
@@ -807,6 +850,10 @@ public final class IndexSettings {
     private final boolean defaultAllowUnmappedFields;
     private volatile Translog.Durability durability;
     private volatile TimeValue syncInterval;
+    private final boolean translogGroupCommitEnabled;
+    private volatile TimeValue translogGroupCommitWindow;
+    private final boolean appendOnly;
+    private volatile boolean bulkPreloadVersions;
     private volatile TimeValue refreshInterval;
     private volatile ByteSizeValue flushThresholdSize;
     private volatile TimeValue translogRetentionAge;
@@ -1019,6 +1066,10 @@ public final class IndexSettings {
         this.durability = scopedSettings.get(INDEX_TRANSLOG_DURABILITY_SETTING);
         defaultFields = scopedSettings.get(DEFAULT_FIELD_SETTING);
         syncInterval = INDEX_TRANSLOG_SYNC_INTERVAL_SETTING.get(settings);
+        translogGroupCommitEnabled = INDEX_TRANSLOG_GROUP_COMMIT_SETTING.get(settings);
+        translogGroupCommitWindow = scopedSettings.get(INDEX_TRANSLOG_GROUP_COMMIT_WINDOW_SETTING);
+        appendOnly = INDEX_APPEND_ONLY_ENABLED_SETTING.get(settings);
+        bulkPreloadVersions = scopedSettings.get(INDEX_BULK_PRELOAD_VERSIONS_SETTING);
         refreshInterval = scopedSettings.get(INDEX_REFRESH_INTERVAL_SETTING);
         flushThresholdSize = scopedSettings.get(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING);
         generationThresholdSize = scopedSettings.get(INDEX_TRANSLOG_GENERATION_THRESHOLD_SIZE_SETTING);
@@ -1139,6 +1190,8 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MergeSchedulerConfig.AUTO_THROTTLE_SETTING, mergeSchedulerConfig::setAutoThrottle);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_DURABILITY_SETTING, this::setTranslogDurability);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_SYNC_INTERVAL_SETTING, this::setTranslogSyncInterval);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_GROUP_COMMIT_WINDOW_SETTING, this::setTranslogGroupCommitWindow);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_PRELOAD_VERSIONS_SETTING, this::setBulkPreloadVersions);
         scopedSettings.addSettingsUpdateConsumer(MAX_RESULT_WINDOW_SETTING, this::setMaxResultWindow);
         scopedSettings.addSettingsUpdateConsumer(MAX_INNER_RESULT_WINDOW_SETTING, this::setMaxInnerResultWindow);
         scopedSettings.addSettingsUpdateConsumer(MAX_ADJACENCY_MATRIX_FILTERS_SETTING, this::setMaxAdjacencyMatrixFilters);
@@ -1484,6 +1537,42 @@ public final class IndexSettings {
         this.syncInterval = translogSyncInterval;
     }
 
+    /**
+     * Returns true if the translog fsyncs requested by write operations are grouped and performed on the translog sync thread pool
+     */
+    public boolean isTranslogGroupCommitEnabled() {
+        return translogGroupCommitEnabled;
+    }
+
+    /**
+     * Returns the minimum interval between the starts of two grouped translog fsyncs
+     */
+    public TimeValue getTranslogGroupCommitWindow() {
+        return translogGroupCommitWindow;
+    }
+
+    private void setTranslogGroupCommitWindow(TimeValue translogGroupCommitWindow) {
+        this.translogGroupCommitWindow = translogGroupCommitWindow;
+    }
+
+    /**
+     * Returns true if documents can only be added to the index, and never overwritten, updated or deleted by id
+     */
+    public boolean isAppendOnly() {
+        return appendOnly;
+    }
+
+    /**
+     * Returns true if the versions of the documents of a bulk shard request are resolved together ahead of its operations
+     */
+    public boolean isBulkPreloadVersions() {
+        return bulkPreloadVersions;
+    }
+
+    private void setBulkPreloadVersions(boolean bulkPreloadVersions) {
+        this.bulkPreloadVersions = bulkPreloadVersions;
+    }
+
     /**
      * Returns the translog sync/upload buffer interval when remote translog store is enabled and index setting
      * {@code index.translog.durability} is set as {@code request}.
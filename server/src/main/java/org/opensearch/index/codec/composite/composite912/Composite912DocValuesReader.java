@@ -15,6 +15,7 @@ import org.apache.lucene.codecs.DocValuesProducer;
 import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.FieldInfos;
 import org.apache.lucene.index.IndexFileNames;
@@ -40,12 +41,14 @@ import org.opensearch.index.mapper.CompositeMappedFieldType;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.opensearch.index.compositeindex.CompositeIndexConstants.COMPOSITE_FIELD_MARKER;
 import static org.opensearch.index.compositeindex.datacube.startree.fileformats.StarTreeWriter.VERSION_CURRENT;
+import static org.opensearch.index.compositeindex.datacube.startree.fileformats.StarTreeWriter.VERSION_START;
 import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils.fullyQualifiedFieldNameForStarTreeDimensionsDocValues;
 import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues;
 import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils.getFieldInfoList;
@@ -65,6 +68,7 @@ public class Composite912DocValuesReader extends DocValuesProducer implements Co
     private final Map<String, IndexInput> compositeIndexInputMap = new LinkedHashMap<>();
     private final Map<String, CompositeIndexMetadata> compositeIndexMetadataMap = new LinkedHashMap<>();
     private final List<String> fields;
+    private final Map<String, DocValuesType> fieldToDocValuesType = new HashMap<>();
     private DocValuesProducer compositeDocValuesProducer;
     private final List<CompositeIndexFieldInfo> compositeFieldInfos = new ArrayList<>();
     private SegmentReadState readState;
@@ -126,7 +130,7 @@ public class Composite912DocValuesReader extends DocValuesProducer implements Co
                     }
 
                     int version = metaIn.readVInt();
-                    if (VERSION_CURRENT != version) {
+                    if (version < VERSION_START || version > VERSION_CURRENT) {
                         logger.error("Invalid composite field version");
                         throw new IOException("Invalid composite field version");
                     }
@@ -155,24 +159,29 @@ public class Composite912DocValuesReader extends DocValuesProducer implements Co
                             compositeIndexInputMap.put(compositeFieldName, starTreeIndexInput);
                             compositeIndexMetadataMap.put(compositeFieldName, starTreeMetadata);
 
-                            List<String> dimensionFields = starTreeMetadata.getDimensionFields();
+                            Map<String, DocValuesType> dimensionFieldToDocValuesTypeMap = starTreeMetadata
+                                .getDimensionFieldToDocValuesTypeMap();
 
                             // generating star tree unique fields (fully qualified name for dimension and metrics)
-                            for (String dimensions : dimensionFields) {
-                                fields.add(fullyQualifiedFieldNameForStarTreeDimensionsDocValues(compositeFieldName, dimensions));
+                            for (Map.Entry<String, DocValuesType> dimension : dimensionFieldToDocValuesTypeMap.entrySet()) {
+                                String dimensionFieldName = fullyQualifiedFieldNameForStarTreeDimensionsDocValues(
+                                    compositeFieldName,
+                                    dimension.getKey()
+                                );
+                                fields.add(dimensionFieldName);
+                                fieldToDocValuesType.put(dimensionFieldName, dimension.getValue());
                             }
 
                             // adding metric fields
                             for (Metric metric : starTreeMetadata.getMetrics()) {
                                 for (MetricStat metricStat : metric.getBaseMetrics()) {
-                                    fields.add(
-                                        fullyQualifiedFieldNameForStarTreeMetricsDocValues(
-                                            compositeFieldName,
-                                            metric.getField(),
-                                            metricStat.getTypeName()
-                                        )
+                                    String metricFieldName = fullyQualifiedFieldNameForStarTreeMetricsDocValues(
+                                        compositeFieldName,
+                                        metric.getField(),
+                                        metricStat.getTypeName()
                                     );
-
+                                    fields.add(metricFieldName);
+                                    fieldToDocValuesType.put(metricFieldName, metricStat.getDocValuesType());
                                 }
                             }
 
@@ -184,7 +193,7 @@ public class Composite912DocValuesReader extends DocValuesProducer implements Co
 
                 // populates the dummy list of field infos to fetch doc id set iterators for respective fields.
                 // the dummy field info is used to fetch the doc id set iterators for respective fields based on field name
-                FieldInfos fieldInfos = new FieldInfos(getFieldInfoList(fields));
+                FieldInfos fieldInfos = new FieldInfos(getFieldInfoList(fields, fieldToDocValuesType));
                 this.readState = new SegmentReadState(
                     readState.directory,
                     readState.segmentInfo,
@@ -263,6 +272,7 @@ public class Composite912DocValuesReader extends DocValuesProducer implements Co
             compositeIndexInputMap.clear();
             compositeIndexMetadataMap.clear();
             fields.clear();
+            fieldToDocValuesType.clear();
             metaIn = null;
             dataIn = null;
         }
@@ -304,4 +314,30 @@ public class Composite912DocValuesReader extends DocValuesProducer implements Co
         return sortedNumeric == null ? DocValues.emptySortedNumeric() : sortedNumeric;
     }
 
+    /**
+     * Returns the binary doc values for the given binary field.
+     * If the binary field is null, it returns an empty doc id set iterator.
+     * <p>
+     * Binary field can be null for cases where the segment doesn't hold a particular value.
+     *
+     * @param binaryDv the binary doc values for a field
+     * @return empty binary values if the field is not present, else binaryDv
+     */
+    public static BinaryDocValues getBinaryDocValues(BinaryDocValues binaryDv) {
+        return binaryDv == null ? DocValues.emptyBinary() : binaryDv;
+    }
+
+    /**
+     * Returns the sorted set doc values for the given sorted set field.
+     * If the sorted set field is null, it returns an empty doc id set iterator.
+     * <p>
+     * Sorted set field can be null for cases where the segment doesn't hold a particular value.
+     *
+     * @param sortedSetDv the sorted set doc values for a field
+     * @return empty sorted set values if the field is not present, else sortedSetDv
+     */
+    public static SortedSetDocValues getSortedSetDocValues(SortedSetDocValues sortedSetDv) {
+        return sortedSetDv == null ? DocValues.emptySortedSet() : sortedSetDv;
+    }
+
 }
@@ -22,6 +22,7 @@ import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.SegmentInfo;
 import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.store.IndexOutput;
 import org.opensearch.common.annotation.ExperimentalApi;
@@ -29,10 +30,12 @@ import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 import org.opensearch.index.codec.composite.CompositeIndexReader;
 import org.opensearch.index.codec.composite.LuceneDocValuesConsumerFactory;
+import org.opensearch.index.compositeindex.datacube.Dimension;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.builder.StarTreesBuilder;
 import org.opensearch.index.compositeindex.datacube.startree.index.CompositeIndexValues;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.mapper.CompositeDataCubeFieldType;
 import org.opensearch.index.mapper.CompositeMappedFieldType;
 import org.opensearch.index.mapper.DocCountFieldMapper;
 import org.opensearch.index.mapper.MapperService;
@@ -62,6 +65,7 @@ public class Composite912DocValuesWriter extends DocValuesConsumer {
     AtomicReference<MergeState> mergeState = new AtomicReference<>();
     private final Set<CompositeMappedFieldType> compositeMappedFieldTypes;
     private final Set<String> compositeFieldSet;
+    private final Set<String> sortedSetCompositeFieldSet;
     private DocValuesConsumer compositeDocValuesConsumer;
 
     public IndexOutput dataOut;
@@ -81,10 +85,11 @@ public class Composite912DocValuesWriter extends DocValuesConsumer {
         this.fieldNumberAcrossCompositeFields = new AtomicInteger();
         this.compositeMappedFieldTypes = mapperService.getCompositeFieldTypes();
         compositeFieldSet = new HashSet<>();
+        sortedSetCompositeFieldSet = new HashSet<>();
         segmentFieldSet = new HashSet<>();
         // TODO : add integ test for this
         for (FieldInfo fi : this.state.fieldInfos) {
-            if (DocValuesType.SORTED_NUMERIC.equals(fi.getDocValuesType())) {
+            if (DocValuesType.SORTED_NUMERIC.equals(fi.getDocValuesType()) || DocValuesType.SORTED_SET.equals(fi.getDocValuesType())) {
                 segmentFieldSet.add(fi.name);
             } else if (fi.name.equals(DocCountFieldMapper.NAME)) {
                 segmentFieldSet.add(fi.name);
@@ -92,6 +97,13 @@ public class Composite912DocValuesWriter extends DocValuesConsumer {
         }
         for (CompositeMappedFieldType type : compositeMappedFieldTypes) {
             compositeFieldSet.addAll(type.fields());
+            if (type instanceof CompositeDataCubeFieldType) {
+                for (Dimension dimension : ((CompositeDataCubeFieldType) type).getDimensions()) {
+                    if (DocValuesType.SORTED_SET.equals(dimension.getDocValuesType())) {
+                        sortedSetCompositeFieldSet.add(dimension.getField());
+                    }
+                }
+            }
         }
 
         boolean success = false;
@@ -179,6 +191,10 @@ public class Composite912DocValuesWriter extends DocValuesConsumer {
     @Override
     public void addSortedSetField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
         delegate.addSortedSetField(field, valuesProducer);
+        // Perform this only during flush flow
+        if (mergeState.get() == null && segmentHasCompositeFields) {
+            createCompositeIndicesIfPossible(valuesProducer, field);
+        }
     }
 
     @Override
@@ -208,7 +224,9 @@ public class Composite912DocValuesWriter extends DocValuesConsumer {
 
     private void createCompositeIndicesIfPossible(DocValuesProducer valuesProducer, FieldInfo field) throws IOException {
         if (compositeFieldSet.isEmpty()) return;
-        if (compositeFieldSet.contains(field.name)) {
+        // keyword dimensions are read as sorted set doc values, all other composite fields as numeric ones
+        boolean isSortedSetField = DocValuesType.SORTED_SET.equals(field.getDocValuesType());
+        if (compositeFieldSet.contains(field.name) && isSortedSetField == sortedSetCompositeFieldSet.contains(field.name)) {
             fieldProducerMap.put(field.name, valuesProducer);
             compositeFieldSet.remove(field.name);
         }
@@ -244,6 +262,11 @@ public class Composite912DocValuesWriter extends DocValuesConsumer {
                 public SortedNumericDocValues getSortedNumeric(FieldInfo field) {
                     return DocValues.emptySortedNumeric();
                 }
+
+                @Override
+                public SortedSetDocValues getSortedSet(FieldInfo field) {
+                    return DocValues.emptySortedSet();
+                }
             });
         }
         compositeFieldSet.remove(compositeField);
@@ -61,6 +61,53 @@ public class DateDimension implements Dimension {
         return sortedCalendarIntervals;
     }
 
+    public DateFieldMapper.Resolution getResolution() {
+        return resolution;
+    }
+
+    /**
+     * Returns the coarsest configured calendar interval whose rounded values can be rounded again to the
+     * given target interval without crossing bucket boundaries, or null if there is no such interval.
+     * Weeks do not align with months, quarters or years, so week values are only reused for weekly buckets.
+     *
+     * @param target the calendar interval requested by the query
+     */
+    public DateTimeUnitRounding findClosestValidInterval(DateTimeUnitRounding target) {
+        DateTimeUnitComparator comparator = new DateTimeUnitComparator();
+        String weekShortName = Rounding.DateTimeUnit.WEEK_OF_WEEKYEAR.shortName();
+        DateTimeUnitRounding closestValidInterval = null;
+        for (DateTimeUnitRounding interval : sortedCalendarIntervals) {
+            if (comparator.compare(interval, target) > 0) {
+                break;
+            }
+            if (interval.shortName().equals(weekShortName) && target.shortName().equals(weekShortName) == false) {
+                continue;
+            }
+            closestValidInterval = interval;
+        }
+        return closestValidInterval;
+    }
+
+    /**
+     * Returns the coarsest configured calendar interval whose bucket boundaries are aligned with the given range, or null
+     * if there is no such interval. The rounded values of such an interval fall in the range exactly when the original
+     * values do.
+     *
+     * @param low the lowest matching millis, inclusive, or {@link Long#MIN_VALUE} if unbounded
+     * @param high the highest matching millis, inclusive, or {@link Long#MAX_VALUE} if unbounded
+     */
+    public DateTimeUnitRounding findCoarsestAlignedInterval(long low, long high) {
+        for (int i = sortedCalendarIntervals.size() - 1; i >= 0; i--) {
+            DateTimeUnitRounding interval = sortedCalendarIntervals.get(i);
+            boolean lowAligned = low == Long.MIN_VALUE || interval.roundFloor(low) == low;
+            boolean highAligned = high == Long.MAX_VALUE || interval.roundFloor(high + 1) == high + 1;
+            if (lowAligned && highAligned) {
+                return interval;
+            }
+        }
+        return null;
+    }
+
     /**
      * Sets the dimension values in sorted order in the provided array starting from the given index.
      *
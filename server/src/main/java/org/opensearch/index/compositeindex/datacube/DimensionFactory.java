@@ -43,6 +43,8 @@ public class DimensionFactory {
                 return parseAndCreateDateDimension(name, dimensionMap, c);
             case NumericDimension.NUMERIC:
                 return new NumericDimension(name);
+            case KeywordDimension.KEYWORD:
+                return new KeywordDimension(name);
             default:
                 throw new IllegalArgumentException(
                     String.format(Locale.ROOT, "unsupported field type associated with dimension [%s] as part of star tree field", name)
@@ -62,7 +64,10 @@ public class DimensionFactory {
         } else if (builder.getSupportedDataCubeDimensionType().isPresent()
             && builder.getSupportedDataCubeDimensionType().get().equals(DimensionType.NUMERIC)) {
                 return new NumericDimension(name);
-            }
+            } else if (builder.getSupportedDataCubeDimensionType().isPresent()
+                && builder.getSupportedDataCubeDimensionType().get().equals(DimensionType.KEYWORD)) {
+                    return new KeywordDimension(name);
+                }
         throw new IllegalArgumentException(
             String.format(Locale.ROOT, "unsupported field type associated with star tree dimension [%s]", name)
         );
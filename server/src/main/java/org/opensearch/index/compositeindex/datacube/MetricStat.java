@@ -8,6 +8,7 @@
 
 package org.opensearch.index.compositeindex.datacube;
 
+import org.apache.lucene.index.DocValuesType;
 import org.opensearch.common.annotation.ExperimentalApi;
 
 import java.util.Arrays;
@@ -25,7 +26,9 @@ public enum MetricStat {
     MIN("min", 2),
     MAX("max", 3),
     AVG("avg", 4, VALUE_COUNT, SUM),
-    DOC_COUNT("doc_count", true, 5);
+    DOC_COUNT("doc_count", true, 5),
+    CARDINALITY("cardinality", 6),
+    PERCENTILES("percentiles", 7);
 
     private final String typeName;
     private final MetricStat[] baseMetrics;
@@ -73,6 +76,21 @@ public enum MetricStat {
         return baseMetrics != null && baseMetrics.length > 0;
     }
 
+    /**
+     * Return true if the values of this metric are sketches, which are stored as serialized binary doc values
+     * For example, CARDINALITY is stored as a HyperLogLog++ sketch
+     */
+    public boolean isSketchMetric() {
+        return this == CARDINALITY || this == PERCENTILES;
+    }
+
+    /**
+     * Return the doc values type the star-tree values of this metric are stored with
+     */
+    public DocValuesType getDocValuesType() {
+        return isSketchMetric() ? DocValuesType.BINARY : DocValuesType.SORTED_NUMERIC;
+    }
+
     public static MetricStat fromTypeName(String typeName) {
         for (MetricStat metric : MetricStat.values()) {
             // prevent system fields to be entered as user input
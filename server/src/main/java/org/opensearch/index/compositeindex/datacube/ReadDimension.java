@@ -25,9 +25,15 @@ import java.util.function.Consumer;
 public class ReadDimension implements Dimension {
     public static final String READ = "read";
     private final String field;
+    private final DocValuesType docValuesType;
 
     public ReadDimension(String field) {
+        this(field, DocValuesType.SORTED_NUMERIC);
+    }
+
+    public ReadDimension(String field, DocValuesType docValuesType) {
         this.field = field;
+        this.docValuesType = docValuesType;
     }
 
     public String getField() {
@@ -63,16 +69,16 @@ public class ReadDimension implements Dimension {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ReadDimension dimension = (ReadDimension) o;
-        return Objects.equals(field, dimension.getField());
+        return Objects.equals(field, dimension.getField()) && docValuesType == dimension.docValuesType;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(field);
+        return Objects.hash(field, docValuesType);
     }
 
     @Override
     public DocValuesType getDocValuesType() {
-        return DocValuesType.SORTED_NUMERIC;
+        return docValuesType;
     }
 }
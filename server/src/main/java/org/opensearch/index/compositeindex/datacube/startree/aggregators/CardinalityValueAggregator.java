@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.CompactHyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+
+import java.io.IOException;
+
+/**
+ * Cardinality value aggregator for star tree, the aggregated values are HyperLogLog++ sketches.
+ * <p>
+ * Values are hashed the same way as the cardinality aggregation hashes numeric values, so that the sketches can be
+ * merged into the counts of the aggregation. The sketches use the default precision of the cardinality aggregation.
+ *
+ * @opensearch.experimental
+ */
+public class CardinalityValueAggregator extends SketchValueAggregator<CompactHyperLogLogPlusPlus> {
+
+    public static final int PRECISION = HyperLogLogPlusPlus.DEFAULT_PRECISION;
+
+    private final boolean hashAsDouble;
+
+    public CardinalityValueAggregator(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+        this.hashAsDouble = hashAsDouble(fieldValueConverter);
+    }
+
+    /**
+     * The cardinality aggregation hashes the double values of floating point and unsigned long fields and the long values otherwise
+     */
+    private static boolean hashAsDouble(FieldValueConverter fieldValueConverter) {
+        final IndexNumericFieldData.NumericType numericType;
+        if (fieldValueConverter instanceof NumberFieldMapper.NumberType) {
+            numericType = ((NumberFieldMapper.NumberType) fieldValueConverter).numericType();
+        } else if (fieldValueConverter instanceof NumberFieldMapper.NumberFieldType) {
+            numericType = ((NumberFieldMapper.NumberFieldType) fieldValueConverter).numericType();
+        } else {
+            // other numeric field types, like scaled floats, expose double values
+            return true;
+        }
+        return numericType.isFloatingPoint() || numericType == IndexNumericFieldData.NumericType.UNSIGNED_LONG;
+    }
+
+    @Override
+    protected CompactHyperLogLogPlusPlus newSketch() {
+        return new CompactHyperLogLogPlusPlus(PRECISION);
+    }
+
+    @Override
+    protected void add(CompactHyperLogLogPlusPlus sketch, long segmentDocValue) {
+        final long hash = hashAsDouble
+            ? BitMixer.mix64(Double.doubleToLongBits(fieldValueConverter.toDoubleValue(segmentDocValue)))
+            : BitMixer.mix64(segmentDocValue);
+        sketch.collect(0, hash);
+    }
+
+    @Override
+    protected void merge(CompactHyperLogLogPlusPlus into, CompactHyperLogLogPlusPlus from) {
+        into.merge(from, 0);
+    }
+
+    @Override
+    protected CompactHyperLogLogPlusPlus copy(CompactHyperLogLogPlusPlus sketch) {
+        return sketch.copy();
+    }
+
+    @Override
+    protected void writeTo(CompactHyperLogLogPlusPlus sketch, StreamOutput out) throws IOException {
+        sketch.writeTo(0, out);
+    }
+
+    @Override
+    protected CompactHyperLogLogPlusPlus readFrom(StreamInput in) throws IOException {
+        return CompactHyperLogLogPlusPlus.readFrom(in);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.search.aggregations.metrics.PercentilesConfig;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+import java.io.IOException;
+
+/**
+ * Percentiles value aggregator for star tree, the aggregated values are TDigest sketches.
+ * The sketches use the default compression of the TDigest percentiles method.
+ *
+ * @opensearch.experimental
+ */
+public class PercentilesValueAggregator extends SketchValueAggregator<TDigestState> {
+
+    public static final double COMPRESSION = PercentilesConfig.TDigest.DEFAULT_COMPRESSION;
+
+    public PercentilesValueAggregator(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+    }
+
+    @Override
+    protected TDigestState newSketch() {
+        return new TDigestState(COMPRESSION);
+    }
+
+    @Override
+    protected void add(TDigestState sketch, long segmentDocValue) {
+        sketch.add(fieldValueConverter.toDoubleValue(segmentDocValue));
+    }
+
+    @Override
+    protected void merge(TDigestState into, TDigestState from) {
+        into.add(from);
+    }
+
+    @Override
+    protected TDigestState copy(TDigestState sketch) {
+        TDigestState copy = new TDigestState(sketch.compression());
+        copy.add(sketch);
+        return copy;
+    }
+
+    @Override
+    protected void writeTo(TDigestState sketch, StreamOutput out) throws IOException {
+        TDigestState.write(sketch, out);
+    }
+
+    @Override
+    protected TDigestState readFrom(StreamInput in) throws IOException {
+        return TDigestState.read(in);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.index.mapper.FieldValueConverter;
+
+import java.io.IOException;
+
+/**
+ * Base class of the value aggregators whose aggregated values are sketches, like HyperLogLog++ or TDigest.
+ * <p>
+ * Sketches are mutable, so they are copied when they start a new aggregated value and merged in place otherwise.
+ * They are stored as serialized binary doc values and there is no long representation of them.
+ *
+ * @opensearch.experimental
+ */
+public abstract class SketchValueAggregator<A> implements ValueAggregator<A> {
+
+    protected final FieldValueConverter fieldValueConverter;
+
+    protected SketchValueAggregator(FieldValueConverter fieldValueConverter) {
+        this.fieldValueConverter = fieldValueConverter;
+    }
+
+    /**
+     * Returns the data type of the values the sketches are built from.
+     */
+    @Override
+    public FieldValueConverter getAggregatedValueType() {
+        return fieldValueConverter;
+    }
+
+    @Override
+    public A getInitialAggregatedValueForSegmentDocValue(Long segmentDocValue) {
+        if (segmentDocValue == null) {
+            return getIdentityMetricValue();
+        }
+        A sketch = newSketch();
+        add(sketch, segmentDocValue);
+        return sketch;
+    }
+
+    @Override
+    public A mergeAggregatedValueAndSegmentValue(A value, Long segmentDocValue) {
+        if (segmentDocValue == null) {
+            return value;
+        }
+        if (value == null) {
+            return getInitialAggregatedValueForSegmentDocValue(segmentDocValue);
+        }
+        add(value, segmentDocValue);
+        return value;
+    }
+
+    @Override
+    public A mergeAggregatedValues(A value, A aggregatedValue) {
+        if (value == null) {
+            return aggregatedValue;
+        }
+        if (aggregatedValue == null) {
+            return copy(value);
+        }
+        merge(aggregatedValue, value);
+        return aggregatedValue;
+    }
+
+    @Override
+    public A getInitialAggregatedValue(A value) {
+        if (value == null) {
+            return getIdentityMetricValue();
+        }
+        return copy(value);
+    }
+
+    @Override
+    public A toAggregatedValueType(Long rawValue) {
+        throw new UnsupportedOperationException("Sketches cannot be converted from a long value");
+    }
+
+    @Override
+    public A getIdentityMetricValue() {
+        // documents without values are not added to the sketch
+        return null;
+    }
+
+    /**
+     * Serializes the sketch to the bytes stored in the star-tree doc values.
+     */
+    public BytesRef toBytesRef(A sketch) throws IOException {
+        BytesStreamOutput out = new BytesStreamOutput();
+        writeTo(sketch, out);
+        return out.bytes().toBytesRef();
+    }
+
+    /**
+     * Deserializes a sketch from the bytes stored in the star-tree doc values.
+     */
+    public A fromBytesRef(BytesRef bytesRef) throws IOException {
+        try (StreamInput in = StreamInput.wrap(bytesRef.bytes, bytesRef.offset, bytesRef.length)) {
+            return readFrom(in);
+        }
+    }
+
+    /**
+     * Returns a new empty sketch.
+     */
+    protected abstract A newSketch();
+
+    /**
+     * Adds a segment doc value to the sketch.
+     */
+    protected abstract void add(A sketch, long segmentDocValue);
+
+    /**
+     * Merges a sketch into another one.
+     */
+    protected abstract void merge(A into, A from);
+
+    /**
+     * Returns a copy of the sketch.
+     */
+    protected abstract A copy(A sketch);
+
+    protected abstract void writeTo(A sketch, StreamOutput out) throws IOException;
+
+    protected abstract A readFrom(StreamInput in) throws IOException;
+}
@@ -14,6 +14,8 @@ import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.store.RandomAccessInput;
 import org.apache.lucene.store.TrackingDirectoryWrapper;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.index.compositeindex.datacube.Metric;
@@ -21,6 +23,8 @@ import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.ValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentBitSetUtil;
 import org.opensearch.index.mapper.FieldValueConverter;
 
@@ -35,6 +39,9 @@ import static org.opensearch.index.mapper.NumberFieldMapper.NumberType.LONG;
 
 /**
  * Abstract class for managing star tree file operations.
+ * <p>
+ * Star tree documents have a fixed size, unless a metric is a sketch. Aggregated documents then store the serialized
+ * sketches, and the offsets of the documents are tracked in memory.
  *
  * @opensearch.experimental
  */
@@ -48,6 +55,10 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     protected final SegmentWriteState state;
     protected int docSizeInBytes = -1;
     protected final int numDimensions;
+    private final boolean hasSketchMetrics;
+    // start offsets of the written documents followed by the end offset of the last one, only tracked with sketch metrics
+    private long[] documentOffsets;
+    private int numWrittenDocs;
 
     public AbstractDocumentsFileManager(
         SegmentWriteState state,
@@ -61,27 +72,48 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         this.state = state;
         numMetrics = metricAggregatorInfos.size();
         this.numDimensions = numDimensions;
+        this.hasSketchMetrics = metricAggregatorInfos.stream()
+            .anyMatch(metricAggregatorInfo -> metricAggregatorInfo.getValueAggregators() instanceof SketchValueAggregator);
+        this.documentOffsets = hasSketchMetrics ? new long[] { 0L } : null;
     }
 
     private void setDocSizeInBytes(int numBytes) {
+        if (hasSketchMetrics) {
+            documentOffsets = ArrayUtil.grow(documentOffsets, numWrittenDocs + 2);
+            documentOffsets[numWrittenDocs + 1] = documentOffsets[numWrittenDocs] + numBytes;
+            numWrittenDocs++;
+            return;
+        }
         if (docSizeInBytes == -1) {
             docSizeInBytes = numBytes;
         }
         assert docSizeInBytes == numBytes;
     }
 
+    /**
+     * Returns the offset of the document with the given id, relative to the first document written by this manager
+     */
+    protected long getDocumentOffset(int docId) {
+        if (hasSketchMetrics) {
+            assert docId <= numWrittenDocs;
+            return documentOffsets[docId];
+        }
+        return (long) docId * docSizeInBytes;
+    }
+
     /**
      * Write the star tree document to a byte buffer
      */
     protected int writeStarTreeDocument(StarTreeDocument starTreeDocument, IndexOutput output, boolean isAggregatedDoc) throws IOException {
-        int numBytes = calculateDocumentSize(starTreeDocument, isAggregatedDoc);
+        BytesRef[] sketches = isAggregatedDoc && hasSketchMetrics ? serializeSketches(starTreeDocument) : null;
+        int numBytes = calculateDocumentSize(starTreeDocument, sketches);
         byte[] bytes = new byte[numBytes];
         ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder());
         writeDimensions(starTreeDocument, buffer);
         if (isAggregatedDoc == false) {
             writeFlushMetrics(starTreeDocument, buffer);
         } else {
-            writeMetrics(starTreeDocument, buffer, isAggregatedDoc);
+            writeMetrics(starTreeDocument, buffer, sketches);
         }
         output.writeBytes(bytes, bytes.length);
         setDocSizeInBytes(numBytes);
@@ -109,22 +141,41 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     }
 
     /**
-     * Write star tree document metrics to the byte buffer
+     * Serializes the sketch metrics of an aggregated star tree document, the other metrics are left null
      */
-    protected void writeMetrics(StarTreeDocument starTreeDocument, ByteBuffer buffer, boolean isAggregatedDoc) throws IOException {
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private BytesRef[] serializeSketches(StarTreeDocument starTreeDocument) throws IOException {
+        BytesRef[] sketches = new BytesRef[starTreeDocument.metrics.length];
+        for (int i = 0; i < starTreeDocument.metrics.length; i++) {
+            ValueAggregator valueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+            if (valueAggregator instanceof SketchValueAggregator && starTreeDocument.metrics[i] != null) {
+                sketches[i] = ((SketchValueAggregator) valueAggregator).toBytesRef(starTreeDocument.metrics[i]);
+            }
+        }
+        return sketches;
+    }
+
+    /**
+     * Write aggregated star tree document metrics to the byte buffer
+     * Sketches are written as their length followed by their serialized bytes
+     */
+    protected void writeMetrics(StarTreeDocument starTreeDocument, ByteBuffer buffer, BytesRef[] sketches) throws IOException {
         for (int i = 0; i < starTreeDocument.metrics.length; i++) {
             FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType();
-            if (aggregatedValueType.equals(LONG)) {
-                buffer.putLong(starTreeDocument.metrics[i] == null ? 0L : (Long) starTreeDocument.metrics[i]);
-            } else if (aggregatedValueType.equals(DOUBLE)) {
-                if (isAggregatedDoc) {
-                    long val = NumericUtils.doubleToSortableLong(
-                        starTreeDocument.metrics[i] == null ? 0.0 : (Double) starTreeDocument.metrics[i]
-                    );
-                    buffer.putLong(val);
+            if (metricAggregatorInfos.get(i).getValueAggregators() instanceof SketchValueAggregator) {
+                if (sketches[i] == null) {
+                    buffer.putInt(0);
                 } else {
-                    buffer.putLong(starTreeDocument.metrics[i] == null ? 0L : (Long) starTreeDocument.metrics[i]);
+                    buffer.putInt(sketches[i].length);
+                    buffer.put(sketches[i].bytes, sketches[i].offset, sketches[i].length);
                 }
+            } else if (aggregatedValueType.equals(LONG)) {
+                buffer.putLong(starTreeDocument.metrics[i] == null ? 0L : (Long) starTreeDocument.metrics[i]);
+            } else if (aggregatedValueType.equals(DOUBLE)) {
+                long val = NumericUtils.doubleToSortableLong(
+                    starTreeDocument.metrics[i] == null ? 0.0 : (Double) starTreeDocument.metrics[i]
+                );
+                buffer.putLong(val);
             } else {
                 throw new IllegalStateException("Unsupported metric type");
             }
@@ -135,12 +186,16 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     /**
      * Calculate the size of the serialized StarTreeDocument
      */
-    private int calculateDocumentSize(StarTreeDocument starTreeDocument, boolean isAggregatedDoc) {
+    private int calculateDocumentSize(StarTreeDocument starTreeDocument, BytesRef[] sketches) {
         int size = starTreeDocument.dimensions.length * Long.BYTES;
         size += getLength(starTreeDocument.dimensions);
 
         for (int i = 0; i < starTreeDocument.metrics.length; i++) {
-            size += Long.BYTES;
+            if (sketches != null && metricAggregatorInfos.get(i).getValueAggregators() instanceof SketchValueAggregator) {
+                size += Integer.BYTES + (sketches[i] == null ? 0 : sketches[i].length);
+            } else {
+                size += Long.BYTES;
+            }
         }
         size += getLength(starTreeDocument.metrics);
 
@@ -171,7 +226,7 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         } else {
             offset = readMetrics(input, offset, numMetrics, metrics, isAggregatedDoc);
         }
-        assert (offset - initialOffset) == docSizeInBytes;
+        assert hasSketchMetrics || (offset - initialOffset) == docSizeInBytes;
         return new StarTreeDocument(dimensions, metrics);
     }
 
@@ -221,7 +276,20 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         throws IOException {
         for (int i = 0; i < numMetrics; i++) {
             FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType();
-            if (aggregatedValueType.equals(LONG)) {
+            if (isAggregatedDoc && metricAggregatorInfos.get(i).getValueAggregators() instanceof SketchValueAggregator) {
+                int length = input.readInt(offset);
+                offset += Integer.BYTES;
+                if (length > 0) {
+                    byte[] bytes = new byte[length];
+                    for (int j = 0; j < length; j++) {
+                        bytes[j] = input.readByte(offset + j);
+                    }
+                    metrics[i] = ((SketchValueAggregator<?>) metricAggregatorInfos.get(i).getValueAggregators()).fromBytesRef(
+                        new BytesRef(bytes)
+                    );
+                }
+                offset += length;
+            } else if (aggregatedValueType.equals(LONG)) {
                 metrics[i] = input.readLong(offset);
                 offset += Long.BYTES;
             } else if (aggregatedValueType.equals(DOUBLE)) {
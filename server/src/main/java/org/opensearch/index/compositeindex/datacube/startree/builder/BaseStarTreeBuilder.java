@@ -11,17 +11,28 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.codecs.DocValuesConsumer;
 import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.BinaryDocValuesWriterWrapper;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.EmptyDocValuesProducer;
 import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.OrdinalMap;
 import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.index.SortedNumericDocValuesWriterWrapper;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.SortedSetDocValuesWriterWrapper;
+import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.Counter;
+import org.apache.lucene.util.LongBitSet;
 import org.apache.lucene.util.NumericUtils;
+import org.apache.lucene.util.packed.PackedInts;
+import org.apache.lucene.util.packed.PackedLongValues;
+import org.opensearch.common.CheckedFunction;
 import org.opensearch.index.compositeindex.datacube.Dimension;
 import org.opensearch.index.compositeindex.datacube.Metric;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
@@ -29,6 +40,7 @@ import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.ValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.StarTreeWriter;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
@@ -36,6 +48,8 @@ import org.opensearch.index.compositeindex.datacube.startree.node.InMemoryTreeNo
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNodeType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.SequentialDocValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
 import org.opensearch.index.mapper.DocCountFieldMapper;
 import org.opensearch.index.mapper.FieldMapper;
 import org.opensearch.index.mapper.FieldValueConverter;
@@ -45,6 +59,7 @@ import org.opensearch.index.mapper.MapperService;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -93,6 +108,16 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
     private final IndexOutput metaOut;
     private final IndexOutput dataOut;
 
+    /**
+     * Looks up the terms of the ordinals held as values of the keyword dimensions, keyed by dimension id
+     */
+    private final Map<Integer, CheckedFunction<Long, BytesRef, IOException>> keywordDimensionTermLookups = new HashMap<>();
+
+    /**
+     * Maps the ordinals of the keyword dimensions of the merged segments to ordinals shared by all of them, keyed by dimension id
+     */
+    private final Map<Integer, OrdinalMap> keywordDimensionOrdinalMaps = new HashMap<>();
+
     /**
      * Reads all the configuration related to dimensions and metrics, builds a star-tree based on the different construction parameters.
      *
@@ -229,15 +254,22 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
         List<SequentialDocValuesIterator> metricReaders = getMetricReaders(writeState, fieldProducerMap);
         List<Dimension> dimensionsSplitOrder = starTreeField.getDimensionsOrder();
         SequentialDocValuesIterator[] dimensionReaders = new SequentialDocValuesIterator[dimensionsSplitOrder.size()];
+        int dimensionId = 0;
         for (int i = 0; i < dimensionReaders.length; i++) {
-            String dimension = dimensionsSplitOrder.get(i).getField();
-            FieldInfo dimensionFieldInfo = writeState.fieldInfos.fieldInfo(dimension);
+            Dimension dimension = dimensionsSplitOrder.get(i);
+            FieldInfo dimensionFieldInfo = writeState.fieldInfos.fieldInfo(dimension.getField());
             if (dimensionFieldInfo == null) {
-                dimensionFieldInfo = getFieldInfo(dimension, DocValuesType.SORTED_NUMERIC);
+                dimensionFieldInfo = getFieldInfo(dimension.getField(), dimension.getDocValuesType());
             }
-            dimensionReaders[i] = new SequentialDocValuesIterator(
-                new SortedNumericStarTreeValuesIterator(fieldProducerMap.get(dimensionFieldInfo.name).getSortedNumeric(dimensionFieldInfo))
-            );
+            DocValuesProducer dimensionProducer = fieldProducerMap.get(dimensionFieldInfo.name);
+            if (dimension.getDocValuesType() == DocValuesType.SORTED_SET) {
+                dimensionReaders[i] = getKeywordDimensionReader(dimensionId, dimensionProducer, dimensionFieldInfo);
+            } else {
+                dimensionReaders[i] = new SequentialDocValuesIterator(
+                    new SortedNumericStarTreeValuesIterator(dimensionProducer.getSortedNumeric(dimensionFieldInfo))
+                );
+            }
+            dimensionId += dimension.getNumSubDimensions();
         }
         Iterator<StarTreeDocument> starTreeDocumentIterator = sortAndAggregateSegmentDocuments(dimensionReaders, metricReaders);
         logger.debug("Sorting and aggregating star-tree in ms : {}", (System.currentTimeMillis() - startTime));
@@ -314,10 +346,15 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
         );
     }
 
+    @SuppressWarnings("unchecked")
     private void createSortedDocValuesIndices(DocValuesConsumer docValuesConsumer, AtomicInteger fieldNumberAcrossStarTrees)
         throws IOException {
-        List<SortedNumericDocValuesWriterWrapper> dimensionWriters = new ArrayList<>();
+        // keyword dimensions are written as the terms of their ordinals, the writers of the other dimensions are null for them
+        SortedNumericDocValuesWriterWrapper[] dimensionWriters = new SortedNumericDocValuesWriterWrapper[numDimensions];
+        SortedSetDocValuesWriterWrapper[] keywordDimensionWriters = new SortedSetDocValuesWriterWrapper[numDimensions];
+        // sketch metrics are written as their serialized sketches, the writers of the other metrics are null for them
         List<SortedNumericDocValuesWriterWrapper> metricWriters = new ArrayList<>();
+        BinaryDocValuesWriterWrapper[] sketchMetricWriters = new BinaryDocValuesWriterWrapper[metricAggregatorInfos.size()];
         FieldInfo[] dimensionFieldInfoList = new FieldInfo[numDimensions];
         FieldInfo[] metricFieldInfoList = new FieldInfo[metricAggregatorInfos.size()];
         int dimIndex = 0;
@@ -325,11 +362,15 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
             for (String name : dim.getSubDimensionNames()) {
                 final FieldInfo fi = getFieldInfo(
                     fullyQualifiedFieldNameForStarTreeDimensionsDocValues(starTreeField.getName(), name),
-                    DocValuesType.SORTED_NUMERIC,
+                    dim.getDocValuesType(),
                     fieldNumberAcrossStarTrees.getAndIncrement()
                 );
                 dimensionFieldInfoList[dimIndex] = fi;
-                dimensionWriters.add(new SortedNumericDocValuesWriterWrapper(fi, Counter.newCounter()));
+                if (dim.getDocValuesType() == DocValuesType.SORTED_SET) {
+                    keywordDimensionWriters[dimIndex] = new SortedSetDocValuesWriterWrapper(fi, Counter.newCounter());
+                } else {
+                    dimensionWriters[dimIndex] = new SortedNumericDocValuesWriterWrapper(fi, Counter.newCounter());
+                }
                 dimIndex++;
             }
         }
@@ -341,26 +382,44 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
                     metricAggregatorInfos.get(i).getField(),
                     metricAggregatorInfos.get(i).getMetricStat().getTypeName()
                 ),
-                DocValuesType.SORTED_NUMERIC,
+                metricAggregatorInfos.get(i).getMetricStat().getDocValuesType(),
                 fieldNumberAcrossStarTrees.getAndIncrement()
             );
 
             metricFieldInfoList[i] = fi;
-            metricWriters.add(new SortedNumericDocValuesWriterWrapper(fi, Counter.newCounter()));
+            if (metricAggregatorInfos.get(i).getValueAggregators() instanceof SketchValueAggregator) {
+                sketchMetricWriters[i] = new BinaryDocValuesWriterWrapper(fi, Counter.newCounter());
+                metricWriters.add(null);
+            } else {
+                metricWriters.add(new SortedNumericDocValuesWriterWrapper(fi, Counter.newCounter()));
+            }
         }
 
         for (int docId = 0; docId < numStarTreeDocs; docId++) {
             StarTreeDocument starTreeDocument = getStarTreeDocument(docId);
             for (int i = 0; i < starTreeDocument.dimensions.length; i++) {
                 if (starTreeDocument.dimensions[i] != null) {
-                    dimensionWriters.get(i).addValue(docId, starTreeDocument.dimensions[i]);
+                    if (keywordDimensionWriters[i] != null) {
+                        BytesRef term = keywordDimensionTermLookups.get(i).apply(starTreeDocument.dimensions[i]);
+                        keywordDimensionWriters[i].addValue(docId, term);
+                    } else {
+                        dimensionWriters[i].addValue(docId, starTreeDocument.dimensions[i]);
+                    }
                 }
             }
 
             for (int i = 0; i < starTreeDocument.metrics.length; i++) {
                 try {
-                    FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType();
-                    if (aggregatedValueType.equals(LONG)) {
+                    ValueAggregator valueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+                    FieldValueConverter aggregatedValueType = valueAggregator.getAggregatedValueType();
+                    if (sketchMetricWriters[i] != null) {
+                        if (starTreeDocument.metrics[i] != null) {
+                            sketchMetricWriters[i].addValue(
+                                docId,
+                                ((SketchValueAggregator) valueAggregator).toBytesRef(starTreeDocument.metrics[i])
+                            );
+                        }
+                    } else if (aggregatedValueType.equals(LONG)) {
                         if (starTreeDocument.metrics[i] != null) {
                             metricWriters.get(i).addValue(docId, (long) starTreeDocument.metrics[i]);
                         }
@@ -377,18 +436,54 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
             }
         }
 
-        addStarTreeDocValueFields(docValuesConsumer, dimensionWriters, dimensionFieldInfoList, numDimensions);
-        addStarTreeDocValueFields(docValuesConsumer, metricWriters, metricFieldInfoList, metricAggregatorInfos.size());
+        addStarTreeDimensionDocValueFields(docValuesConsumer, dimensionWriters, keywordDimensionWriters, dimensionFieldInfoList);
+        addStarTreeDocValueFields(docValuesConsumer, metricWriters, sketchMetricWriters, metricFieldInfoList, metricAggregatorInfos.size());
+    }
+
+    private void addStarTreeDimensionDocValueFields(
+        DocValuesConsumer docValuesConsumer,
+        SortedNumericDocValuesWriterWrapper[] dimensionWriters,
+        SortedSetDocValuesWriterWrapper[] keywordDimensionWriters,
+        FieldInfo[] fieldInfoList
+    ) throws IOException {
+        for (int i = 0; i < numDimensions; i++) {
+            final int writerIndex = i;
+            if (keywordDimensionWriters[i] != null) {
+                docValuesConsumer.addSortedSetField(fieldInfoList[i], new EmptyDocValuesProducer() {
+                    @Override
+                    public SortedSetDocValues getSortedSet(FieldInfo field) {
+                        return keywordDimensionWriters[writerIndex].getDocValues();
+                    }
+                });
+            } else {
+                docValuesConsumer.addSortedNumericField(fieldInfoList[i], new EmptyDocValuesProducer() {
+                    @Override
+                    public SortedNumericDocValues getSortedNumeric(FieldInfo field) {
+                        return dimensionWriters[writerIndex].getDocValues();
+                    }
+                });
+            }
+        }
     }
 
     private void addStarTreeDocValueFields(
         DocValuesConsumer docValuesConsumer,
         List<SortedNumericDocValuesWriterWrapper> docValuesWriters,
+        BinaryDocValuesWriterWrapper[] binaryDocValuesWriters,
         FieldInfo[] fieldInfoList,
         int fieldCount
     ) throws IOException {
         for (int i = 0; i < fieldCount; i++) {
             final int writerIndex = i;
+            if (binaryDocValuesWriters[i] != null) {
+                docValuesConsumer.addBinaryField(fieldInfoList[i], new EmptyDocValuesProducer() {
+                    @Override
+                    public BinaryDocValues getBinary(FieldInfo field) {
+                        return binaryDocValuesWriters[writerIndex].getDocValues();
+                    }
+                });
+                continue;
+            }
             DocValuesProducer docValuesProducer = new EmptyDocValuesProducer() {
                 @Override
                 public SortedNumericDocValues getSortedNumeric(FieldInfo field) {
@@ -422,12 +517,83 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
             // As part of merge, we traverse the star tree doc values
             // The type of data stored in metric fields is different from the
             // actual indexing field they're based on
-            metrics[i] = metricAggregatorInfos.get(i).getValueAggregators().toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            ValueAggregator<?> valueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+            if (valueAggregator instanceof SketchValueAggregator) {
+                BytesRef sketch = metricValuesIterator.binaryValue(currentDocId);
+                metrics[i] = sketch == null ? null : ((SketchValueAggregator<?>) valueAggregator).fromBytesRef(sketch);
+            } else {
+                metrics[i] = valueAggregator.toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            }
             i++;
         }
         return new StarTreeDocument(dims, metrics);
     }
 
+    /**
+     * Returns the reader of a keyword dimension of the segment being flushed. The values of the dimension are the ordinals
+     * of the lowest term of each document, which sort like the terms. They are compacted to the ordinals of the terms
+     * actually read, so that they match the ordinals of the terms written to the star-tree doc values.
+     */
+    private SequentialDocValuesIterator getKeywordDimensionReader(int dimensionId, DocValuesProducer producer, FieldInfo fieldInfo)
+        throws IOException {
+        SortedSetDocValues sortedSetDocValues = producer.getSortedSet(fieldInfo);
+        LongBitSet readOrds = new LongBitSet(sortedSetDocValues.getValueCount());
+        for (int doc = sortedSetDocValues.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = sortedSetDocValues.nextDoc()) {
+            readOrds.set(sortedSetDocValues.nextOrd());
+        }
+        PackedLongValues.Builder ordToStarTreeOrd = PackedLongValues.monotonicBuilder(PackedInts.COMPACT);
+        PackedLongValues.Builder starTreeOrdToOrd = PackedLongValues.monotonicBuilder(PackedInts.COMPACT);
+        long starTreeOrd = 0;
+        for (long ord = 0; ord < readOrds.length(); ord++) {
+            ordToStarTreeOrd.add(starTreeOrd);
+            if (readOrds.get(ord)) {
+                starTreeOrdToOrd.add(ord);
+                starTreeOrd++;
+            }
+        }
+        PackedLongValues ords = starTreeOrdToOrd.build();
+        SortedSetDocValues termLookup = producer.getSortedSet(fieldInfo);
+        keywordDimensionTermLookups.put(dimensionId, ord -> termLookup.lookupOrd(ords.get(ord)));
+        return new SequentialDocValuesIterator(
+            new SortedSetStarTreeValuesIterator(producer.getSortedSet(fieldInfo)),
+            ordToStarTreeOrd.build()
+        );
+    }
+
+    /**
+     * Builds the ordinal maps of the keyword dimensions across the segments being merged. The ordinals read from the
+     * star-tree documents of each segment are remapped to ordinals shared by all of them, which sort like the terms
+     * and are resolved to the terms again when writing the merged star-tree doc values.
+     *
+     * @param starTreeValuesSubs star-tree values of the segments being merged
+     */
+    protected void buildKeywordDimensionOrdinalMaps(List<StarTreeValues> starTreeValuesSubs) throws IOException {
+        int dimensionId = 0;
+        for (Dimension dimension : dimensionsSplitOrder) {
+            if (dimension.getDocValuesType() == DocValuesType.SORTED_SET) {
+                SortedSetStarTreeValuesIterator[] termLookups = new SortedSetStarTreeValuesIterator[starTreeValuesSubs.size()];
+                TermsEnum[] termsEnums = new TermsEnum[starTreeValuesSubs.size()];
+                long[] weights = new long[starTreeValuesSubs.size()];
+                for (int i = 0; i < starTreeValuesSubs.size(); i++) {
+                    StarTreeValuesIterator iterator = starTreeValuesSubs.get(i).getDimensionValuesIterator(dimension.getField());
+                    if (iterator instanceof SortedSetStarTreeValuesIterator == false) {
+                        throw new IllegalStateException("keyword dimension [" + dimension.getField() + "] is not stored as sorted set");
+                    }
+                    termLookups[i] = (SortedSetStarTreeValuesIterator) iterator;
+                    termsEnums[i] = termLookups[i].termsEnum();
+                    weights[i] = termLookups[i].getValueCount();
+                }
+                OrdinalMap ordinalMap = OrdinalMap.build(null, termsEnums, weights, PackedInts.DEFAULT);
+                keywordDimensionOrdinalMaps.put(dimensionId, ordinalMap);
+                keywordDimensionTermLookups.put(dimensionId, globalOrd -> {
+                    int segmentIndex = ordinalMap.getFirstSegmentNumber(globalOrd);
+                    return termLookups[segmentIndex].lookupOrd(ordinalMap.getFirstSegmentOrd(globalOrd));
+                });
+            }
+            dimensionId += dimension.getNumSubDimensions();
+        }
+    }
+
     /**
      * Sets dimensions / metric readers nnd numSegmentDocs
      */
@@ -435,11 +601,18 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
         SequentialDocValuesIterator[] dimensionReaders,
         List<SequentialDocValuesIterator> metricReaders,
         AtomicInteger numSegmentDocs,
-        StarTreeValues starTreeValues
+        StarTreeValues starTreeValues,
+        int segmentIndex
     ) {
         List<String> dimensionNames = starTreeValues.getStarTreeField().getDimensionNames();
         for (int i = 0; i < numDimensions; i++) {
-            dimensionReaders[i] = new SequentialDocValuesIterator(starTreeValues.getDimensionValuesIterator(dimensionNames.get(i)));
+            StarTreeValuesIterator dimensionValuesIterator = starTreeValues.getDimensionValuesIterator(dimensionNames.get(i));
+            OrdinalMap ordinalMap = keywordDimensionOrdinalMaps.get(i);
+            if (ordinalMap != null) {
+                dimensionReaders[i] = new SequentialDocValuesIterator(dimensionValuesIterator, ordinalMap.getGlobalOrds(segmentIndex));
+            } else {
+                dimensionReaders[i] = new SequentialDocValuesIterator(dimensionValuesIterator);
+            }
         }
         // get doc id set iterators for metrics
         for (Metric metric : starTreeValues.getStarTreeField().getMetrics()) {
@@ -178,11 +178,18 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
         int numDocs = 0;
         int[] docIds;
         try {
-            for (StarTreeValues starTreeValues : starTreeValuesSubs) {
+            buildKeywordDimensionOrdinalMaps(starTreeValuesSubs);
+            for (int segmentIndex = 0; segmentIndex < starTreeValuesSubs.size(); segmentIndex++) {
                 SequentialDocValuesIterator[] dimensionReaders = new SequentialDocValuesIterator[numDimensions];
                 List<SequentialDocValuesIterator> metricReaders = new ArrayList<>();
                 AtomicInteger numSegmentDocs = new AtomicInteger();
-                setReadersAndNumSegmentDocs(dimensionReaders, metricReaders, numSegmentDocs, starTreeValues);
+                setReadersAndNumSegmentDocs(
+                    dimensionReaders,
+                    metricReaders,
+                    numSegmentDocs,
+                    starTreeValuesSubs.get(segmentIndex),
+                    segmentIndex
+                );
                 int currentDocId = 0;
                 while (currentDocId < numSegmentDocs.get()) {
                     StarTreeDocument starTreeDocument = getStarTreeDocument(currentDocId, dimensionReaders, metricReaders);
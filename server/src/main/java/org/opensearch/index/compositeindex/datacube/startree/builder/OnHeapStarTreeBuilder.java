@@ -125,12 +125,19 @@ public class OnHeapStarTreeBuilder extends BaseStarTreeBuilder {
      */
     StarTreeDocument[] getSegmentsStarTreeDocuments(List<StarTreeValues> starTreeValuesSubs) throws IOException {
         List<StarTreeDocument> starTreeDocuments = new ArrayList<>();
-        for (StarTreeValues starTreeValues : starTreeValuesSubs) {
+        buildKeywordDimensionOrdinalMaps(starTreeValuesSubs);
+        for (int segmentIndex = 0; segmentIndex < starTreeValuesSubs.size(); segmentIndex++) {
 
             SequentialDocValuesIterator[] dimensionReaders = new SequentialDocValuesIterator[numDimensions];
             List<SequentialDocValuesIterator> metricReaders = new ArrayList<>();
             AtomicInteger numSegmentDocs = new AtomicInteger();
-            setReadersAndNumSegmentDocs(dimensionReaders, metricReaders, numSegmentDocs, starTreeValues);
+            setReadersAndNumSegmentDocs(
+                dimensionReaders,
+                metricReaders,
+                numSegmentDocs,
+                starTreeValuesSubs.get(segmentIndex),
+                segmentIndex
+            );
             int currentDocId = 0;
             while (currentDocId < numSegmentDocs.get()) {
                 starTreeDocuments.add(getStarTreeDocument(currentDocId, dimensionReaders, metricReaders));
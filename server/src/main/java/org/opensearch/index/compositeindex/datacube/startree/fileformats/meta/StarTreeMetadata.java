@@ -10,6 +10,7 @@ package org.opensearch.index.compositeindex.datacube.startree.fileformats.meta;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.index.compositeindex.CompositeIndexMetadata;
@@ -26,6 +27,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.opensearch.index.compositeindex.datacube.startree.fileformats.StarTreeWriter.VERSION_DIMENSION_DOC_VALUES_TYPE;
+import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils.decodeDimensionDocValuesType;
+
 /**
  * Holds the associated metadata for the building of star-tree.
  *
@@ -66,6 +70,11 @@ public class StarTreeMetadata extends CompositeIndexMetadata {
      */
     private final List<String> dimensionFields;
 
+    /**
+     * Doc values type of each of the dimension fields of the star-tree.
+     */
+    private final Map<String, DocValuesType> dimensionFieldToDocValuesTypeMap;
+
     /**
      * List of metrics, containing field names and associated metric statistics.
      */
@@ -128,7 +137,8 @@ public class StarTreeMetadata extends CompositeIndexMetadata {
             this.starTreeFieldType = this.getCompositeFieldType().getName();
             this.version = version;
             this.numberOfNodes = readNumberOfNodes();
-            this.dimensionFields = readStarTreeDimensions();
+            this.dimensionFieldToDocValuesTypeMap = readStarTreeDimensions();
+            this.dimensionFields = new ArrayList<>(dimensionFieldToDocValuesTypeMap.keySet());
             this.metrics = readMetricEntries();
             this.segmentAggregatedDocCount = readSegmentAggregatedDocCount();
             this.starTreeDocCount = readStarTreeDocCount();
@@ -176,6 +186,58 @@ public class StarTreeMetadata extends CompositeIndexMetadata {
         StarTreeFieldConfiguration.StarTreeBuildMode starTreeBuildMode,
         long dataStartFilePointer,
         long dataLength
+    ) {
+        this(
+            compositeFieldName,
+            compositeFieldType,
+            meta,
+            version,
+            numberOfNodes,
+            getSortedNumericDimensions(dimensionFields),
+            metrics,
+            segmentAggregatedDocCount,
+            starTreeDocCount,
+            maxLeafDocs,
+            skipStarNodeCreationInDims,
+            starTreeBuildMode,
+            dataStartFilePointer,
+            dataLength
+        );
+    }
+
+    /**
+     * A star tree metadata constructor to initialize star tree metadata with the doc values types of the dimensions.
+     * Used for testing.
+     *
+     * @param meta                             an index input to read star-tree meta
+     * @param compositeFieldName               name of the composite field. Here, name of the star-tree field.
+     * @param compositeFieldType               type of the composite field. Here, STAR_TREE field.
+     * @param version The version of the star tree stored in the segments.
+     * @param dimensionFieldToDocValuesTypeMap ordered map of dimension fields to their doc values types
+     * @param metrics                          list of metric entries
+     * @param segmentAggregatedDocCount        segment aggregated doc count
+     * @param starTreeDocCount                 the total number of star tree documents for the segment
+     * @param maxLeafDocs                      max leaf docs
+     * @param skipStarNodeCreationInDims       set of dimensions to skip star node creation
+     * @param starTreeBuildMode                star tree build mode
+     * @param dataStartFilePointer             star file pointer to the associated star tree data in (.cid) file
+     * @param dataLength                       length of the corresponding star-tree data in (.cid) file
+     */
+    public StarTreeMetadata(
+        String compositeFieldName,
+        CompositeMappedFieldType.CompositeFieldType compositeFieldType,
+        IndexInput meta,
+        Integer version,
+        Integer numberOfNodes,
+        LinkedHashMap<String, DocValuesType> dimensionFieldToDocValuesTypeMap,
+        List<Metric> metrics,
+        Integer segmentAggregatedDocCount,
+        Integer starTreeDocCount,
+        Integer maxLeafDocs,
+        Set<String> skipStarNodeCreationInDims,
+        StarTreeFieldConfiguration.StarTreeBuildMode starTreeBuildMode,
+        long dataStartFilePointer,
+        long dataLength
     ) {
         super(compositeFieldName, compositeFieldType);
         this.meta = meta;
@@ -183,7 +245,8 @@ public class StarTreeMetadata extends CompositeIndexMetadata {
         this.starTreeFieldType = compositeFieldType.getName();
         this.version = version;
         this.numberOfNodes = numberOfNodes;
-        this.dimensionFields = dimensionFields;
+        this.dimensionFieldToDocValuesTypeMap = dimensionFieldToDocValuesTypeMap;
+        this.dimensionFields = new ArrayList<>(dimensionFieldToDocValuesTypeMap.keySet());
         this.metrics = metrics;
         this.segmentAggregatedDocCount = segmentAggregatedDocCount;
         this.starTreeDocCount = starTreeDocCount;
@@ -194,6 +257,14 @@ public class StarTreeMetadata extends CompositeIndexMetadata {
         this.dataLength = dataLength;
     }
 
+    private static LinkedHashMap<String, DocValuesType> getSortedNumericDimensions(List<String> dimensionFields) {
+        LinkedHashMap<String, DocValuesType> dimensionFieldToDocValuesTypeMap = new LinkedHashMap<>();
+        for (String dimensionField : dimensionFields) {
+            dimensionFieldToDocValuesTypeMap.put(dimensionField, DocValuesType.SORTED_NUMERIC);
+        }
+        return dimensionFieldToDocValuesTypeMap;
+    }
+
     private int readNumberOfNodes() throws IOException {
         return meta.readVInt();
     }
@@ -202,15 +273,20 @@ public class StarTreeMetadata extends CompositeIndexMetadata {
         return meta.readVInt();
     }
 
-    private List<String> readStarTreeDimensions() throws IOException {
+    private Map<String, DocValuesType> readStarTreeDimensions() throws IOException {
         int dimensionCount = readDimensionsCount();
-        List<String> dimensionFields = new ArrayList<>();
+        Map<String, DocValuesType> dimensionFieldToDocValuesTypeMap = new LinkedHashMap<>();
 
         for (int i = 0; i < dimensionCount; i++) {
-            dimensionFields.add(meta.readString());
+            String dimensionField = meta.readString();
+            // star-trees written before the doc values type was stored only have sorted numeric dimensions
+            DocValuesType docValuesType = version >= VERSION_DIMENSION_DOC_VALUES_TYPE
+                ? decodeDimensionDocValuesType(meta.readByte())
+                : DocValuesType.SORTED_NUMERIC;
+            dimensionFieldToDocValuesTypeMap.put(dimensionField, docValuesType);
         }
 
-        return dimensionFields;
+        return dimensionFieldToDocValuesTypeMap;
     }
 
     private int readMetricsCount() throws IOException {
@@ -318,6 +394,15 @@ public class StarTreeMetadata extends CompositeIndexMetadata {
         return dimensionFields;
     }
 
+    /**
+     * Returns the doc values type of each of the dimension fields, in the order of the dimensions.
+     *
+     * @return star-tree dimension fields to their doc values types
+     */
+    public Map<String, DocValuesType> getDimensionFieldToDocValuesTypeMap() {
+        return dimensionFieldToDocValuesTypeMap;
+    }
+
     /**
      * Returns the list of metric entries.
      *
@@ -11,6 +11,7 @@ package org.opensearch.index.compositeindex.datacube.startree.fileformats.meta;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.store.IndexOutput;
+import org.opensearch.index.compositeindex.datacube.Dimension;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
 import org.opensearch.index.mapper.CompositeMappedFieldType;
@@ -20,6 +21,7 @@ import java.util.List;
 
 import static org.opensearch.index.compositeindex.CompositeIndexConstants.COMPOSITE_FIELD_MARKER;
 import static org.opensearch.index.compositeindex.datacube.startree.fileformats.StarTreeWriter.VERSION_CURRENT;
+import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils.encodeDimensionDocValuesType;
 
 /**
  * The utility class for serializing the metadata of a star-tree data structure.
@@ -129,9 +131,12 @@ public class StarTreeMetadataWriter {
         // number of dimensions
         metaOut.writeVInt(starTreeField.getDimensionNames().size());
 
-        // dimensions
-        for (String dim : starTreeField.getDimensionNames()) {
-            metaOut.writeString(dim);
+        // dimensions and their doc values types
+        for (Dimension dim : starTreeField.getDimensionsOrder()) {
+            for (String name : dim.getSubDimensionNames()) {
+                metaOut.writeString(name);
+                metaOut.writeByte(encodeDimensionDocValuesType(dim.getDocValuesType()));
+            }
         }
 
         // number of metrics
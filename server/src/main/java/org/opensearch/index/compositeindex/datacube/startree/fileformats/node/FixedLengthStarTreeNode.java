@@ -9,6 +9,7 @@ package org.opensearch.index.compositeindex.datacube.startree.fileformats.node;
 
 import org.apache.lucene.store.RandomAccessInput;
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNode;
+import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNodeCollector;
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNodeType;
 
 import java.io.IOException;
@@ -233,27 +234,55 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
         }
     }
 
+    @Override
+    public void collectChildrenInRange(long low, long high, StarTreeNodeCollector collector) throws IOException {
+        // there will be no children for leaf nodes
+        if (isLeaf() || low > high) {
+            return;
+        }
+        int lastChildId = getLastNonNullChildId();
+        for (int childId = binarySearchFirstChild(low); childId <= lastChildId; childId++) {
+            FixedLengthStarTreeNode childNode = new FixedLengthStarTreeNode(in, childId);
+            if (childNode.getDimensionValue() > high) {
+                break;
+            }
+            collector.collectStarTreeNode(childNode);
+        }
+    }
+
     /**
-     * Performs a binary search to find a child node with the given dimension value.
-     *
-     * @param dimensionValue The dimension value to search for
-     * @return The child node if found, null otherwise
-     * @throws IOException If there's an error reading from the input
+     * Returns the id of the first child node which is not a star node
      */
-    private FixedLengthStarTreeNode binarySearchChild(long dimensionValue) throws IOException {
-
-        int low = firstChildId;
-
+    private int getFirstNonStarChildId() throws IOException {
         // if the current node is star node, increment the low to reduce the search space
         if (matchStarTreeNodeTypeOrNull(new FixedLengthStarTreeNode(in, firstChildId), StarTreeNodeType.STAR) != null) {
-            low++;
+            return firstChildId + 1;
         }
+        return firstChildId;
+    }
 
-        int high = getInt(LAST_CHILD_ID_OFFSET);
+    /**
+     * Returns the id of the last child node which is not a null node
+     */
+    private int getLastNonNullChildId() throws IOException {
+        int lastChildId = getInt(LAST_CHILD_ID_OFFSET);
         // if the current node is null node, decrement the high to reduce the search space
-        if (matchStarTreeNodeTypeOrNull(new FixedLengthStarTreeNode(in, high), StarTreeNodeType.NULL) != null) {
-            high--;
+        if (matchStarTreeNodeTypeOrNull(new FixedLengthStarTreeNode(in, lastChildId), StarTreeNodeType.NULL) != null) {
+            return lastChildId - 1;
         }
+        return lastChildId;
+    }
+
+    /**
+     * Performs a binary search to find a child node with the given dimension value.
+     *
+     * @param dimensionValue The dimension value to search for
+     * @return The child node if found, null otherwise
+     * @throws IOException If there's an error reading from the input
+     */
+    private FixedLengthStarTreeNode binarySearchChild(long dimensionValue) throws IOException {
+        int low = getFirstNonStarChildId();
+        int high = getLastNonNullChildId();
 
         while (low <= high) {
             int mid = low + (high - low) / 2;
@@ -271,6 +300,30 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
         return null;
     }
 
+    /**
+     * Performs a binary search to find the first child node with a dimension value greater than or equal to the given one.
+     *
+     * @param dimensionValue The lowest dimension value to search for
+     * @return The id of the child node, or the id following the last non-null child node if there is none
+     * @throws IOException If there's an error reading from the input
+     */
+    private int binarySearchFirstChild(long dimensionValue) throws IOException {
+        int low = getFirstNonStarChildId();
+        int high = getLastNonNullChildId();
+
+        while (low <= high) {
+            int mid = low + (high - low) / 2;
+            long midDimensionValue = new FixedLengthStarTreeNode(in, mid).getDimensionValue();
+
+            if (midDimensionValue < dimensionValue) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
     @Override
     public Iterator<FixedLengthStarTreeNode> getChildrenIterator() throws IOException {
         return new Iterator<>() {
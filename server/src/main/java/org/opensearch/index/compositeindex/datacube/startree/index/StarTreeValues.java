@@ -9,9 +9,12 @@
 package org.opensearch.index.compositeindex.datacube.startree.index;
 
 import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.index.compositeindex.CompositeIndexMetadata;
@@ -24,7 +27,9 @@ import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfig
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.StarTreeMetadata;
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeFactory;
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNode;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
 
 import java.io.IOException;
@@ -35,7 +40,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
+import static org.opensearch.index.codec.composite.composite912.Composite912DocValuesReader.getBinaryDocValues;
 import static org.opensearch.index.codec.composite.composite912.Composite912DocValuesReader.getSortedNumericDocValues;
+import static org.opensearch.index.codec.composite.composite912.Composite912DocValuesReader.getSortedSetDocValues;
 import static org.opensearch.index.compositeindex.CompositeIndexConstants.SEGMENT_DOCS_COUNT;
 import static org.opensearch.index.compositeindex.CompositeIndexConstants.STAR_TREE_DOCS_COUNT;
 import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils.fullyQualifiedFieldNameForStarTreeDimensionsDocValues;
@@ -128,8 +135,8 @@ public class StarTreeValues implements CompositeIndexValues {
 
         // build dimensions
         List<Dimension> readDimensions = new ArrayList<>();
-        for (String dimension : starTreeMetadata.getDimensionFields()) {
-            readDimensions.add(new ReadDimension(dimension));
+        for (Map.Entry<String, DocValuesType> dimension : starTreeMetadata.getDimensionFieldToDocValuesTypeMap().entrySet()) {
+            readDimensions.add(new ReadDimension(dimension.getKey(), dimension.getValue()));
         }
 
         // star-tree field
@@ -151,17 +158,28 @@ public class StarTreeValues implements CompositeIndexValues {
         metricValuesIteratorMap = new LinkedHashMap<>();
 
         // get doc id set iterators for dimensions
-        for (String dimension : starTreeMetadata.getDimensionFields()) {
-            dimensionValuesIteratorMap.put(dimension, () -> {
+        for (Map.Entry<String, DocValuesType> dimension : starTreeMetadata.getDimensionFieldToDocValuesTypeMap().entrySet()) {
+            String dimensionName = dimension.getKey();
+            DocValuesType docValuesType = dimension.getValue();
+            dimensionValuesIteratorMap.put(dimensionName, () -> {
                 try {
-                    SortedNumericDocValues dimensionSortedNumericDocValues = null;
+                    FieldInfo dimensionfieldInfo = null;
                     if (readState != null) {
-                        FieldInfo dimensionfieldInfo = readState.fieldInfos.fieldInfo(
-                            fullyQualifiedFieldNameForStarTreeDimensionsDocValues(starTreeField.getName(), dimension)
+                        dimensionfieldInfo = readState.fieldInfos.fieldInfo(
+                            fullyQualifiedFieldNameForStarTreeDimensionsDocValues(starTreeField.getName(), dimensionName)
                         );
+                    }
+                    // keyword dimensions hold the terms of the ordinals in sorted set doc values
+                    if (docValuesType == DocValuesType.SORTED_SET) {
+                        SortedSetDocValues dimensionSortedSetDocValues = null;
                         if (dimensionfieldInfo != null) {
-                            dimensionSortedNumericDocValues = compositeDocValuesProducer.getSortedNumeric(dimensionfieldInfo);
+                            dimensionSortedSetDocValues = compositeDocValuesProducer.getSortedSet(dimensionfieldInfo);
                         }
+                        return new SortedSetStarTreeValuesIterator(getSortedSetDocValues(dimensionSortedSetDocValues));
+                    }
+                    SortedNumericDocValues dimensionSortedNumericDocValues = null;
+                    if (dimensionfieldInfo != null) {
+                        dimensionSortedNumericDocValues = compositeDocValuesProducer.getSortedNumeric(dimensionfieldInfo);
                     }
                     return new SortedNumericStarTreeValuesIterator(getSortedNumericDocValues(dimensionSortedNumericDocValues));
                 } catch (IOException e) {
@@ -180,12 +198,21 @@ public class StarTreeValues implements CompositeIndexValues {
                 );
                 metricValuesIteratorMap.put(metricFullName, () -> {
                     try {
-                        SortedNumericDocValues metricSortedNumericDocValues = null;
+                        FieldInfo metricFieldInfo = null;
                         if (readState != null) {
-                            FieldInfo metricFieldInfo = readState.fieldInfos.fieldInfo(metricFullName);
+                            metricFieldInfo = readState.fieldInfos.fieldInfo(metricFullName);
+                        }
+                        // sketch metrics hold their serialized sketches in binary doc values
+                        if (metricStat.getDocValuesType() == DocValuesType.BINARY) {
+                            BinaryDocValues metricBinaryDocValues = null;
                             if (metricFieldInfo != null) {
-                                metricSortedNumericDocValues = compositeDocValuesProducer.getSortedNumeric(metricFieldInfo);
+                                metricBinaryDocValues = compositeDocValuesProducer.getBinary(metricFieldInfo);
                             }
+                            return new BinaryStarTreeValuesIterator(getBinaryDocValues(metricBinaryDocValues));
+                        }
+                        SortedNumericDocValues metricSortedNumericDocValues = null;
+                        if (metricFieldInfo != null) {
+                            metricSortedNumericDocValues = compositeDocValuesProducer.getSortedNumeric(metricFieldInfo);
                         }
                         return new SortedNumericStarTreeValuesIterator(getSortedNumericDocValues(metricSortedNumericDocValues));
                     } catch (IOException e) {
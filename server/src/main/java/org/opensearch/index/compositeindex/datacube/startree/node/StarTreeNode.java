@@ -109,6 +109,17 @@ public interface StarTreeNode {
      */
     StarTreeNode getChildForDimensionValue(Long dimensionValue) throws IOException;
 
+    /**
+     * Collects the child nodes whose dimension value lies in the given range, in increasing order of dimension value.
+     * Star and null child nodes are never collected.
+     *
+     * @param low the lowest dimension value to collect, inclusive
+     * @param high the highest dimension value to collect, inclusive
+     * @param collector the collector of the matching child nodes
+     * @throws IOException if an I/O error occurs while retrieving the child nodes
+     */
+    void collectChildrenInRange(long low, long high, StarTreeNodeCollector collector) throws IOException;
+
     /**
      * Returns the child star node for a node in the star-tree.
      *
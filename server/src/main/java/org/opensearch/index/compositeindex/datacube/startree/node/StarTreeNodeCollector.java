@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.node;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+
+import java.io.IOException;
+
+/**
+ * Collects the star-tree nodes visited while scanning the children of a node
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+@FunctionalInterface
+public interface StarTreeNodeCollector {
+
+    /**
+     * Collects the given star-tree node
+     *
+     * @param node the star-tree node
+     * @throws IOException if an I/O error occurs while reading the node
+     */
+    void collectStarTreeNode(StarTreeNode node) throws IOException;
+}
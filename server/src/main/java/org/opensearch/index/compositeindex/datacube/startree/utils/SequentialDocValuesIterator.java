@@ -9,8 +9,12 @@
 
 package org.opensearch.index.compositeindex.datacube.startree.utils;
 
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.LongValues;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
 
 import java.io.IOException;
@@ -32,13 +36,23 @@ public class SequentialDocValuesIterator {
      */
     private final StarTreeValuesIterator starTreeValuesIterator;
 
+    /**
+     * Maps the ordinals of a sorted set iterator to the ordinals of the star-tree being built, null if they are the same.
+     */
+    private final LongValues globalOrdinals;
+
     /**
      * The id of the latest record/entry.
      */
     private int entryId = -1;
 
     public SequentialDocValuesIterator(StarTreeValuesIterator starTreeValuesIterator) {
+        this(starTreeValuesIterator, null);
+    }
+
+    public SequentialDocValuesIterator(StarTreeValuesIterator starTreeValuesIterator, LongValues globalOrdinals) {
         this.starTreeValuesIterator = starTreeValuesIterator;
+        this.globalOrdinals = globalOrdinals;
     }
 
     /**
@@ -68,21 +82,46 @@ public class SequentialDocValuesIterator {
         return entryId;
     }
 
+    /**
+     * Returns the value of the entry, which is the lowest ordinal of the entry for sorted set iterators
+     */
     public Long value(int currentEntryId) throws IOException {
-        if (starTreeValuesIterator instanceof SortedNumericStarTreeValuesIterator) {
-            if (currentEntryId < 0) {
-                throw new IllegalStateException("invalid entry id to fetch the next value");
-            }
-            if (currentEntryId == StarTreeValuesIterator.NO_MORE_ENTRIES) {
-                throw new IllegalStateException("StarTreeValuesIterator is already exhausted");
-            }
-            if (entryId == StarTreeValuesIterator.NO_MORE_ENTRIES || entryId != currentEntryId) {
-                return null;
-            }
-            return ((SortedNumericStarTreeValuesIterator) starTreeValuesIterator).nextValue();
+        if (starTreeValuesIterator instanceof SortedNumericStarTreeValuesIterator == false
+            && starTreeValuesIterator instanceof SortedSetStarTreeValuesIterator == false) {
+            throw new IllegalStateException("Unsupported Iterator requested for SequentialDocValuesIterator");
+        }
+        if (currentEntryId < 0) {
+            throw new IllegalStateException("invalid entry id to fetch the next value");
+        }
+        if (currentEntryId == StarTreeValuesIterator.NO_MORE_ENTRIES) {
+            throw new IllegalStateException("StarTreeValuesIterator is already exhausted");
+        }
+        if (entryId == StarTreeValuesIterator.NO_MORE_ENTRIES || entryId != currentEntryId) {
+            return null;
+        }
+        if (starTreeValuesIterator instanceof SortedSetStarTreeValuesIterator) {
+            long ord = ((SortedSetStarTreeValuesIterator) starTreeValuesIterator).nextOrd();
+            return globalOrdinals == null ? ord : globalOrdinals.get(ord);
+        }
+        return ((SortedNumericStarTreeValuesIterator) starTreeValuesIterator).nextValue();
+    }
 
-        } else {
+    /**
+     * Returns the binary value of the entry, used by the metrics whose values are serialized sketches
+     */
+    public BytesRef binaryValue(int currentEntryId) throws IOException {
+        if (starTreeValuesIterator instanceof BinaryStarTreeValuesIterator == false) {
             throw new IllegalStateException("Unsupported Iterator requested for SequentialDocValuesIterator");
         }
+        if (currentEntryId < 0) {
+            throw new IllegalStateException("invalid entry id to fetch the next value");
+        }
+        if (currentEntryId == StarTreeValuesIterator.NO_MORE_ENTRIES) {
+            throw new IllegalStateException("StarTreeValuesIterator is already exhausted");
+        }
+        if (entryId == StarTreeValuesIterator.NO_MORE_ENTRIES || entryId != currentEntryId) {
+            return null;
+        }
+        return ((BinaryStarTreeValuesIterator) starTreeValuesIterator).binaryValue();
     }
 }
@@ -8,39 +8,70 @@
 
 package org.opensearch.index.compositeindex.datacube.startree.utils;
 
-import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.OpenSearchParseException;
+import org.opensearch.common.Rounding;
 import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.time.DateMathParser;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 import org.opensearch.index.codec.composite.CompositeIndexReader;
+import org.opensearch.index.compositeindex.datacube.DateDimension;
 import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.KeywordDimension;
 import org.opensearch.index.compositeindex.datacube.Metric;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.NumericDimension;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitAdapter;
+import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitRounding;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.mapper.CompositeDataCubeFieldType;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.DocCountFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregatorFactory;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregatorFactory;
 import org.opensearch.search.aggregations.metrics.MetricAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.DimensionFilter;
+import org.opensearch.search.startree.StarTreeBucketCollector;
 import org.opensearch.search.startree.StarTreeFilter;
+import org.opensearch.search.startree.StarTreePreComputeCollector;
 import org.opensearch.search.startree.StarTreeQueryContext;
 
 import java.io.IOException;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -73,70 +104,273 @@ public class StarTreeQueryHelper {
             compositeMappedFieldType.getCompositeIndexType()
         );
 
+        Set<String> groupByDimensions = new HashSet<>();
         for (AggregatorFactory aggregatorFactory : context.aggregations().factories().getFactories()) {
             MetricStat metricStat = validateStarTreeMetricSupport(compositeMappedFieldType, aggregatorFactory);
-            if (metricStat == null) {
+            if (metricStat != null) {
+                continue;
+            }
+            String groupByDimension = validateStarTreeBucketSupport(context, compositeMappedFieldType, aggregatorFactory);
+            if (groupByDimension == null) {
                 return null;
             }
+            groupByDimensions.add(groupByDimension);
         }
 
         // need to cache star tree values only for multiple aggregations
         boolean cacheStarTreeValues = context.aggregations().factories().getFactories().length > 1;
         int cacheSize = cacheStarTreeValues ? context.indexShard().segments(false).size() : -1;
 
-        return StarTreeQueryHelper.tryCreateStarTreeQueryContext(starTree, compositeMappedFieldType, source.query(), cacheSize);
+        return StarTreeQueryHelper.tryCreateStarTreeQueryContext(
+            context,
+            starTree,
+            compositeMappedFieldType,
+            source.query(),
+            groupByDimensions,
+            cacheSize
+        );
     }
 
     /**
      * Uses query builder and composite index info to form star-tree query context
      */
     private static StarTreeQueryContext tryCreateStarTreeQueryContext(
+        SearchContext context,
         CompositeIndexFieldInfo compositeIndexFieldInfo,
         CompositeDataCubeFieldType compositeFieldType,
         QueryBuilder queryBuilder,
+        Set<String> groupByDimensions,
         int cacheStarTreeValuesSize
     ) {
-        Map<String, Long> queryMap;
+        Map<String, DimensionFilter> queryMap;
         if (queryBuilder == null || queryBuilder instanceof MatchAllQueryBuilder) {
             queryMap = null;
-        } else if (queryBuilder instanceof TermQueryBuilder) {
-            // TODO: Add support for keyword fields
-            if (compositeFieldType.getDimensions().stream().anyMatch(d -> d.getDocValuesType() != DocValuesType.SORTED_NUMERIC)) {
-                // return null for non-numeric fields
+        } else {
+            queryMap = new HashMap<>();
+            if (addStarTreePredicates(context, compositeFieldType, queryBuilder, queryMap) == false) {
                 return null;
             }
+        }
+        return new StarTreeQueryContext(compositeIndexFieldInfo, queryMap, groupByDimensions, cacheStarTreeValuesSize);
+    }
 
-            List<String> supportedDimensions = compositeFieldType.getDimensions()
-                .stream()
-                .map(Dimension::getField)
-                .collect(Collectors.toList());
-            queryMap = getStarTreePredicates(queryBuilder, supportedDimensions);
-            if (queryMap == null) {
-                return null;
+    /**
+     * Parse query body to star-tree predicates, predicates of the clauses of a conjunction on the same dimension are intersected
+     * @param queryBuilder to match star-tree supported query shape
+     * @param predicates the predicates to add to, keyed by star-tree dimension name
+     * @return false if the query shape cannot be resolved with the star-tree
+     */
+    private static boolean addStarTreePredicates(
+        SearchContext context,
+        CompositeDataCubeFieldType compositeFieldType,
+        QueryBuilder queryBuilder,
+        Map<String, DimensionFilter> predicates
+    ) {
+        if (queryBuilder instanceof BoolQueryBuilder) {
+            BoolQueryBuilder boolQuery = (BoolQueryBuilder) queryBuilder;
+            // only conjunctions can be resolved by intersecting the matching dimension values
+            if (boolQuery.should().isEmpty() == false || boolQuery.mustNot().isEmpty() == false) {
+                return false;
+            }
+            for (QueryBuilder clause : boolQuery.must()) {
+                if (addStarTreePredicates(context, compositeFieldType, clause, predicates) == false) {
+                    return false;
+                }
+            }
+            for (QueryBuilder clause : boolQuery.filter()) {
+                if (addStarTreePredicates(context, compositeFieldType, clause, predicates) == false) {
+                    return false;
+                }
             }
+            return true;
+        }
+
+        String field;
+        if (queryBuilder instanceof TermQueryBuilder) {
+            field = ((TermQueryBuilder) queryBuilder).fieldName();
+        } else if (queryBuilder instanceof TermsQueryBuilder) {
+            field = ((TermsQueryBuilder) queryBuilder).fieldName();
+        } else if (queryBuilder instanceof RangeQueryBuilder) {
+            field = ((RangeQueryBuilder) queryBuilder).fieldName();
         } else {
-            return null;
+            return false;
+        }
+        Dimension dimension = null;
+        for (Dimension candidate : compositeFieldType.getDimensions()) {
+            if (candidate.getField().equals(field)) {
+                dimension = candidate;
+                break;
+            }
+        }
+        MappedFieldType fieldType = context.mapperService().fieldType(field);
+        if (dimension == null || fieldType == null) {
+            return false;
+        }
+
+        // values which cannot be parsed are left to the regular query execution to report
+        try {
+            if (dimension instanceof NumericDimension && isIntegralNumberField(fieldType)) {
+                DimensionFilter dimensionFilter = getNumericDimensionFilter(queryBuilder);
+                if (dimensionFilter == null) {
+                    return false;
+                }
+                predicates.merge(field, dimensionFilter, DimensionFilter::intersect);
+                return true;
+            }
+            if (dimension instanceof KeywordDimension && fieldType instanceof KeywordFieldMapper.KeywordFieldType) {
+                DimensionFilter dimensionFilter = getKeywordDimensionFilter((KeywordFieldMapper.KeywordFieldType) fieldType, queryBuilder);
+                if (dimensionFilter == null) {
+                    return false;
+                }
+                predicates.merge(field, dimensionFilter, DimensionFilter::intersect);
+                return true;
+            }
+            if (dimension instanceof DateDimension
+                && queryBuilder instanceof RangeQueryBuilder
+                && fieldType instanceof DateFieldMapper.DateFieldType
+                && ((DateFieldMapper.DateFieldType) fieldType).resolution() == DateFieldMapper.Resolution.MILLISECONDS) {
+                return addDateRangePredicate(
+                    context,
+                    (DateDimension) dimension,
+                    (DateFieldMapper.DateFieldType) fieldType,
+                    (RangeQueryBuilder) queryBuilder,
+                    predicates
+                );
+            }
+        } catch (IllegalArgumentException | OpenSearchParseException e) {
+            return false;
         }
-        return new StarTreeQueryContext(compositeIndexFieldInfo, queryMap, cacheStarTreeValuesSize);
+        return false;
     }
 
     /**
-     * Parse query body to star-tree predicates
-     * @param queryBuilder to match star-tree supported query shape
-     * @return predicates to match
+     * Star-tree values of integral number fields are the indexed values themselves, values of other number
+     * fields use sortable encodings which are not supported yet
      */
-    private static Map<String, Long> getStarTreePredicates(QueryBuilder queryBuilder, List<String> supportedDimensions) {
-        TermQueryBuilder tq = (TermQueryBuilder) queryBuilder;
-        String field = tq.fieldName();
-        if (!supportedDimensions.contains(field)) {
+    private static boolean isIntegralNumberField(MappedFieldType fieldType) {
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType == false) {
+            return false;
+        }
+        switch (((NumberFieldMapper.NumberFieldType) fieldType).numberType()) {
+            case BYTE:
+            case SHORT:
+            case INTEGER:
+            case LONG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static DimensionFilter getNumericDimensionFilter(QueryBuilder queryBuilder) {
+        if (queryBuilder instanceof TermQueryBuilder) {
+            return DimensionFilter.exactMatch(NumberFieldMapper.NumberType.objectToLong(((TermQueryBuilder) queryBuilder).value(), false));
+        }
+        if (queryBuilder instanceof TermsQueryBuilder) {
+            TermsQueryBuilder termsQuery = (TermsQueryBuilder) queryBuilder;
+            if (termsQuery.termsLookup() != null
+                || termsQuery.values() == null
+                || termsQuery.valueType() != TermsQueryBuilder.ValueType.DEFAULT) {
+                return null;
+            }
+            List<Long> values = new ArrayList<>(termsQuery.values().size());
+            for (Object value : termsQuery.values()) {
+                values.add(NumberFieldMapper.NumberType.objectToLong(value, false));
+            }
+            return DimensionFilter.exactMatch(values);
+        }
+        RangeQueryBuilder rangeQuery = (RangeQueryBuilder) queryBuilder;
+        long low = Long.MIN_VALUE;
+        long high = Long.MAX_VALUE;
+        if (rangeQuery.from() != null) {
+            low = NumberFieldMapper.NumberType.objectToLong(rangeQuery.from(), false);
+            if (rangeQuery.includeLower() == false) {
+                if (low == Long.MAX_VALUE) {
+                    return DimensionFilter.matchNone();
+                }
+                ++low;
+            }
+        }
+        if (rangeQuery.to() != null) {
+            high = NumberFieldMapper.NumberType.objectToLong(rangeQuery.to(), false);
+            if (rangeQuery.includeUpper() == false) {
+                if (high == Long.MIN_VALUE) {
+                    return DimensionFilter.matchNone();
+                }
+                --high;
+            }
+        }
+        return DimensionFilter.range(low, high);
+    }
+
+    /**
+     * Keyword dimension values are segment ordinals, so term and terms queries match the normalized terms, which are
+     * resolved to ordinals per segment. Range queries and case-insensitive term queries are not supported.
+     */
+    private static DimensionFilter getKeywordDimensionFilter(KeywordFieldMapper.KeywordFieldType fieldType, QueryBuilder queryBuilder) {
+        List<BytesRef> terms = new ArrayList<>();
+        if (queryBuilder instanceof TermQueryBuilder) {
+            TermQueryBuilder termQuery = (TermQueryBuilder) queryBuilder;
+            if (termQuery.caseInsensitive() || termQuery.value() == null) {
+                return null;
+            }
+            terms.add(fieldType.normalizedTerm(termQuery.value()));
+        } else if (queryBuilder instanceof TermsQueryBuilder) {
+            TermsQueryBuilder termsQuery = (TermsQueryBuilder) queryBuilder;
+            if (termsQuery.termsLookup() != null
+                || termsQuery.values() == null
+                || termsQuery.valueType() != TermsQueryBuilder.ValueType.DEFAULT) {
+                return null;
+            }
+            for (Object value : termsQuery.values()) {
+                if (value == null) {
+                    return null;
+                }
+                terms.add(fieldType.normalizedTerm(value));
+            }
+        } else {
             return null;
         }
-        long inputQueryVal = Long.parseLong(tq.value().toString());
+        return DimensionFilter.termMatch(terms);
+    }
 
-        // Create a map with the field and the value
-        Map<String, Long> predicateMap = new HashMap<>();
-        predicateMap.put(field, inputQueryVal);
-        return predicateMap;
+    /**
+     * Resolves a date range to the coarsest date sub-dimension whose buckets are aligned with the bounds of the range
+     */
+    private static boolean addDateRangePredicate(
+        SearchContext context,
+        DateDimension dimension,
+        DateFieldMapper.DateFieldType fieldType,
+        RangeQueryBuilder rangeQuery,
+        Map<String, DimensionFilter> predicates
+    ) {
+        DateMathParser parser = rangeQuery.format() == null ? null : DateFormatter.forPattern(rangeQuery.format()).toDateMathParser();
+        ZoneId timeZone = rangeQuery.timeZone() == null ? null : ZoneId.of(rangeQuery.timeZone());
+        LongSupplier nowSupplier = () -> context.getQueryShardContext().nowInMillis();
+        long low = Long.MIN_VALUE;
+        long high = Long.MAX_VALUE;
+        if (rangeQuery.from() != null) {
+            low = fieldType.parseToLong(rangeQuery.from(), rangeQuery.includeLower() == false, timeZone, parser, nowSupplier);
+            if (rangeQuery.includeLower() == false) {
+                ++low;
+            }
+        }
+        if (rangeQuery.to() != null) {
+            high = fieldType.parseToLong(rangeQuery.to(), rangeQuery.includeUpper(), timeZone, parser, nowSupplier);
+            if (rangeQuery.includeUpper() == false) {
+                --high;
+            }
+        }
+        if (low > high) {
+            predicates.merge(dimension.getSubDimensionNames().get(0), DimensionFilter.matchNone(), DimensionFilter::intersect);
+            return true;
+        }
+        DateTimeUnitRounding interval = dimension.findCoarsestAlignedInterval(low, high);
+        if (interval == null) {
+            return false;
+        }
+        predicates.merge(dimension.getField() + "_" + interval.shortName(), DimensionFilter.range(low, high), DimensionFilter::intersect);
+        return true;
     }
 
     private static MetricStat validateStarTreeMetricSupport(
@@ -159,6 +393,78 @@ public class StarTreeQueryHelper {
         return null;
     }
 
+    /**
+     * Checks if a bucket aggregation and all of its sub-aggregations can be pre-computed from the star-tree
+     * @return the star-tree dimension the aggregation groups by, or null if the aggregation is not supported
+     */
+    private static String validateStarTreeBucketSupport(
+        SearchContext context,
+        CompositeDataCubeFieldType compositeFieldType,
+        AggregatorFactory aggregatorFactory
+    ) {
+        for (AggregatorFactory subFactory : aggregatorFactory.getSubFactories().getFactories()) {
+            if (validateStarTreeMetricSupport(compositeFieldType, subFactory) == null) {
+                return null;
+            }
+        }
+        if (aggregatorFactory instanceof ValuesSourceAggregatorFactory == false) {
+            return null;
+        }
+        // buckets are keyed by the indexed dimension values, which scripts or missing values would change
+        ValuesSourceConfig config = ((ValuesSourceAggregatorFactory) aggregatorFactory).getConfig();
+        if (config.fieldContext() == null || config.script() != null || config.missing() != null) {
+            return null;
+        }
+        String field = config.fieldContext().field();
+        MappedFieldType fieldType = context.mapperService().fieldType(field);
+        if (aggregatorFactory instanceof DateHistogramAggregatorFactory) {
+            Rounding rounding = ((DateHistogramAggregatorFactory) aggregatorFactory).getRounding();
+            return getDateDimensionForRounding(compositeFieldType, fieldType, rounding);
+        }
+        if (aggregatorFactory instanceof TermsAggregatorFactory) {
+            // star-tree dimension values of integral fields are the terms themselves
+            if (fieldType instanceof NumberFieldMapper.NumberFieldType
+                && ((NumberFieldMapper.NumberFieldType) fieldType).numericType().isFloatingPoint() == false
+                && compositeFieldType.getDimensions().stream().anyMatch(d -> d instanceof NumericDimension && d.getField().equals(field))) {
+                return field;
+            }
+            // star-tree dimension values of keyword fields are mapped to the global ordinals the buckets are keyed by
+            if (fieldType instanceof KeywordFieldMapper.KeywordFieldType
+                && ((TermsAggregatorFactory) aggregatorFactory).collectsByGlobalOrdinals()
+                && compositeFieldType.getDimensions().stream().anyMatch(d -> d instanceof KeywordDimension && d.getField().equals(field))) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the date sub-dimension of the star-tree whose values can be rounded to the buckets of the given rounding
+     * @return the name of the sub-dimension, or null if the rounding cannot be served from the star-tree
+     */
+    public static String getDateDimensionForRounding(
+        CompositeDataCubeFieldType compositeFieldType,
+        MappedFieldType fieldType,
+        Rounding rounding
+    ) {
+        // date dimension values are stored in milliseconds
+        if (fieldType instanceof DateFieldMapper.DateFieldType == false
+            || ((DateFieldMapper.DateFieldType) fieldType).resolution() != DateFieldMapper.Resolution.MILLISECONDS) {
+            return null;
+        }
+        Optional<Rounding.DateTimeUnit> unit = Rounding.getUTCCalendarUnit(rounding);
+        if (unit.isEmpty()) {
+            return null;
+        }
+        for (Dimension dimension : compositeFieldType.getDimensions()) {
+            if (dimension instanceof DateDimension && dimension.getField().equals(fieldType.name())) {
+                DateTimeUnitRounding interval = ((DateDimension) dimension).findClosestValidInterval(new DateTimeUnitAdapter(unit.get()));
+                return interval == null ? null : dimension.getField() + "_" + interval.shortName();
+            }
+        }
+        return null;
+    }
+
     public static CompositeIndexFieldInfo getSupportedStarTree(SearchContext context) {
         StarTreeQueryContext starTreeQueryContext = context.getStarTreeQueryContext();
         return (starTreeQueryContext != null) ? starTreeQueryContext.getStarTree() : null;
@@ -231,6 +537,89 @@ public class StarTreeQueryHelper {
         };
     }
 
+    /**
+     * Returns the star-tree values iterator of the given metric stat for a field
+     */
+    public static SortedNumericStarTreeValuesIterator getMetricValuesIterator(
+        StarTreeValues starTreeValues,
+        String fieldName,
+        MetricStat metricStat
+    ) {
+        String metricName = StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues(
+            starTreeValues.getStarTreeField().getName(),
+            fieldName,
+            metricStat.getTypeName()
+        );
+        return (SortedNumericStarTreeValuesIterator) starTreeValues.getMetricValuesIterator(metricName);
+    }
+
+    /**
+     * Returns the star-tree values iterator of the serialized sketches of the given sketch metric stat for a field
+     */
+    public static BinaryStarTreeValuesIterator getSketchValuesIterator(
+        StarTreeValues starTreeValues,
+        String fieldName,
+        MetricStat metricStat
+    ) {
+        assert metricStat.isSketchMetric() : "metric stat [" + metricStat.getTypeName() + "] is not a sketch";
+        String metricName = StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues(
+            starTreeValues.getStarTreeField().getName(),
+            fieldName,
+            metricStat.getTypeName()
+        );
+        return (BinaryStarTreeValuesIterator) starTreeValues.getMetricValuesIterator(metricName);
+    }
+
+    /**
+     * Returns the star-tree values iterator of the number of documents aggregated into each star-tree entry
+     */
+    public static SortedNumericStarTreeValuesIterator getDocCountsIterator(StarTreeValues starTreeValues) {
+        return getMetricValuesIterator(starTreeValues, DocCountFieldMapper.NAME, MetricStat.DOC_COUNT);
+    }
+
+    /**
+     * Feeds all star-tree entries matching the query of the segment to the collector of a top-level bucket aggregation
+     */
+    public static void preComputeBucketsWithStarTree(StarTreeBucketCollector starTreeBucketCollector) throws IOException {
+        FixedBitSet matchingDocsBitSet = starTreeBucketCollector.getMatchingDocsBitSet();
+        int numBits = matchingDocsBitSet.length();
+        if (numBits > 0) {
+            for (int bit = matchingDocsBitSet.nextSetBit(0); bit != DocIdSetIterator.NO_MORE_DOCS; bit = (bit + 1 < numBits)
+                ? matchingDocsBitSet.nextSetBit(bit + 1)
+                : DocIdSetIterator.NO_MORE_DOCS) {
+                starTreeBucketCollector.collectStarTreeEntry(bit, 0);
+            }
+        }
+    }
+
+    /**
+     * Feeds all star-tree entries matching the query of the segment to the star-tree collector of a top-level metric
+     * aggregation, which collects them into bucket 0
+     */
+    public static void preComputeWithStarTree(
+        SearchContext context,
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreePreComputeCollector preComputeCollector
+    ) throws IOException {
+        StarTreeValues starTreeValues = getStarTreeValues(ctx, starTree);
+        assert starTreeValues != null;
+        FixedBitSet matchingDocsBitSet = getStarTreeFilteredValues(context, ctx, starTreeValues);
+        StarTreeBucketCollector rootCollector = new StarTreeBucketCollector(starTreeValues, matchingDocsBitSet) {
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long bucket) throws IOException {
+                for (StarTreeBucketCollector subCollector : subCollectors) {
+                    subCollector.collectStarTreeEntry(starTreeEntry, bucket);
+                }
+            }
+        };
+        StarTreeBucketCollector collector = preComputeCollector.getStarTreeBucketCollector(ctx, starTree, rootCollector);
+        if (collector != null) {
+            rootCollector.getSubCollectors().add(collector);
+            preComputeBucketsWithStarTree(rootCollector);
+        }
+    }
+
     /**
      * Get the filtered values for the star-tree query
      * Cache the results in case of multiple aggregations (if cache is initialized)
@@ -240,7 +629,11 @@ public class StarTreeQueryHelper {
         throws IOException {
         FixedBitSet result = context.getStarTreeQueryContext().getStarTreeValues(ctx);
         if (result == null) {
-            result = StarTreeFilter.getStarTreeResult(starTreeValues, context.getStarTreeQueryContext().getQueryMap());
+            result = StarTreeFilter.getStarTreeResult(
+                starTreeValues,
+                context.getStarTreeQueryContext().getQueryMap(),
+                context.getStarTreeQueryContext().getGroupByDimensions()
+            );
             context.getStarTreeQueryContext().setStarTreeValues(ctx, result);
         }
         return result;
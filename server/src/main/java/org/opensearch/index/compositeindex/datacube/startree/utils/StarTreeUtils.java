@@ -16,6 +16,7 @@ import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricA
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Util class for building star tree
@@ -68,18 +69,67 @@ public class StarTreeUtils {
      * @return field infos
      */
     public static FieldInfo[] getFieldInfoList(List<String> fields) {
+        return getFieldInfoList(fields, Collections.emptyMap());
+    }
+
+    /**
+     * Get field infos from field names, fields missing from the doc values type map are sorted numeric fields
+     *
+     * @param fields field names
+     * @param fieldToDocValuesType doc values type of the fields which are not sorted numeric
+     * @return field infos
+     */
+    public static FieldInfo[] getFieldInfoList(List<String> fields, Map<String, DocValuesType> fieldToDocValuesType) {
         FieldInfo[] fieldInfoList = new FieldInfo[fields.size()];
 
         // field number is not really used. We depend on unique field names to get the desired iterator
         int fieldNumber = 0;
 
         for (String fieldName : fields) {
-            fieldInfoList[fieldNumber] = getFieldInfo(fieldName, DocValuesType.SORTED_NUMERIC, fieldNumber);
+            fieldInfoList[fieldNumber] = getFieldInfo(
+                fieldName,
+                fieldToDocValuesType.getOrDefault(fieldName, DocValuesType.SORTED_NUMERIC),
+                fieldNumber
+            );
             fieldNumber++;
         }
         return fieldInfoList;
     }
 
+    /**
+     * Encodes the doc values type of a star-tree dimension to be stored in the star-tree metadata
+     *
+     * @param docValuesType doc values type of the dimension
+     * @return encoded doc values type
+     */
+    public static byte encodeDimensionDocValuesType(DocValuesType docValuesType) {
+        switch (docValuesType) {
+            case SORTED_NUMERIC:
+                return 0;
+            case SORTED_SET:
+                return 1;
+            default:
+                throw new IllegalStateException("unsupported doc values type [" + docValuesType + "] for star-tree dimension");
+        }
+    }
+
+    /**
+     * Decodes the doc values type of a star-tree dimension stored in the star-tree metadata
+     *
+     * @param encodedDocValuesType encoded doc values type
+     * @return doc values type of the dimension
+     */
+    public static DocValuesType decodeDimensionDocValuesType(byte encodedDocValuesType) {
+        switch (encodedDocValuesType) {
+            case 0:
+                return DocValuesType.SORTED_NUMERIC;
+            case 1:
+                return DocValuesType.SORTED_SET;
+            default:
+                throw new IllegalStateException("unknown doc values type [" + encodedDocValuesType + "] for star-tree dimension");
+        }
+    }
+
     /**
      * Get new field info instance for a given field name and field number
      * @param fieldName name of the field
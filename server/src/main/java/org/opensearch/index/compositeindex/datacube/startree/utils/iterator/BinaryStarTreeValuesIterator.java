@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.utils.iterator;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.annotation.ExperimentalApi;
+
+import java.io.IOException;
+
+/**
+ * Wrapper iterator class for StarTree index to traverse through BinaryDocValues
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class BinaryStarTreeValuesIterator extends StarTreeValuesIterator {
+
+    public BinaryStarTreeValuesIterator(DocIdSetIterator docIdSetIterator) {
+        super(docIdSetIterator);
+    }
+
+    public BytesRef binaryValue() throws IOException {
+        return ((BinaryDocValues) docIdSetIterator).binaryValue();
+    }
+
+    public boolean advanceExact(int target) throws IOException {
+        return ((BinaryDocValues) docIdSetIterator).advanceExact(target);
+    }
+}
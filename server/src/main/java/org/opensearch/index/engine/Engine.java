@@ -58,6 +58,7 @@ import org.apache.lucene.search.similarities.Similarity;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.IOContext;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.common.Nullable;
@@ -101,7 +102,9 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -449,6 +452,23 @@ public abstract class Engine implements LifecycleAware, Closeable {
      */
     public abstract IndexResult index(Index index) throws IOException;
 
+    /**
+     * Perform document index operations on the engine, in order and with the same results as calling {@link #index(Index)} for
+     * each of them. Engines may write the documents of several operations to the index at once, yet operations still fail
+     * individually.
+     * @param operations operations to perform
+     * @return the {@link IndexResult}s of the operations, in the same order
+     *
+     * Note: engine level failures (i.e. persistent engine failures) are thrown
+     */
+    public List<IndexResult> indexAll(List<Index> operations) throws IOException {
+        final List<IndexResult> results = new ArrayList<>(operations.size());
+        for (Index operation : operations) {
+            results.add(index(operation));
+        }
+        return results;
+    }
+
     /**
      * Perform document delete operation on the engine
      * @param delete operation to perform
@@ -459,6 +479,14 @@ public abstract class Engine implements LifecycleAware, Closeable {
      */
     public abstract DeleteResult delete(Delete delete) throws IOException;
 
+    /**
+     * Resolves the current versions of the documents with the given uids in a single pass over the index, ahead of a batch of
+     * operations on these documents. This is only an optimization, engines that don't need to resolve versions ignore it.
+     *
+     * @param uids the uids of the documents the upcoming operations apply to
+     */
+    public void preloadDocVersions(Collection<BytesRef> uids) throws IOException {}
+
     public abstract NoOpResult noOp(NoOp noOp) throws IOException;
 
     /**
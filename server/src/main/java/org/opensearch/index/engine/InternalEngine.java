@@ -73,6 +73,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.SuppressForbidden;
 import org.opensearch.common.concurrent.GatedCloseable;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.LoggerInfoStream;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
@@ -83,6 +84,7 @@ import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndSeqNo;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.KeyedLock;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 import org.opensearch.common.util.io.IOUtils;
@@ -117,7 +119,10 @@ import org.opensearch.threadpool.ThreadPool;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -131,6 +136,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.UnaryOperator;
@@ -164,6 +170,17 @@ public class InternalEngine extends Engine {
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
     private final LiveVersionMap versionMap = new LiveVersionMap();
 
+    // orders the appends to append-only indices, which take neither uid locks nor a place in the version map, against the retries
+    // of appends: appends hold the read lock and retries hold the write lock, see #indexBlock
+    private final ReentrantReadWriteLock appendLock = new ReentrantReadWriteLock();
+    private final ReleasableLock appendReadLock = new ReleasableLock(appendLock.readLock());
+    private final ReleasableLock appendWriteLock = new ReleasableLock(appendLock.writeLock());
+
+    // versions of documents resolved ahead of their operations by preloadDocVersions, cleared on every refresh
+    private final Map<BytesRef, PreloadedVersion> preloadedVersions = ConcurrentCollections.newConcurrentMap();
+    // bounds the preloaded versions that are never used, e.g. by replica operations that don't need to resolve versions
+    static final int MAX_PRELOADED_VERSIONS = 10_000;
+
     private volatile SegmentInfos lastCommittedSegmentInfos;
 
     private final IndexThrottle throttle;
@@ -325,6 +342,17 @@ public class InternalEngine extends Engine {
             this.internalReaderManager = internalReaderManager;
             this.externalReaderManager = externalReaderManager;
             internalReaderManager.addListener(versionMap);
+            internalReaderManager.addListener(new ReferenceManager.RefreshListener() {
+                @Override
+                public void beforeRefresh() {}
+
+                @Override
+                public void afterRefresh(boolean didRefresh) {
+                    if (didRefresh) {
+                        preloadedVersions.clear();
+                    }
+                }
+            });
             for (ReferenceManager.RefreshListener listener : engineConfig.getExternalRefreshListener()) {
                 this.externalReaderManager.addListener(listener);
             }
@@ -717,12 +745,19 @@ public class InternalEngine extends Engine {
             // load from index
             assert incrementIndexVersionLookup();
             try (Searcher searcher = acquireSearcher("load_seq_no", SearcherScope.INTERNAL)) {
-                final DocIdAndSeqNo docAndSeqNo = VersionsAndSeqNoResolver.loadDocIdAndSeqNo(searcher.getIndexReader(), op.uid());
-                if (docAndSeqNo == null) {
+                final long luceneSeqNo;
+                final PreloadedVersion preloaded = takePreloadedVersion(op.uid().bytes(), searcher);
+                if (preloaded != null) {
+                    luceneSeqNo = preloaded.found() ? preloaded.seqNo : SequenceNumbers.UNASSIGNED_SEQ_NO;
+                } else {
+                    final DocIdAndSeqNo docAndSeqNo = VersionsAndSeqNoResolver.loadDocIdAndSeqNo(searcher.getIndexReader(), op.uid());
+                    luceneSeqNo = docAndSeqNo == null ? SequenceNumbers.UNASSIGNED_SEQ_NO : docAndSeqNo.seqNo;
+                }
+                if (luceneSeqNo == SequenceNumbers.UNASSIGNED_SEQ_NO) {
                     status = OpVsLuceneDocStatus.LUCENE_DOC_NOT_FOUND;
-                } else if (op.seqNo() > docAndSeqNo.seqNo) {
+                } else if (op.seqNo() > luceneSeqNo) {
                     status = OpVsLuceneDocStatus.OP_NEWER;
-                } else if (op.seqNo() == docAndSeqNo.seqNo) {
+                } else if (op.seqNo() == luceneSeqNo) {
                     assert localCheckpointTracker.hasProcessed(op.seqNo()) || segRepEnabled
                         : "local checkpoint tracker is not updated seq_no=" + op.seqNo() + " id=" + op.id();
                     status = OpVsLuceneDocStatus.OP_STALE_OR_EQUAL;
@@ -742,6 +777,15 @@ public class InternalEngine extends Engine {
             assert incrementIndexVersionLookup(); // used for asserting in tests
             final VersionsAndSeqNoResolver.DocIdAndVersion docIdAndVersion;
             try (Searcher searcher = acquireSearcher("load_version", SearcherScope.INTERNAL)) {
+                final PreloadedVersion preloaded = takePreloadedVersion(op.uid().bytes(), searcher);
+                if (preloaded != null) {
+                    if (preloaded.found()) {
+                        final long seqNo = loadSeqNo ? preloaded.seqNo : SequenceNumbers.UNASSIGNED_SEQ_NO;
+                        final long term = loadSeqNo ? preloaded.primaryTerm : SequenceNumbers.UNASSIGNED_PRIMARY_TERM;
+                        versionValue = new IndexVersionValue(null, preloaded.version, seqNo, term);
+                    }
+                    return versionValue;
+                }
                 docIdAndVersion = VersionsAndSeqNoResolver.loadDocIdAndVersion(searcher.getIndexReader(), op.uid(), loadSeqNo);
             }
             if (docIdAndVersion != null) {
@@ -770,6 +814,82 @@ public class InternalEngine extends Engine {
         return versionMap.getUnderLock(id);
     }
 
+    @Override
+    public void preloadDocVersions(Collection<BytesRef> uids) throws IOException {
+        if (uids.isEmpty()) {
+            return;
+        }
+        versionMap.expectOperations(uids.size());
+        if (versionMap.isUnsafe()) {
+            // resolving the versions of the operations refreshes first, which would discard the preloaded versions
+            return;
+        }
+        // the versions beyond the limit are resolved by their operations
+        final BytesRef[] ids = uids.stream().distinct().limit(MAX_PRELOADED_VERSIONS).sorted().toArray(BytesRef[]::new);
+        try (Searcher searcher = acquireSearcher("preload_versions", SearcherScope.INTERNAL)) {
+            final Object readerKey = readerKey(searcher);
+            if (readerKey == null) {
+                return;
+            }
+            final VersionsAndSeqNoResolver.DocIdAndVersion[] docIdsAndVersions = VersionsAndSeqNoResolver.loadDocIdsAndVersions(
+                searcher.getIndexReader(),
+                IdFieldMapper.NAME,
+                ids,
+                true
+            );
+            if (preloadedVersions.size() + ids.length > MAX_PRELOADED_VERSIONS) {
+                preloadedVersions.clear();
+            }
+            for (int i = 0; i < ids.length; i++) {
+                preloadedVersions.put(ids[i], new PreloadedVersion(readerKey, docIdsAndVersions[i]));
+            }
+        }
+    }
+
+    // for testing
+    int getPreloadedVersionCount() {
+        return preloadedVersions.size();
+    }
+
+    /**
+     * Removes and returns the preloaded version of the given uid if it was resolved from the reader of the given searcher. A
+     * preloaded version is only valid as long as the reader it was resolved from is current: any operation on the document since
+     * then is still in the version map, which is always checked first.
+     */
+    private PreloadedVersion takePreloadedVersion(BytesRef uid, Searcher searcher) {
+        final PreloadedVersion preloaded = preloadedVersions.remove(uid);
+        if (preloaded != null && preloaded.readerKey.equals(readerKey(searcher))) {
+            return preloaded;
+        }
+        return null;
+    }
+
+    private static Object readerKey(Searcher searcher) {
+        final IndexReader.CacheHelper cacheHelper = searcher.getIndexReader().getReaderCacheHelper();
+        return cacheHelper == null ? null : cacheHelper.getKey();
+    }
+
+    /**
+     * The version of a document resolved ahead of its operation from the reader with the given cache key
+     */
+    private static final class PreloadedVersion {
+        final Object readerKey;
+        final long version;
+        final long seqNo;
+        final long primaryTerm;
+
+        PreloadedVersion(Object readerKey, @Nullable VersionsAndSeqNoResolver.DocIdAndVersion docIdAndVersion) {
+            this.readerKey = readerKey;
+            this.version = docIdAndVersion == null ? Versions.NOT_FOUND : docIdAndVersion.version;
+            this.seqNo = docIdAndVersion == null ? SequenceNumbers.UNASSIGNED_SEQ_NO : docIdAndVersion.seqNo;
+            this.primaryTerm = docIdAndVersion == null ? SequenceNumbers.UNASSIGNED_PRIMARY_TERM : docIdAndVersion.primaryTerm;
+        }
+
+        boolean found() {
+            return version != Versions.NOT_FOUND;
+        }
+    }
+
     private boolean canOptimizeAddDocument(Index index) {
         if (index.getAutoGeneratedIdTimestamp() != IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP) {
             assert index.getAutoGeneratedIdTimestamp() >= 0 : "autoGeneratedIdTimestamp must be positive but was: "
@@ -844,12 +964,17 @@ public class InternalEngine extends Engine {
     @Override
     public IndexResult index(Index index) throws IOException {
         assert Objects.equals(index.uid().field(), IdFieldMapper.NAME) : index.uid().field();
+        if (canIndexInBlock(index) && engineConfig.getIndexSettings().isAppendOnly()) {
+            // appends to append-only indices don't take their uid lock, see #indexBlock
+            return indexBlock(Collections.singletonList(index)).get(0);
+        }
         final boolean doThrottle = index.origin().isRecovery() == false;
         try (ReleasableLock releasableLock = readLock.acquire()) {
             ensureOpen();
             assert assertIncomingSequenceNumber(index.origin(), index.seqNo());
             int reservedDocs = 0;
             try (
+                Releasable appendRetry = isAppendRetry(index) ? appendWriteLock.acquire() : () -> {};
                 Releasable ignored = versionMap.acquireLock(index.uid().bytes());
                 Releasable indexThrottle = doThrottle ? throttle.acquireThrottle() : () -> {}
             ) {
@@ -947,21 +1072,7 @@ public class InternalEngine extends Engine {
                     }
                     indexResult.setTranslogLocation(location);
                 }
-                if (plan.indexIntoLucene && indexResult.getResultType() == Result.Type.SUCCESS) {
-                    final Translog.Location translogLocation = trackTranslogLocation.get() ? indexResult.getTranslogLocation() : null;
-                    versionMap.maybePutIndexUnderLock(
-                        index.uid().bytes(),
-                        new IndexVersionValue(translogLocation, plan.versionForIndexing, index.seqNo(), index.primaryTerm())
-                    );
-                }
-                localCheckpointTracker.markSeqNoAsProcessed(indexResult.getSeqNo());
-                if (indexResult.getTranslogLocation() == null) {
-                    // the op is coming from the translog (and is hence persisted already) or it does not have a sequence number
-                    assert index.origin().isFromTranslog() || indexResult.getSeqNo() == SequenceNumbers.UNASSIGNED_SEQ_NO;
-                    localCheckpointTracker.markSeqNoAsPersisted(indexResult.getSeqNo());
-                }
-                indexResult.setTook(System.nanoTime() - index.startTime());
-                indexResult.freeze();
+                completeIndex(index, plan, indexResult, true);
                 return indexResult;
             } finally {
                 releaseInFlightDocs(reservedDocs);
@@ -980,6 +1091,228 @@ public class InternalEngine extends Engine {
         }
     }
 
+    /**
+     * Records the result of an index operation, once written to Lucene and the translog, in the version map and the local checkpoint
+     * tracker and freezes it. Must be called under the uid lock of the operation, unless it isn't put in the version map.
+     */
+    private void completeIndex(Index index, IndexingStrategy plan, IndexResult indexResult, boolean putInVersionMap) {
+        if (putInVersionMap && plan.indexIntoLucene && indexResult.getResultType() == Result.Type.SUCCESS) {
+            final Translog.Location translogLocation = trackTranslogLocation.get() ? indexResult.getTranslogLocation() : null;
+            final IndexVersionValue versionValue = new IndexVersionValue(
+                translogLocation,
+                plan.versionForIndexing,
+                index.seqNo(),
+                index.primaryTerm()
+            );
+            if (engineConfig.getIndexSettings().isAppendOnly()) {
+                versionMap.maybePutAppendedUnderLock(index.uid().bytes(), versionValue);
+            } else {
+                versionMap.maybePutIndexUnderLock(index.uid().bytes(), versionValue);
+            }
+        }
+        localCheckpointTracker.markSeqNoAsProcessed(indexResult.getSeqNo());
+        if (indexResult.getTranslogLocation() == null) {
+            // the op is coming from the translog (and is hence persisted already) or it does not have a sequence number
+            assert index.origin().isFromTranslog() || indexResult.getSeqNo() == SequenceNumbers.UNASSIGNED_SEQ_NO;
+            localCheckpointTracker.markSeqNoAsPersisted(indexResult.getSeqNo());
+        }
+        indexResult.setTook(System.nanoTime() - index.startTime());
+        indexResult.freeze();
+    }
+
+    /**
+     * Indexes operations that append documents with auto-generated ids on the primary in one go: the documents of the operations
+     * that don't need to look up a previous version are written to Lucene as one block and their operations are written to the
+     * translog together, which saves acquiring the locks of the index writer and the translog for every operation. If a document
+     * of the block fails, the operations are indexed one by one, so that only the failing operation fails. Other operations are
+     * indexed like {@link #index(Index)} does.
+     */
+    @Override
+    public List<IndexResult> indexAll(List<Index> operations) throws IOException {
+        if (operations.size() <= 1 || operations.stream().allMatch(this::canIndexInBlock) == false) {
+            return super.indexAll(operations);
+        }
+        return indexBlock(operations);
+    }
+
+    /**
+     * Indexes operations that append documents with auto-generated ids on the primary, see {@link #indexAll(List)}.
+     * <p>
+     * On append-only indices, the operations that can't have been indexed before neither take their uid lock nor put their document
+     * in the version map, which is marked as unsafe instead, unless the map is in safe access mode. Nothing but a realtime get looks
+     * up these documents, and it refreshes first when the map is unsafe. Such an operation holds the read side of the append lock
+     * while it checks that its document can't have been indexed before and adds it to Lucene, and the retries of appends hold the
+     * write side, so that a retry either finds the document in Lucene, or makes the operation look up the version of its document
+     * under its uid lock like the other operations.
+     */
+    private List<IndexResult> indexBlock(List<Index> operations) throws IOException {
+        final int count = operations.size();
+        final Index[] indices = operations.toArray(new Index[0]);
+        final IndexingStrategy[] plans = new IndexingStrategy[count];
+        final IndexResult[] results = new IndexResult[count];
+        final boolean[] withoutUidLock = new boolean[count];
+        final List<Releasable> uidLocks = new ArrayList<>(count);
+        int reservedDocs = 0;
+        try (ReleasableLock releasableLock = readLock.acquire()) {
+            ensureOpen();
+            final boolean appendOnly = engineConfig.getIndexSettings().isAppendOnly() && versionMap.isSafeAccessRequired() == false;
+            try (
+                Releasable appends = appendOnly ? appendReadLock.acquire() : () -> {};
+                Releasable indexThrottle = throttle.acquireThrottle()
+            ) {
+                final List<Integer> block = new ArrayList<>(count);
+                boolean appendedWithoutUidLock = false;
+                for (int i = 0; i < count; i++) {
+                    Index index = indices[i];
+                    assert assertIncomingSequenceNumber(index.origin(), index.seqNo());
+                    lastWriteNanos = index.startTime();
+                    // see the note about append only optimizations in #index(Index)
+                    final IndexingStrategy plan;
+                    if (appendOnly && mayHaveBeenIndexedBefore(index) == false) {
+                        plan = planAppendAsPrimary(index, index.parsedDoc().docs().size());
+                        withoutUidLock[i] = true;
+                    } else {
+                        uidLocks.add(versionMap.acquireLock(index.uid().bytes()));
+                        plan = planIndexingAsPrimary(index);
+                    }
+                    plans[i] = plan;
+                    reservedDocs += plan.reservedDocs;
+                    if (plan.earlyResultOnPreFlightError.isPresent()) {
+                        results[i] = plan.earlyResultOnPreFlightError.get();
+                        assert results[i].getResultType() == Result.Type.FAILURE : results[i].getResultType();
+                        continue;
+                    }
+                    index = new Index(
+                        index.uid(),
+                        index.parsedDoc(),
+                        generateSeqNoForOperationOnPrimary(index),
+                        index.primaryTerm(),
+                        index.version(),
+                        index.versionType(),
+                        index.origin(),
+                        index.startTime(),
+                        index.getAutoGeneratedIdTimestamp(),
+                        index.isRetry(),
+                        index.getIfSeqNo(),
+                        index.getIfPrimaryTerm()
+                    );
+                    indices[i] = index;
+                    final boolean toAppend = plan.indexIntoLucene && plan.useLuceneUpdateDocument == false;
+                    if (toAppend == false) {
+                        advanceMaxSeqNoOfUpdatesOrDeletesOnPrimary(index.seqNo());
+                    }
+                    if (toAppend && plan.addStaleOpToLucene == false) {
+                        block.add(i);
+                    } else if (plan.indexIntoLucene || plan.addStaleOpToLucene) {
+                        results[i] = indexIntoLucene(index, plan);
+                    } else {
+                        results[i] = new IndexResult(
+                            plan.versionForIndexing,
+                            index.primaryTerm(),
+                            index.seqNo(),
+                            plan.currentNotFoundOrDeleted
+                        );
+                    }
+                }
+                indexBlockIntoLucene(block, indices, plans, results);
+                for (int i : block) {
+                    appendedWithoutUidLock |= withoutUidLock[i] && results[i].getResultType() == Result.Type.SUCCESS;
+                }
+                if (appendedWithoutUidLock) {
+                    versionMap.markAsUnsafeForAppends();
+                }
+
+                final List<Translog.Operation> translogOperations = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    if (results[i].getResultType() == Result.Type.SUCCESS) {
+                        translogOperations.add(new Translog.Index(indices[i], results[i]));
+                    }
+                }
+                final List<Translog.Location> locations = translogManager.add(translogOperations);
+                for (int i = 0, next = 0; i < count; i++) {
+                    if (results[i].getResultType() == Result.Type.SUCCESS) {
+                        results[i].setTranslogLocation(locations.get(next++));
+                    } else if (results[i].getSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO) {
+                        // if we have document failure, record it as a no-op in the translog and Lucene with the generated seq_no
+                        final NoOp noOp = new NoOp(
+                            results[i].getSeqNo(),
+                            indices[i].primaryTerm(),
+                            indices[i].origin(),
+                            indices[i].startTime(),
+                            results[i].getFailure().toString()
+                        );
+                        results[i].setTranslogLocation(innerNoOp(noOp).getTranslogLocation());
+                    } else {
+                        results[i].setTranslogLocation(null);
+                    }
+                    completeIndex(indices[i], plans[i], results[i], withoutUidLock[i] == false);
+                }
+                return Arrays.asList(results);
+            } finally {
+                releaseInFlightDocs(reservedDocs);
+                Releasables.close(uidLocks);
+            }
+        } catch (RuntimeException | IOException e) {
+            try {
+                maybeFailEngine("index [" + count + "] operations origin[" + Operation.Origin.PRIMARY + "]", e);
+            } catch (Exception inner) {
+                e.addSuppressed(inner);
+            }
+            throw e;
+        }
+    }
+
+    private boolean canIndexInBlock(Index index) {
+        return index.origin() == Operation.Origin.PRIMARY && index.isRetry() == false && canOptimizeAddDocument(index);
+    }
+
+    private boolean isAppendRetry(Index index) {
+        return index.origin() == Operation.Origin.PRIMARY
+            && index.isRetry()
+            && canOptimizeAddDocument(index)
+            && engineConfig.getIndexSettings().isAppendOnly();
+    }
+
+    private void indexBlockIntoLucene(List<Integer> block, Index[] indices, IndexingStrategy[] plans, IndexResult[] results)
+        throws IOException {
+        if (block.size() <= 1) {
+            for (int i : block) {
+                results[i] = indexIntoLucene(indices[i], plans[i]);
+            }
+            return;
+        }
+        final List<ParseContext.Document> docs = new ArrayList<>();
+        for (int i : block) {
+            final Index index = indices[i];
+            assert index.seqNo() >= 0 : "ops should have an assigned seq no.; origin: " + index.origin();
+            assert plans[i].versionForIndexing >= 0 : "version must be set. got " + plans[i].versionForIndexing;
+            index.parsedDoc().updateSeqID(index.seqNo(), index.primaryTerm());
+            index.parsedDoc().version().setLongValue(plans[i].versionForIndexing);
+            assert assertDocDoesNotExist(index, canOptimizeAddDocument(index) == false);
+            docs.addAll(index.docs());
+        }
+        try {
+            indexWriter.addDocuments(docs);
+        } catch (Exception ex) {
+            if (ex instanceof AlreadyClosedException == false && indexWriter.getTragicException() == null) {
+                // A document failure: the index writer deletes the documents of the block that it added before the failing one. Index
+                // each half of the block on its own, so that the failure ends up failing its own operation only, while the other
+                // operations are still added in blocks.
+                final int half = block.size() >>> 1;
+                indexBlockIntoLucene(block.subList(0, half), indices, plans, results);
+                indexBlockIntoLucene(block.subList(half, block.size()), indices, plans, results);
+                return;
+            }
+            throw ex;
+        }
+        numDocAppends.inc(docs.size());
+        for (int i : block) {
+            final Index index = indices[i];
+            final IndexingStrategy plan = plans[i];
+            results[i] = new IndexResult(plan.versionForIndexing, index.primaryTerm(), index.seqNo(), plan.currentNotFoundOrDeleted);
+        }
+    }
+
     protected final IndexingStrategy planIndexingAsNonPrimary(Index index) throws IOException {
         assert assertNonPrimaryOrigin(index);
         // needs to maintain the auto_id timestamp in case this replica becomes primary
@@ -1040,12 +1373,7 @@ public class InternalEngine extends Engine {
         // resolve an external operation into an internal one which is safe to replay
         final boolean canOptimizeAddDocument = canOptimizeAddDocument(index);
         if (canOptimizeAddDocument && mayHaveBeenIndexedBefore(index) == false) {
-            final Exception reserveError = tryAcquireInFlightDocs(index, reservingDocs);
-            if (reserveError != null) {
-                plan = IndexingStrategy.failAsTooManyDocs(reserveError);
-            } else {
-                plan = IndexingStrategy.optimizedAppendOnly(1L, reservingDocs);
-            }
+            plan = planAppendAsPrimary(index, reservingDocs);
         } else {
             versionMap.enforceSafeAccess();
             // resolves incoming version
@@ -1104,6 +1432,17 @@ public class InternalEngine extends Engine {
         return plan;
     }
 
+    /**
+     * Plans an operation that appends a document with an auto-generated id that can't have been indexed before
+     */
+    private IndexingStrategy planAppendAsPrimary(Index index, int reservingDocs) {
+        final Exception reserveError = tryAcquireInFlightDocs(index, reservingDocs);
+        if (reserveError != null) {
+            return IndexingStrategy.failAsTooManyDocs(reserveError);
+        }
+        return IndexingStrategy.optimizedAppendOnly(1L, reservingDocs);
+    }
+
     private IndexResult indexIntoLucene(Index index, IndexingStrategy plan) throws IOException {
         assert index.seqNo() >= 0 : "ops should have an assigned seq no.; origin: " + index.origin();
         assert plan.versionForIndexing >= 0 : "version must be set. got " + plan.versionForIndexing;
@@ -44,6 +44,7 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -166,10 +167,12 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
         /**
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
+         *
+         * @param expectedSize the number of entries the new map is expected to hold, the size of the current map if larger
          */
-        Maps buildTransitionMap() {
+        Maps buildTransitionMap(int expectedSize) {
             return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
+                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(Math.max(current.size(), expectedSize))),
                 current,
                 shouldInheritSafeAccess()
             );
@@ -264,14 +267,27 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      */
     private final AtomicLong ramBytesUsedTombstones = new AtomicLong();
 
+    /**
+     * The size of the largest batch of operations announced since the last refresh
+     */
+    private final AtomicInteger expectedOperations = new AtomicInteger();
+
+    /**
+     * Announces a batch of operations, so that the map built on the next refresh is sized to hold at least that many entries
+     * without having to grow.
+     */
+    void expectOperations(int numOperations) {
+        expectedOperations.accumulateAndGet(numOperations, Math::max);
+    }
+
     @Override
     public void beforeRefresh() throws IOException {
         // Start sending all updates after this point to the new
         // map. While reopen is running, any lookup will first
         // try this new map, then fallback to old, then to the
         // current searcher:
-        maps = maps.buildTransitionMap();
-        assert (unsafeKeysMap = unsafeKeysMap.buildTransitionMap()) != null;
+        maps = maps.buildTransitionMap(expectedOperations.getAndSet(0));
+        assert (unsafeKeysMap = unsafeKeysMap.buildTransitionMap(0)) != null;
         // This is not 100% correct, since concurrent indexing ops can change these counters in between our execution of the previous
         // line and this one, but that should be minor, and the error won't accumulate over time:
     }
@@ -351,6 +367,36 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
     }
 
+    /**
+     * Like {@link #maybePutIndexUnderLock(BytesRef, IndexVersionValue)}, for the documents of append-only indices that are indexed
+     * under their uid lock, such as creates with an explicit id. These indices reject deletes, so there is never a tombstone to remove.
+     * The map is also only marked as unsafe when it isn't already. Documents are still added to the map in safe access mode.
+     */
+    void maybePutAppendedUnderLock(BytesRef uid, IndexVersionValue version) {
+        assert assertKeyedLockHeldByCurrentThread(uid);
+        assert tombstones.containsKey(uid) == false : "append-only indices don't delete documents, but found a tombstone for " + uid;
+        Maps maps = this.maps;
+        if (maps.isSafeAccessMode()) {
+            maps.put(uid, version);
+        } else {
+            if (maps.current.isUnsafe() == false) {
+                maps.current.markAsUnsafe();
+            }
+            assert putAssertionMap(uid, version);
+        }
+    }
+
+    /**
+     * Marks the map as unsafe for documents that were appended to an append-only index without their uid lock and without being
+     * added to the map, so that looking them up refreshes first. Must be called once the documents are added to Lucene.
+     */
+    void markAsUnsafeForAppends() {
+        final Maps maps = this.maps;
+        if (maps.current.isUnsafe() == false) {
+            maps.current.markAsUnsafe();
+        }
+    }
+
     void putIndexUnderLock(BytesRef uid, IndexVersionValue version) {
         assert assertKeyedLockHeldByCurrentThread(uid);
         assert uid.bytes.length == uid.length : "Oversized _uid! UID length: " + uid.length + ", bytes length: " + uid.bytes.length;
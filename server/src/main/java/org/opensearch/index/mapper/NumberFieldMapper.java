@@ -60,6 +60,7 @@ import org.opensearch.common.lucene.search.Queries;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.FeatureFlags;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.core.xcontent.XContentParser.Token;
@@ -71,6 +72,8 @@ import org.opensearch.index.fielddata.IndexNumericFieldData.NumericType;
 import org.opensearch.index.fielddata.plain.SortedNumericIndexFieldData;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.approximate.ApproximatePointRangeQuery;
+import org.opensearch.search.approximate.ApproximateScoreQuery;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.search.query.BitmapDocValuesQuery;
 
@@ -309,7 +312,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
                         HalfFloatPoint.halfFloatToSortableShort(l),
                         HalfFloatPoint.halfFloatToSortableShort(u)
                     );
-                    return new IndexOrDocValuesQuery(query, dvQuery);
+                    return approximateRangeQuery(this, field, l, u, new IndexOrDocValuesQuery(query, dvQuery));
                 }
                 if (hasDocValues) {
                     return SortedNumericDocValuesField.newSlowRangeQuery(
@@ -318,7 +321,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
                         HalfFloatPoint.halfFloatToSortableShort(u)
                     );
                 }
-                return HalfFloatPoint.newRangeQuery(field, l, u);
+                return approximateRangeQuery(this, field, l, u, HalfFloatPoint.newRangeQuery(field, l, u));
             }
 
             @Override
@@ -456,7 +459,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
                         NumericUtils.floatToSortableInt(l),
                         NumericUtils.floatToSortableInt(u)
                     );
-                    return new IndexOrDocValuesQuery(query, dvQuery);
+                    return approximateRangeQuery(this, field, l, u, new IndexOrDocValuesQuery(query, dvQuery));
                 }
                 if (hasDocValues) {
                     return SortedNumericDocValuesField.newSlowRangeQuery(
@@ -465,7 +468,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
                         NumericUtils.floatToSortableInt(u)
                     );
                 }
-                return FloatPoint.newRangeQuery(field, l, u);
+                return approximateRangeQuery(this, field, l, u, FloatPoint.newRangeQuery(field, l, u));
             }
 
             @Override
@@ -581,7 +584,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
                             NumericUtils.doubleToSortableLong(l),
                             NumericUtils.doubleToSortableLong(u)
                         );
-                        return new IndexOrDocValuesQuery(query, dvQuery);
+                        return approximateRangeQuery(this, field, l, u, new IndexOrDocValuesQuery(query, dvQuery));
                     }
                     if (hasDocValues) {
                         return SortedNumericDocValuesField.newSlowRangeQuery(
@@ -590,7 +593,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
                             NumericUtils.doubleToSortableLong(u)
                         );
                     }
-                    return DoublePoint.newRangeQuery(field, l, u);
+                    return approximateRangeQuery(this, field, l, u, DoublePoint.newRangeQuery(field, l, u));
                 });
             }
 
@@ -941,7 +944,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
                     if (context.indexSortedOnField(field)) {
                         query = new IndexSortSortedNumericDocValuesRangeQuery(field, l, u, query);
                     }
-                    return query;
+                    return approximateRangeQuery(this, field, l, u, query);
                 }
                 if (hasDocValues) {
                     Query query = SortedNumericDocValuesField.newSlowRangeQuery(field, l, u);
@@ -950,7 +953,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
                     }
                     return query;
                 }
-                return IntPoint.newRangeQuery(field, l, u);
+                return approximateRangeQuery(this, field, l, u, IntPoint.newRangeQuery(field, l, u));
             }
 
             @Override
@@ -1071,7 +1074,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
                         if (context.indexSortedOnField(field)) {
                             query = new IndexSortSortedNumericDocValuesRangeQuery(field, l, u, query);
                         }
-                        return query;
+                        return approximateRangeQuery(this, field, l, u, query);
                     }
                     if (hasDocValues) {
                         Query query = SortedNumericDocValuesField.newSlowRangeQuery(field, l, u);
@@ -1080,7 +1083,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
                         }
                         return query;
                     }
-                    return LongPoint.newRangeQuery(field, l, u);
+                    return approximateRangeQuery(this, field, l, u, LongPoint.newRangeQuery(field, l, u));
 
                 });
             }
@@ -1195,12 +1198,12 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
                     if (isSearchable && hasDocValues) {
                         Query query = BigIntegerPoint.newRangeQuery(field, l, u);
                         Query dvQuery = SortedUnsignedLongDocValuesRangeQuery.newSlowRangeQuery(field, l, u);
-                        return new IndexOrDocValuesQuery(query, dvQuery);
+                        return approximateRangeQuery(this, field, l, u, new IndexOrDocValuesQuery(query, dvQuery));
                     }
                     if (hasDocValues) {
                         return SortedUnsignedLongDocValuesRangeQuery.newSlowRangeQuery(field, l, u);
                     }
-                    return BigIntegerPoint.newRangeQuery(field, l, u);
+                    return approximateRangeQuery(this, field, l, u, BigIntegerPoint.newRangeQuery(field, l, u));
                 });
             }
 
@@ -1399,6 +1402,25 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
             return Numbers.toUnsignedLong(stringValue, coerce);
         }
 
+        /**
+         * Wraps a range query on an indexed field so that it can be replaced by an {@link ApproximatePointRangeQuery}, which
+         * stops visiting the points once enough documents have been collected, if the approximation framework is enabled.
+         */
+        static Query approximateRangeQuery(NumberType type, String field, Number lower, Number upper, Query query) {
+            if (FeatureFlags.isEnabled(FeatureFlags.APPROXIMATE_POINT_RANGE_QUERY_SETTING) == false) {
+                return query;
+            }
+            return new ApproximateScoreQuery(
+                query,
+                new ApproximatePointRangeQuery(field, type.encodePoint(lower), type.encodePoint(upper), 1) {
+                    @Override
+                    protected String toString(int dimension, byte[] value) {
+                        return type.parsePoint(value).toString();
+                    }
+                }
+            );
+        }
+
         public static Query doubleRangeQuery(
             Object lowerTerm,
             Object upperTerm,
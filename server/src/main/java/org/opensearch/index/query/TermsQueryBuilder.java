@@ -120,6 +120,10 @@ public class TermsQueryBuilder extends AbstractQueryBuilder<TermsQueryBuilder> i
         return this;
     }
 
+    public ValueType valueType() {
+        return this.valueType;
+    }
+
     public TermsQueryBuilder(String fieldName, TermsLookup termsLookup) {
         this(fieldName, null, termsLookup);
     }
@@ -55,6 +55,7 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.ThreadInterruptedException;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchException;
@@ -62,6 +63,7 @@ import org.opensearch.action.ActionRunnable;
 import org.opensearch.action.admin.indices.flush.FlushRequest;
 import org.opensearch.action.admin.indices.forcemerge.ForceMergeRequest;
 import org.opensearch.action.admin.indices.upgrade.post.UpgradeRequest;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.support.replication.PendingReplicationActions;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.cluster.metadata.DataStream;
@@ -88,6 +90,7 @@ import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
 import org.opensearch.common.settings.Settings;
@@ -140,6 +143,7 @@ import org.opensearch.index.get.ShardGetService;
 import org.opensearch.index.mapper.DocumentMapper;
 import org.opensearch.index.mapper.DocumentMapperForType;
 import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.MapperParsingException;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.Mapping;
 import org.opensearch.index.mapper.ParsedDocument;
@@ -178,6 +182,7 @@ import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogFactory;
 import org.opensearch.index.translog.TranslogRecoveryRunner;
 import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.index.translog.TranslogSyncTracker;
 import org.opensearch.index.warmer.ShardIndexWarmerService;
 import org.opensearch.index.warmer.WarmerStats;
 import org.opensearch.indices.IndexingMemoryController;
@@ -412,7 +417,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             threadPool,
             this::getEngine,
             indexSettings.isAssignedOnRemoteNode(),
-            () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval)
+            () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval),
+            indexSettings.isTranslogGroupCommitEnabled(),
+            indexSettings::getTranslogGroupCommitWindow,
+            translogSyncTracker
         );
         this.mapperService = mapperService;
         this.indexCache = indexCache;
@@ -1032,6 +1040,16 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return previousState;
     }
 
+    /**
+     * Resolves the current versions of the documents with the given uids ahead of a batch of operations on them, so that the
+     * operations don't each have to look up their document in the index.
+     *
+     * @param uids the uids of the documents the upcoming operations apply to
+     */
+    public void preloadDocVersions(Collection<BytesRef> uids) throws IOException {
+        getEngine().preloadDocVersions(uids);
+    }
+
     public Engine.IndexResult applyIndexOperationOnPrimary(
         long version,
         VersionType versionType,
@@ -1042,6 +1060,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         boolean isRetry
     ) throws IOException {
         assert versionType.validateVersionForWrites(version);
+        final Exception appendOnlyFailure = checkAppendOnlyIndexOperation(version, autoGeneratedTimestamp, ifSeqNo);
+        if (appendOnlyFailure != null) {
+            return getFailedIndexResult(appendOnlyFailure, version);
+        }
         return applyIndexOperation(
             getEngine(),
             UNASSIGNED_SEQ_NO,
@@ -1058,6 +1080,127 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         );
     }
 
+    /**
+     * Parses a document to index on this primary ahead of applying the operation with {@link #applyPreparedIndexOperationOnPrimary},
+     * possibly on another thread than the one that applies it. Returns null if the document requires a mapping update or fails to
+     * parse: the operation is then applied with {@link #applyIndexOperationOnPrimary}, which handles both. Other failures, e.g. of a
+     * closed shard, are thrown.
+     */
+    public Engine.Index prepareIndexOperationOnPrimary(
+        long version,
+        VersionType versionType,
+        SourceToParse sourceToParse,
+        long ifSeqNo,
+        long ifPrimaryTerm,
+        long autoGeneratedTimestamp,
+        boolean isRetry
+    ) {
+        assert versionType.validateVersionForWrites(version);
+        try {
+            final Engine.Index operation = prepareIndex(
+                docMapper(),
+                sourceToParse,
+                UNASSIGNED_SEQ_NO,
+                getOperationPrimaryTerm(),
+                version,
+                versionType,
+                Engine.Operation.Origin.PRIMARY,
+                autoGeneratedTimestamp,
+                isRetry,
+                ifSeqNo,
+                ifPrimaryTerm
+            );
+            return operation.parsedDoc().dynamicMappingsUpdate() == null ? operation : null;
+        } catch (MapperParsingException | IllegalArgumentException e) {
+            // a document level failure, which applying the operation reports again; anything else is not specific to the document
+            return null;
+        }
+    }
+
+    /**
+     * Applies an index operation returned by {@link #prepareIndexOperationOnPrimary} on this primary. The caller is responsible for
+     * checking that the mapping and the operation primary term did not change since the operation was prepared.
+     */
+    public Engine.IndexResult applyPreparedIndexOperationOnPrimary(Engine.Index operation) throws IOException {
+        assert operation.origin() == Engine.Operation.Origin.PRIMARY : "expected a primary operation but got " + operation.origin();
+        assert operation.parsedDoc().dynamicMappingsUpdate() == null : "prepared operations don't require mapping updates";
+        assert operation.primaryTerm() <= getOperationPrimaryTerm() : "op term [ "
+            + operation.primaryTerm()
+            + " ] > shard term ["
+            + getOperationPrimaryTerm()
+            + "]";
+        ensureWriteAllowed(operation.origin());
+        final Exception appendOnlyFailure = checkAppendOnlyIndexOperation(
+            operation.version(),
+            operation.getAutoGeneratedIdTimestamp(),
+            operation.getIfSeqNo()
+        );
+        if (appendOnlyFailure != null) {
+            return getFailedIndexResult(appendOnlyFailure, operation.version());
+        }
+        return index(getEngine(), operation);
+    }
+
+    /**
+     * Applies index operations returned by {@link #prepareIndexOperationOnPrimary} on this primary, in order, letting the engine write
+     * the documents of operations that append documents with auto-generated ids at once. The caller is responsible for checking that
+     * the mapping and the operation primary term did not change since the operations were prepared.
+     */
+    public List<Engine.IndexResult> applyPreparedIndexOperationsOnPrimary(List<Engine.Index> operations) throws IOException {
+        for (Engine.Index operation : operations) {
+            assert operation.origin() == Engine.Operation.Origin.PRIMARY : "expected a primary operation but got " + operation.origin();
+            assert operation.parsedDoc().dynamicMappingsUpdate() == null : "prepared operations don't require mapping updates";
+            assert operation.primaryTerm() <= getOperationPrimaryTerm() : "op term [ "
+                + operation.primaryTerm()
+                + " ] > shard term ["
+                + getOperationPrimaryTerm()
+                + "]";
+            assert operation.getAutoGeneratedIdTimestamp() != IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP
+                : "operations applied together append documents with auto-generated ids";
+        }
+        ensureWriteAllowed(Engine.Operation.Origin.PRIMARY);
+        final Engine engine = getEngine();
+        active.set(true);
+        final List<Engine.Index> indices = new ArrayList<>(operations.size());
+        for (Engine.Index operation : operations) {
+            indices.add(indexingOperationListeners.preIndex(shardId, operation));
+        }
+        final List<Engine.IndexResult> results;
+        try {
+            results = engine.indexAll(indices);
+        } catch (Exception e) {
+            logger.trace(() -> new ParameterizedMessage("index-fail [{}] operations", indices.size()), e);
+            for (Engine.Index index : indices) {
+                indexingOperationListeners.postIndex(shardId, index, e);
+            }
+            throw e;
+        }
+        for (int i = 0; i < indices.size(); i++) {
+            indexingOperationListeners.postIndex(shardId, indices.get(i), results.get(i));
+        }
+        return results;
+    }
+
+    /**
+     * Returns the failure of an index operation on the primary of an append-only index that could overwrite a document, or null if
+     * the operation is allowed: only documents with auto-generated ids, or created with an explicit id, can be indexed.
+     */
+    private Exception checkAppendOnlyIndexOperation(long version, long autoGeneratedTimestamp, long ifSeqNo) {
+        if (indexSettings.isAppendOnly() == false || autoGeneratedTimestamp != IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP) {
+            return null;
+        }
+        if (version == Versions.MATCH_DELETED && ifSeqNo == UNASSIGNED_SEQ_NO) {
+            return null;
+        }
+        return new IllegalArgumentException(
+            "index ["
+                + shardId.getIndexName()
+                + "] is append-only ["
+                + IndexSettings.INDEX_APPEND_ONLY_ENABLED_SETTING.getKey()
+                + "=true], documents can only be created, not overwritten or updated"
+        );
+    }
+
     public Engine.IndexResult applyIndexOperationOnReplica(
         String id,
         long seqNo,
@@ -1285,6 +1428,18 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         long ifPrimaryTerm
     ) throws IOException {
         assert versionType.validateVersionForWrites(version);
+        if (indexSettings.isAppendOnly()) {
+            return getFailedDeleteResult(
+                new IllegalArgumentException(
+                    "index ["
+                        + shardId.getIndexName()
+                        + "] is append-only ["
+                        + IndexSettings.INDEX_APPEND_ONLY_ENABLED_SETTING.getKey()
+                        + "=true], documents can't be deleted"
+                ),
+                version
+            );
+        }
         return applyDeleteOperation(
             getEngine(),
             UNASSIGNED_SEQ_NO,
@@ -1521,6 +1676,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 new RemoteTranslogStats(remoteStoreStatsTrackerFactory.getRemoteTranslogTransferTracker(shardId).stats())
             );
         }
+        translogStats.addSyncStats(translogSyncTracker.stats());
 
         return translogStats;
     }
@@ -4449,19 +4605,32 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     private final AsyncIOProcessor<Translog.Location> translogSyncProcessor;
 
+    private final TranslogSyncTracker translogSyncTracker = new TranslogSyncTracker();
+
+    /**
+     * Creates the processor that syncs the translog locations of write operations. Without buffering, the first write thread
+     * that requests a sync performs it on behalf of all the requests queued while it runs. With remote translog buffering or
+     * group commit, the syncs are performed on the translog sync thread pool, at most once per buffer interval or group commit
+     * window, and the write threads return as soon as their location is queued.
+     */
     private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(
         Logger logger,
         ThreadPool threadPool,
         Supplier<Engine> engineSupplier,
         boolean bufferAsyncIoProcessor,
-        Supplier<TimeValue> bufferIntervalSupplier
+        Supplier<TimeValue> bufferIntervalSupplier,
+        boolean groupCommit,
+        Supplier<TimeValue> groupCommitWindowSupplier,
+        TranslogSyncTracker syncTracker
     ) {
         assert bufferAsyncIoProcessor == false || Objects.nonNull(bufferIntervalSupplier)
             : "If bufferAsyncIoProcessor is true, then the bufferIntervalSupplier needs to be non null";
         ThreadContext threadContext = threadPool.getThreadContext();
         CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> writeConsumer = candidates -> {
             try {
+                final long startTimeNanos = System.nanoTime();
                 engineSupplier.get().translogManager().ensureTranslogSynced(candidates.stream().map(Tuple::v1));
+                syncTracker.onSync(candidates.size(), System.nanoTime() - startTimeNanos);
             } catch (AlreadyClosedException ex) {
                 // that's fine since we already synced everything on engine close - this also is conform with the methods
                 // documentation
@@ -4470,8 +4639,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 throw ex;
             }
         };
-        if (bufferAsyncIoProcessor) {
-            return new BufferedAsyncIOProcessor<>(logger, 102400, threadContext, threadPool, bufferIntervalSupplier) {
+        if (bufferAsyncIoProcessor || groupCommit) {
+            final Supplier<TimeValue> intervalSupplier = bufferAsyncIoProcessor ? bufferIntervalSupplier : groupCommitWindowSupplier;
+            return new BufferedAsyncIOProcessor<>(logger, 102400, threadContext, threadPool, intervalSupplier) {
                 @Override
                 protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
                     writeConsumer.accept(candidates);
@@ -36,6 +36,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -61,6 +62,24 @@ public class CompositeDirectory extends FilterDirectory {
      * @param fileCache used to cache the remote files locally
      */
     public CompositeDirectory(Directory localDirectory, Directory remoteDirectory, FileCache fileCache) {
+        this(localDirectory, remoteDirectory, fileCache, null, 0);
+    }
+
+    /**
+     * Constructor to initialise the composite directory with read-ahead of the blocks fetched from the remote directory
+     * @param localDirectory corresponding to the local FSDirectory
+     * @param remoteDirectory corresponding to the remote directory
+     * @param fileCache used to cache the remote files locally
+     * @param prefetchExecutor executor running the asynchronous read-ahead of blocks, read-ahead is disabled if null
+     * @param maxReadAheadBlocks maximum number of blocks to read ahead of a sequentially read file
+     */
+    public CompositeDirectory(
+        Directory localDirectory,
+        Directory remoteDirectory,
+        FileCache fileCache,
+        Executor prefetchExecutor,
+        int maxReadAheadBlocks
+    ) {
         super(localDirectory);
         validate(localDirectory, remoteDirectory, fileCache);
         this.localDirectory = (FSDirectory) localDirectory;
@@ -71,10 +90,17 @@ public class CompositeDirectory extends FilterDirectory {
                 remoteDirectory.openInput(name, new BlockIOContext(IOContext.DEFAULT, position, length)),
                 length
             ),
-            fileCache
+            fileCache,
+            prefetchExecutor,
+            maxReadAheadBlocks
         );
     }
 
+    // for tests
+    TransferManager getTransferManager() {
+        return transferManager;
+    }
+
     /**
      * Returns names of all files stored in this directory in sorted order
      * Does not include locally stored block files (having _block_ in their names) and files pending deletion
@@ -17,6 +17,7 @@ import org.opensearch.index.shard.ShardPath;
 import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.snapshots.blobstore.IndexShardSnapshot;
 import org.opensearch.index.store.remote.filecache.FileCache;
+import org.opensearch.index.store.remote.filecache.FileCacheSettings;
 import org.opensearch.index.store.remote.utils.TransferManager;
 import org.opensearch.plugins.IndexStorePlugin;
 import org.opensearch.repositories.IndexId;
@@ -88,6 +89,7 @@ public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.Di
         FSDirectory localStoreDir = FSDirectory.open(Files.createDirectories(localStorePath));
         // make sure directory is flushed to persistent storage
         localStoreDir.syncMetaData();
+        final int maxReadAheadBlocks = FileCacheSettings.READ_AHEAD_BLOCKS_SETTING.get(indexSettings.getNodeSettings());
         // this trick is needed to bypass assertions in BlobStoreRepository::assertAllowableThreadPools in case of node restart and a remote
         // index restore is invoked
         return threadPool.executor(ThreadPool.Names.SNAPSHOT).submit(() -> {
@@ -101,7 +103,12 @@ public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.Di
             assert indexShardSnapshot instanceof BlobStoreIndexShardSnapshot
                 : "indexShardSnapshot should be an instance of BlobStoreIndexShardSnapshot";
             final BlobStoreIndexShardSnapshot snapshot = (BlobStoreIndexShardSnapshot) indexShardSnapshot;
-            TransferManager transferManager = new TransferManager(blobContainer::readBlob, remoteStoreFileCache);
+            TransferManager transferManager = new TransferManager(
+                blobContainer::readBlob,
+                remoteStoreFileCache,
+                threadPool.executor(ThreadPool.Names.REMOTE_PREFETCH),
+                maxReadAheadBlocks
+            );
             return new RemoteSnapshotDirectory(snapshot, localStoreDir, transferManager);
         });
     }
@@ -27,6 +27,10 @@ import java.util.Objects;
  * <br>
  * This class delegate the responsibility of actually fetching the block when demanded to its subclasses using
  * {@link OnDemandBlockIndexInput#fetchBlock(int)}.
+ * <br>
+ * Sequential access is detected per instance: once two consecutive blocks have been demanded, the following blocks are
+ * read ahead using {@link OnDemandBlockIndexInput#prefetchBlock(int)}, with a window that doubles with every further
+ * sequential block up to {@link OnDemandBlockIndexInput#maxReadAheadBlocks()}. Any non-sequential jump resets the window.
  * <p>
  * Like {@link IndexInput}, this class may only be used from one thread as it is not thread safe.
  * However, a cleaning action may run from another thread triggered by the {@link Cleaner}, but
@@ -77,6 +81,16 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
      */
     private int currentBlockId;
 
+    /**
+     * Number of blocks read ahead of the current block, 0 until sequential access is detected
+     */
+    private int readAheadWindow;
+
+    /**
+     * ID of the last block read ahead, so that a block is only prefetched once while reading sequentially
+     */
+    private int lastPrefetchedBlockId = -1;
+
     private final BlockHolder blockHolder = new BlockHolder();
 
     OnDemandBlockIndexInput(Builder builder) {
@@ -102,6 +116,20 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
      */
     protected abstract IndexInput fetchBlock(int blockId) throws IOException;
 
+    /**
+     * Asynchronously fetch the given block ahead of its use. This is best effort and must not block the caller.
+     * By default, blocks are not prefetched.
+     * @param blockId to prefetch
+     */
+    protected void prefetchBlock(int blockId) {}
+
+    /**
+     * Maximum number of blocks read ahead of the current block when the file is read sequentially, 0 disables read-ahead.
+     */
+    protected int maxReadAheadBlocks() {
+        return 0;
+    }
+
     @Override
     public abstract OnDemandBlockIndexInput clone();
 
@@ -130,6 +158,8 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
     public void close() throws IOException {
         blockHolder.close();
         currentBlockId = 0;
+        readAheadWindow = 0;
+        lastPrefetchedBlockId = -1;
     }
 
     @Override
@@ -334,11 +364,38 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
     private void demandBlock(int blockId) throws IOException {
         if (blockHolder.block != null && currentBlockId == blockId) return;
 
+        final boolean sequential = blockHolder.block != null && blockId == currentBlockId + 1;
+
         // close the current block before jumping to the new block
         blockHolder.close();
 
         blockHolder.set(fetchBlock(blockId));
         currentBlockId = blockId;
+
+        readAhead(blockId, sequential);
+    }
+
+    /**
+     * Grows the read-ahead window while blocks are demanded sequentially and prefetches the blocks
+     * of the window that have not been prefetched yet, or resets the window on a random access.
+     */
+    private void readAhead(int blockId, boolean sequential) {
+        final int maxReadAheadBlocks = maxReadAheadBlocks();
+        if (maxReadAheadBlocks <= 0) {
+            return;
+        }
+        if (sequential == false) {
+            readAheadWindow = 0;
+            lastPrefetchedBlockId = blockId;
+            return;
+        }
+        readAheadWindow = readAheadWindow == 0 ? 1 : Math.min(readAheadWindow << 1, maxReadAheadBlocks);
+        final int lastBlockId = getBlock(offset + length - 1);
+        final int windowEnd = Math.min(blockId + readAheadWindow, lastBlockId);
+        for (int id = Math.max(blockId, lastPrefetchedBlockId) + 1; id <= windowEnd; id++) {
+            prefetchBlock(id);
+            lastPrefetchedBlockId = id;
+        }
     }
 
     protected void cloneBlock(OnDemandBlockIndexInput other) {
@@ -137,6 +137,21 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
     @Override
     protected IndexInput fetchBlock(int blockId) throws IOException {
         logger.trace("fetchBlock called with blockId -> {}", blockId);
+        return transferManager.fetchBlob(blobFetchRequest(blockId));
+    }
+
+    @Override
+    protected void prefetchBlock(int blockId) {
+        logger.trace("prefetchBlock called with blockId -> {}", blockId);
+        transferManager.prefetchBlob(blobFetchRequest(blockId));
+    }
+
+    @Override
+    protected int maxReadAheadBlocks() {
+        return transferManager.getMaxReadAheadBlocks();
+    }
+
+    private BlobFetchRequest blobFetchRequest(int blockId) {
         final String blockFileName = fileName + "_block_" + blockId;
 
         final long blockStart = getBlockStart(blockId);
@@ -152,12 +167,11 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
 
         // Block may be present on multiple chunks of a file, so we need
         // to fetch each chunk/blob part separately to fetch an entire block.
-        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder()
+        return BlobFetchRequest.builder()
             .blobParts(getBlobParts(blockStart, blockEnd))
             .directory(directory)
             .fileName(blockFileName)
             .build();
-        return transferManager.fetchBlob(blobFetchRequest);
     }
 
     /**
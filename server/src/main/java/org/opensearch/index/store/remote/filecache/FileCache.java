@@ -12,6 +12,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.index.store.remote.utils.cache.CacheUsage;
@@ -54,6 +55,11 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
 
     private final CircuitBreaker circuitBreaker;
 
+    private final CounterMetric prefetchRequested = new CounterMetric();
+    private final CounterMetric prefetchCompleted = new CounterMetric();
+    private final CounterMetric prefetchRejected = new CounterMetric();
+    private final CounterMetric prefetchFailed = new CounterMetric();
+
     public FileCache(SegmentedCache<Path, CachedIndexInput> cache, CircuitBreaker circuitBreaker) {
         this.theCache = cache;
         this.circuitBreaker = circuitBreaker;
@@ -142,6 +148,34 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
         return theCache.stats();
     }
 
+    /**
+     * Records that an asynchronous read-ahead of a block was requested, whether or not it is then rejected
+     */
+    public void onPrefetchRequested() {
+        prefetchRequested.inc();
+    }
+
+    /**
+     * Records that an asynchronous read-ahead of a block made the block available in the cache
+     */
+    public void onPrefetchCompleted() {
+        prefetchCompleted.inc();
+    }
+
+    /**
+     * Records that an asynchronous read-ahead of a block was rejected because the prefetch executor was saturated
+     */
+    public void onPrefetchRejected() {
+        prefetchRejected.inc();
+    }
+
+    /**
+     * Records that an asynchronous read-ahead of a block failed to fetch the block
+     */
+    public void onPrefetchFailed() {
+        prefetchFailed.inc();
+    }
+
     // To be used only for debugging purposes
     public void logCurrentState() {
         logger.trace("CURRENT STATE OF FILE CACHE \n");
@@ -215,7 +249,11 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
             usage.usage(),
             stats.evictionWeight(),
             stats.hitCount(),
-            stats.missCount()
+            stats.missCount(),
+            prefetchRequested.count(),
+            prefetchCompleted.count(),
+            prefetchRejected.count(),
+            prefetchFailed.count()
         );
     }
 
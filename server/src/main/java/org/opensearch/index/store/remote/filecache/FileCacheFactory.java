@@ -45,6 +45,39 @@ public class FileCacheFactory {
         return new FileCache(createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).build(), circuitBreaker);
     }
 
+    /**
+     * Creates a file cache whose segments are evicted with the CLOCK algorithm. Unlike the LRU file cache, looking up a file
+     * and reference counting do not lock the segment, and files which are read only once, like the files of a merge or a
+     * restore, are evicted before the files which are actually reused.
+     */
+    public static FileCache createConcurrentClockFileCache(long capacity, CircuitBreaker circuitBreaker) {
+        return new FileCache(
+            createDefaultBuilder().capacity(capacity).evictionPolicy(SegmentedCache.EvictionPolicy.CLOCK).build(),
+            circuitBreaker
+        );
+    }
+
+    public static FileCache createConcurrentClockFileCache(long capacity, int concurrencyLevel, CircuitBreaker circuitBreaker) {
+        return new FileCache(
+            createDefaultBuilder().capacity(capacity)
+                .concurrencyLevel(concurrencyLevel)
+                .evictionPolicy(SegmentedCache.EvictionPolicy.CLOCK)
+                .build(),
+            circuitBreaker
+        );
+    }
+
+    /**
+     * Creates a file cache whose segments are evicted with the given policy, see {@link SegmentedCache.EvictionPolicy}.
+     */
+    public static FileCache createConcurrentFileCache(
+        long capacity,
+        SegmentedCache.EvictionPolicy evictionPolicy,
+        CircuitBreaker circuitBreaker
+    ) {
+        return new FileCache(createDefaultBuilder().capacity(capacity).evictionPolicy(evictionPolicy).build(), circuitBreaker);
+    }
+
     private static SegmentedCache.Builder<Path, CachedIndexInput> createDefaultBuilder() {
         return SegmentedCache.<Path, CachedIndexInput>builder()
             // use length in bytes as the weight of the file item
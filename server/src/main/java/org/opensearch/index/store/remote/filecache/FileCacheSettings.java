@@ -33,6 +33,19 @@ public class FileCacheSettings {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Defines the maximum number of blocks that are asynchronously fetched ahead of a remote file that is read
+     * sequentially. The read-ahead window starts at one block once two consecutive blocks have been read and doubles
+     * with every further sequential block, up to this limit. Specify a value of zero to disable read-ahead.
+     */
+    public static final Setting<Integer> READ_AHEAD_BLOCKS_SETTING = Setting.intSetting(
+        "cluster.filecache.read_ahead_blocks",
+        4,
+        0,
+        64,
+        Setting.Property.NodeScope
+    );
+
     private volatile double remoteDataRatio;
 
     public FileCacheSettings(Settings settings, ClusterSettings clusterSettings) {
@@ -8,6 +8,7 @@
 
 package org.opensearch.index.store.remote.filecache;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -33,6 +34,10 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
     private final long evicted;
     private final long hits;
     private final long misses;
+    private final long prefetchRequested;
+    private final long prefetchCompleted;
+    private final long prefetchRejected;
+    private final long prefetchFailed;
 
     public FileCacheStats(
         final long timestamp,
@@ -42,6 +47,22 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         final long evicted,
         final long hits,
         final long misses
+    ) {
+        this(timestamp, active, total, used, evicted, hits, misses, 0, 0, 0, 0);
+    }
+
+    public FileCacheStats(
+        final long timestamp,
+        final long active,
+        final long total,
+        final long used,
+        final long evicted,
+        final long hits,
+        final long misses,
+        final long prefetchRequested,
+        final long prefetchCompleted,
+        final long prefetchRejected,
+        final long prefetchFailed
     ) {
         this.timestamp = timestamp;
         this.active = active;
@@ -50,6 +71,10 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         this.evicted = evicted;
         this.hits = hits;
         this.misses = misses;
+        this.prefetchRequested = prefetchRequested;
+        this.prefetchCompleted = prefetchCompleted;
+        this.prefetchRejected = prefetchRejected;
+        this.prefetchFailed = prefetchFailed;
     }
 
     public FileCacheStats(final StreamInput in) throws IOException {
@@ -60,6 +85,17 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         this.evicted = in.readLong();
         this.hits = in.readLong();
         this.misses = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+            this.prefetchRequested = in.readVLong();
+            this.prefetchCompleted = in.readVLong();
+            this.prefetchRejected = in.readVLong();
+            this.prefetchFailed = in.readVLong();
+        } else {
+            this.prefetchRequested = 0;
+            this.prefetchCompleted = 0;
+            this.prefetchRejected = 0;
+            this.prefetchFailed = 0;
+        }
     }
 
     public static short calculatePercentage(long used, long max) {
@@ -75,6 +111,12 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         out.writeLong(evicted);
         out.writeLong(hits);
         out.writeLong(misses);
+        if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+            out.writeVLong(prefetchRequested);
+            out.writeVLong(prefetchCompleted);
+            out.writeVLong(prefetchRejected);
+            out.writeVLong(prefetchFailed);
+        }
     }
 
     public long getTimestamp() {
@@ -113,6 +155,22 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         return misses;
     }
 
+    public long getPrefetchRequested() {
+        return prefetchRequested;
+    }
+
+    public long getPrefetchCompleted() {
+        return prefetchCompleted;
+    }
+
+    public long getPrefetchRejected() {
+        return prefetchRejected;
+    }
+
+    public long getPrefetchFailed() {
+        return prefetchFailed;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.FILE_CACHE);
@@ -125,6 +183,12 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.USED_PERCENT, getUsedPercent());
         builder.field(Fields.HIT_COUNT, getCacheHits());
         builder.field(Fields.MISS_COUNT, getCacheMisses());
+        builder.startObject(Fields.PREFETCH);
+        builder.field(Fields.REQUESTED, getPrefetchRequested());
+        builder.field(Fields.COMPLETED, getPrefetchCompleted());
+        builder.field(Fields.REJECTED, getPrefetchRejected());
+        builder.field(Fields.FAILED, getPrefetchFailed());
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -146,5 +210,11 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
 
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+
+        static final String PREFETCH = "prefetch";
+        static final String REQUESTED = "requested";
+        static final String COMPLETED = "completed";
+        static final String REJECTED = "rejected";
+        static final String FAILED = "failed";
     }
 }
@@ -10,6 +10,7 @@ package org.opensearch.index.store.remote.utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
@@ -26,8 +27,12 @@ import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -49,10 +54,36 @@ public class TransferManager {
 
     private final StreamReader streamReader;
     private final FileCache fileCache;
+    private final Executor prefetchExecutor;
+    private final int maxReadAheadBlocks;
+    // blocks whose prefetch has been submitted but not completed yet
+    private final Set<Path> pendingPrefetches = ConcurrentHashMap.newKeySet();
 
     public TransferManager(final StreamReader streamReader, final FileCache fileCache) {
+        this(streamReader, fileCache, null, 0);
+    }
+
+    /**
+     * @param prefetchExecutor executor running the asynchronous read-ahead of blocks, read-ahead is disabled if null
+     * @param maxReadAheadBlocks maximum number of blocks to read ahead of a sequentially read file
+     */
+    public TransferManager(
+        final StreamReader streamReader,
+        final FileCache fileCache,
+        final Executor prefetchExecutor,
+        final int maxReadAheadBlocks
+    ) {
         this.streamReader = streamReader;
         this.fileCache = fileCache;
+        this.prefetchExecutor = prefetchExecutor;
+        this.maxReadAheadBlocks = prefetchExecutor == null ? 0 : maxReadAheadBlocks;
+    }
+
+    /**
+     * Returns the maximum number of blocks that may be read ahead of a sequentially read file, 0 if read-ahead is disabled
+     */
+    public int getMaxReadAheadBlocks() {
+        return maxReadAheadBlocks;
     }
 
     /**
@@ -106,6 +137,43 @@ public class TransferManager {
         }
     }
 
+    /**
+     * Asynchronously fetches the given blob into the file cache so that a later {@link #fetchBlob(BlobFetchRequest)}
+     * of the same blob is served locally. This is best effort: the request is dropped if the same blob is already being
+     * prefetched, and rejected if the prefetch executor is saturated, so that read-ahead never delays the reads that
+     * actually need the data.
+     *
+     * @param blobFetchRequest to prefetch
+     */
+    public void prefetchBlob(BlobFetchRequest blobFetchRequest) {
+        if (prefetchExecutor == null) {
+            return;
+        }
+        final Path key = blobFetchRequest.getFilePath();
+        if (pendingPrefetches.add(key) == false) {
+            return;
+        }
+        fileCache.onPrefetchRequested();
+        try {
+            prefetchExecutor.execute(() -> {
+                try {
+                    // the returned clone is only used to make sure the block is downloaded, the cache entry stays in the cache
+                    fetchBlob(blobFetchRequest).close();
+                    fileCache.onPrefetchCompleted();
+                } catch (Exception e) {
+                    fileCache.onPrefetchFailed();
+                    logger.debug(() -> new ParameterizedMessage("failed to prefetch {}", key), e);
+                } finally {
+                    pendingPrefetches.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingPrefetches.remove(key);
+            fileCache.onPrefetchRejected();
+            logger.trace("prefetch of {} rejected", key);
+        }
+    }
+
     @SuppressWarnings("removal")
     private static FileCachedIndexInput createIndexInput(FileCache fileCache, StreamReader streamReader, BlobFetchRequest request) {
         try {
@@ -0,0 +1,519 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.Weigher;
+import org.opensearch.index.store.remote.utils.cache.stats.CacheStats;
+import org.opensearch.index.store.remote.utils.cache.stats.ConcurrentStatsCounter;
+import org.opensearch.index.store.remote.utils.cache.stats.StatsCounter;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * CLOCK implementation of {@link RefCountedCache} with lock-free reads. As long as {@link Node#refCount} is greater than 0 the
+ * node is not eligible for eviction, like with {@link LRUCache}.
+ * <br>
+ * This cache implementation differs from {@link LRUCache} in these ways:
+ * <ul>
+ * <li>{@link #get}, {@link #incRef} and {@link #decRef} never take the cache lock. Entries are looked up in a concurrent map and
+ * reference counts are updated with atomic operations, so that concurrent readers of the same files do not contend.
+ * Only {@link #put}, {@link #compute}, {@link #remove} and eviction take the lock.</li>
+ * <li>Entries are evicted with the CLOCK algorithm: every entry has a small frequency counter that is incremented when it is
+ * accessed, and the clock hand decrements counters of unreferenced entries as it sweeps over them, evicting the first entry
+ * whose counter is already 0.</li>
+ * <li>Entries whose key is added for the first time go to a probation clock, which is swept before the main clock as long as it
+ * holds more than {@link #PROBATION_RATIO} of the capacity. The sweep promotes the entries which were accessed since they were
+ * added to the main clock and evicts the others, so files that are only read once, like the files of a large merge or restore,
+ * can't push out the entries that are actually reused.</li>
+ * <li>A {@link FrequencySketch} remembers how often each key was added to the cache, including keys that were evicted since, like
+ * the TinyLFU admission policy. Entries whose key was added before skip probation and start with a frequency counter given by
+ * the sketch.</li>
+ * </ul>
+ * @see RefCountedCache
+ *
+ * @opensearch.internal
+ */
+class ClockCache<K, V> implements RefCountedCache<K, V> {
+    private static final Logger logger = LogManager.getLogger(ClockCache.class);
+
+    static final int MAX_FREQUENCY = 3;
+
+    static final double PROBATION_RATIO = 0.25;
+
+    private final long capacity;
+
+    private final long probationCapacity;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+
+    private final RemovalListener<K, V> listener;
+
+    private final Weigher<V> weigher;
+
+    private final StatsCounter<K> statsCounter;
+
+    private final ReentrantLock lock;
+
+    /** the history of the keys added to the cache, guarded by {@link #lock} */
+    private final FrequencySketch<K> sketch;
+
+    /** the entries which were not accessed since they were added for the first time, guarded by {@link #lock} */
+    private final Clock<K, V> probation;
+
+    /** the other entries, guarded by {@link #lock} */
+    private final Clock<K, V> main;
+
+    /**
+     * this tracks cache usage on the system (as long as cache entry is in the cache)
+     */
+    private final AtomicLong usage;
+
+    /**
+     * this tracks cache usage only by entries which are being referred ({@link Node#refCount} &gt; 0)
+     */
+    private final AtomicLong activeUsage;
+
+    static class Node<K, V> {
+        /** reference count of a node which is no longer in the cache */
+        static final int REMOVED = -1;
+
+        final K key;
+
+        volatile V value;
+
+        volatile long weight;
+
+        /**
+         * The transitions of the reference count from 0 to 1 and back are done while synchronized on the node, so that
+         * {@link ClockCache#activeUsage} is updated consistently with the weight of the node.
+         */
+        final AtomicInteger refCount;
+
+        /** CLOCK counter, updated without synchronization as lost updates are harmless */
+        volatile int frequency;
+
+        /** the clock of the node and its neighbours in that clock, guarded by {@link ClockCache#lock} */
+        Clock<K, V> clock;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key, V value, long weight, int frequency) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.frequency = frequency;
+            this.refCount = new AtomicInteger();
+        }
+
+        public boolean evictable() {
+            return refCount.get() == 0;
+        }
+
+        void recordAccess() {
+            if (frequency < MAX_FREQUENCY) {
+                frequency++;
+            }
+        }
+    }
+
+    /**
+     * Circular list of nodes with a hand pointing to the next node to inspect.
+     */
+    static final class Clock<K, V> {
+        Node<K, V> hand;
+        int size;
+        long weight;
+
+        /**
+         * Inserts the node right behind the hand, so that it is inspected last.
+         */
+        void link(Node<K, V> node) {
+            if (hand == null) {
+                node.prev = node;
+                node.next = node;
+                hand = node;
+            } else {
+                node.next = hand;
+                node.prev = hand.prev;
+                hand.prev.next = node;
+                hand.prev = node;
+            }
+            node.clock = this;
+            size++;
+            weight += node.weight;
+        }
+
+        void unlink(Node<K, V> node) {
+            assert node.clock == this;
+            if (node.next == node) {
+                hand = null;
+            } else {
+                if (hand == node) {
+                    hand = node.next;
+                }
+                node.prev.next = node.next;
+                node.next.prev = node.prev;
+            }
+            node.clock = null;
+            node.prev = null;
+            node.next = null;
+            size--;
+            weight -= node.weight;
+        }
+    }
+
+    public ClockCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+        this.capacity = capacity;
+        this.probationCapacity = (long) (capacity * PROBATION_RATIO);
+        this.probation = new Clock<>();
+        this.main = new Clock<>();
+        this.listener = listener;
+        this.weigher = weigher;
+        this.data = new ConcurrentHashMap<>();
+        this.lock = new ReentrantLock();
+        this.sketch = new FrequencySketch<>();
+        this.usage = new AtomicLong();
+        this.activeUsage = new AtomicLong();
+        this.statsCounter = new ConcurrentStatsCounter<>();
+    }
+
+    @Override
+    public V get(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        // the node may have been evicted since it was looked up, in which case it can't be referenced anymore
+        if (node == null || tryIncRef(node) == false) {
+            statsCounter.recordMisses(key, 1);
+            return null;
+        }
+        node.recordAccess();
+        statsCounter.recordHits(key, 1);
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+
+        lock.lock();
+        try {
+            final Node<K, V> node = data.get(key);
+            if (node != null) {
+                final V oldValue = node.value;
+                replaceNode(node, value);
+                return oldValue;
+            } else {
+                addNode(key, value);
+                return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(remappingFunction);
+        lock.lock();
+        try {
+            final Node<K, V> node = data.get(key);
+            if (node == null) {
+                final V newValue = remappingFunction.apply(key, null);
+                if (newValue == null) {
+                    // Remapping function asked for removal, but nothing to remove
+                    return null;
+                } else {
+                    addNode(key, newValue);
+                    statsCounter.recordMisses(key, 1);
+                    return newValue;
+                }
+            } else {
+                final V newValue = remappingFunction.apply(key, node.value);
+                if (newValue == null) {
+                    removeNode(node, RemovalReason.EXPLICIT);
+                    return null;
+                } else {
+                    statsCounter.recordHits(key, 1);
+                    replaceNode(node, newValue);
+                    return newValue;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(K key) {
+        Objects.requireNonNull(key);
+        lock.lock();
+        try {
+            final Node<K, V> node = data.get(key);
+            if (node != null) {
+                removeNode(node, RemovalReason.EXPLICIT);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            for (Node<K, V> node : data.values()) {
+                removeNode(node, RemovalReason.EXPLICIT);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long size() {
+        return data.size();
+    }
+
+    @Override
+    public void incRef(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        if (node != null && tryIncRef(node)) {
+            node.recordAccess();
+        }
+    }
+
+    @Override
+    public void decRef(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        if (node != null) {
+            decRef(node);
+        }
+    }
+
+    @Override
+    public long prune(Predicate<K> keyPredicate) {
+        long sum = 0L;
+        lock.lock();
+        try {
+            for (Node<K, V> node : data.values()) {
+                if (keyPredicate != null && !keyPredicate.test(node.key)) {
+                    continue;
+                }
+                if (node.refCount.compareAndSet(0, Node.REMOVED)) {
+                    sum += node.weight;
+                    unlinkNode(node, RemovalReason.EXPLICIT);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return sum;
+    }
+
+    @Override
+    public CacheUsage usage() {
+        return new CacheUsage(usage.get(), activeUsage.get());
+    }
+
+    @Override
+    public CacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    // To be used only for debugging purposes
+    public void logCurrentState() {
+        String allFiles = "\n";
+        for (Map.Entry<K, Node<K, V>> entry : data.entrySet()) {
+            String path = entry.getKey().toString();
+            String file = path.substring(path.lastIndexOf('/'));
+            allFiles += file + " [RefCount: " + entry.getValue().refCount + " , Weight: " + entry.getValue().weight + " ]\n";
+        }
+        logger.trace("Cache entries : " + allFiles);
+    }
+
+    /**
+     * Increments the reference count of the node, unless it was removed from the cache.
+     *
+     * @return whether the reference count was incremented
+     */
+    private boolean tryIncRef(Node<K, V> node) {
+        while (true) {
+            final int refCount = node.refCount.get();
+            if (refCount == Node.REMOVED) {
+                return false;
+            } else if (refCount == 0) {
+                synchronized (node) {
+                    if (node.refCount.compareAndSet(0, 1)) {
+                        // if it was inactive, we should add the weight to active usage from now
+                        activeUsage.addAndGet(node.weight);
+                        return true;
+                    }
+                }
+            } else if (node.refCount.compareAndSet(refCount, refCount + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void decRef(Node<K, V> node) {
+        while (true) {
+            final int refCount = node.refCount.get();
+            if (refCount <= 0) {
+                return;
+            } else if (refCount == 1) {
+                synchronized (node) {
+                    if (node.refCount.compareAndSet(1, 0)) {
+                        // if it was active, we should remove its weight from active usage
+                        activeUsage.addAndGet(-node.weight);
+                        return;
+                    }
+                }
+            } else if (node.refCount.compareAndSet(refCount, refCount - 1)) {
+                return;
+            }
+        }
+    }
+
+    private void addNode(K key, V value) {
+        final long weight = weigher.weightOf(value);
+        // keys seen for the first time must prove themselves in probation, keys which were added before start with a higher frequency
+        final int frequency = Math.min(sketch.frequency(key), MAX_FREQUENCY);
+        sketch.increment(key);
+        final Node<K, V> newNode = new Node<>(key, value, weight, frequency);
+        data.put(key, newNode);
+        sketch.ensureCapacity(data.size());
+        if (frequency == 0) {
+            probation.link(newNode);
+        } else {
+            main.link(newNode);
+        }
+        usage.addAndGet(weight);
+        tryIncRef(newNode);
+        evict();
+    }
+
+    private void replaceNode(Node<K, V> node, V newValue) {
+        if (node.value != newValue) { // replace if new value is not the same instance as existing value
+            final V oldValue = node.value;
+            synchronized (node) {
+                final long oldWeight = node.weight;
+                final long newWeight = weigher.weightOf(newValue);
+                // update the value and weight
+                node.value = newValue;
+                node.weight = newWeight;
+                // update usage
+                final long weightDiff = newWeight - oldWeight;
+                node.clock.weight += weightDiff;
+                if (node.refCount.get() > 0) {
+                    activeUsage.addAndGet(weightDiff);
+                }
+                usage.addAndGet(weightDiff);
+            }
+            statsCounter.recordReplacement();
+            listener.onRemoval(new RemovalNotification<>(node.key, oldValue, RemovalReason.REPLACED));
+        }
+        tryIncRef(node);
+        node.recordAccess();
+        evict();
+    }
+
+    private void removeNode(Node<K, V> node, RemovalReason reason) {
+        synchronized (node) {
+            if (node.refCount.getAndSet(Node.REMOVED) > 0) {
+                activeUsage.addAndGet(-node.weight);
+            }
+        }
+        unlinkNode(node, reason);
+    }
+
+    /**
+     * Removes a node whose reference count was set to {@link Node#REMOVED} from the cache and notifies the listener.
+     */
+    private void unlinkNode(Node<K, V> node, RemovalReason reason) {
+        assert node.refCount.get() == Node.REMOVED;
+        node.clock.unlink(node);
+        data.remove(node.key, node);
+        usage.addAndGet(-node.weight);
+        if (reason == RemovalReason.CAPACITY) {
+            statsCounter.recordEviction(node.weight);
+        } else {
+            statsCounter.recordRemoval(node.weight);
+        }
+        listener.onRemoval(new RemovalNotification<>(node.key, node.value, reason));
+    }
+
+    private boolean hasOverflowed() {
+        return usage.get() >= capacity;
+    }
+
+    private void evict() {
+        // Attempts to evict entries from the cache if it exceeds the maximum capacity.
+        while (hasOverflowed()) {
+            boolean evicted = false;
+            if (probation.weight > probationCapacity) {
+                evicted = evictFrom(probation);
+            }
+            if (evicted == false) {
+                evicted = evictFrom(main) || evictFrom(probation);
+            }
+            if (evicted == false) {
+                // all entries are referenced
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sweeps the clock until an unreferenced node with a frequency of 0 is found and evicts it. Nodes in probation which were
+     * accessed are promoted to the main clock, the frequency of the other nodes is decremented, so the sweep ends after at most
+     * {@link #MAX_FREQUENCY} + 1 turns.
+     *
+     * @return whether a node was evicted
+     */
+    private boolean evictFrom(Clock<K, V> clock) {
+        for (long steps = (long) (MAX_FREQUENCY + 1) * clock.size + 1; steps > 0 && clock.hand != null; steps--) {
+            final Node<K, V> node = clock.hand;
+            clock.hand = node.next;
+            if (node.evictable() == false) {
+                continue;
+            }
+            if (node.frequency > 0) {
+                if (clock == probation) {
+                    probation.unlink(node);
+                    main.link(node);
+                } else {
+                    node.frequency--;
+                }
+                continue;
+            }
+            // a concurrent reader may have referenced the node since it was inspected
+            if (node.refCount.compareAndSet(0, Node.REMOVED)) {
+                unlinkNode(node, RemovalReason.CAPACITY);
+                return true;
+            }
+        }
+        return false;
+    }
+}
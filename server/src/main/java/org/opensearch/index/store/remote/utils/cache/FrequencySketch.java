@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.common.util.BitMixer;
+
+/**
+ * A count-min sketch estimating how often keys were recently added to a cache, as used by the TinyLFU admission policy.
+ * Keys are remembered after their entries are evicted, so the sketch can tell apart keys which keep coming back from
+ * keys which are only seen once, like the files read by a scan. The counters saturate at {@link #MAX_COUNT} and are
+ * halved once the number of increments reaches ten times the width of the sketch, so that old history fades out.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @opensearch.internal
+ */
+final class FrequencySketch<K> {
+
+    static final int MAX_COUNT = 15;
+
+    private static final int DEPTH = 4;
+    private static final int MIN_WIDTH = 64;
+    private static final int[] SEEDS = { 0x97cb3127, 0xb41b3d5d, 0x6c1f7e39, 0x2c2f1b8d };
+
+    private byte[][] table;
+    private int mask;
+    private int sampleSize;
+    private int additions;
+
+    FrequencySketch() {
+        resize(MIN_WIDTH);
+    }
+
+    /**
+     * Grows the sketch so that it can accurately count at least the given number of distinct keys. Growing the sketch
+     * discards its history.
+     */
+    void ensureCapacity(long expectedKeys) {
+        if (expectedKeys > mask + 1 && mask + 1 < (1 << 30)) {
+            resize((int) Math.min(1 << 30, Long.highestOneBit(expectedKeys - 1) << 1));
+        }
+    }
+
+    /**
+     * Returns the estimated number of times the key was added, up to {@link #MAX_COUNT}.
+     */
+    int frequency(K key) {
+        final int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            frequency = Math.min(frequency, table[i][indexOf(hash, i)]);
+        }
+        return frequency;
+    }
+
+    /**
+     * Increments the estimated frequency of the key.
+     */
+    void increment(K key) {
+        final int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            final int index = indexOf(hash, i);
+            if (table[i][index] < MAX_COUNT) {
+                table[i][index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    private int indexOf(int hash, int row) {
+        return BitMixer.mix32(hash * SEEDS[row]) & mask;
+    }
+
+    private static int spread(int hash) {
+        return BitMixer.mix32(hash);
+    }
+
+    private void reset() {
+        for (byte[] row : table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>>= 1;
+            }
+        }
+        additions /= 2;
+    }
+
+    private void resize(int width) {
+        table = new byte[DEPTH][width];
+        mask = width - 1;
+        sampleSize = 10 * width;
+        additions = 0;
+    }
+}
@@ -20,7 +20,7 @@ import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
 /**
- * Segmented {@link LRUCache} to offer concurrent access with less contention.
+ * Segmented {@link LRUCache} or {@link ClockCache} to offer concurrent access with less contention.
  * @param <K> type of the key
  * @param <V> type of th value
  *
@@ -58,7 +58,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         this.perSegmentCapacity = (builder.capacity + (segments - 1)) / segments;
         this.weigher = builder.weigher;
         for (int i = 0; i < table.length; i++) {
-            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            table[i] = builder.evictionPolicy.newSegment(perSegmentCapacity, builder.listener, builder.weigher);
         }
         this.capacity = perSegmentCapacity * segments;
     }
@@ -191,11 +191,43 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         int i = 0;
         for (RefCountedCache<K, V> cache : table) {
             logger.trace("SegmentedCache " + i);
-            ((LRUCache<K, V>) cache).logCurrentState();
+            if (cache instanceof LRUCache) {
+                ((LRUCache<K, V>) cache).logCurrentState();
+            } else {
+                ((ClockCache<K, V>) cache).logCurrentState();
+            }
             i++;
         }
     }
 
+    /**
+     * The eviction policy of the segments of the cache.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Evicts the least recently used unreferenced entries first, see {@link LRUCache}. Every access takes the lock of the
+         * segment.
+         */
+        LRU {
+            @Override
+            <K, V> RefCountedCache<K, V> newSegment(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+                return new LRUCache<>(capacity, listener, weigher);
+            }
+        },
+        /**
+         * Evicts unreferenced entries with the CLOCK algorithm and a frequency based admission, see {@link ClockCache}.
+         * Lookups and reference counting do not take the lock of the segment.
+         */
+        CLOCK {
+            @Override
+            <K, V> RefCountedCache<K, V> newSegment(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+                return new ClockCache<>(capacity, listener, weigher);
+            }
+        };
+
+        abstract <K, V> RefCountedCache<K, V> newSegment(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher);
+    }
+
     enum SingletonWeigher implements Weigher<Object> {
         INSTANCE;
 
@@ -247,12 +279,15 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
         long capacity;
 
+        EvictionPolicy evictionPolicy;
+
         @SuppressWarnings("unchecked")
         Builder() {
             capacity = -1;
             weigher = (Weigher<V>) SingletonWeigher.INSTANCE;
             concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
             listener = (RemovalListener<K, V>) DiscardingListener.INSTANCE;
+            evictionPolicy = EvictionPolicy.LRU;
         }
 
         /**
@@ -312,6 +347,18 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             return this;
         }
 
+        /**
+         * Specifies the eviction policy of the segments of the cache (default {@link EvictionPolicy#LRU}).
+         *
+         * @param evictionPolicy the eviction policy
+         * @throws NullPointerException if the eviction policy is null
+         */
+        public Builder<K, V> evictionPolicy(EvictionPolicy evictionPolicy) {
+            Objects.requireNonNull(evictionPolicy);
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
         /**
          * Ensures that the argument expression is true.
          */
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache.stats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe {@link StatsCounter} implementation, for caches which record statistics outside of a lock.
+ *
+ * @opensearch.internal
+ */
+public class ConcurrentStatsCounter<K> implements StatsCounter<K> {
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder removeCount = new LongAdder();
+    private final LongAdder removeWeight = new LongAdder();
+    private final LongAdder replaceCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder evictionWeight = new LongAdder();
+
+    @Override
+    public void recordHits(K key, int count) {
+        hitCount.add(count);
+    }
+
+    @Override
+    public void recordMisses(K key, int count) {
+        missCount.add(count);
+    }
+
+    @Override
+    public void recordRemoval(long weight) {
+        removeCount.increment();
+        removeWeight.add(weight);
+    }
+
+    @Override
+    public void recordReplacement() {
+        replaceCount.increment();
+    }
+
+    @Override
+    public void recordEviction(long weight) {
+        evictionCount.increment();
+        evictionWeight.add(weight);
+    }
+
+    @Override
+    public CacheStats snapshot() {
+        return new CacheStats(
+            hitCount.sum(),
+            missCount.sum(),
+            removeCount.sum(),
+            removeWeight.sum(),
+            replaceCount.sum(),
+            evictionCount.sum(),
+            evictionWeight.sum()
+        );
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+}
@@ -23,6 +23,7 @@ import org.opensearch.index.translog.transfer.TranslogUploadFailedException;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongConsumer;
@@ -339,6 +340,17 @@ public class InternalTranslogManager implements TranslogManager, Closeable {
         return translog.add(operation);
     }
 
+    /**
+     * Adds operations to the translog
+     * @param operations operations to add to translog
+     * @return the locations in the translog, in the same order
+     * @throws IOException throws an IO exception
+     */
+    @Override
+    public List<Translog.Location> add(List<? extends Translog.Operation> operations) throws IOException {
+        return translog.add(operations);
+    }
+
     /**
      * Do not replay translog operations, but make the engine be ready.
      */
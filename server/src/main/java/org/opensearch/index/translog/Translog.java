@@ -549,33 +549,10 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
     public Location add(final Operation operation) throws IOException {
         final ReleasableBytesStreamOutput out = new ReleasableBytesStreamOutput(bigArrays);
         try {
-            final long start = out.position();
-            out.skip(Integer.BYTES);
-            writeOperationNoSize(new BufferedChecksumStreamOutput(out), operation);
-            final long end = out.position();
-            final int operationSize = (int) (end - Integer.BYTES - start);
-            out.seek(start);
-            out.writeInt(operationSize);
-            out.seek(end);
-            final BytesReference bytes = out.bytes();
+            final BytesReference bytes = serialize(operation, out);
             try (ReleasableLock ignored = readLock.acquire()) {
                 ensureOpen();
-                if (operation.primaryTerm() > current.getPrimaryTerm()) {
-                    assert false : "Operation term is newer than the current term; "
-                        + "current term["
-                        + current.getPrimaryTerm()
-                        + "], operation term["
-                        + operation
-                        + "]";
-                    throw new IllegalArgumentException(
-                        "Operation term is newer than the current term; "
-                            + "current term["
-                            + current.getPrimaryTerm()
-                            + "], operation term["
-                            + operation
-                            + "]"
-                    );
-                }
+                ensureOperationTerm(operation);
                 return current.add(bytes, operation.seqNo());
             }
         } catch (final AlreadyClosedException | IOException ex) {
@@ -589,6 +566,71 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
         }
     }
 
+    /**
+     * Adds the given operations to the translog, in order, acquiring the translog lock once for all of them.
+     *
+     * @return the locations of the operations, in the same order
+     */
+    public List<Location> add(final List<? extends Operation> operations) throws IOException {
+        final List<ReleasableBytesStreamOutput> outs = new ArrayList<>(operations.size());
+        try {
+            final List<BytesReference> serialized = new ArrayList<>(operations.size());
+            for (Operation operation : operations) {
+                final ReleasableBytesStreamOutput out = new ReleasableBytesStreamOutput(bigArrays);
+                outs.add(out);
+                serialized.add(serialize(operation, out));
+            }
+            final List<Location> locations = new ArrayList<>(operations.size());
+            try (ReleasableLock ignored = readLock.acquire()) {
+                ensureOpen();
+                for (int i = 0; i < operations.size(); i++) {
+                    ensureOperationTerm(operations.get(i));
+                    locations.add(current.add(serialized.get(i), operations.get(i).seqNo()));
+                }
+            }
+            return locations;
+        } catch (final AlreadyClosedException | IOException ex) {
+            closeOnTragicEvent(ex);
+            throw ex;
+        } catch (final Exception ex) {
+            closeOnTragicEvent(ex);
+            throw new TranslogException(shardId, "Failed to write [" + operations.size() + "] operations", ex);
+        } finally {
+            Releasables.close(outs);
+        }
+    }
+
+    private static BytesReference serialize(final Operation operation, final ReleasableBytesStreamOutput out) throws IOException {
+        final long start = out.position();
+        out.skip(Integer.BYTES);
+        writeOperationNoSize(new BufferedChecksumStreamOutput(out), operation);
+        final long end = out.position();
+        final int operationSize = (int) (end - Integer.BYTES - start);
+        out.seek(start);
+        out.writeInt(operationSize);
+        out.seek(end);
+        return out.bytes();
+    }
+
+    private void ensureOperationTerm(final Operation operation) {
+        if (operation.primaryTerm() > current.getPrimaryTerm()) {
+            assert false : "Operation term is newer than the current term; "
+                + "current term["
+                + current.getPrimaryTerm()
+                + "], operation term["
+                + operation
+                + "]";
+            throw new IllegalArgumentException(
+                "Operation term is newer than the current term; "
+                    + "current term["
+                    + current.getPrimaryTerm()
+                    + "], operation term["
+                    + operation
+                    + "]"
+            );
+        }
+    }
+
     /**
      * Tests whether or not the translog generation should be rolled to a new generation. This test
      * is based on the size of the current generation compared to the configured generation
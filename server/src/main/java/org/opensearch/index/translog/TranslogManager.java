@@ -12,6 +12,8 @@ import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.lease.Releasable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -119,6 +121,20 @@ public interface TranslogManager {
      */
     Translog.Location add(Translog.Operation operation) throws IOException;
 
+    /**
+     * Adds operations to the translog, in order
+     * @param operations to add to translog
+     * @return the locations in the translog, in the same order
+     * @throws IOException throws an IO exception if adding an operation fails
+     */
+    default List<Translog.Location> add(List<? extends Translog.Operation> operations) throws IOException {
+        final List<Translog.Location> locations = new ArrayList<>(operations.size());
+        for (Translog.Operation operation : operations) {
+            locations.add(add(operation));
+        }
+        return locations;
+    }
+
     /**
      * Checks if the translog has a pending recovery
      */
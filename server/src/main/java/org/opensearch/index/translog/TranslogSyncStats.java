@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Statistics about the translog fsyncs requested by write operations: how many requests each fsync served and how long it took.
+ * Both are kept as histograms with fixed bucket bounds, the last bucket of each histogram counts the values above the largest bound.
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.0.0")
+public class TranslogSyncStats implements Writeable, ToXContentFragment {
+
+    /**
+     * Inclusive upper bounds of the group size buckets
+     */
+    static final long[] GROUP_SIZE_BOUNDS = { 1, 2, 4, 8, 16, 32, 64, 128, 256, 512 };
+
+    /**
+     * Inclusive upper bounds of the fsync latency buckets, in milliseconds
+     */
+    static final long[] LATENCY_BOUNDS_IN_MILLIS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000 };
+
+    private long total;
+    private long totalTimeInMillis;
+    private final long[] groupSizes;
+    private final long[] latencies;
+
+    public TranslogSyncStats() {
+        this(0, 0, new long[GROUP_SIZE_BOUNDS.length + 1], new long[LATENCY_BOUNDS_IN_MILLIS.length + 1]);
+    }
+
+    public TranslogSyncStats(long total, long totalTimeInMillis, long[] groupSizes, long[] latencies) {
+        if (groupSizes.length != GROUP_SIZE_BOUNDS.length + 1) {
+            throw new IllegalArgumentException("expected [" + (GROUP_SIZE_BOUNDS.length + 1) + "] group size buckets");
+        }
+        if (latencies.length != LATENCY_BOUNDS_IN_MILLIS.length + 1) {
+            throw new IllegalArgumentException("expected [" + (LATENCY_BOUNDS_IN_MILLIS.length + 1) + "] latency buckets");
+        }
+        this.total = total;
+        this.totalTimeInMillis = totalTimeInMillis;
+        this.groupSizes = groupSizes;
+        this.latencies = latencies;
+    }
+
+    public TranslogSyncStats(StreamInput in) throws IOException {
+        this(in.readVLong(), in.readVLong(), in.readVLongArray(), in.readVLongArray());
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(total);
+        out.writeVLong(totalTimeInMillis);
+        out.writeVLongArray(groupSizes);
+        out.writeVLongArray(latencies);
+    }
+
+    public void add(TranslogSyncStats other) {
+        if (other == null) {
+            return;
+        }
+        total += other.total;
+        totalTimeInMillis += other.totalTimeInMillis;
+        for (int i = 0; i < groupSizes.length; i++) {
+            groupSizes[i] += other.groupSizes[i];
+        }
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] += other.latencies[i];
+        }
+    }
+
+    /**
+     * The number of fsyncs performed for write operations
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    public TimeValue getTotalTime() {
+        return TimeValue.timeValueMillis(totalTimeInMillis);
+    }
+
+    /**
+     * The number of fsyncs in each group size bucket, see {@link #GROUP_SIZE_BOUNDS}
+     */
+    public long[] getGroupSizes() {
+        return Arrays.copyOf(groupSizes, groupSizes.length);
+    }
+
+    /**
+     * The number of fsyncs in each latency bucket, see {@link #LATENCY_BOUNDS_IN_MILLIS}
+     */
+    public long[] getLatencies() {
+        return Arrays.copyOf(latencies, latencies.length);
+    }
+
+    static int bucket(long[] bounds, long value) {
+        int index = Arrays.binarySearch(bounds, value);
+        return index >= 0 ? index : -1 - index;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.SYNC);
+        builder.field(Fields.TOTAL, total);
+        builder.humanReadableField(Fields.TOTAL_TIME_IN_MILLIS, Fields.TOTAL_TIME, getTotalTime());
+        histogramToXContent(builder, Fields.GROUP_SIZE, GROUP_SIZE_BOUNDS, groupSizes);
+        histogramToXContent(builder, Fields.LATENCY_IN_MILLIS, LATENCY_BOUNDS_IN_MILLIS, latencies);
+        return builder.endObject();
+    }
+
+    private static void histogramToXContent(XContentBuilder builder, String name, long[] bounds, long[] counts) throws IOException {
+        builder.startArray(name);
+        for (int i = 0; i < counts.length; i++) {
+            builder.startObject();
+            if (i < bounds.length) {
+                builder.field(Fields.LTE, bounds[i]);
+            } else {
+                builder.field(Fields.GT, bounds[bounds.length - 1]);
+            }
+            builder.field(Fields.COUNT, counts[i]);
+            builder.endObject();
+        }
+        builder.endArray();
+    }
+
+    /**
+     * Fields for translog sync statistics
+     *
+     * @opensearch.internal
+     */
+    static final class Fields {
+        static final String SYNC = "sync";
+        static final String TOTAL = "total";
+        static final String TOTAL_TIME = "total_time";
+        static final String TOTAL_TIME_IN_MILLIS = "total_time_in_millis";
+        static final String GROUP_SIZE = "group_size";
+        static final String LATENCY_IN_MILLIS = "latency_in_millis";
+        static final String LTE = "lte";
+        static final String GT = "gt";
+        static final String COUNT = "count";
+    }
+}
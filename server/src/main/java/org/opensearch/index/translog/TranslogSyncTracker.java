@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.metrics.CounterMetric;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records the translog fsyncs requested by the write operations of a shard, see {@link TranslogSyncStats}
+ *
+ * @opensearch.internal
+ */
+public final class TranslogSyncTracker {
+
+    private final CounterMetric total = new CounterMetric();
+    private final CounterMetric totalTimeInNanos = new CounterMetric();
+    private final AtomicLongArray groupSizes = new AtomicLongArray(TranslogSyncStats.GROUP_SIZE_BOUNDS.length + 1);
+    private final AtomicLongArray latencies = new AtomicLongArray(TranslogSyncStats.LATENCY_BOUNDS_IN_MILLIS.length + 1);
+
+    /**
+     * Records a single fsync that served the given number of requests
+     */
+    public void onSync(int groupSize, long tookInNanos) {
+        total.inc();
+        totalTimeInNanos.inc(tookInNanos);
+        groupSizes.incrementAndGet(TranslogSyncStats.bucket(TranslogSyncStats.GROUP_SIZE_BOUNDS, groupSize));
+        latencies.incrementAndGet(
+            TranslogSyncStats.bucket(TranslogSyncStats.LATENCY_BOUNDS_IN_MILLIS, TimeUnit.NANOSECONDS.toMillis(tookInNanos))
+        );
+    }
+
+    public TranslogSyncStats stats() {
+        return new TranslogSyncStats(
+            total.count(),
+            TimeUnit.NANOSECONDS.toMillis(totalTimeInNanos.count()),
+            toArray(groupSizes),
+            toArray(latencies)
+        );
+    }
+
+    private static long[] toArray(AtomicLongArray array) {
+        final long[] values = new long[array.length()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = array.get(i);
+        }
+        return values;
+    }
+}
@@ -56,9 +56,12 @@ import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -113,12 +116,39 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         Property.NodeScope
     );
 
+    /** Whether the indexing buffer is shared between shards according to their write rates, and their indexing buffers are written
+     * to disk before the budget is exhausted (default: false). */
+    public static final Setting<Boolean> ADAPTIVE_ENABLED_SETTING = Setting.boolSetting(
+        "indices.memory.adaptive.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    /** Only applies when <code>indices.memory.adaptive.enabled</code> is true, the fraction of the indexing buffer that the
+     * shards' indexing buffers may use before the ones most over their share are written to disk (default: 0.75). */
+    public static final Setting<Double> ADAPTIVE_FLUSH_THRESHOLD_SETTING = Setting.doubleSetting(
+        "indices.memory.adaptive.flush_threshold",
+        0.75,
+        0.1,
+        1.0,
+        Property.NodeScope
+    );
+
+    // the fraction of the indexing buffer that is shared evenly between shards in adaptive mode, the rest is shared according to
+    // the shards' write rates
+    private static final double ADAPTIVE_EVEN_SHARE = 0.2;
+    // the weight of the latest sample in the moving averages of write rates and refresh costs
+    private static final double ADAPTIVE_EWMA_ALPHA = 0.3;
+
     private final ThreadPool threadPool;
 
     private final Iterable<IndexShard> indexShards;
 
     private final ByteSizeValue indexingBuffer;
 
+    private final boolean adaptive;
+    private final double adaptiveFlushThreshold;
+
     private final TimeValue inactiveTime;
     private final TimeValue interval;
 
@@ -159,15 +189,20 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         // we need to have this relatively small to free up heap quickly enough
         this.interval = SHARD_MEMORY_INTERVAL_TIME_SETTING.get(settings);
 
+        this.adaptive = ADAPTIVE_ENABLED_SETTING.get(settings);
+        this.adaptiveFlushThreshold = ADAPTIVE_FLUSH_THRESHOLD_SETTING.get(settings);
+
         this.statusChecker = new ShardsIndicesStatusChecker();
 
         logger.debug(
-            "using indexing buffer size [{}] with {} [{}], {} [{}]",
+            "using indexing buffer size [{}] with {} [{}], {} [{}], {} [{}]",
             this.indexingBuffer,
             SHARD_INACTIVE_TIME_SETTING.getKey(),
             this.inactiveTime,
             SHARD_MEMORY_INTERVAL_TIME_SETTING.getKey(),
-            this.interval
+            this.interval,
+            ADAPTIVE_ENABLED_SETTING.getKey(),
+            this.adaptive
         );
         this.scheduler = scheduleTask(threadPool);
 
@@ -213,12 +248,24 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         return shard.getWritingBytes();
     }
 
+    /** returns the current value of a monotonic clock, in nanoseconds */
+    protected long relativeTimeInNanos() {
+        return System.nanoTime();
+    }
+
     /** ask this shard to refresh, in the background, to free up heap */
     protected void writeIndexingBufferAsync(IndexShard shard) {
         threadPool.executor(ThreadPool.Names.REFRESH).execute(new AbstractRunnable() {
             @Override
             public void doRun() {
-                shard.writeIndexingBuffer();
+                if (adaptive) {
+                    final long bytes = getIndexBufferRAMBytesUsed(shard) - getShardWritingBytes(shard);
+                    final long startNanos = relativeTimeInNanos();
+                    shard.writeIndexingBuffer();
+                    indexingBufferWritten(shard, bytes, relativeTimeInNanos() - startNanos);
+                } else {
+                    shard.writeIndexingBuffer();
+                }
             }
 
             @Override
@@ -228,6 +275,11 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         });
     }
 
+    /** records how long writing the given bytes of this shard's indexing buffer to disk took, to project refresh costs */
+    void indexingBufferWritten(IndexShard shard, long bytes, long tookNanos) {
+        statusChecker.indexingBufferWritten(shard, bytes, tookNanos);
+    }
+
     /** force checker to run now */
     void forceCheck() {
         statusChecker.run();
@@ -281,12 +333,62 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         }
     }
 
+    /**
+     * The write rate and refresh cost of a shard, which its share of the indexing buffer is based on in adaptive mode
+     *
+     * @opensearch.internal
+     */
+    private static final class ShardBufferStats {
+        // the bytes in the shard's indexing buffer, which are not being written to disk, at the previous check
+        long lastBytesBuffered;
+        // moving average of the bytes added to the shard's indexing buffer per nanosecond
+        double bytesPerNano;
+        boolean sampled;
+        // moving average of the nanoseconds it takes to write a byte of the shard's indexing buffer to disk, updated by refreshes
+        volatile double refreshNanosPerByte;
+
+        void sampleWrites(long bytesBuffered, long elapsedNanos) {
+            // a buffer that shrank was written to disk since the previous check, what it holds now was added since
+            final long added = bytesBuffered >= lastBytesBuffered ? bytesBuffered - lastBytesBuffered : bytesBuffered;
+            final double rate = (double) added / Math.max(elapsedNanos, 1L);
+            bytesPerNano = sampled ? ADAPTIVE_EWMA_ALPHA * rate + (1 - ADAPTIVE_EWMA_ALPHA) * bytesPerNano : rate;
+            sampled = true;
+            lastBytesBuffered = bytesBuffered;
+        }
+
+        synchronized void sampleRefresh(long bytes, long tookNanos) {
+            final double cost = (double) tookNanos / bytes;
+            final double previous = refreshNanosPerByte;
+            refreshNanosPerByte = previous == 0 ? cost : ADAPTIVE_EWMA_ALPHA * cost + (1 - ADAPTIVE_EWMA_ALPHA) * previous;
+        }
+
+        /**
+         * Returns how many bytes the shard's indexing buffer is expected to hold once it is written to disk, if the writing started
+         * now: the buffer keeps growing at the shard's write rate while the refresh runs
+         */
+        long projectedBytes(long bytesBuffered) {
+            return bytesBuffered + (long) (bytesPerNano * refreshNanosPerByte * bytesBuffered);
+        }
+    }
+
     /** not static because we need access to many fields/methods from our containing class (IMC): */
     final class ShardsIndicesStatusChecker implements Runnable {
 
         final AtomicLong bytesWrittenSinceCheck = new AtomicLong();
         final ReentrantLock runLock = new ReentrantLock();
 
+        // only accessed under the run lock, except for the refresh costs
+        final Map<IndexShard, ShardBufferStats> shardBufferStats = new ConcurrentHashMap<>();
+        long lastCheckNanos = relativeTimeInNanos();
+
+        /** Records how long writing the indexing buffer of a shard to disk took */
+        void indexingBufferWritten(IndexShard shard, long bytes, long tookNanos) {
+            final ShardBufferStats stats = shardBufferStats.get(shard);
+            if (stats != null && bytes > 0) {
+                stats.sampleRefresh(bytes, tookNanos);
+            }
+        }
+
         /** Shard calls this on each indexing/delete op */
         public void bytesWritten(int bytes) {
             long totalBytes = bytesWrittenSinceCheck.addAndGet(bytes);
@@ -330,6 +432,11 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         }
 
         private void runUnlocked() {
+            if (adaptive) {
+                runAdaptiveUnlocked();
+                return;
+            }
+
             // NOTE: even if we hit an errant exc here, our ThreadPool.scheduledWithFixedDelay will log the exception and re-invoke us
             // again, on schedule
 
@@ -446,6 +553,123 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                 throttled.clear();
             }
         }
+
+        /**
+         * Shares the indexing buffer between shards: a part evenly, so that shards that index little always have some buffer, and
+         * the rest according to their write rates. Once the shards' indexing buffers use more than the flush threshold of the
+         * indexing buffer, the shards that are the most over their share are written to disk in the background, counting what
+         * each shard is expected to buffer while it is being written. Only shards that use more than their share are throttled,
+         * when writing to disk can't keep up.
+         */
+        private void runAdaptiveUnlocked() {
+            final long nowNanos = relativeTimeInNanos();
+            final long elapsedNanos = nowNanos - lastCheckNanos;
+            lastCheckNanos = nowNanos;
+
+            final List<IndexShard> shards = availableShards();
+            final long[] bytesBuffered = new long[shards.size()];
+            final long[] bytesWriting = new long[shards.size()];
+            final ShardBufferStats[] stats = new ShardBufferStats[shards.size()];
+            long totalBytesUsed = 0;
+            long totalBytesWriting = 0;
+            double totalBytesPerNano = 0;
+            for (int i = 0; i < shards.size(); i++) {
+                final IndexShard shard = shards.get(i);
+
+                // Give shard a chance to transition to inactive so we can flush:
+                checkIdle(shard, inactiveTime.nanos());
+
+                bytesWriting[i] = getShardWritingBytes(shard);
+                // Only count up bytes not already being refreshed, a refresh that completed in between reads leaves little heap:
+                bytesBuffered[i] = Math.max(getIndexBufferRAMBytesUsed(shard) - bytesWriting[i], 0);
+                stats[i] = shardBufferStats.computeIfAbsent(shard, s -> new ShardBufferStats());
+                stats[i].sampleWrites(bytesBuffered[i], elapsedNanos);
+
+                totalBytesUsed += bytesBuffered[i];
+                totalBytesWriting += bytesWriting[i];
+                totalBytesPerNano += stats[i].bytesPerNano;
+            }
+            // Forget about shards that were closed or relocated:
+            shardBufferStats.keySet().retainAll(shards);
+
+            final long bufferBytes = indexingBuffer.getBytes();
+            final long[] budgets = new long[shards.size()];
+            final PriorityQueue<ShardAndBytesUsed> queue = new PriorityQueue<>();
+            long totalProjectedBytes = 0;
+            for (int i = 0; i < shards.size(); i++) {
+                final double rateShare = totalBytesPerNano > 0 ? stats[i].bytesPerNano / totalBytesPerNano : 1.0 / shards.size();
+                budgets[i] = (long) (bufferBytes * (ADAPTIVE_EVEN_SHARE / shards.size() + (1 - ADAPTIVE_EVEN_SHARE) * rateShare));
+                if (bytesBuffered[i] > 0) {
+                    final long projectedBytes = stats[i].projectedBytes(bytesBuffered[i]);
+                    totalProjectedBytes += projectedBytes;
+                    // Sort the shards that are the most over their share of the flush threshold first:
+                    queue.add(new ShardAndBytesUsed(projectedBytes - (long) (budgets[i] * adaptiveFlushThreshold), shards.get(i)));
+                }
+            }
+
+            if (logger.isTraceEnabled()) {
+                for (int i = 0; i < shards.size(); i++) {
+                    logger.trace(
+                        "shard [{}] is using [{}] heap, writing [{}] heap, with a budget of [{}]",
+                        shards.get(i).shardId(),
+                        new ByteSizeValue(bytesBuffered[i]),
+                        new ByteSizeValue(bytesWriting[i]),
+                        new ByteSizeValue(budgets[i])
+                    );
+                }
+            }
+
+            final long flushThresholdBytes = (long) (bufferBytes * adaptiveFlushThreshold);
+            if (totalProjectedBytes > flushThresholdBytes) {
+                logger.debug(
+                    "now write some indexing buffers: total indexing heap bytes used [{}], [{}] projected, vs {} [{}] with {} [{}], "
+                        + "currently writing bytes [{}]",
+                    new ByteSizeValue(totalBytesUsed),
+                    new ByteSizeValue(totalProjectedBytes),
+                    INDEX_BUFFER_SIZE_SETTING.getKey(),
+                    indexingBuffer,
+                    ADAPTIVE_FLUSH_THRESHOLD_SETTING.getKey(),
+                    adaptiveFlushThreshold
+                );
+                while (totalProjectedBytes > flushThresholdBytes && queue.isEmpty() == false) {
+                    final IndexShard shard = queue.poll().shard;
+                    final int i = shards.indexOf(shard);
+                    logger.debug(
+                        "write indexing buffer to disk for shard [{}] to free up its [{}] indexing buffer, its budget is [{}]",
+                        shard.shardId(),
+                        new ByteSizeValue(bytesBuffered[i]),
+                        new ByteSizeValue(budgets[i])
+                    );
+                    writeIndexingBufferAsync(shard);
+                    totalProjectedBytes -= stats[i].projectedBytes(bytesBuffered[i]);
+                }
+            }
+
+            // If we are using more than 50% over our budget across both indexing buffers and bytes we are still moving to disk, then
+            // we throttle the shards that use more than their share to send back-pressure to their ongoing indexing:
+            final boolean doThrottle = (totalBytesWriting + totalBytesUsed) > 1.5 * bufferBytes;
+            for (Iterator<IndexShard> iterator = throttled.iterator(); iterator.hasNext();) {
+                final IndexShard shard = iterator.next();
+                if (shards.contains(shard) == false) {
+                    logger.info("stop throttling indexing for shard [{}]", shard.shardId());
+                    deactivateThrottling(shard);
+                    iterator.remove();
+                }
+            }
+            for (int i = 0; i < shards.size(); i++) {
+                final IndexShard shard = shards.get(i);
+                final boolean overBudget = bytesBuffered[i] + bytesWriting[i] > budgets[i];
+                if (doThrottle && overBudget) {
+                    if (throttled.add(shard)) {
+                        logger.info("now throttling indexing for shard [{}]: segment writing can't keep up", shard.shardId());
+                        activateThrottling(shard);
+                    }
+                } else if (throttled.remove(shard)) {
+                    logger.info("stop throttling indexing for shard [{}]", shard.shardId());
+                    deactivateThrottling(shard);
+                }
+            }
+        }
     }
 
     /**
@@ -0,0 +1,379 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSet;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TermRangeQuery;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BitDocIdSet;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.RoaringDocIdSet;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.service.CacheService;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.shard.ShardUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * Node level cache of the documents matching filter clauses, per segment.
+ * <p>
+ * The {@link IndicesRequestCache} is keyed on the whole shard request, so two requests that only differ by their
+ * aggregations or their size never share anything, and the {@link IndicesQueryCache} only caches a filter once its
+ * usage tracking policy has seen it several times, and only on large segments. This cache complements them for the
+ * range filters that dashboards repeat across otherwise different requests: the first time such a filter clause is
+ * evaluated on a segment, the matching doc ids are cached, keyed by the segment core and the normalized clause, and
+ * are reused by any later request that contains the same clause, whatever the rest of the request is. Every filter
+ * clause of a boolean query goes through the cache on its own, so a shared range is reused even if the other
+ * clauses differ.
+ * <p>
+ * Like the {@link IndicesQueryCache}, cached doc ids ignore deletions, which are applied at collection time, so
+ * entries stay valid until the segment core is closed.
+ *
+ * @opensearch.internal
+ */
+public final class IndicesFilterCache implements RemovalListener<ICacheKey<IndicesFilterCache.Key>, DocIdSet>, Closeable {
+
+    private static final Logger logger = LogManager.getLogger(IndicesFilterCache.class);
+
+    public static final Setting<Boolean> INDICES_FILTER_CACHE_ENABLED_SETTING = Setting.boolSetting(
+        "indices.filter.cache.enabled",
+        false,
+        Property.NodeScope
+    );
+    public static final Setting<ByteSizeValue> INDICES_FILTER_CACHE_SIZE_SETTING = Setting.memorySizeSetting(
+        "indices.filter.cache.size",
+        "5%",
+        Property.NodeScope
+    );
+
+    // same default as the LRUQueryCache for queries that do not implement Accountable
+    private static final long QUERY_DEFAULT_RAM_BYTES_USED = 1024;
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+
+    private final ICache<Key, DocIdSet> cache;
+    // keys cached per segment core, to invalidate them when the segment is closed
+    private final Map<Object, SegmentKeys> keysByCoreKey = ConcurrentCollections.newConcurrentMap();
+
+    public IndicesFilterCache(Settings settings, CacheService cacheService) {
+        final ByteSizeValue size = INDICES_FILTER_CACHE_SIZE_SETTING.get(settings);
+        logger.debug("using [node] filter cache with size [{}]", size);
+        ToLongBiFunction<ICacheKey<Key>, DocIdSet> weigher = (k, v) -> k.ramBytesUsed(k.key.ramBytesUsed()) + v.ramBytesUsed();
+        this.cache = cacheService.createCache(
+            new CacheConfig.Builder<Key, DocIdSet>().setSettings(settings)
+                .setWeigher(weigher)
+                .setKeyType(Key.class)
+                .setValueType(DocIdSet.class)
+                .setRemovalListener(this)
+                .setMaxSizeInBytes(size.getBytes())
+                .setDimensionNames(List.of(IndicesRequestCache.INDEX_DIMENSION_NAME, IndicesRequestCache.SHARD_ID_DIMENSION_NAME))
+                .build(),
+            CacheType.INDICES_FILTER_CACHE
+        );
+    }
+
+    /**
+     * Returns the clause the matching doc ids of the given filter are cached for, or null if the filter is not cached
+     * by this cache. Ranges are normalized to their points or terms query, so the same range shares its entries whether
+     * or not it was combined with a doc values query.
+     */
+    static Query normalize(Query query) {
+        if (query instanceof IndexOrDocValuesQuery) {
+            query = ((IndexOrDocValuesQuery) query).getIndexQuery();
+        }
+        if (query instanceof PointRangeQuery || query instanceof TermRangeQuery) {
+            return query;
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the matching doc ids of the given filter are cached by this cache
+     */
+    public boolean isCacheable(Query query) {
+        return normalize(query) != null;
+    }
+
+    /**
+     * Wraps the given weight of a filter so that its matching doc ids are looked up in this cache
+     */
+    public Weight doCache(Weight weight) {
+        final Query clause = normalize(weight.getQuery());
+        assert clause != null : "filter is not cacheable: " + weight.getQuery();
+        return new CachingWeight(weight, clause);
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<ICacheKey<Key>, DocIdSet> notification) {
+        final ICacheKey<Key> key = notification.getKey();
+        if (key == null || key.key == null) {
+            return;
+        }
+        final SegmentKeys segmentKeys = keysByCoreKey.get(key.key.coreKey);
+        if (segmentKeys != null) {
+            segmentKeys.keys.remove(key);
+        }
+    }
+
+    private void onCoreClosed(Object coreKey) {
+        final SegmentKeys segmentKeys = keysByCoreKey.remove(coreKey);
+        if (segmentKeys != null) {
+            for (ICacheKey<Key> key : segmentKeys.keys) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    /**
+     * Invalidates the entries of the given shard and drops its stats, called once the shard is closed.
+     */
+    public void onClose(ShardId shardId) {
+        for (Map.Entry<Object, SegmentKeys> entry : keysByCoreKey.entrySet()) {
+            if (entry.getValue().shardId.equals(shardId)) {
+                onCoreClosed(entry.getKey());
+            }
+        }
+        final ICacheKey<Key> dummyKey = new ICacheKey<>(null, dimensions(shardId));
+        dummyKey.setDropStatsForDimensions(true);
+        cache.invalidate(dummyKey);
+    }
+
+    /** Clear all entries that belong to the given index. */
+    public void clearIndex(String index) {
+        for (Map.Entry<Object, SegmentKeys> entry : keysByCoreKey.entrySet()) {
+            if (entry.getValue().shardId.getIndexName().equals(index)) {
+                onCoreClosed(entry.getKey());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        keysByCoreKey.clear();
+        cache.invalidateAll();
+        cache.close();
+    }
+
+    // pkg-private for testing
+    long count() {
+        return cache.count();
+    }
+
+    private static List<String> dimensions(ShardId shardId) {
+        return List.of(shardId.getIndexName(), shardId.toString());
+    }
+
+    private DocIdSet getOrCompute(LeafReaderContext context, IndexReader.CacheHelper cacheHelper, ShardId shardId, Query clause, Weight in)
+        throws IOException {
+        final Object coreKey = cacheHelper.getKey();
+        final ICacheKey<Key> key = new ICacheKey<>(new Key(coreKey, clause), dimensions(shardId));
+        final Loader loader = new Loader(context, in);
+        final DocIdSet docIdSet;
+        try {
+            docIdSet = cache.computeIfAbsent(key, loader);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+        if (loader.isLoaded()) {
+            final SegmentKeys segmentKeys = keysByCoreKey.computeIfAbsent(coreKey, k -> {
+                cacheHelper.addClosedListener(this::onCoreClosed);
+                return new SegmentKeys(shardId);
+            });
+            segmentKeys.keys.add(key);
+        }
+        return docIdSet;
+    }
+
+    /**
+     * Builds the doc id set of the documents matching the given weight on a segment, using a bit set for dense filters.
+     */
+    static DocIdSet cacheImpl(LeafReaderContext context, Weight weight) throws IOException {
+        final ScorerSupplier supplier = weight.scorerSupplier(context);
+        if (supplier == null) {
+            return DocIdSet.EMPTY;
+        }
+        final int maxDoc = context.reader().maxDoc();
+        final long cost = supplier.cost();
+        final DocIdSetIterator iterator = supplier.get(Long.MAX_VALUE).iterator();
+        if (cost * 100 >= maxDoc) {
+            // dense: one bit per document is cheaper than a roaring doc id set
+            final FixedBitSet bitSet = new FixedBitSet(maxDoc);
+            bitSet.or(iterator);
+            return new BitDocIdSet(bitSet, bitSet.cardinality());
+        } else {
+            final RoaringDocIdSet.Builder builder = new RoaringDocIdSet.Builder(maxDoc);
+            for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+                builder.add(doc);
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Keys cached for a segment core
+     *
+     * @opensearch.internal
+     */
+    private static class SegmentKeys {
+        final ShardId shardId;
+        final Set<ICacheKey<Key>> keys = ConcurrentCollections.newConcurrentSet();
+
+        SegmentKeys(ShardId shardId) {
+            this.shardId = shardId;
+        }
+    }
+
+    /**
+     * Loads the doc id set of a filter on a segment on cache misses
+     *
+     * @opensearch.internal
+     */
+    private static class Loader implements LoadAwareCacheLoader<ICacheKey<Key>, DocIdSet> {
+
+        private final LeafReaderContext context;
+        private final Weight weight;
+        private boolean loaded;
+
+        Loader(LeafReaderContext context, Weight weight) {
+            this.context = context;
+            this.weight = weight;
+        }
+
+        @Override
+        public boolean isLoaded() {
+            return loaded;
+        }
+
+        @Override
+        public DocIdSet load(ICacheKey<Key> key) throws Exception {
+            final DocIdSet docIdSet = cacheImpl(context, weight);
+            loaded = true;
+            return docIdSet;
+        }
+    }
+
+    /**
+     * Key of a cache entry: the segment core and the normalized filter clause
+     *
+     * @opensearch.internal
+     */
+    static final class Key implements Accountable {
+        final Object coreKey;
+        final Query query;
+
+        Key(Object coreKey, Query query) {
+            this.coreKey = Objects.requireNonNull(coreKey);
+            this.query = Objects.requireNonNull(query);
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return BASE_RAM_BYTES_USED + RamUsageEstimator.sizeOfObject(query, QUERY_DEFAULT_RAM_BYTES_USED);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            // segment core keys are compared by identity
+            return coreKey == key.coreKey && query.equals(key.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(coreKey) + query.hashCode();
+        }
+    }
+
+    /**
+     * Weight of a filter whose matching doc ids are served from the cache
+     *
+     * @opensearch.internal
+     */
+    private class CachingWeight extends ConstantScoreWeight {
+
+        private final Weight in;
+        private final Query clause;
+
+        CachingWeight(Weight in, Query clause) {
+            super(in.getQuery(), 1f);
+            this.in = in;
+            this.clause = clause;
+        }
+
+        @Override
+        public Explanation explain(LeafReaderContext context, int doc) throws IOException {
+            return in.explain(context, doc);
+        }
+
+        @Override
+        public Scorer scorer(LeafReaderContext context) throws IOException {
+            final IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+            final ShardId shardId = ShardUtils.extractShardId(context.reader());
+            if (cacheHelper == null || shardId == null || in.isCacheable(context) == false) {
+                return in.scorer(context);
+            }
+            final DocIdSet docIdSet = getOrCompute(context, cacheHelper, shardId, clause, in);
+            if (docIdSet == DocIdSet.EMPTY) {
+                return null;
+            }
+            final DocIdSetIterator iterator = docIdSet.iterator();
+            if (iterator == null) {
+                return null;
+            }
+            return new ConstantScoreScorer(this, 0f, ScoreMode.COMPLETE_NO_SCORES, iterator);
+        }
+
+        @Override
+        public int count(LeafReaderContext context) throws IOException {
+            return in.count(context);
+        }
+
+        @Override
+        public boolean isCacheable(LeafReaderContext ctx) {
+            return in.isCacheable(ctx);
+        }
+    }
+}
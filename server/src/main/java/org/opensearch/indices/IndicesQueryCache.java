@@ -94,6 +94,8 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     );
 
     private final LRUQueryCache cache;
+    // null if the filter cache is disabled
+    private final IndicesFilterCache filterCache;
     private final ShardCoreKeyMap shardKeyMap = new ShardCoreKeyMap();
     private final Map<ShardId, Stats> shardStats = new ConcurrentHashMap<>();
     private volatile long sharedRamBytesUsed;
@@ -104,6 +106,11 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     private final Map<Object, StatsAndCount> stats2 = Collections.synchronizedMap(new IdentityHashMap<>());
 
     public IndicesQueryCache(Settings settings) {
+        this(settings, null);
+    }
+
+    public IndicesQueryCache(Settings settings, IndicesFilterCache filterCache) {
+        this.filterCache = filterCache;
         final ByteSizeValue size = INDICES_CACHE_QUERY_SIZE_SETTING.get(settings);
         final int count = INDICES_CACHE_QUERY_COUNT_SETTING.get(settings);
         logger.debug("using [node] query cache with size [{}] max filter count [{}]", size, count);
@@ -149,7 +156,13 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         while (weight instanceof CachingWeightWrapper) {
             weight = ((CachingWeightWrapper) weight).in;
         }
-        final Weight in = cache.doCache(weight, policy);
+        final Weight in;
+        if (filterCache != null && filterCache.isCacheable(weight.getQuery())) {
+            // filters admitted by the filter cache are cached there on first use instead of relying on the caching policy
+            in = filterCache.doCache(weight);
+        } else {
+            in = cache.doCache(weight, policy);
+        }
         // We wrap the weight to track the readers it sees and map them with
         // the shards they belong to
         return new CachingWeightWrapper(in);
@@ -202,6 +215,9 @@ public class IndicesQueryCache implements QueryCache, Closeable {
 
     /** Clear all entries that belong to the given index. */
     public void clearIndex(String index) {
+        if (filterCache != null) {
+            filterCache.clearIndex(index);
+        }
         final Set<Object> coreCacheKeys = shardKeyMap.getCoreKeysForIndex(index);
         for (Object coreKey : coreCacheKeys) {
             cache.clearCoreCacheKey(coreKey);
@@ -296,6 +312,9 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     }
 
     public void onClose(ShardId shardId) {
+        if (filterCache != null) {
+            filterCache.onClose(shardId);
+        }
         assert empty(shardStats.get(shardId));
         shardStats.remove(shardId);
     }
@@ -49,7 +49,7 @@ import org.opensearch.common.cache.RemovalListener;
 import org.opensearch.common.cache.RemovalNotification;
 import org.opensearch.common.cache.RemovalReason;
 import org.opensearch.common.cache.policy.CachedQueryResult;
-import org.opensearch.common.cache.serializer.BytesReferenceSerializer;
+import org.opensearch.common.cache.serializer.PagedBytesReferenceSerializer;
 import org.opensearch.common.cache.service.CacheService;
 import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
 import org.opensearch.common.cache.store.config.CacheConfig;
@@ -159,6 +159,16 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
         Property.Dynamic
     );
 
+    /**
+     * If enabled, values spilled to a disk tier are compressed with zstd. Values are otherwise written to the disk tier
+     * as is. Has no effect on caches that do not serialize their values.
+     */
+    public static final Setting<Boolean> INDICES_REQUEST_CACHE_DISK_COMPRESSION_SETTING = Setting.boolSetting(
+        "indices.requests.cache.disk.compression.enabled",
+        false,
+        Property.NodeScope
+    );
+
     private final static long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
 
     private final ConcurrentMap<CleanupKey, Boolean> registeredClosedListeners = ConcurrentCollections.newConcurrentMap();
@@ -214,7 +224,7 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
                     }
                 })
                 .setKeySerializer(new IRCKeyWriteableSerializer())
-                .setValueSerializer(new BytesReferenceSerializer())
+                .setValueSerializer(new PagedBytesReferenceSerializer(INDICES_REQUEST_CACHE_DISK_COMPRESSION_SETTING.get(settings)))
                 .setClusterSettings(clusterService.getClusterSettings())
                 .setStoragePath(nodeEnvironment.nodePaths()[0].path.toString() + "/request_cache")
                 .build(),
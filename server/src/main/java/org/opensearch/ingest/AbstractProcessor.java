@@ -32,6 +32,10 @@
 
 package org.opensearch.ingest;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * An Abstract Processor that holds tag and description information
  * about the processor.
@@ -56,4 +60,27 @@ public abstract class AbstractProcessor implements Processor {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * Executes {@link #execute(IngestDocument)} on each of the given documents in turn on the calling thread, and notifies the
+     * handler once with the results of all of them. Processors that never make asynchronous calls can implement
+     * {@link #batchExecute} with it, to avoid the per-document callbacks and result tracking of the default implementation.
+     */
+    protected final void executeSequentially(
+        List<IngestDocumentWrapper> ingestDocumentWrappers,
+        Consumer<List<IngestDocumentWrapper>> handler
+    ) {
+        final List<IngestDocumentWrapper> results = new ArrayList<>(ingestDocumentWrappers.size());
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            IngestDocument result = null;
+            Exception exception = null;
+            try {
+                result = execute(ingestDocumentWrapper.getIngestDocument());
+            } catch (Exception e) {
+                exception = e;
+            }
+            results.add(new IngestDocumentWrapper(ingestDocumentWrapper.getSlot(), result, exception));
+        }
+        handler.accept(results);
+    }
 }
@@ -485,18 +485,47 @@ public final class ConfigurationUtils {
                 Script script = new Script(ScriptType.INLINE, DEFAULT_TEMPLATE_LANG, propertyValue, Collections.emptyMap());
                 return scriptService.compile(script, TemplateScript.CONTEXT);
             } else {
-                return (params) -> new TemplateScript(params) {
-                    @Override
-                    public String execute() {
-                        return propertyValue;
-                    }
-                };
+                return new ConstantTemplateScriptFactory(propertyValue);
             }
         } catch (Exception e) {
             throw ConfigurationUtils.newConfigurationException(processorType, processorTag, propertyName, e);
         }
     }
 
+    /**
+     * Returns the value rendered by the given template if it was compiled by {@link #compileTemplate} from a value that is not
+     * a template, in which case it renders the same value for every document, or null otherwise.
+     */
+    public static String constantTemplateValue(TemplateScript.Factory template) {
+        if (template instanceof ConstantTemplateScriptFactory) {
+            return ((ConstantTemplateScriptFactory) template).value;
+        }
+        return null;
+    }
+
+    /**
+     * A template factory for property values that hold no template, they are rendered as-is.
+     *
+     * @opensearch.internal
+     */
+    private static final class ConstantTemplateScriptFactory implements TemplateScript.Factory {
+        private final String value;
+
+        private ConstantTemplateScriptFactory(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public TemplateScript newInstance(Map<String, Object> params) {
+            return new TemplateScript(params) {
+                @Override
+                public String execute() {
+                    return value;
+                }
+            };
+        }
+    }
+
     private static void addMetadataToException(
         OpenSearchException exception,
         String processorType,
@@ -123,12 +123,44 @@ public final class IngestDocument {
      * or if the field that is found at the provided path is not of the expected type.
      */
     public <T> T getFieldValue(String path, Class<T> clazz) {
-        FieldPath fieldPath = new FieldPath(path);
-        Object context = fieldPath.initialContext;
+        return getFieldValue(new FieldPath(path), clazz);
+    }
+
+    /**
+     * Returns the value contained in the document for the provided parsed path
+     * @param fieldPath The parsed path within the document
+     * @param clazz The expected class of the field value
+     * @return the value for the provided path if existing, null otherwise
+     * @throws IllegalArgumentException if the field doesn't exist or if the field that is found at the provided path is not of
+     * the expected type.
+     */
+    public <T> T getFieldValue(FieldPath fieldPath, Class<T> clazz) {
+        Object context = initialContext(fieldPath);
         for (String pathElement : fieldPath.pathElements) {
-            context = resolve(pathElement, path, context);
+            context = resolve(pathElement, fieldPath.path, context);
+        }
+        return cast(fieldPath.path, context, clazz);
+    }
+
+    /**
+     * Returns the value contained in the document for the provided parsed path
+     * @param fieldPath The parsed path within the document
+     * @param clazz The expected class of the field value
+     * @param ignoreMissing The flag to determine whether to throw an exception when the field is not found in the document.
+     * @return the value for the provided path if existing, null otherwise.
+     * @throws IllegalArgumentException only if ignoreMissing is false and the field doesn't exist or if the field that is found
+     * at the provided path is not of the expected type.
+     */
+    public <T> T getFieldValue(FieldPath fieldPath, Class<T> clazz, boolean ignoreMissing) {
+        try {
+            return getFieldValue(fieldPath, clazz);
+        } catch (IllegalArgumentException e) {
+            if (ignoreMissing && hasField(fieldPath, false) != true) {
+                return null;
+            } else {
+                throw e;
+            }
         }
-        return cast(path, context, clazz);
     }
 
     /**
@@ -231,8 +263,18 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid.
      */
     public boolean hasField(String path, boolean failOutOfRange) {
-        FieldPath fieldPath = new FieldPath(path);
-        Object context = fieldPath.initialContext;
+        return hasField(new FieldPath(path), failOutOfRange);
+    }
+
+    /**
+     * Checks whether the document contains a value for the provided parsed path
+     * @param fieldPath The parsed path within the document
+     * @param failOutOfRange Whether to throw an IllegalArgumentException if array is accessed outside of its range
+     * @return true if the document contains a value for the field, false otherwise
+     */
+    public boolean hasField(FieldPath fieldPath, boolean failOutOfRange) {
+        final String path = fieldPath.path;
+        Object context = initialContext(fieldPath);
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             String pathElement = fieldPath.pathElements[i];
             if (context == null) {
@@ -316,8 +358,17 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty, invalid or if the field doesn't exist.
      */
     public void removeField(String path) {
-        FieldPath fieldPath = new FieldPath(path);
-        Object context = fieldPath.initialContext;
+        removeField(new FieldPath(path));
+    }
+
+    /**
+     * Removes the field identified by the provided parsed path.
+     * @param fieldPath the parsed path of the field to be removed
+     * @throws IllegalArgumentException if the path is invalid or if the field doesn't exist.
+     */
+    public void removeField(FieldPath fieldPath) {
+        final String path = fieldPath.path;
+        Object context = initialContext(fieldPath);
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             context = resolve(fieldPath.pathElements[i], path, context);
         }
@@ -485,6 +536,17 @@ public final class IngestDocument {
         setFieldValue(path, value, false);
     }
 
+    /**
+     * Sets the provided value to the provided parsed path in the document, see {@link #setFieldValue(String, Object)}.
+     * @param fieldPath The parsed path within the document
+     * @param value The value to put in for the path key
+     * @throws IllegalArgumentException if the path is invalid or if the value cannot be set to the item identified by the
+     * provided path.
+     */
+    public void setFieldValue(FieldPath fieldPath, Object value) {
+        setFieldValue(fieldPath, value, false, true);
+    }
+
     /**
      * Sets the provided value to the provided path in the document.
      * Any non existing path element will be created. If the last element is a list,
@@ -530,8 +592,12 @@ public final class IngestDocument {
     }
 
     private void setFieldValue(String path, Object value, boolean append, boolean allowDuplicates) {
-        FieldPath fieldPath = new FieldPath(path);
-        Object context = fieldPath.initialContext;
+        setFieldValue(new FieldPath(path), value, append, allowDuplicates);
+    }
+
+    private void setFieldValue(FieldPath fieldPath, Object value, boolean append, boolean allowDuplicates) {
+        final String path = fieldPath.path;
+        Object context = initialContext(fieldPath);
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             String pathElement = fieldPath.pathElements[i];
             if (context == null) {
@@ -875,21 +941,36 @@ public final class IngestDocument {
         }
     }
 
-    private class FieldPath {
+    private Object initialContext(FieldPath fieldPath) {
+        return fieldPath.inIngestMetadata ? ingestMetadata : sourceAndMetadata;
+    }
 
+    /**
+     * A path within a document in dot-notation. Parsing a path is independent of the document it is applied to, so processors
+     * that access the same fields of many documents can parse their paths once and reuse them.
+     *
+     * @opensearch.internal
+     */
+    public static final class FieldPath {
+
+        private final String path;
         private final String[] pathElements;
-        private final Object initialContext;
+        private final boolean inIngestMetadata;
 
-        private FieldPath(String path) {
+        /**
+         * @throws IllegalArgumentException if the path is null, empty or invalid
+         */
+        public FieldPath(String path) {
             if (Strings.isEmpty(path)) {
                 throw new IllegalArgumentException("path cannot be null nor empty");
             }
+            this.path = path;
             String newPath;
             if (path.startsWith(INGEST_KEY_PREFIX)) {
-                initialContext = ingestMetadata;
+                inIngestMetadata = true;
                 newPath = path.substring(INGEST_KEY_PREFIX.length(), path.length());
             } else {
-                initialContext = sourceAndMetadata;
+                inIngestMetadata = false;
                 if (path.startsWith(SOURCE_PREFIX)) {
                     newPath = path.substring(SOURCE_PREFIX.length(), path.length());
                 } else {
@@ -902,5 +983,13 @@ public final class IngestDocument {
             }
         }
 
+        public String getPath() {
+            return path;
+        }
+
+        @Override
+        public String toString() {
+            return path;
+        }
     }
 }
@@ -951,6 +951,12 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                 statsBuilder.addProcessorMetrics(id, getProcessorName(processor), processor.getType(), processorMetric);
             });
         });
+        processorFactories.forEach((type, factory) -> {
+            IngestStats.CacheStat cacheStat = factory.getCacheStats();
+            if (cacheStat != null) {
+                statsBuilder.addCacheStats(type, cacheStat);
+            }
+        });
         return statsBuilder.build();
     }
 
@@ -32,6 +32,7 @@
 
 package org.opensearch.ingest;
 
+import org.opensearch.Version;
 import org.opensearch.common.metrics.OperationMetrics;
 import org.opensearch.common.metrics.OperationStats;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -57,6 +58,7 @@ public class IngestStats implements Writeable, ToXContentFragment {
     private final OperationStats totalStats;
     private final List<PipelineStat> pipelineStats;
     private final Map<String, List<ProcessorStat>> processorStats;
+    private final Map<String, CacheStat> cacheStats;
 
     /**
      * @param totalStats - The total stats for Ingest. This is the logically the sum of all pipeline stats,
@@ -65,9 +67,26 @@ public class IngestStats implements Writeable, ToXContentFragment {
      * @param processorStats - The per-processor stats for a given pipeline. A map keyed by the pipeline identifier.
      */
     public IngestStats(OperationStats totalStats, List<PipelineStat> pipelineStats, Map<String, List<ProcessorStat>> processorStats) {
+        this(totalStats, pipelineStats, processorStats, Collections.emptyMap());
+    }
+
+    /**
+     * @param totalStats - The total stats for Ingest. This is the logically the sum of all pipeline stats,
+     *                   and pipeline stats are logically the sum of the processor stats.
+     * @param pipelineStats - The stats for a given ingest pipeline.
+     * @param processorStats - The per-processor stats for a given pipeline. A map keyed by the pipeline identifier.
+     * @param cacheStats - The stats of the node-level caches shared by the processors of a type. A map keyed by the processor type.
+     */
+    public IngestStats(
+        OperationStats totalStats,
+        List<PipelineStat> pipelineStats,
+        Map<String, List<ProcessorStat>> processorStats,
+        Map<String, CacheStat> cacheStats
+    ) {
         this.totalStats = totalStats;
         this.pipelineStats = pipelineStats;
         this.processorStats = processorStats;
+        this.cacheStats = cacheStats;
     }
 
     /**
@@ -93,6 +112,11 @@ public class IngestStats implements Writeable, ToXContentFragment {
             }
             this.processorStats.put(pipelineId, processorStatsPerPipeline);
         }
+        if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+            this.cacheStats = in.readMap(StreamInput::readString, CacheStat::new);
+        } else {
+            this.cacheStats = Collections.emptyMap();
+        }
     }
 
     @Override
@@ -114,6 +138,9 @@ public class IngestStats implements Writeable, ToXContentFragment {
                 }
             }
         }
+        if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+            out.writeMap(cacheStats, StreamOutput::writeString, (o, cacheStat) -> cacheStat.writeTo(o));
+        }
     }
 
     @Override
@@ -144,6 +171,15 @@ public class IngestStats implements Writeable, ToXContentFragment {
             builder.endObject();
         }
         builder.endObject();
+        if (cacheStats.isEmpty() == false) {
+            builder.startObject("caches");
+            for (Map.Entry<String, CacheStat> cacheStat : cacheStats.entrySet()) {
+                builder.startObject(cacheStat.getKey());
+                cacheStat.getValue().toXContent(builder, params);
+                builder.endObject();
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
@@ -160,6 +196,10 @@ public class IngestStats implements Writeable, ToXContentFragment {
         return processorStats;
     }
 
+    public Map<String, CacheStat> getCacheStats() {
+        return cacheStats;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -167,12 +207,13 @@ public class IngestStats implements Writeable, ToXContentFragment {
         IngestStats that = (IngestStats) o;
         return Objects.equals(totalStats, that.totalStats)
             && Objects.equals(pipelineStats, that.pipelineStats)
-            && Objects.equals(processorStats, that.processorStats);
+            && Objects.equals(processorStats, that.processorStats)
+            && Objects.equals(cacheStats, that.cacheStats);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(totalStats, pipelineStats, processorStats);
+        return Objects.hash(totalStats, pipelineStats, processorStats, cacheStats);
     }
 
     /**
@@ -182,6 +223,7 @@ public class IngestStats implements Writeable, ToXContentFragment {
         private OperationStats totalStats;
         private List<PipelineStat> pipelineStats = new ArrayList<>();
         private Map<String, List<ProcessorStat>> processorStats = new HashMap<>();
+        private Map<String, CacheStat> cacheStats = new HashMap<>();
 
         Builder addTotalMetrics(OperationMetrics totalMetric) {
             this.totalStats = totalMetric.createStats();
@@ -199,8 +241,18 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        Builder addCacheStats(String processorType, CacheStat cacheStat) {
+            this.cacheStats.put(processorType, cacheStat);
+            return this;
+        }
+
         IngestStats build() {
-            return new IngestStats(totalStats, Collections.unmodifiableList(pipelineStats), Collections.unmodifiableMap(processorStats));
+            return new IngestStats(
+                totalStats,
+                Collections.unmodifiableList(pipelineStats),
+                Collections.unmodifiableMap(processorStats),
+                Collections.unmodifiableMap(cacheStats)
+            );
         }
     }
 
@@ -277,4 +329,77 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return Objects.hash(name, type, stats);
         }
     }
+
+    /**
+     * Container for the stats of a cache that the processors of a type share on a node.
+     */
+    public static class CacheStat implements Writeable, ToXContentFragment {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long count;
+
+        public CacheStat(long hits, long misses, long evictions, long count) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.count = count;
+        }
+
+        /**
+         * Read from a stream.
+         */
+        public CacheStat(StreamInput in) throws IOException {
+            this.hits = in.readVLong();
+            this.misses = in.readVLong();
+            this.evictions = in.readVLong();
+            this.count = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(hits);
+            out.writeVLong(misses);
+            out.writeVLong(evictions);
+            out.writeVLong(count);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.field("hit_count", hits);
+            builder.field("miss_count", misses);
+            builder.field("evictions", evictions);
+            builder.field("count", count);
+            return builder;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            IngestStats.CacheStat that = (IngestStats.CacheStat) o;
+            return hits == that.hits && misses == that.misses && evictions == that.evictions && count == that.count;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(hits, misses, evictions, count);
+        }
+    }
 }
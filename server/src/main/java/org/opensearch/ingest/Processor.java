@@ -152,6 +152,14 @@ public interface Processor {
          */
         Processor create(Map<String, Factory> processorFactories, String tag, String description, Map<String, Object> config)
             throws Exception;
+
+        /**
+         * Returns the stats of the cache that the processors created by this factory share on the node, or null if they
+         * don't share one. They are reported in the ingest stats of the node under the type of the processors.
+         */
+        default IngestStats.CacheStat getCacheStats() {
+            return null;
+        }
     }
 
     /**
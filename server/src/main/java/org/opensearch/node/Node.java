@@ -163,6 +163,7 @@ import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheCleaner;
 import org.opensearch.index.store.remote.filecache.FileCacheFactory;
 import org.opensearch.index.store.remote.filecache.FileCacheSettings;
+import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 import org.opensearch.indices.IndicesModule;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.RemoteStoreSettings;
@@ -404,6 +405,13 @@ public class Node implements Closeable {
         Property.NodeScope
     );
 
+    public static final Setting<SegmentedCache.EvictionPolicy> NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING = new Setting<>(
+        "node.search.cache.eviction_policy",
+        SegmentedCache.EvictionPolicy.CLOCK.name().toLowerCase(Locale.ROOT),
+        Node::parseFileCacheEvictionPolicy,
+        Property.NodeScope
+    );
+
     private static final String CLIENT_TYPE = "node";
 
     /**
@@ -2178,12 +2186,27 @@ public class Node implements Closeable {
             throw new SettingsException("Cache size must be larger than zero and less than total capacity");
         }
 
-        this.fileCache = FileCacheFactory.createConcurrentLRUFileCache(capacity, circuitBreaker);
+        SegmentedCache.EvictionPolicy evictionPolicy = NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING.get(settings);
+        logger.info("cache eviction policy [{}]", evictionPolicy);
+        this.fileCache = FileCacheFactory.createConcurrentFileCache(capacity, evictionPolicy, circuitBreaker);
         fileCacheNodePath.fileCacheReservedSize = new ByteSizeValue(this.fileCache.capacity(), ByteSizeUnit.BYTES);
         List<Path> fileCacheDataPaths = collectFileCacheDataPath(fileCacheNodePath);
         this.fileCache.restoreFromDirectory(fileCacheDataPaths);
     }
 
+    private static SegmentedCache.EvictionPolicy parseFileCacheEvictionPolicy(String evictionPolicy) {
+        switch (evictionPolicy) {
+            case "lru":
+                return SegmentedCache.EvictionPolicy.LRU;
+            case "clock":
+                return SegmentedCache.EvictionPolicy.CLOCK;
+            default:
+                throw new IllegalArgumentException(
+                    NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING.getKey() + " must be one of [lru, clock] but was: " + evictionPolicy
+                );
+        }
+    }
+
     private static long calculateFileCacheSize(String capacityRaw, long totalSpace) {
         try {
             RatioValue ratioValue = RatioValue.parseRatioValue(capacityRaw);
@@ -42,18 +42,25 @@ import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 
 /**
  * Collects statistics about queue size, response time, and service time of
  * tasks executed on each node, making the EWMA of the values available to the
- * coordinating node.
+ * coordinating node. The recent response times of each shard copy are kept
+ * as well, so that percentiles of the response time of a shard copy can be
+ * estimated.
  *
  * @opensearch.api
  */
@@ -62,8 +69,17 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
     private static final double ALPHA = 0.3;
 
+    /** The number of recent response times kept for each shard copy */
+    static final int SHARD_COPY_RESPONSE_TIME_SAMPLES = 32;
+
+    /** The minimum number of response times of a shard copy to estimate a percentile of its response time from */
+    static final int MIN_SHARD_COPY_RESPONSE_TIME_SAMPLES = 8;
+
     private final ConcurrentMap<String, NodeStatistics> nodeIdToStats = ConcurrentCollections.newConcurrentMap();
 
+    private final ConcurrentMap<String, ConcurrentMap<ShardId, ShardCopyResponseTimes>> nodeIdToShardCopyResponseTimes =
+        ConcurrentCollections.newConcurrentMap();
+
     public ResponseCollectorService(ClusterService clusterService) {
         clusterService.addListener(this);
     }
@@ -75,10 +91,20 @@ public final class ResponseCollectorService implements ClusterStateListener {
                 removeNode(removedNode.getId());
             }
         }
+        if (event.indicesDeleted().isEmpty() == false) {
+            removeIndices(new HashSet<>(event.indicesDeleted()));
+        }
     }
 
     void removeNode(String nodeId) {
         nodeIdToStats.remove(nodeId);
+        nodeIdToShardCopyResponseTimes.remove(nodeId);
+    }
+
+    void removeIndices(Set<Index> indices) {
+        for (ConcurrentMap<ShardId, ShardCopyResponseTimes> shardCopies : nodeIdToShardCopyResponseTimes.values()) {
+            shardCopies.keySet().removeIf(shardId -> indices.contains(shardId.getIndex()));
+        }
     }
 
     public void addNodeStatistics(String nodeId, int queueSize, long responseTimeNanos, long avgServiceTimeNanos) {
@@ -96,6 +122,28 @@ public final class ResponseCollectorService implements ClusterStateListener {
         });
     }
 
+    /**
+     * Adds the response time of a request to the copy of the given shard on the given node.
+     */
+    public void addShardCopyResponseTime(ShardId shardId, String nodeId, long responseTimeNanos) {
+        nodeIdToShardCopyResponseTimes.computeIfAbsent(nodeId, id -> ConcurrentCollections.newConcurrentMap())
+            .computeIfAbsent(shardId, id -> new ShardCopyResponseTimes())
+            .add(responseTimeNanos);
+    }
+
+    /**
+     * Returns the given percentile, between 0 and 100, of the recent response times of the copy of the given shard on the given
+     * node in nanoseconds, or -1 if too few responses of the shard copy were collected to estimate it.
+     */
+    public long getShardCopyResponseTimePercentile(ShardId shardId, String nodeId, double percentile) {
+        final Map<ShardId, ShardCopyResponseTimes> shardCopies = nodeIdToShardCopyResponseTimes.get(nodeId);
+        if (shardCopies == null) {
+            return -1;
+        }
+        final ShardCopyResponseTimes responseTimes = shardCopies.get(shardId);
+        return responseTimes == null ? -1 : responseTimes.percentile(percentile);
+    }
+
     public Map<String, ComputedNodeStats> getAllNodeStatistics() {
         final int clientNum = nodeIdToStats.size();
         // Transform the mutable object internally used for accounting into the computed version
@@ -247,4 +295,30 @@ public final class ResponseCollectorService implements ClusterStateListener {
             this.serviceTime = serviceTimeEWMA;
         }
     }
+
+    /**
+     * The most recent response times of a shard copy, kept in a ring buffer. This class is private and intended only to be used
+     * for the internal accounting of {@code ResponseCollectorService}.
+     */
+    private static class ShardCopyResponseTimes {
+        private final long[] responseTimes = new long[SHARD_COPY_RESPONSE_TIME_SAMPLES];
+        private int count;
+        private int next;
+
+        synchronized void add(long responseTimeNanos) {
+            responseTimes[next] = responseTimeNanos;
+            next = (next + 1) % responseTimes.length;
+            count = Math.min(count + 1, responseTimes.length);
+        }
+
+        synchronized long percentile(double percentile) {
+            if (count < MIN_SHARD_COPY_RESPONSE_TIME_SAMPLES) {
+                return -1;
+            }
+            final long[] sorted = Arrays.copyOf(responseTimes, count);
+            Arrays.sort(sorted);
+            final int rank = (int) Math.ceil(percentile / 100 * count) - 1;
+            return sorted[Math.max(0, Math.min(count - 1, rank))];
+        }
+    }
 }
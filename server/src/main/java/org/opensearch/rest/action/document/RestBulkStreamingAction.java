@@ -14,6 +14,7 @@ import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.action.bulk.StreamingBulkItemSplitter;
 import org.opensearch.action.support.ActiveShardCount;
 import org.opensearch.client.Requests;
 import org.opensearch.client.node.NodeClient;
@@ -23,6 +24,8 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.support.XContentHttpChunk;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.ToXContent;
@@ -126,6 +129,10 @@ public class RestBulkStreamingAction extends BaseRestHandler {
             // Set the content type and the status code before sending the response stream over
             channel.prepareResponse(RestStatus.OK, Map.of("Content-Type", List.of(mediaType.mediaTypeWithoutParameters())));
 
+            // Items may span chunks: only the complete items received so far are parsed, the bytes of the incomplete ones are kept
+            // until the rest of the item arrives, copied out of their chunk before it is released.
+            final StreamingBulkItemSplitter splitter = new StreamingBulkItemSplitter(mediaType);
+
             // TODOs:
             // - eliminate serialization inefficiencies
             createBufferedFlux(batchInterval, batchSize, hasBatchSize, channel).zipWith(Flux.fromStream(Stream.generate(() -> {
@@ -142,8 +149,13 @@ public class RestBulkStreamingAction extends BaseRestHandler {
                 for (final HttpChunk chunk : chunks) {
                     isLast |= chunk.isLast();
                     try (chunk) {
+                        BytesReference items = splitter.append(chunk.content());
+                        if (isLast) {
+                            // an incomplete last item is passed on so that the parser reports it
+                            items = CompositeBytesReference.of(items, splitter.remaining());
+                        }
                         bulkRequest.add(
-                            chunk.content(),
+                            items,
                             defaultIndex,
                             defaultRouting,
                             defaultFetchSourceContext,
@@ -152,6 +164,7 @@ public class RestBulkStreamingAction extends BaseRestHandler {
                             allowExplicitIndex,
                             request.getMediaType()
                         );
+                        splitter.copyPendingBytesOfLastChunk();
                     } catch (final IOException ex) {
                         throw new UncheckedIOException(ex);
                     }
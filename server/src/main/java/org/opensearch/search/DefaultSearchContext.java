@@ -118,6 +118,7 @@ import java.util.function.LongSupplier;
 import static org.opensearch.search.SearchService.CARDINALITY_AGGREGATION_PRUNING_THRESHOLD;
 import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_MODE;
 import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING;
+import static org.opensearch.search.SearchService.CONCURRENT_INTRA_SEGMENT_SEARCH_ENABLED;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_ALL;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_AUTO;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_NONE;
@@ -1104,6 +1105,11 @@ final class DefaultSearchContext extends SearchContext {
 
     }
 
+    @Override
+    public boolean shouldUseIntraSegmentSearch() {
+        return clusterService != null && clusterService.getClusterSettings().get(CONCURRENT_INTRA_SEGMENT_SEARCH_ENABLED);
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return indexShard.isTimeSeriesDescSortOptimizationEnabled()
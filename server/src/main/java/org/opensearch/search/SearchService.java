@@ -306,6 +306,15 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    // allow concurrent segment search to split large segments into ranges of doc ids searched by different slices. Only applies when
+    // the custom slice computation is used, i.e. when the max slice count is > 0
+    public static final Setting<Boolean> CONCURRENT_INTRA_SEGMENT_SEARCH_ENABLED = Setting.boolSetting(
+        "search.concurrent.intra_segment_search.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     // value 0 means rewrite filters optimization in aggregations will be disabled
     public static final Setting<Integer> MAX_AGGREGATION_REWRITE_FILTERS = Setting.intSetting(
         "search.max_aggregation_rewrite_filters",
@@ -77,6 +77,7 @@ import org.opensearch.search.aggregations.bucket.filterrewrite.CompositeAggregat
 import org.opensearch.search.aggregations.bucket.filterrewrite.FilterRewriteOptimizationContext;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
+import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.searchafter.SearchAfterBuilder;
 import org.opensearch.search.sort.SortAndFormats;
@@ -567,7 +568,10 @@ public final class CompositeAggregator extends BucketsAggregator {
         Sort indexSortPrefix = buildIndexSortPrefix(ctx);
         int sortPrefixLen = computeSortPrefixLen(indexSortPrefix);
 
-        SortedDocsProducer sortedDocsProducer = sortPrefixLen == 0
+        // both the sorted docs producer and the index sort prefix visit the documents of the whole segment, and other partitions of
+        // the segment are collected by other aggregators
+        boolean partialLeaf = ContextIndexSearcher.isCollectingLeafPartition();
+        SortedDocsProducer sortedDocsProducer = sortPrefixLen == 0 && partialLeaf == false
             ? sources[0].createSortedDocsProducerOrNull(ctx.reader(), context.query())
             : null;
         if (sortedDocsProducer != null) {
@@ -588,7 +592,7 @@ public final class CompositeAggregator extends BucketsAggregator {
                 currentLeaf = ctx;
                 docIdSetBuilder = new RoaringDocIdSet.Builder(ctx.reader().maxDoc());
             }
-            if (rawAfterKey != null && sortPrefixLen > 0) {
+            if (rawAfterKey != null && sortPrefixLen > 0 && partialLeaf == false) {
                 // We have an after key and index sort is applicable, so we jump directly to the doc
                 // after the index sort prefix using the rawAfterKey and we start collecting
                 // documents from there.
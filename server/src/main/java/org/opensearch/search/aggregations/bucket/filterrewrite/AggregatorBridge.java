@@ -13,6 +13,7 @@ import org.apache.lucene.index.PointValues;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Weight;
 import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
@@ -96,6 +97,10 @@ public abstract class AggregatorBridge {
      * @return {@code true} if the segment matches all documents, {@code false} otherwise
      */
     public static boolean segmentMatchAll(SearchContext ctx, LeafReaderContext leafCtx) throws IOException {
+        if (ContextIndexSearcher.isCollectingLeafPartition()) {
+            // only some of the documents of the segment are collected
+            return false;
+        }
         Weight weight = ctx.query().rewrite(ctx.searcher()).createWeight(ctx.searcher(), ScoreMode.COMPLETE_NO_SCORES, 1f);
         return weight != null && weight.count(leafCtx) == leafCtx.reader().numDocs();
     }
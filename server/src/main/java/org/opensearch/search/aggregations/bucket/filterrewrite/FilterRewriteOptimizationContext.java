@@ -15,6 +15,7 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.PointValues;
 import org.opensearch.index.mapper.DocCountFieldMapper;
+import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
@@ -104,6 +105,8 @@ public final class FilterRewriteOptimizationContext {
         }
 
         if (leafCtx.reader().hasDeletions()) return false;
+        // the points of the segment also cover documents of other partitions of the segment
+        if (ContextIndexSearcher.isCollectingLeafPartition()) return false;
 
         PointValues values = leafCtx.reader().getPointValues(aggregatorBridge.fieldType.name());
         if (values == null) return false;
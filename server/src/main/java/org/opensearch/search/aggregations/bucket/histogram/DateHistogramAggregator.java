@@ -39,6 +39,11 @@ import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Rounding;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeQueryHelper;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.mapper.CompositeDataCubeFieldType;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -54,6 +59,7 @@ import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeBucketCollector;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -61,6 +67,7 @@ import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
+import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeQueryHelper.getSupportedStarTree;
 import static org.opensearch.search.aggregations.bucket.filterrewrite.DateHistogramAggregatorBridge.segmentMatchAll;
 
 /**
@@ -167,6 +174,12 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
 
+        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context);
+        if (supportedStarTree != null) {
+            StarTreeQueryHelper.preComputeBucketsWithStarTree(getStarTreeBucketCollector(ctx, supportedStarTree));
+            throw new CollectionTerminatedException();
+        }
+
         boolean optimized = filterRewriteOptimizationContext.tryOptimize(ctx, this::incrementBucketDocCount, segmentMatchAll(context, ctx));
         if (optimized) throw new CollectionTerminatedException();
 
@@ -201,6 +214,54 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         };
     }
 
+    /**
+     * Buckets the star-tree entries of the segment by their value of the date sub-dimension matching the rounding
+     */
+    private StarTreeBucketCollector getStarTreeBucketCollector(LeafReaderContext ctx, CompositeIndexFieldInfo starTree)
+        throws IOException {
+        StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, starTree);
+        assert starTreeValues != null;
+        String fieldName = ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName();
+        String dimensionName = StarTreeQueryHelper.getDateDimensionForRounding(
+            (CompositeDataCubeFieldType) context.mapperService().getCompositeFieldTypes().iterator().next(),
+            context.mapperService().fieldType(fieldName),
+            rounding
+        );
+        assert dimensionName != null;
+        SortedNumericStarTreeValuesIterator valuesIterator = (SortedNumericStarTreeValuesIterator) starTreeValues
+            .getDimensionValuesIterator(dimensionName);
+        SortedNumericStarTreeValuesIterator docCountsIterator = StarTreeQueryHelper.getDocCountsIterator(starTreeValues);
+
+        StarTreeBucketCollector collector = new StarTreeBucketCollector(
+            starTreeValues,
+            StarTreeQueryHelper.getStarTreeFilteredValues(context, ctx, starTreeValues)
+        ) {
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long owningBucketOrd) throws IOException {
+                if (valuesIterator.advanceExact(starTreeEntry) == false) {
+                    return;
+                }
+                // the date sub-dimension is single valued and already rounded down to an interval nested in the requested one
+                long rounded = preparedRounding.round(valuesIterator.nextValue());
+                if (hardBounds != null && hardBounds.contain(rounded) == false) {
+                    return;
+                }
+                long bucketOrd = bucketOrds.add(owningBucketOrd, rounded);
+                if (bucketOrd < 0) { // already seen
+                    bucketOrd = -1 - bucketOrd;
+                }
+                if (docCountsIterator.advanceExact(starTreeEntry)) {
+                    incrementBucketDocCount(bucketOrd, docCountsIterator.nextValue());
+                }
+                for (StarTreeBucketCollector subCollector : subCollectors) {
+                    subCollector.collectStarTreeEntry(starTreeEntry, bucketOrd);
+                }
+            }
+        };
+        collector.setSubCollectors(ctx, starTree, subAggregators);
+        return collector;
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return buildAggregationsForVariableBuckets(owningBucketOrds, bucketOrds, (bucketValue, docCount, subAggregationResults) -> {
@@ -101,6 +101,10 @@ public final class DateHistogramAggregatorFactory extends ValuesSourceAggregator
         return minDocCount;
     }
 
+    public Rounding getRounding() {
+        return rounding;
+    }
+
     protected Aggregator doCreateInternal(
         SearchContext searchContext,
         Aggregator parent,
@@ -52,6 +52,11 @@ import org.opensearch.common.util.LongArray;
 import org.opensearch.common.util.LongHash;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeQueryHelper;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.mapper.DocCountFieldMapper;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.AggregationExecutionException;
@@ -68,7 +73,9 @@ import org.opensearch.search.aggregations.bucket.LocalBucketCountThresholds;
 import org.opensearch.search.aggregations.bucket.terms.SignificanceLookup.BackgroundFrequencyForBytes;
 import org.opensearch.search.aggregations.bucket.terms.heuristic.SignificanceHeuristic;
 import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeBucketCollector;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -78,6 +85,7 @@ import java.util.function.Function;
 import java.util.function.LongPredicate;
 import java.util.function.LongUnaryOperator;
 
+import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeQueryHelper.getSupportedStarTree;
 import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
 import static org.apache.lucene.index.SortedSetDocValues.NO_MORE_ORDS;
 import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
@@ -174,6 +182,9 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         if (weight == null) {
             // Weight not assigned - cannot use this optimization
             return null;
+        } else if (ContextIndexSearcher.isCollectingLeafPartition()) {
+            // doc frequencies of the segment also count documents of other partitions of the segment
+            return null;
         } else {
             if (weight.count(ctx) == 0) {
                 // No documents matches top level query on this segment, we can skip the segment entirely
@@ -231,6 +242,12 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         SortedSetDocValues globalOrds = valuesSource.globalOrdinalsValues(ctx);
         collectionStrategy.globalOrdsReady(globalOrds);
 
+        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context);
+        if (supportedStarTree != null) {
+            preComputeWithStarTree(ctx, supportedStarTree, globalOrds);
+            throw new CollectionTerminatedException();
+        }
+
         if (collectionStrategy instanceof DenseGlobalOrds
             && this.resultStrategy instanceof StandardTermsResults
             && sub == LeafBucketCollector.NO_OP_COLLECTOR) {
@@ -311,6 +328,66 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         });
     }
 
+    /**
+     * Buckets the star-tree entries of the segment by the global ordinal of their value of the keyword dimension
+     */
+    private void preComputeWithStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree, SortedSetDocValues globalOrds)
+        throws IOException {
+        assert resultStrategy instanceof StandardTermsResults;
+        StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, starTree);
+        assert starTreeValues != null;
+        String fieldName = ((ValuesSource.Bytes.WithOrdinals.FieldData) valuesSource).getIndexFieldName();
+        SortedSetStarTreeValuesIterator valuesIterator = (SortedSetStarTreeValuesIterator) starTreeValues.getDimensionValuesIterator(
+            fieldName
+        );
+        SortedNumericStarTreeValuesIterator docCountsIterator = StarTreeQueryHelper.getDocCountsIterator(starTreeValues);
+
+        // star-tree ordinals are resolved to global ordinals through their terms once, 0 stands for not resolved yet
+        try (LongArray starTreeOrdToGlobalOrd = context.bigArrays().newLongArray(valuesIterator.getValueCount(), true)) {
+            StarTreeBucketCollector collector = new StarTreeBucketCollector(
+                starTreeValues,
+                StarTreeQueryHelper.getStarTreeFilteredValues(context, ctx, starTreeValues)
+            ) {
+                @Override
+                public void collectStarTreeEntry(int starTreeEntry, long owningBucketOrd) throws IOException {
+                    if (valuesIterator.advanceExact(starTreeEntry) == false) {
+                        return;
+                    }
+                    long starTreeOrd = valuesIterator.nextOrd();
+                    long globalOrd = starTreeOrdToGlobalOrd.get(starTreeOrd) - 1;
+                    if (globalOrd < 0) {
+                        globalOrd = globalOrds.lookupTerm(valuesIterator.lookupOrd(starTreeOrd));
+                        if (globalOrd < 0) {
+                            return;
+                        }
+                        starTreeOrdToGlobalOrd.set(starTreeOrd, globalOrd + 1);
+                    }
+                    if (false == acceptedGlobalOrdinals.test(globalOrd)) {
+                        return;
+                    }
+                    long bucketOrd = collectionStrategy.addGlobalOrd(owningBucketOrd, globalOrd);
+                    if (docCountsIterator.advanceExact(starTreeEntry)) {
+                        incrementBucketDocCount(bucketOrd, docCountsIterator.nextValue());
+                    }
+                    for (StarTreeBucketCollector subCollector : subCollectors) {
+                        subCollector.collectStarTreeEntry(starTreeEntry, bucketOrd);
+                    }
+                }
+            };
+            collector.setSubCollectors(ctx, starTree, subAggregators);
+            StarTreeQueryHelper.preComputeBucketsWithStarTree(collector);
+        }
+    }
+
+    @Override
+    protected boolean shouldDefer(Aggregator aggregator) {
+        // sub-aggregations are pre-computed together with the buckets when the star-tree is used, there is nothing to replay
+        if (getSupportedStarTree(this.context) != null) {
+            return false;
+        }
+        return super.shouldDefer(aggregator);
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return resultStrategy.buildAggregations(owningBucketOrds);
@@ -437,6 +514,11 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
             if (mapping != null) {
                 mapSegmentCountsToGlobalCounts(mapping);
+                mapping = null;
+            }
+            if (getSupportedStarTree(this.context) != null) {
+                // star-tree entries are bucketed by global ordinals directly
+                return super.getLeafCollector(ctx, sub);
             }
             final SortedSetDocValues segmentOrds = valuesSource.ordinalsValues(ctx);
             segmentDocCounts = context.bigArrays().grow(segmentDocCounts, 1 + segmentOrds.getValueCount());
@@ -552,6 +634,13 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
          */
         abstract void collectGlobalOrd(long owningBucketOrd, int doc, long globalOrd, LeafBucketCollector sub) throws IOException;
 
+        /**
+         * Adds the bucket of a global ordinal without collecting any document, for buckets pre-computed from the star-tree.
+         *
+         * @return the ordinal of the bucket
+         */
+        abstract long addGlobalOrd(long owningBucketOrd, long globalOrd);
+
         /**
          * Convert a global ordinal into a bucket ordinal.
          */
@@ -597,6 +686,12 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             collectExistingBucket(sub, doc, globalOrd);
         }
 
+        @Override
+        long addGlobalOrd(long owningBucketOrd, long globalOrd) {
+            assert owningBucketOrd == 0;
+            return globalOrd;
+        }
+
         @Override
         long globalOrdToBucketOrd(long owningBucketOrd, long globalOrd) {
             assert owningBucketOrd == 0;
@@ -658,6 +753,12 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             }
         }
 
+        @Override
+        long addGlobalOrd(long owningBucketOrd, long globalOrd) {
+            long bucketOrd = bucketOrds.add(owningBucketOrd, globalOrd);
+            return bucketOrd < 0 ? -1 - bucketOrd : bucketOrd;
+        }
+
         @Override
         long globalOrdToBucketOrd(long owningBucketOrd, long globalOrd) {
             return bucketOrds.find(owningBucketOrd, globalOrd);
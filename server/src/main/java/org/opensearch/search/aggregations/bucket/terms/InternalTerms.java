@@ -54,8 +54,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -317,7 +319,11 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         }
     }
 
-    private List<B> reduceMergeSort(List<InternalAggregation> aggregations, BucketOrder thisReduceOrder, ReduceContext reduceContext) {
+    /**
+     * Returns the reduced buckets of the given aggregations in key order. Buckets are merged lazily, one key at a time, so that
+     * callers that only keep some of the reduced buckets never hold the others.
+     */
+    private Iterator<B> reduceMergeSort(List<InternalAggregation> aggregations, BucketOrder thisReduceOrder, ReduceContext reduceContext) {
         assert isKeyOrder(thisReduceOrder);
         final Comparator<MultiBucketsAggregation.Bucket> cmp = thisReduceOrder.comparator();
         final PriorityQueue<IteratorAndCurrent<B>> pq = new PriorityQueue<IteratorAndCurrent<B>>(aggregations.size()) {
@@ -334,38 +340,41 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 pq.add(new IteratorAndCurrent(terms.getBuckets().iterator()));
             }
         }
-        List<B> reducedBuckets = new ArrayList<>();
-        // list of buckets coming from different shards that have the same key
-        List<B> currentBuckets = new ArrayList<>();
-        B lastBucket = null;
-        while (pq.size() > 0) {
-            final IteratorAndCurrent<B> top = pq.top();
-            assert lastBucket == null || cmp.compare(top.current(), lastBucket) >= 0;
-            if (lastBucket != null && cmp.compare(top.current(), lastBucket) != 0) {
-                // the key changes, reduce what we already buffered and reset the buffer for current buckets
+        return new Iterator<B>() {
+            // list of buckets coming from different shards that have the same key
+            private final List<B> currentBuckets = new ArrayList<>();
+
+            @Override
+            public boolean hasNext() {
+                return pq.size() > 0;
+            }
+
+            @Override
+            public B next() {
+                if (pq.size() == 0) {
+                    throw new NoSuchElementException();
+                }
+                final B key = pq.top().current();
+                do {
+                    final IteratorAndCurrent<B> top = pq.top();
+                    currentBuckets.add(top.current());
+                    if (top.hasNext()) {
+                        top.next();
+                        assert cmp.compare(top.current(), key) > 0 : "shards must return data sorted by key";
+                        pq.updateTop();
+                    } else {
+                        // the buckets of this aggregation are all merged
+                        pq.pop();
+                    }
+                } while (pq.size() > 0 && cmp.compare(pq.top().current(), key) == 0);
                 final B reduced = reduceBucket(currentBuckets, reduceContext);
-                reducedBuckets.add(reduced);
                 currentBuckets.clear();
+                return reduced;
             }
-            lastBucket = top.current();
-            currentBuckets.add(top.current());
-            if (top.hasNext()) {
-                top.next();
-                assert cmp.compare(top.current(), lastBucket) > 0 : "shards must return data sorted by key";
-                pq.updateTop();
-            } else {
-                pq.pop();
-            }
-        }
-
-        if (currentBuckets.isEmpty() == false) {
-            final B reduced = reduceBucket(currentBuckets, reduceContext);
-            reducedBuckets.add(reduced);
-        }
-        return reducedBuckets;
+        };
     }
 
-    private List<B> reduceLegacy(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
+    private Iterator<B> reduceLegacy(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
         Map<Object, List<B>> bucketMap = new HashMap<>();
         for (InternalAggregation aggregation : aggregations) {
             @SuppressWarnings("unchecked")
@@ -381,18 +390,26 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 }
             }
         }
-        List<B> reducedBuckets = new ArrayList<>();
-        for (List<B> sameTermBuckets : bucketMap.values()) {
-            final B b = reduceBucket(sameTermBuckets, reduceContext);
-            reducedBuckets.add(b);
-        }
-        return reducedBuckets;
+        final Iterator<List<B>> sameTermBuckets = bucketMap.values().iterator();
+        return new Iterator<B>() {
+            @Override
+            public boolean hasNext() {
+                return sameTermBuckets.hasNext();
+            }
+
+            @Override
+            public B next() {
+                return reduceBucket(sameTermBuckets.next(), reduceContext);
+            }
+        };
     }
 
     public InternalAggregation reduce(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
         LocalBucketCountThresholds localBucketCountThresholds = reduceContext.asLocalBucketCountThresholds(bucketCountThresholds);
         long sumDocCountError = 0;
         long otherDocCount = 0;
+        // an upper bound of the number of reduced buckets
+        long maxReducedBuckets = 0;
         InternalTerms<A, B> referenceTerms = null;
         for (InternalAggregation aggregation : aggregations) {
             @SuppressWarnings("unchecked")
@@ -419,6 +436,7 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 );
             }
             otherDocCount += terms.getSumOfOtherDocCounts();
+            maxReducedBuckets += terms.getBuckets().size();
             final long thisAggDocCountError = getDocCountError(terms, reduceContext);
             if (sumDocCountError != -1) {
                 if (thisAggDocCountError == -1) {
@@ -440,7 +458,7 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             }
         }
 
-        final List<B> reducedBuckets;
+        final Iterator<B> reducedBuckets;
         /*
           Buckets returned by a partial reduce or a shard response are sorted by key.
           That allows to perform a merge sort when reducing multiple aggregations together.
@@ -457,10 +475,11 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         }
         final B[] list;
         if (reduceContext.isFinalReduce() || reduceContext.isSliceLevel()) {
-            final int size = Math.min(localBucketCountThresholds.getRequiredSize(), reducedBuckets.size());
-            // final comparator
+            final int size = (int) Math.min(localBucketCountThresholds.getRequiredSize(), maxReducedBuckets);
+            // final comparator, reduced buckets that do not make it into the queue are dropped as soon as they are merged
             final BucketPriorityQueue<B> ordered = new BucketPriorityQueue<>(size, order.comparator());
-            for (B bucket : reducedBuckets) {
+            while (reducedBuckets.hasNext()) {
+                final B bucket = reducedBuckets.next();
                 if (sumDocCountError == -1) {
                     bucket.setDocCountError(-1);
                 } else {
@@ -485,21 +504,23 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             }
         } else {
             // we can prune the list on partial reduce if the aggregation is ordered by key
-            // and not filtered (minDocCount == 0)
-            int size = isKeyOrder(order) && localBucketCountThresholds.getMinDocCount() == 0
-                ? Math.min(localBucketCountThresholds.getRequiredSize(), reducedBuckets.size())
-                : reducedBuckets.size();
-            list = createBucketsArray(size);
-            for (int i = 0; i < size; i++) {
+            // and not filtered (minDocCount == 0), in which case the remaining buckets are not merged at all
+            final long size = isKeyOrder(order) && localBucketCountThresholds.getMinDocCount() == 0
+                ? localBucketCountThresholds.getRequiredSize()
+                : Long.MAX_VALUE;
+            final List<B> kept = new ArrayList<>((int) Math.min(size, maxReducedBuckets));
+            while (kept.size() < size && reducedBuckets.hasNext()) {
                 reduceContext.consumeBucketsAndMaybeBreak(1);
-                list[i] = reducedBuckets.get(i);
+                final B bucket = reducedBuckets.next();
                 if (sumDocCountError == -1) {
-                    list[i].setDocCountError(-1);
+                    bucket.setDocCountError(-1);
                 } else {
                     final long fSumDocCountError = sumDocCountError;
-                    list[i].setDocCountError(docCountError -> docCountError + fSumDocCountError);
+                    bucket.setDocCountError(docCountError -> docCountError + fSumDocCountError);
                 }
+                kept.add(bucket);
             }
+            list = kept.toArray(createBucketsArray(kept.size()));
         }
         long docCountError;
         if (sumDocCountError == -1) {
@@ -34,6 +34,7 @@ package org.opensearch.search.aggregations.bucket.terms;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.NumericUtils;
 import org.apache.lucene.util.PriorityQueue;
@@ -41,6 +42,10 @@ import org.opensearch.common.Numbers;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeQueryHelper;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.fielddata.FieldData;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -60,6 +65,7 @@ import org.opensearch.search.aggregations.bucket.terms.heuristic.SignificanceHeu
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeBucketCollector;
 
 import java.io.IOException;
 import java.math.BigInteger;
@@ -71,6 +77,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static java.util.Collections.emptyList;
+import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeQueryHelper.getSupportedStarTree;
 import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
 
 /**
@@ -116,6 +123,12 @@ public class NumericTermsAggregator extends TermsAggregator {
 
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
+        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context);
+        if (supportedStarTree != null) {
+            StarTreeQueryHelper.preComputeBucketsWithStarTree(getStarTreeBucketCollector(ctx, supportedStarTree));
+            throw new CollectionTerminatedException();
+        }
+
         SortedNumericDocValues values = resultStrategy.getValues(ctx);
         return resultStrategy.wrapCollector(new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -145,6 +158,57 @@ public class NumericTermsAggregator extends TermsAggregator {
         });
     }
 
+    /**
+     * Buckets the star-tree entries of the segment by their value of the numeric dimension
+     */
+    private StarTreeBucketCollector getStarTreeBucketCollector(LeafReaderContext ctx, CompositeIndexFieldInfo starTree)
+        throws IOException {
+        assert resultStrategy instanceof LongTermsResults;
+        StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, starTree);
+        assert starTreeValues != null;
+        String fieldName = ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName();
+        SortedNumericStarTreeValuesIterator valuesIterator = (SortedNumericStarTreeValuesIterator) starTreeValues
+            .getDimensionValuesIterator(fieldName);
+        SortedNumericStarTreeValuesIterator docCountsIterator = StarTreeQueryHelper.getDocCountsIterator(starTreeValues);
+
+        StarTreeBucketCollector collector = new StarTreeBucketCollector(
+            starTreeValues,
+            StarTreeQueryHelper.getStarTreeFilteredValues(context, ctx, starTreeValues)
+        ) {
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long owningBucketOrd) throws IOException {
+                if (valuesIterator.advanceExact(starTreeEntry) == false) {
+                    return;
+                }
+                long val = valuesIterator.nextValue();
+                if (longFilter != null && longFilter.accept(val) == false) {
+                    return;
+                }
+                long bucketOrd = bucketOrds.add(owningBucketOrd, val);
+                if (bucketOrd < 0) { // already seen
+                    bucketOrd = -1 - bucketOrd;
+                }
+                if (docCountsIterator.advanceExact(starTreeEntry)) {
+                    incrementBucketDocCount(bucketOrd, docCountsIterator.nextValue());
+                }
+                for (StarTreeBucketCollector subCollector : subCollectors) {
+                    subCollector.collectStarTreeEntry(starTreeEntry, bucketOrd);
+                }
+            }
+        };
+        collector.setSubCollectors(ctx, starTree, subAggregators);
+        return collector;
+    }
+
+    @Override
+    protected boolean shouldDefer(Aggregator aggregator) {
+        // sub-aggregations are pre-computed together with the buckets when the star-tree is used, there is nothing to replay
+        if (getSupportedStarTree(this.context) != null) {
+            return false;
+        }
+        return super.shouldDefer(aggregator);
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return resultStrategy.buildAggregations(owningBucketOrds);
@@ -263,6 +263,13 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
         this.showTermDocCountError = showTermDocCountError;
     }
 
+    /**
+     * Returns whether string terms are collected by global ordinals, which is the default unless the execution hint asks otherwise
+     */
+    public boolean collectsByGlobalOrdinals() {
+        return executionHint == null || ExecutionMode.GLOBAL_ORDINALS.toString().equals(executionHint);
+    }
+
     @Override
     protected Aggregator createUnmapped(SearchContext searchContext, Aggregator parent, Map<String, Object> metadata) throws IOException {
         final InternalAggregation aggregation = new UnmappedTerms(name, order, bucketCountThresholds, metadata);
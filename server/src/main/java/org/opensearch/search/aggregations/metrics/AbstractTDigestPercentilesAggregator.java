@@ -33,11 +33,18 @@
 package org.opensearch.search.aggregations.metrics;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.ArrayUtils;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.ObjectArray;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeQueryHelper;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -45,16 +52,20 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeBucketCollector;
+import org.opensearch.search.startree.StarTreePreComputeCollector;
 
 import java.io.IOException;
 import java.util.Map;
 
+import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeQueryHelper.getSupportedStarTree;
+
 /**
  * Base aggregator for the TDigest agg
  *
  * @opensearch.internal
  */
-abstract class AbstractTDigestPercentilesAggregator extends NumericMetricsAggregator.MultiValue {
+abstract class AbstractTDigestPercentilesAggregator extends NumericMetricsAggregator.MultiValue implements StarTreePreComputeCollector {
 
     private static int indexOfKey(double[] keys, double key) {
         return ArrayUtils.binarySearch(keys, key, 0.001);
@@ -97,6 +108,20 @@ abstract class AbstractTDigestPercentilesAggregator extends NumericMetricsAggreg
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
+        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context);
+        if (supportedStarTree != null) {
+            if (parent != null) {
+                // the parent bucket aggregation collects the pre-aggregated star-tree entries for this aggregation
+                return LeafBucketCollector.NO_OP_COLLECTOR;
+            }
+            StarTreeQueryHelper.preComputeWithStarTree(context, ctx, supportedStarTree, this);
+            return new LeafBucketCollector() {
+                @Override
+                public void collect(int doc, long bucket) {
+                    throw new CollectionTerminatedException();
+                }
+            };
+        }
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = ((ValuesSource.Numeric) valuesSource).doubleValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
@@ -113,6 +138,37 @@ abstract class AbstractTDigestPercentilesAggregator extends NumericMetricsAggreg
         };
     }
 
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parentCollector
+    ) throws IOException {
+        if (valuesSource == null) {
+            return null;
+        }
+        final BigArrays bigArrays = context.bigArrays();
+        BinaryStarTreeValuesIterator sketchValuesIterator = StarTreeQueryHelper.getSketchValuesIterator(
+            parentCollector.getStarTreeValues(),
+            ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName(),
+            MetricStat.PERCENTILES
+        );
+        return new StarTreeBucketCollector(parentCollector) {
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long bucket) throws IOException {
+                TDigestState state = getExistingOrNewHistogram(bigArrays, bucket);
+                if (sketchValuesIterator.advanceExact(starTreeEntry)) {
+                    BytesRef sketch = sketchValuesIterator.binaryValue();
+                    if (sketch.length > 0) {
+                        try (StreamInput in = StreamInput.wrap(sketch.bytes, sketch.offset, sketch.length)) {
+                            state.add(TDigestState.read(in));
+                        }
+                    }
+                }
+            }
+        };
+    }
+
     private TDigestState getExistingOrNewHistogram(final BigArrays bigArrays, long bucket) {
         states = bigArrays.grow(states, bucket + 1);
         TDigestState state = states.get(bucket);
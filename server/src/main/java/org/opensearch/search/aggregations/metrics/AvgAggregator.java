@@ -56,6 +56,8 @@ import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeBucketCollector;
+import org.opensearch.search.startree.StarTreePreComputeCollector;
 
 import java.io.IOException;
 import java.util.Map;
@@ -68,7 +70,7 @@ import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTr
  *
  * @opensearch.internal
  */
-class AvgAggregator extends NumericMetricsAggregator.SingleValue {
+class AvgAggregator extends NumericMetricsAggregator.SingleValue implements StarTreePreComputeCollector {
 
     final ValuesSource.Numeric valuesSource;
 
@@ -108,6 +110,10 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         }
         CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context);
         if (supportedStarTree != null) {
+            if (parent != null) {
+                // the parent bucket aggregation collects the pre-aggregated star-tree entries for this aggregation
+                return LeafBucketCollector.NO_OP_COLLECTOR;
+            }
             return getStarTreeLeafCollector(ctx, sub, supportedStarTree);
         }
         return getDefaultLeafCollector(ctx, sub);
@@ -200,6 +206,47 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         };
     }
 
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parentCollector
+    ) throws IOException {
+        if (valuesSource == null) {
+            return null;
+        }
+        final BigArrays bigArrays = context.bigArrays();
+        final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        SortedNumericStarTreeValuesIterator sumValuesIterator = StarTreeQueryHelper.getMetricValuesIterator(
+            parentCollector.getStarTreeValues(),
+            ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName(),
+            MetricStat.SUM
+        );
+        SortedNumericStarTreeValuesIterator countValuesIterator = StarTreeQueryHelper.getMetricValuesIterator(
+            parentCollector.getStarTreeValues(),
+            ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName(),
+            MetricStat.VALUE_COUNT
+        );
+        return new StarTreeBucketCollector(parentCollector) {
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long bucket) throws IOException {
+                counts = bigArrays.grow(counts, bucket + 1);
+                sums = bigArrays.grow(sums, bucket + 1);
+                compensations = bigArrays.grow(compensations, bucket + 1);
+
+                if (sumValuesIterator.advanceExact(starTreeEntry) && countValuesIterator.advanceExact(starTreeEntry)) {
+                    kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                    for (int i = 0, count = sumValuesIterator.entryValueCount(); i < count; i++) {
+                        kahanSummation.add(NumericUtils.sortableLongToDouble(sumValuesIterator.nextValue()));
+                        counts.increment(bucket, countValuesIterator.nextValue());
+                    }
+                    sums.set(bucket, kahanSummation.value());
+                    compensations.set(bucket, kahanSummation.delta());
+                }
+            }
+        };
+    }
+
     @Override
     public double metric(long owningBucketOrd) {
         if (valuesSource == null || owningBucketOrd >= sums.size()) {
@@ -63,7 +63,12 @@ import org.opensearch.common.util.BitArray;
 import org.opensearch.common.util.BitMixer;
 import org.opensearch.common.util.LongArray;
 import org.opensearch.common.util.ObjectArray;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeQueryHelper;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.aggregations.Aggregator;
@@ -72,12 +77,15 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeBucketCollector;
+import org.opensearch.search.startree.StarTreePreComputeCollector;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiConsumer;
 
+import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeQueryHelper.getSupportedStarTree;
 import static org.opensearch.search.SearchService.CARDINALITY_AGGREGATION_PRUNING_THRESHOLD;
 
 /**
@@ -85,7 +93,7 @@ import static org.opensearch.search.SearchService.CARDINALITY_AGGREGATION_PRUNIN
  *
  * @opensearch.internal
  */
-public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue {
+public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue implements StarTreePreComputeCollector {
 
     private static final Logger logger = LogManager.getLogger(CardinalityAggregator.class);
 
@@ -260,10 +268,56 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
         postCollectLastCollector();
 
+        if (counts != null) {
+            CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context);
+            if (supportedStarTree != null) {
+                if (parent != null) {
+                    // the parent bucket aggregation collects the pre-aggregated star-tree entries for this aggregation
+                    return LeafBucketCollector.NO_OP_COLLECTOR;
+                }
+                StarTreeQueryHelper.preComputeWithStarTree(context, ctx, supportedStarTree, this);
+                return new LeafBucketCollector() {
+                    @Override
+                    public void collect(int doc, long bucket) {
+                        throw new CollectionTerminatedException();
+                    }
+                };
+            }
+        }
+
         collector = pickCollector(ctx);
         return collector;
     }
 
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parentCollector
+    ) throws IOException {
+        if (counts == null) {
+            return null;
+        }
+        BinaryStarTreeValuesIterator sketchValuesIterator = StarTreeQueryHelper.getSketchValuesIterator(
+            parentCollector.getStarTreeValues(),
+            ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName(),
+            MetricStat.CARDINALITY
+        );
+        return new StarTreeBucketCollector(parentCollector) {
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long bucket) throws IOException {
+                if (sketchValuesIterator.advanceExact(starTreeEntry)) {
+                    BytesRef sketch = sketchValuesIterator.binaryValue();
+                    if (sketch.length > 0) {
+                        try (StreamInput in = StreamInput.wrap(sketch.bytes, sketch.offset, sketch.length)) {
+                            counts.merge(bucket, CompactHyperLogLogPlusPlus.readFrom(in), 0);
+                        }
+                    }
+                }
+            }
+        };
+    }
+
     private void postCollectLastCollector() throws IOException {
         if (collector != null) {
             try {
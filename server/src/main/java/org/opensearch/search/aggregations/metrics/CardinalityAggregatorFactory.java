@@ -32,13 +32,14 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.CardinalityValueAggregator;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
-import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
@@ -51,7 +52,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
+class CardinalityAggregatorFactory extends MetricAggregatorFactory {
 
     private final Long precisionThreshold;
 
@@ -68,6 +69,14 @@ class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
         this.precisionThreshold = precisionThreshold;
     }
 
+    /**
+     * The cardinality sketches of the star-tree can only be merged into counts of the same precision
+     */
+    @Override
+    public MetricStat getMetricStat() {
+        return precision() == CardinalityValueAggregator.PRECISION ? MetricStat.CARDINALITY : null;
+    }
+
     public static void registerAggregators(ValuesSourceRegistry.Builder builder) {
         builder.register(CardinalityAggregationBuilder.REGISTRY_KEY, CoreValuesSourceType.ALL_CORE, CardinalityAggregator::new, true);
     }
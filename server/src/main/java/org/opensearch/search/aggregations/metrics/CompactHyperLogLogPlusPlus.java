@@ -0,0 +1,334 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import java.io.IOException;
+
+/**
+ * Single bucket HyperLogLog++ counter whose memory usage grows with the number of distinct values it holds.
+ * <p>
+ * {@link HyperLogLogPlusPlus} allocates the registers of every bucket upfront, which is too expensive when many
+ * counters are alive at the same time, like the pre-aggregated cardinality sketches of a star-tree. This counter keeps
+ * the encoded hashes in a growable hash set for linear counting and only allocates the registers when it is upgraded
+ * to HyperLogLog, using the same threshold as {@link HyperLogLogPlusPlus}. Hashes are encoded the same way and
+ * serialized with {@link #writeTo(long, org.opensearch.core.common.io.stream.StreamOutput)}, so both counters can be
+ * merged into each other.
+ *
+ * @opensearch.internal
+ */
+public final class CompactHyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
+
+    private static final float MAX_LOAD_FACTOR = 0.75f;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private LinearCounting lc;
+    // null until the counter is upgraded to HyperLogLog
+    private HyperLogLog hll;
+
+    public CompactHyperLogLogPlusPlus(int precision) {
+        super(precision);
+        this.lc = new LinearCounting(precision);
+    }
+
+    @Override
+    public long maxOrd() {
+        return 1;
+    }
+
+    @Override
+    public long cardinality(long bucketOrd) {
+        assert bucketOrd == 0 : "only bucket 0 is supported, got " + bucketOrd;
+        return hll == null ? lc.cardinality(0) : hll.cardinality(0);
+    }
+
+    @Override
+    protected boolean getAlgorithm(long bucketOrd) {
+        return hll == null ? LINEAR_COUNTING : HYPERLOGLOG;
+    }
+
+    @Override
+    protected AbstractLinearCounting.HashesIterator getLinearCounting(long bucketOrd) {
+        return lc.values(0);
+    }
+
+    @Override
+    protected AbstractHyperLogLog.RunLenIterator getHyperLogLog(long bucketOrd) {
+        return hll.getRunLens(0);
+    }
+
+    @Override
+    public void collect(long bucketOrd, long hash) {
+        assert bucketOrd == 0 : "only bucket 0 is supported, got " + bucketOrd;
+        if (hll == null) {
+            if (lc.collect(0, hash) > lc.threshold) {
+                upgradeToHll();
+            }
+        } else {
+            hll.collect(0, hash);
+        }
+    }
+
+    /**
+     * Merges the given bucket of another counter into this counter. Both counters must have the same precision.
+     */
+    public void merge(AbstractHyperLogLogPlusPlus other, long otherBucket) {
+        if (precision() != other.precision()) {
+            throw new IllegalArgumentException(
+                "Cannot merge HyperLogLog++ counters with different precisions [" + precision() + "] and [" + other.precision() + "]"
+            );
+        }
+        if (other.getAlgorithm(otherBucket) == LINEAR_COUNTING) {
+            AbstractLinearCounting.HashesIterator values = other.getLinearCounting(otherBucket);
+            while (values.next()) {
+                addEncoded(values.value());
+            }
+        } else {
+            if (hll == null) {
+                upgradeToHll();
+            }
+            AbstractHyperLogLog.RunLenIterator runLens = other.getHyperLogLog(otherBucket);
+            for (int i = 0; i < hll.m; ++i) {
+                runLens.next();
+                hll.addRunLen(0, i, runLens.value());
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of this counter
+     */
+    public CompactHyperLogLogPlusPlus copy() {
+        CompactHyperLogLogPlusPlus copy = new CompactHyperLogLogPlusPlus(precision());
+        copy.merge(this, 0);
+        return copy;
+    }
+
+    /**
+     * Reads a counter serialized with {@link #writeTo(long, org.opensearch.core.common.io.stream.StreamOutput)}
+     */
+    public static CompactHyperLogLogPlusPlus readFrom(StreamInput in) throws IOException {
+        final int precision = in.readVInt();
+        final CompactHyperLogLogPlusPlus counts = new CompactHyperLogLogPlusPlus(precision);
+        final boolean algorithm = in.readBoolean();
+        if (algorithm == LINEAR_COUNTING) {
+            final long size = in.readVLong();
+            for (long i = 0; i < size; ++i) {
+                counts.addEncoded(in.readInt());
+            }
+        } else {
+            counts.upgradeToHll();
+            for (int i = 0; i < counts.hll.m; ++i) {
+                counts.hll.addRunLen(0, i, in.readByte());
+            }
+        }
+        return counts;
+    }
+
+    private void addEncoded(int encoded) {
+        if (hll == null) {
+            if (lc.addEncoded(0, encoded) > lc.threshold) {
+                upgradeToHll();
+            }
+        } else {
+            hll.collectEncoded(0, encoded);
+        }
+    }
+
+    private void upgradeToHll() {
+        final HyperLogLog hll = new HyperLogLog(precision());
+        final AbstractLinearCounting.HashesIterator hashes = lc.values(0);
+        while (hashes.next()) {
+            hll.collectEncoded(0, hashes.value());
+        }
+        this.hll = hll;
+        // the hash set is not needed anymore
+        this.lc = null;
+    }
+
+    @Override
+    public void close() {
+        // nothing to release, this counter is allocated on the heap
+    }
+
+    /**
+     * Linear counting backed by an open addressing hash set that grows with the number of hashes.
+     *
+     * @opensearch.internal
+     */
+    private static class LinearCounting extends AbstractLinearCounting {
+
+        private final int threshold;
+        private final LinearCountingIterator iterator;
+        // 0 is never a valid encoded hash, it marks unused slots
+        private int[] hashes;
+        private int size;
+
+        LinearCounting(int p) {
+            super(p);
+            final int capacity = (1 << p) / 4; // because ints take 4 bytes
+            threshold = (int) (capacity * MAX_LOAD_FACTOR);
+            hashes = new int[INITIAL_CAPACITY];
+            iterator = new LinearCountingIterator(this);
+        }
+
+        @Override
+        protected int addEncoded(long bucketOrd, int encoded) {
+            assert encoded != 0;
+            if (size + 1 > hashes.length * MAX_LOAD_FACTOR) {
+                grow();
+            }
+            return insert(hashes, encoded) ? ++size : -1;
+        }
+
+        /**
+         * Inserts the hash and returns whether it was not present yet.
+         */
+        private static boolean insert(int[] hashes, int encoded) {
+            final int mask = hashes.length - 1;
+            for (int i = BitMixer.mix32(encoded) & mask;; i = (i + 1) & mask) {
+                final int v = hashes[i];
+                if (v == 0) {
+                    hashes[i] = encoded;
+                    return true;
+                } else if (v == encoded) {
+                    return false;
+                }
+            }
+        }
+
+        private void grow() {
+            final int[] newHashes = new int[hashes.length << 1];
+            for (int v : hashes) {
+                if (v != 0) {
+                    insert(newHashes, v);
+                }
+            }
+            hashes = newHashes;
+        }
+
+        @Override
+        protected int size(long bucketOrd) {
+            return size;
+        }
+
+        @Override
+        protected HashesIterator values(long bucketOrd) {
+            iterator.reset();
+            return iterator;
+        }
+    }
+
+    /**
+     * Iterator over the hashes of the linear counting hash set
+     *
+     * @opensearch.internal
+     */
+    private static class LinearCountingIterator implements AbstractLinearCounting.HashesIterator {
+
+        private final LinearCounting lc;
+        private int pos;
+        private int value;
+
+        LinearCountingIterator(LinearCounting lc) {
+            this.lc = lc;
+        }
+
+        void reset() {
+            pos = 0;
+        }
+
+        @Override
+        public int size() {
+            return lc.size;
+        }
+
+        @Override
+        public boolean next() {
+            final int[] hashes = lc.hashes;
+            while (pos < hashes.length) {
+                final int v = hashes[pos++];
+                if (v != 0) {
+                    value = v;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int value() {
+            return value;
+        }
+    }
+
+    /**
+     * HyperLogLog registers of a single bucket
+     *
+     * @opensearch.internal
+     */
+    private static class HyperLogLog extends AbstractHyperLogLog {
+
+        private final byte[] runLens;
+        private final HyperLogLogIterator iterator;
+
+        HyperLogLog(int precision) {
+            super(precision);
+            runLens = new byte[m];
+            iterator = new HyperLogLogIterator(this);
+        }
+
+        @Override
+        protected void addRunLen(long bucketOrd, int register, int runLen) {
+            runLens[register] = (byte) Math.max(runLen, runLens[register]);
+        }
+
+        @Override
+        protected RunLenIterator getRunLens(long bucketOrd) {
+            iterator.reset();
+            return iterator;
+        }
+    }
+
+    /**
+     * Iterator over the HyperLogLog registers
+     *
+     * @opensearch.internal
+     */
+    private static class HyperLogLogIterator implements AbstractHyperLogLog.RunLenIterator {
+
+        private final HyperLogLog hll;
+        private int pos;
+        private byte value;
+
+        HyperLogLogIterator(HyperLogLog hll) {
+            this.hll = hll;
+        }
+
+        void reset() {
+            pos = 0;
+        }
+
+        @Override
+        public boolean next() {
+            if (pos < hll.m) {
+                value = hll.runLens[pos++];
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public byte value() {
+            return value;
+        }
+    }
+}
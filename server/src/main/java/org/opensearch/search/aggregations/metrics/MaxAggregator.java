@@ -44,6 +44,7 @@ import org.opensearch.common.util.DoubleArray;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeQueryHelper;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
@@ -55,6 +56,8 @@ import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeBucketCollector;
+import org.opensearch.search.startree.StarTreePreComputeCollector;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -69,7 +72,7 @@ import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTr
  *
  * @opensearch.internal
  */
-class MaxAggregator extends NumericMetricsAggregator.SingleValue {
+class MaxAggregator extends NumericMetricsAggregator.SingleValue implements StarTreePreComputeCollector {
 
     final ValuesSource.Numeric valuesSource;
     final DocValueFormat formatter;
@@ -130,6 +133,10 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue {
 
         CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context);
         if (supportedStarTree != null) {
+            if (parent != null) {
+                // the parent bucket aggregation collects the pre-aggregated star-tree entries for this aggregation
+                return LeafBucketCollector.NO_OP_COLLECTOR;
+            }
             return getStarTreeCollector(ctx, sub, supportedStarTree);
         }
         return getDefaultLeafCollector(ctx, sub);
@@ -177,6 +184,40 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue {
         );
     }
 
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parentCollector
+    ) throws IOException {
+        if (valuesSource == null) {
+            return null;
+        }
+        final BigArrays bigArrays = context.bigArrays();
+        SortedNumericStarTreeValuesIterator metricValuesIterator = StarTreeQueryHelper.getMetricValuesIterator(
+            parentCollector.getStarTreeValues(),
+            ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName(),
+            MetricStat.MAX
+        );
+        return new StarTreeBucketCollector(parentCollector) {
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long bucket) throws IOException {
+                if (bucket >= maxes.size()) {
+                    long from = maxes.size();
+                    maxes = bigArrays.grow(maxes, bucket + 1);
+                    maxes.fill(from, maxes.size(), Double.NEGATIVE_INFINITY);
+                }
+                if (metricValuesIterator.advanceExact(starTreeEntry)) {
+                    double max = maxes.get(bucket);
+                    for (int i = 0, count = metricValuesIterator.entryValueCount(); i < count; i++) {
+                        max = Math.max(max, NumericUtils.sortableLongToDouble(metricValuesIterator.nextValue()));
+                    }
+                    maxes.set(bucket, max);
+                }
+            }
+        };
+    }
+
     @Override
     public double metric(long owningBucketOrd) {
         if (valuesSource == null || owningBucketOrd >= maxes.size()) {
@@ -44,6 +44,7 @@ import org.opensearch.common.util.DoubleArray;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeQueryHelper;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
@@ -55,6 +56,8 @@ import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeBucketCollector;
+import org.opensearch.search.startree.StarTreePreComputeCollector;
 
 import java.io.IOException;
 import java.util.Map;
@@ -68,7 +71,7 @@ import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTr
  *
  * @opensearch.internal
  */
-class MinAggregator extends NumericMetricsAggregator.SingleValue {
+class MinAggregator extends NumericMetricsAggregator.SingleValue implements StarTreePreComputeCollector {
     private static final int MAX_BKD_LOOKUPS = 1024;
 
     final ValuesSource.Numeric valuesSource;
@@ -129,6 +132,10 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue {
 
         CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context);
         if (supportedStarTree != null) {
+            if (parent != null) {
+                // the parent bucket aggregation collects the pre-aggregated star-tree entries for this aggregation
+                return LeafBucketCollector.NO_OP_COLLECTOR;
+            }
             return getStarTreeCollector(ctx, sub, supportedStarTree);
         }
         return getDefaultLeafCollector(ctx, sub);
@@ -174,6 +181,40 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue {
         );
     }
 
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parentCollector
+    ) throws IOException {
+        if (valuesSource == null) {
+            return null;
+        }
+        final BigArrays bigArrays = context.bigArrays();
+        SortedNumericStarTreeValuesIterator metricValuesIterator = StarTreeQueryHelper.getMetricValuesIterator(
+            parentCollector.getStarTreeValues(),
+            ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName(),
+            MetricStat.MIN
+        );
+        return new StarTreeBucketCollector(parentCollector) {
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long bucket) throws IOException {
+                if (bucket >= mins.size()) {
+                    long from = mins.size();
+                    mins = bigArrays.grow(mins, bucket + 1);
+                    mins.fill(from, mins.size(), Double.POSITIVE_INFINITY);
+                }
+                if (metricValuesIterator.advanceExact(starTreeEntry)) {
+                    double min = mins.get(bucket);
+                    for (int i = 0, count = metricValuesIterator.entryValueCount(); i < count; i++) {
+                        min = Math.min(min, NumericUtils.sortableLongToDouble(metricValuesIterator.nextValue()));
+                    }
+                    mins.set(bucket, min);
+                }
+            }
+        };
+    }
+
     @Override
     public double metric(long owningBucketOrd) {
         if (valuesSource == null || owningBucketOrd >= mins.size()) {
@@ -32,13 +32,14 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.PercentilesValueAggregator;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
-import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
@@ -53,7 +54,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class PercentilesAggregatorFactory extends ValuesSourceAggregatorFactory {
+class PercentilesAggregatorFactory extends MetricAggregatorFactory {
 
     private final double[] percents;
     private final PercentilesConfig percentilesConfig;
@@ -86,6 +87,18 @@ class PercentilesAggregatorFactory extends ValuesSourceAggregatorFactory {
         this.keyed = keyed;
     }
 
+    /**
+     * The star-tree holds TDigest sketches, which are only used by the TDigest method with the same compression
+     */
+    @Override
+    public MetricStat getMetricStat() {
+        if (percentilesConfig instanceof PercentilesConfig.TDigest
+            && ((PercentilesConfig.TDigest) percentilesConfig).getCompression() == PercentilesValueAggregator.COMPRESSION) {
+            return MetricStat.PERCENTILES;
+        }
+        return null;
+    }
+
     @Override
     protected Aggregator createUnmapped(SearchContext searchContext, Aggregator parent, Map<String, Object> metadata) throws IOException {
 
@@ -40,6 +40,7 @@ import org.opensearch.common.util.LongArray;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeQueryHelper;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.fielddata.MultiGeoPointValues;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.search.aggregations.Aggregator;
@@ -49,6 +50,8 @@ import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeBucketCollector;
+import org.opensearch.search.startree.StarTreePreComputeCollector;
 
 import java.io.IOException;
 import java.util.Map;
@@ -63,7 +66,7 @@ import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTr
  *
  * @opensearch.internal
  */
-public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
+public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue implements StarTreePreComputeCollector {
 
     final ValuesSource valuesSource;
 
@@ -96,6 +99,10 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
 
             CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context);
             if (supportedStarTree != null) {
+                if (parent != null) {
+                    // the parent bucket aggregation collects the pre-aggregated star-tree entries for this aggregation
+                    return LeafBucketCollector.NO_OP_COLLECTOR;
+                }
                 return getStarTreeCollector(ctx, sub, supportedStarTree);
             }
 
@@ -152,6 +159,34 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
         );
     }
 
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parentCollector
+    ) throws IOException {
+        if (valuesSource == null) {
+            return null;
+        }
+        final BigArrays bigArrays = context.bigArrays();
+        SortedNumericStarTreeValuesIterator metricValuesIterator = StarTreeQueryHelper.getMetricValuesIterator(
+            parentCollector.getStarTreeValues(),
+            ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName(),
+            MetricStat.VALUE_COUNT
+        );
+        return new StarTreeBucketCollector(parentCollector) {
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long bucket) throws IOException {
+                counts = bigArrays.grow(counts, bucket + 1);
+                if (metricValuesIterator.advanceExact(starTreeEntry)) {
+                    for (int i = 0, count = metricValuesIterator.entryValueCount(); i < count; i++) {
+                        counts.increment(bucket, metricValuesIterator.nextValue());
+                    }
+                }
+            }
+        };
+    }
+
     @Override
     public double metric(long owningBucketOrd) {
         return (valuesSource == null || owningBucketOrd >= counts.size()) ? 0 : counts.get(owningBucketOrd);
@@ -103,7 +103,11 @@ public abstract class ValuesSourceAggregatorFactory extends AggregatorFactory {
         return config.valueSourceType().typeName();
     }
 
+    public ValuesSourceConfig getConfig() {
+        return config;
+    }
+
     public String getField() {
-        return config.fieldContext().field();
+        return config.fieldContext() != null ? config.fieldContext().field() : null;
     }
 }
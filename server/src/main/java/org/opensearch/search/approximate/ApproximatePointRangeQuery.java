@@ -25,8 +25,10 @@ import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.DocIdSetBuilder;
 import org.apache.lucene.util.IntsRef;
 import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.ScoreSortBuilder;
 import org.opensearch.search.sort.SortOrder;
 
 import java.io.IOException;
@@ -344,6 +346,10 @@ public abstract class ApproximatePointRangeQuery extends ApproximateQuery {
                 if (checkValidPointValues(values) == false) {
                     return null;
                 }
+                // skip the segment if the range of its points is disjoint from the range of the query
+                if (relate(values.getMinPackedValue(), values.getMaxPackedValue()) == PointValues.Relation.CELL_OUTSIDE_QUERY) {
+                    return null;
+                }
                 final Weight weight = this;
                 if (size > values.size()) {
                     return pointRangeQueryWeight.scorerSupplier(context);
@@ -430,22 +436,38 @@ public abstract class ApproximatePointRangeQuery extends ApproximateQuery {
         if (context == null) {
             return false;
         }
+        // aggregations need to see every matching document
         if (context.aggregations() != null) {
             return false;
         }
         // size 0 could be set for caching
-        if (context.from() + context.size() == 0) {
-            this.setSize(10_000);
-        }
-        this.setSize(Math.max(context.from() + context.size(), context.trackTotalHitsUpTo()));
+        final int size = context.from() + context.size() == 0
+            ? SearchContext.DEFAULT_TRACK_TOTAL_HITS_UP_TO
+            : context.from() + context.size();
+        // the total hits are counted up to the tracked threshold
+        this.setSize(Math.max(size, context.trackTotalHitsUpTo()));
         if (context.request() != null && context.request().source() != null) {
-            FieldSortBuilder primarySortField = FieldSortBuilder.getPrimaryFieldSortOrNull(context.request().source());
-            if (primarySortField != null
-                && primarySortField.missing() == null
-                && primarySortField.getFieldName().equals(((RangeQueryBuilder) context.request().source().query()).fieldName())) {
-                if (primarySortField.order() == SortOrder.DESC) {
-                    this.setSortOrder(SortOrder.DESC);
+            SearchSourceBuilder source = context.request().source();
+            // the documents collected by the approximation must be the top documents of the whole request, which is only
+            // guaranteed when this range is the only query and nothing filters its hits afterwards
+            if (source.query() instanceof RangeQueryBuilder == false
+                || ((RangeQueryBuilder) source.query()).fieldName().equals(pointRangeQuery.getField()) == false
+                || source.postFilter() != null) {
+                return false;
+            }
+            if (source.sorts() != null && source.sorts().isEmpty() == false) {
+                FieldSortBuilder primarySortField = FieldSortBuilder.getPrimaryFieldSortOrNull(source);
+                if (primarySortField == null) {
+                    // all documents have the same score, but script or geo distance sorts need every document
+                    return source.sorts().size() == 1 && source.sorts().get(0) instanceof ScoreSortBuilder;
+                }
+                // the points can only be visited in the order of the range field, and documents without a value are not visited
+                if (primarySortField.getFieldName().equals(pointRangeQuery.getField()) == false
+                    || primarySortField.missing() != null
+                    || source.searchAfter() != null) {
+                    return false;
                 }
+                this.setSortOrder(primarySortField.order());
             }
         }
         return true;
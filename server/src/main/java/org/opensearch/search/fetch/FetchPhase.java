@@ -331,6 +331,8 @@ public class FetchPhase {
         int subDocId = docId - subReaderContext.docBase;
         DocumentMapper documentMapper = context.mapperService().documentMapper();
         Text typeText = documentMapper.typeText();
+        // sub phases that load the source lazily read it with the stored fields reader of the segment
+        lookup.source().setSegmentAndDocument(subReaderContext, subDocId, fieldReader);
 
         if (fieldsVisitor == null) {
             SearchHit hit = new SearchHit(docId, null, null, null);
@@ -35,8 +35,12 @@ package org.opensearch.search.fetch.subphase;
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.OpenSearchException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.fetch.FetchContext;
 import org.opensearch.search.fetch.FetchSubPhase;
@@ -96,6 +100,13 @@ public final class FetchSourcePhase implements FetchSubPhase {
             return;
         }
 
+        // If the source of a parent document hasn't been parsed into a map by another sub phase, then copy the filtered source
+        // straight from its bytes.
+        if (nestedHit == false && source.source() == null) {
+            hitContext.hit().sourceRef(streamFilter(fetchSourceContext, source.internalSourceRef()));
+            return;
+        }
+
         // Otherwise, filter the source and add it to the hit.
         Object value = source.filter(fetchSourceContext);
         if (nestedHit) {
@@ -123,6 +134,19 @@ public final class FetchSourcePhase implements FetchSubPhase {
         }
     }
 
+    private static BytesReference streamFilter(FetchSourceContext fetchSourceContext, BytesReference sourceRef) {
+        try (
+            XContentParser parser = XContentHelper.createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, sourceRef)
+        ) {
+            BytesStreamOutput streamOutput = new BytesStreamOutput(Math.min(1024, sourceRef.length()));
+            XContentBuilder builder = new XContentBuilder(parser.contentType().xContent(), streamOutput);
+            fetchSourceContext.getStreamingFilter().accept(parser, builder);
+            return BytesReference.bytes(builder);
+        } catch (IOException e) {
+            throw new OpenSearchException("Error filtering source", e);
+        }
+    }
+
     private static boolean containsFilters(FetchSourceContext context) {
         return context.includes().length != 0 || context.excludes().length != 0;
     }
@@ -54,6 +54,7 @@ import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.TermStatistics;
 import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TotalHits;
@@ -69,8 +70,10 @@ import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchService;
+import org.opensearch.search.SearchSortValuesAndFormats;
 import org.opensearch.search.approximate.ApproximateScoreQuery;
 import org.opensearch.search.dfs.AggregatedDfs;
+import org.opensearch.search.internal.CostBalancedSliceSupplier.LeafPartition;
 import org.opensearch.search.profile.ContextualProfileBreakdown;
 import org.opensearch.search.profile.Timer;
 import org.opensearch.search.profile.query.ProfileWeight;
@@ -80,14 +83,20 @@ import org.opensearch.search.query.QueryPhase;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.MinAndMax;
+import org.opensearch.search.sort.SortOrder;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
 
 /**
@@ -106,6 +115,11 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
 
     private static final int CHECK_CANCELLED_SCORER_INTERVAL = 1 << 11;
 
+    /**
+     * Whether the current thread collects a partition of a leaf rather than the whole leaf, see {@link #isCollectingLeafPartition()}.
+     */
+    private static final ThreadLocal<Boolean> COLLECTING_LEAF_PARTITION = ThreadLocal.withInitial(() -> false);
+
     private AggregatedDfs aggregatedDfs;
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
@@ -272,21 +286,93 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         result.topDocs(new TopDocsAndMaxScore(mergedTopDocs, Float.NaN), formats);
     }
 
+    /**
+     * Searches with slices that balance the estimated cost of the query, splitting large leaves into partitions of doc ids, when intra
+     * segment search is enabled, and with the slices of {@link #slices(List)} otherwise.
+     */
+    @Override
+    public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager) throws IOException {
+        if (shouldPartitionLeaves() == false) {
+            return super.search(query, collectorManager);
+        }
+        final C firstCollector = collectorManager.newCollector();
+        final ScoreMode scoreMode = firstCollector.scoreMode();
+        final Weight weight = createWeight(rewrite(query), scoreMode, 1);
+        final List<LeafReaderContext> leaves = getLeafContexts();
+        if (leaves.isEmpty()) {
+            return collectorManager.reduce(Collections.singletonList(firstCollector));
+        }
+        final long[] costs = new long[leaves.size()];
+        for (int i = 0; i < leaves.size(); i++) {
+            final ScorerSupplier scorerSupplier = weight.scorerSupplier(leaves.get(i));
+            costs[i] = scorerSupplier == null ? 0 : scorerSupplier.cost();
+        }
+        final List<List<LeafPartition>> slices = CostBalancedSliceSupplier.getSlices(
+            leaves,
+            costs,
+            searchContext.getTargetMaxSliceCount(),
+            CostBalancedSliceSupplier.MIN_DOCS_PER_PARTITION
+        );
+        logger.debug("Slice count using cost balanced slice supplier [{}]", slices.size());
+
+        final List<C> collectors = new ArrayList<>(slices.size());
+        collectors.add(firstCollector);
+        for (int i = 1; i < slices.size(); i++) {
+            final C collector = collectorManager.newCollector();
+            if (collector.scoreMode() != scoreMode) {
+                throw new IllegalStateException("CollectorManager does not always produce collectors with the same score mode");
+            }
+            collectors.add(collector);
+        }
+        final List<Callable<C>> tasks = new ArrayList<>(slices.size());
+        for (int i = 0; i < slices.size(); i++) {
+            final List<LeafPartition> slice = slices.get(i);
+            final C collector = collectors.get(i);
+            tasks.add(() -> {
+                searchPartitions(slice, weight, collector);
+                return collector;
+            });
+        }
+        return collectorManager.reduce(getTaskExecutor().invokeAll(tasks));
+    }
+
+    private boolean shouldPartitionLeaves() {
+        // the profiler and star tree pre-computations work on whole leaves
+        return profiler == null
+            && searchContext.shouldUseConcurrentSearch()
+            && searchContext.shouldUseIntraSegmentSearch()
+            && searchContext.getStarTreeQueryContext() == null
+            && searchContext.getTargetMaxSliceCount() > 0;
+    }
+
     @Override
     protected void search(List<LeafReaderContext> leaves, Weight weight, Collector collector) throws IOException {
+        final List<LeafPartition> partitions = new ArrayList<>(leaves.size());
+        for (LeafReaderContext leaf : leaves) {
+            partitions.add(new LeafPartition(leaf, 0, DocIdSetIterator.NO_MORE_DOCS, 0));
+        }
+        searchPartitions(partitions, weight, collector);
+    }
+
+    private void searchPartitions(List<LeafPartition> partitions, Weight weight, Collector collector) throws IOException {
         searchContext.indexShard().getSearchOperationListener().onPreSliceExecution(searchContext);
         try {
+            final List<LeafPartition> sortedPartitions = sortPartitionsByPrimarySort(partitions);
             // Time series based workload by default traverses segments in desc order i.e. latest to the oldest order.
             // This is actually beneficial for search queries to start search on latest segments first for time series workload.
             // That can slow down ASC order queries on timestamp workload. So to avoid that slowdown, we will reverse leaf
             // reader order here.
-            if (searchContext.shouldUseTimeSeriesDescSortOptimization()) {
-                for (int i = leaves.size() - 1; i >= 0; i--) {
-                    searchLeaf(leaves.get(i), weight, collector);
+            if (sortedPartitions != null) {
+                for (LeafPartition partition : sortedPartitions) {
+                    searchPartition(partition, weight, collector);
+                }
+            } else if (searchContext.shouldUseTimeSeriesDescSortOptimization()) {
+                for (int i = partitions.size() - 1; i >= 0; i--) {
+                    searchPartition(partitions.get(i), weight, collector);
                 }
             } else {
-                for (int i = 0; i < leaves.size(); i++) {
-                    searchLeaf(leaves.get(i), weight, collector);
+                for (int i = 0; i < partitions.size(); i++) {
+                    searchPartition(partitions.get(i), weight, collector);
                 }
             }
             searchContext.bucketCollectorProcessor().processPostCollection(collector);
@@ -297,6 +383,68 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         searchContext.indexShard().getSearchOperationListener().onSliceExecution(searchContext);
     }
 
+    /**
+     * Sorts the partitions so that the segments with the most competitive values of the primary sort field are collected first,
+     * which tightens the bottom of the top hits early and lets the collector skip the non-competitive documents of the segments
+     * that follow. Returns null if the search isn't sorted by a field whose minimum and maximum are known per segment.
+     */
+    private List<LeafPartition> sortPartitionsByPrimarySort(List<LeafPartition> partitions) throws IOException {
+        if (partitions.size() <= 1 || searchContext.size() == 0 || searchContext.sort() == null) {
+            return null;
+        }
+        final FieldSortBuilder primarySortField = searchContext.request() == null
+            ? null
+            : FieldSortBuilder.getPrimaryFieldSortOrNull(searchContext.request().source());
+        if (primarySortField == null) {
+            return null;
+        }
+        final Map<LeafReaderContext, MinAndMax<?>> minAndMaxes = new IdentityHashMap<>();
+        boolean hasMinAndMax = false;
+        for (LeafPartition partition : partitions) {
+            if (minAndMaxes.containsKey(partition.ctx) == false) {
+                final MinAndMax<?> minAndMax = FieldSortBuilder.getMinMaxOrNullForSegment(
+                    searchContext.getQueryShardContext(),
+                    partition.ctx,
+                    primarySortField,
+                    searchContext.sort()
+                );
+                minAndMaxes.put(partition.ctx, minAndMax);
+                hasMinAndMax |= minAndMax != null;
+            }
+        }
+        if (hasMinAndMax == false) {
+            return null;
+        }
+        // the sort is stable, so the partitions of a segment stay in order
+        final List<LeafPartition> sortedPartitions = new ArrayList<>(partitions);
+        sortedPartitions.sort(
+            Comparator.comparing(partition -> minAndMaxes.get(partition.ctx), MinAndMax.getComparator(primarySortField.order()))
+        );
+        return sortedPartitions;
+    }
+
+    private void searchPartition(LeafPartition partition, Weight weight, Collector collector) throws IOException {
+        if (partition.isWholeLeaf()) {
+            searchLeaf(partition.ctx, weight, collector);
+            return;
+        }
+        COLLECTING_LEAF_PARTITION.set(true);
+        try {
+            searchLeaf(partition.ctx, partition.minDoc, partition.maxDoc, weight, collector);
+        } finally {
+            COLLECTING_LEAF_PARTITION.set(false);
+        }
+    }
+
+    /**
+     * Returns whether the current thread collects a partition of a leaf rather than the whole leaf, in which case other collectors
+     * collect the other documents of the leaf. Collectors must then not shortcut collection with statistics of the whole leaf, like
+     * its number of documents that match the query.
+     */
+    public static boolean isCollectingLeafPartition() {
+        return COLLECTING_LEAF_PARTITION.get();
+    }
+
     /**
      * Lower-level search API.
      * <p>
@@ -305,6 +453,13 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
      */
     @Override
     protected void searchLeaf(LeafReaderContext ctx, Weight weight, Collector collector) throws IOException {
+        searchLeaf(ctx, 0, DocIdSetIterator.NO_MORE_DOCS, weight, collector);
+    }
+
+    /**
+     * Collects the documents of the provided <code>ctx</code> from <code>minDoc</code> inclusive to <code>maxDoc</code> exclusive.
+     */
+    private void searchLeaf(LeafReaderContext ctx, int minDoc, int maxDoc, Weight weight, Collector collector) throws IOException {
 
         // Check if at all we need to call this leaf for collecting results.
         if (canMatch(ctx) == false) {
@@ -317,7 +472,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
             if (weight instanceof ProfileWeight) {
                 ((ProfileWeight) weight).associateCollectorToLeaves(ctx, collector);
             }
-            weight = wrapWeight(weight);
+            weight = wrapWeight(weight, minDoc != 0 || maxDoc != DocIdSetIterator.NO_MORE_DOCS);
             // See please https://github.com/apache/lucene/pull/964
             collector.setWeight(weight);
             leafCollector = collector.getLeafCollector(ctx);
@@ -336,7 +491,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
             BulkScorer bulkScorer = weight.bulkScorer(ctx);
             if (bulkScorer != null) {
                 try {
-                    bulkScorer.score(leafCollector, liveDocs);
+                    bulkScorer.score(leafCollector, liveDocs, minDoc, maxDoc);
                 } catch (CollectionTerminatedException e) {
                     // collection was terminated prematurely
                     // continue with the following leaf
@@ -354,7 +509,9 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
                         scorer,
                         liveDocsBitSet,
                         leafCollector,
-                        this.cancellable.isEnabled() ? cancellable::checkCancelled : () -> {}
+                        this.cancellable.isEnabled() ? cancellable::checkCancelled : () -> {},
+                        minDoc,
+                        maxDoc
                     );
                 } catch (CollectionTerminatedException e) {
                     // collection was terminated prematurely
@@ -371,8 +528,8 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         leafCollector.finish();
     }
 
-    private Weight wrapWeight(Weight weight) {
-        if (cancellable.isEnabled()) {
+    private Weight wrapWeight(Weight weight, boolean partialLeaf) {
+        if (cancellable.isEnabled() || partialLeaf) {
             return new Weight(weight.getQuery()) {
 
                 @Override
@@ -393,16 +550,17 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
                 @Override
                 public BulkScorer bulkScorer(LeafReaderContext context) throws IOException {
                     BulkScorer in = weight.bulkScorer(context);
-                    if (in != null) {
+                    if (in != null && cancellable.isEnabled()) {
                         return new CancellableBulkScorer(in, cancellable::checkCancelled);
                     } else {
-                        return null;
+                        return in;
                     }
                 }
 
                 @Override
                 public int count(LeafReaderContext context) throws IOException {
-                    return weight.count(context);
+                    // the count of the leaf is not the count of the collected partition
+                    return partialLeaf ? -1 : weight.count(context);
                 }
             };
         } else {
@@ -425,6 +583,17 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
 
     static void intersectScorerAndBitSet(Scorer scorer, BitSet acceptDocs, LeafCollector collector, Runnable checkCancelled)
         throws IOException {
+        intersectScorerAndBitSet(scorer, acceptDocs, collector, checkCancelled, 0, DocIdSetIterator.NO_MORE_DOCS);
+    }
+
+    static void intersectScorerAndBitSet(
+        Scorer scorer,
+        BitSet acceptDocs,
+        LeafCollector collector,
+        Runnable checkCancelled,
+        int minDoc,
+        int maxDoc
+    ) throws IOException {
         collector.setScorer(scorer);
         // ConjunctionDISI uses the DocIdSetIterator#cost() to order the iterators, so if roleBits has the lowest cardinality it should
         // be used first:
@@ -433,7 +602,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         );
         int seen = 0;
         checkCancelled.run();
-        for (int docId = iterator.nextDoc(); docId < DocIdSetIterator.NO_MORE_DOCS; docId = iterator.nextDoc()) {
+        for (int docId = iterator.advance(minDoc); docId < maxDoc; docId = iterator.nextDoc()) {
             if (++seen % CHECK_CANCELLED_SCORER_INTERVAL == 0) {
                 checkCancelled.run();
             }
@@ -520,8 +689,48 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     }
 
     private boolean canMatch(LeafReaderContext ctx) throws IOException {
-        // skip segments for search after if min/max of them doesn't qualify competitive
-        return canMatchSearchAfter(ctx);
+        // skip segments for search after or the bottom sort values of other shards if min/max of them doesn't qualify competitive
+        return canMatchSearchAfter(ctx) && canMatchBottomSortValues(ctx);
+    }
+
+    private boolean canMatchBottomSortValues(LeafReaderContext ctx) throws IOException {
+        final ShardSearchRequest request = searchContext.request();
+        // skipping a segment would change the total hits and the aggregations
+        if (request == null
+            || request.source() == null
+            || request.getBottomSortValues() == null
+            || searchContext.sort() == null
+            || searchContext.trackTotalHitsUpTo() != SearchContext.TRACK_TOTAL_HITS_DISABLED
+            || searchContext.aggregations() != null) {
+            return true;
+        }
+        // Only applied on primary sort field, with missing values sorted last.
+        final FieldSortBuilder primarySortField = FieldSortBuilder.getPrimaryFieldSortOrNull(request.source());
+        if (primarySortField == null || primarySortField.canRewriteToMatchNone() == false) {
+            return true;
+        }
+        final SearchSortValuesAndFormats bottomSortValues = request.getBottomSortValues();
+        // the bottom sort value of the other shards can only be compared with the values of this shard if they share a format
+        if (bottomSortValues.getRawSortValues().length == 0
+            || bottomSortValues.getSortValueFormats()[0].equals(searchContext.sort().formats[0]) == false) {
+            return true;
+        }
+        final Object bottomSortValue = bottomSortValues.getRawSortValues()[0];
+        final MinAndMax<?> minMax = FieldSortBuilder.getMinMaxOrNullForSegment(
+            searchContext.getQueryShardContext(),
+            ctx,
+            primarySortField,
+            searchContext.sort()
+        );
+        if (bottomSortValue == null || minMax == null || minMax.getMin().getClass() != bottomSortValue.getClass()) {
+            return true;
+        }
+        // documents equal to the bottom may still win the tie-break on the coordinating node
+        if (primarySortField.order() == SortOrder.DESC) {
+            return minMax.compareMax(bottomSortValue) >= 0;
+        } else {
+            return minMax.compareMin(bottomSortValue) <= 0;
+        }
     }
 
     private boolean canMatchSearchAfter(LeafReaderContext ctx) throws IOException {
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Supplier to compute the slices of a concurrent segment search for a given query, balancing the estimated cost of the query
+ * across at most max target slice count slices. Unlike {@link MaxTargetSliceSupplier}, which assigns whole leaves by document
+ * count, leaves whose cost exceeds the cost of a slice are split into partitions, which are ranges of doc ids of the leaf, so that
+ * a shard made of a single large segment, such as a force-merged index, can still be searched concurrently.
+ * <p>
+ * Partitions are assigned, most costly first, to the least loaded slice that holds no other partition of the same leaf, so that a
+ * collector never sees the same leaf twice. The cost of a partition is assumed to be proportional to its number of documents.
+ *
+ * @opensearch.internal
+ */
+final class CostBalancedSliceSupplier {
+
+    /** The minimum number of documents of a partition, below which splitting a leaf costs more than it saves */
+    static final int MIN_DOCS_PER_PARTITION = 1 << 15;
+
+    private CostBalancedSliceSupplier() {}
+
+    /**
+     * Computes the slices of the given leaves.
+     *
+     * @param leaves all the segments
+     * @param costs the estimated cost of the query on each leaf, in the order of the leaves
+     * @param targetMaxSlice the maximum number of slices
+     * @param minDocsPerPartition the minimum number of documents of the partition of a leaf
+     * @return the partitions of each slice, ordered by leaf
+     */
+    static List<List<LeafPartition>> getSlices(List<LeafReaderContext> leaves, long[] costs, int targetMaxSlice, int minDocsPerPartition) {
+        if (targetMaxSlice <= 0) {
+            throw new IllegalArgumentException("CostBalancedSliceSupplier called with unexpected slice count of " + targetMaxSlice);
+        }
+        assert leaves.size() == costs.length;
+
+        long totalCost = 0;
+        for (long cost : costs) {
+            totalCost += cost;
+        }
+        final long costPerSlice = Math.max(1, (totalCost + targetMaxSlice - 1) / targetMaxSlice);
+
+        final List<LeafPartition> partitions = new ArrayList<>(leaves.size());
+        for (int i = 0; i < leaves.size(); i++) {
+            final LeafReaderContext leaf = leaves.get(i);
+            final int maxDoc = leaf.reader().maxDoc();
+            final long partitionCount = Math.min(
+                Math.min((costs[i] + costPerSlice - 1) / costPerSlice, targetMaxSlice),
+                maxDoc / Math.max(1, minDocsPerPartition)
+            );
+            if (partitionCount <= 1) {
+                partitions.add(new LeafPartition(leaf, 0, DocIdSetIterator.NO_MORE_DOCS, costs[i]));
+                continue;
+            }
+            for (int p = 0; p < partitionCount; p++) {
+                final int minDoc = (int) ((long) maxDoc * p / partitionCount);
+                final int endDoc = p == partitionCount - 1
+                    ? DocIdSetIterator.NO_MORE_DOCS
+                    : (int) ((long) maxDoc * (p + 1) / partitionCount);
+                partitions.add(new LeafPartition(leaf, minDoc, endDoc, costs[i] / partitionCount));
+            }
+        }
+
+        // a leaf has at most targetMaxSlice partitions, so there is always a slice without a partition of the leaf to assign to
+        final int sliceCount = Math.min(targetMaxSlice, partitions.size());
+        partitions.sort(
+            Comparator.comparingLong((LeafPartition partition) -> partition.cost)
+                .reversed()
+                .thenComparingInt(partition -> partition.ctx.ord)
+                .thenComparingInt(partition -> partition.minDoc)
+        );
+        final List<List<LeafPartition>> slices = new ArrayList<>(sliceCount);
+        final long[] loads = new long[sliceCount];
+        for (int i = 0; i < sliceCount; i++) {
+            slices.add(new ArrayList<>());
+        }
+        for (LeafPartition partition : partitions) {
+            int target = -1;
+            for (int i = 0; i < sliceCount; i++) {
+                if (target != -1
+                    && (loads[i] > loads[target] || (loads[i] == loads[target] && slices.get(i).size() >= slices.get(target).size()))) {
+                    continue;
+                }
+                if (partition.isWholeLeaf() == false && containsLeaf(slices.get(i), partition.ctx)) {
+                    continue;
+                }
+                target = i;
+            }
+            assert target != -1 : "no slice to assign a partition of leaf [" + partition.ctx.ord + "] to";
+            slices.get(target).add(partition);
+            loads[target] += partition.cost;
+        }
+        for (List<LeafPartition> slice : slices) {
+            slice.sort(Comparator.comparingInt((LeafPartition partition) -> partition.ctx.ord));
+        }
+        return slices;
+    }
+
+    private static boolean containsLeaf(List<LeafPartition> slice, LeafReaderContext leaf) {
+        for (LeafPartition partition : slice) {
+            if (partition.ctx == leaf) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A range of doc ids of a leaf, from {@code minDoc} inclusive to {@code maxDoc} exclusive. The partition that ends a leaf ends
+     * with {@link DocIdSetIterator#NO_MORE_DOCS}.
+     *
+     * @opensearch.internal
+     */
+    static final class LeafPartition {
+        final LeafReaderContext ctx;
+        final int minDoc;
+        final int maxDoc;
+        final long cost;
+
+        LeafPartition(LeafReaderContext ctx, int minDoc, int maxDoc, long cost) {
+            this.ctx = ctx;
+            this.minDoc = minDoc;
+            this.maxDoc = maxDoc;
+            this.cost = cost;
+        }
+
+        boolean isWholeLeaf() {
+            return minDoc == 0 && maxDoc == DocIdSetIterator.NO_MORE_DOCS;
+        }
+    }
+}
@@ -578,6 +578,11 @@ public abstract class FilteredSearchContext extends SearchContext {
         return in.getTargetMaxSliceCount();
     }
 
+    @Override
+    public boolean shouldUseIntraSegmentSearch() {
+        return in.shouldUseIntraSegmentSearch();
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return in.shouldUseTimeSeriesDescSortOptimization();
@@ -520,6 +520,13 @@ public abstract class SearchContext implements Releasable {
 
     public abstract boolean shouldUseTimeSeriesDescSortOptimization();
 
+    /**
+     * Returns whether concurrent segment search may split leaves into ranges of doc ids that are searched by different slices.
+     */
+    public boolean shouldUseIntraSegmentSearch() {
+        return false;
+    }
+
     public int maxAggRewriteFilters() {
         return 0;
     }
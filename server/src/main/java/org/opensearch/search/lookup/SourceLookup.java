@@ -153,6 +153,22 @@ public class SourceLookup implements Map {
         this.docId = docId;
     }
 
+    /**
+     * Sets the segment and document to look up the source of, and the reader of the stored fields of the segment, so that a caller
+     * that reads the stored fields of the documents of a segment shares its reader rather than opening another one.
+     */
+    public void setSegmentAndDocument(
+        LeafReaderContext context,
+        int docId,
+        CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader
+    ) {
+        this.reader = context.reader();
+        this.fieldReader = fieldReader;
+        this.source = null;
+        this.sourceAsBytes = null;
+        this.docId = docId;
+    }
+
     public void setSource(BytesReference source) {
         this.sourceAsBytes = source;
     }
@@ -0,0 +1,218 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.startree;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Values of a star-tree dimension matched by a query, held as sorted and disjoint ranges whose bounds are both inclusive.
+ * Term queries resolve to single value ranges, terms queries to a set of them and range queries to a single range.
+ * <p>
+ * Filters on keyword dimensions hold the matched terms instead, since the dimension values are ordinals local to each
+ * segment. They are resolved to the ordinals of a segment with {@link #resolveOrdinals} before traversing its star-tree.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class DimensionFilter {
+
+    private static final DimensionFilter MATCH_NONE = new DimensionFilter(new long[0], new long[0]);
+
+    private final long[] lows;
+    private final long[] highs;
+    private final BytesRef[] terms;
+
+    private DimensionFilter(long[] lows, long[] highs) {
+        assert lows.length == highs.length;
+        this.lows = lows;
+        this.highs = highs;
+        this.terms = null;
+    }
+
+    private DimensionFilter(BytesRef[] terms) {
+        this.lows = new long[0];
+        this.highs = new long[0];
+        this.terms = terms;
+    }
+
+    /**
+     * Matches no dimension value
+     */
+    public static DimensionFilter matchNone() {
+        return MATCH_NONE;
+    }
+
+    /**
+     * Matches a single dimension value
+     */
+    public static DimensionFilter exactMatch(long value) {
+        return new DimensionFilter(new long[] { value }, new long[] { value });
+    }
+
+    /**
+     * Matches any of the given dimension values
+     */
+    public static DimensionFilter exactMatch(Collection<Long> values) {
+        long[] sorted = values.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new DimensionFilter(sorted, sorted.clone());
+    }
+
+    /**
+     * Matches any of the given terms of a keyword dimension
+     */
+    public static DimensionFilter termMatch(Collection<BytesRef> values) {
+        return new DimensionFilter(values.stream().sorted().distinct().toArray(BytesRef[]::new));
+    }
+
+    /**
+     * Matches the dimension values between low and high, both inclusive
+     */
+    public static DimensionFilter range(long low, long high) {
+        if (low > high) {
+            return MATCH_NONE;
+        }
+        return new DimensionFilter(new long[] { low }, new long[] { high });
+    }
+
+    /**
+     * Returns a filter matching the values matched by both this filter and the other one
+     */
+    public DimensionFilter intersect(DimensionFilter other) {
+        if (terms != null || other.terms != null) {
+            if (terms == null || other.terms == null) {
+                throw new IllegalArgumentException("cannot intersect a filter on terms with a filter on values");
+            }
+            return new DimensionFilter(
+                Arrays.stream(terms).filter(term -> Arrays.binarySearch(other.terms, term) >= 0).toArray(BytesRef[]::new)
+            );
+        }
+        long[] resultLows = new long[lows.length + other.lows.length];
+        long[] resultHighs = new long[resultLows.length];
+        int count = 0;
+        int i = 0, j = 0;
+        while (i < lows.length && j < other.lows.length) {
+            long low = Math.max(lows[i], other.lows[j]);
+            long high = Math.min(highs[i], other.highs[j]);
+            if (low <= high) {
+                resultLows[count] = low;
+                resultHighs[count] = high;
+                count++;
+            }
+            // advance the range ending first, the other one may still overlap the next range
+            if (highs[i] < other.highs[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return count == 0 ? MATCH_NONE : new DimensionFilter(Arrays.copyOf(resultLows, count), Arrays.copyOf(resultHighs, count));
+    }
+
+    /**
+     * Returns whether the filter holds terms that must be resolved to the ordinals of a segment before being used
+     */
+    public boolean hasUnresolvedTerms() {
+        return terms != null;
+    }
+
+    /**
+     * Resolves the terms of the filter to the ordinals of the keyword dimension of a segment, terms missing from the
+     * segment are not matched
+     */
+    public DimensionFilter resolveOrdinals(SortedSetStarTreeValuesIterator dimensionValues) throws IOException {
+        assert terms != null;
+        List<Long> ordinals = new ArrayList<>(terms.length);
+        for (BytesRef term : terms) {
+            long ordinal = dimensionValues.lookupTerm(term);
+            if (ordinal >= 0) {
+                ordinals.add(ordinal);
+            }
+        }
+        return ordinals.isEmpty() ? MATCH_NONE : exactMatch(ordinals);
+    }
+
+    /**
+     * Checks if the dimension value is matched by the filter
+     */
+    public boolean matches(long value) {
+        assert terms == null : "terms must be resolved to ordinals first";
+        int index = Arrays.binarySearch(lows, value);
+        if (index >= 0) {
+            return true;
+        }
+        // the only range that may contain the value is the one starting right before it
+        int candidate = -index - 2;
+        return candidate >= 0 && value <= highs[candidate];
+    }
+
+    public boolean isEmpty() {
+        return terms != null ? terms.length == 0 : lows.length == 0;
+    }
+
+    /**
+     * Returns the number of disjoint ranges of the filter
+     */
+    public int numRanges() {
+        return lows.length;
+    }
+
+    public long getLow(int range) {
+        return lows[range];
+    }
+
+    public long getHigh(int range) {
+        return highs[range];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DimensionFilter that = (DimensionFilter) o;
+        return Arrays.equals(lows, that.lows) && Arrays.equals(highs, that.highs) && Arrays.equals(terms, that.terms);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(lows) + Arrays.hashCode(highs)) + Arrays.hashCode(terms);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("DimensionFilter[");
+        if (terms != null) {
+            for (int i = 0; i < terms.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(terms[i].utf8ToString());
+            }
+            return builder.append(']').toString();
+        }
+        for (int i = 0; i < lows.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append('[').append(lows[i]).append(", ").append(highs[i]).append(']');
+        }
+        return builder.append(']').toString();
+    }
+}
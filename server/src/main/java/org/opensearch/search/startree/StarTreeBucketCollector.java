@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.startree;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.profile.aggregation.ProfilingAggregator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects pre-aggregated star-tree entries into buckets, the star-tree counterpart of a leaf bucket collector.
+ * Bucket aggregators resolve the bucket of each matching entry and forward the entry to the collectors of
+ * their sub-aggregations.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public abstract class StarTreeBucketCollector {
+
+    protected final StarTreeValues starTreeValues;
+    protected final FixedBitSet matchingDocsBitSet;
+    protected final List<StarTreeBucketCollector> subCollectors = new ArrayList<>();
+
+    public StarTreeBucketCollector(StarTreeValues starTreeValues, FixedBitSet matchingDocsBitSet) {
+        this.starTreeValues = starTreeValues;
+        this.matchingDocsBitSet = matchingDocsBitSet;
+    }
+
+    public StarTreeBucketCollector(StarTreeBucketCollector parent) {
+        this(parent.getStarTreeValues(), parent.getMatchingDocsBitSet());
+    }
+
+    /**
+     * Registers the star-tree collectors of the given sub-aggregators, all of which must support star-tree pre-computation
+     */
+    public void setSubCollectors(LeafReaderContext ctx, CompositeIndexFieldInfo starTree, Aggregator[] subAggregators)
+        throws IOException {
+        for (Aggregator aggregator : subAggregators) {
+            Aggregator unwrapped = ProfilingAggregator.unwrap(aggregator);
+            assert unwrapped instanceof StarTreePreComputeCollector : "aggregator [" + aggregator.name() + "] cannot use the star-tree";
+            StarTreeBucketCollector subCollector = ((StarTreePreComputeCollector) unwrapped).getStarTreeBucketCollector(
+                ctx,
+                starTree,
+                this
+            );
+            if (subCollector != null) {
+                subCollectors.add(subCollector);
+            }
+        }
+    }
+
+    public StarTreeValues getStarTreeValues() {
+        return starTreeValues;
+    }
+
+    public FixedBitSet getMatchingDocsBitSet() {
+        return matchingDocsBitSet;
+    }
+
+    public List<StarTreeBucketCollector> getSubCollectors() {
+        return subCollectors;
+    }
+
+    /**
+     * Collects the star-tree entry into the given bucket
+     *
+     * @param starTreeEntry the star-tree document id, entries are visited in increasing order
+     * @param bucket the bucket ordinal of the parent aggregation
+     */
+    public abstract void collectStarTreeEntry(int starTreeEntry, long bucket) throws IOException;
+}
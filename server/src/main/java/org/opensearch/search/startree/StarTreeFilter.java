@@ -13,24 +13,24 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.util.DocIdSetBuilder;
 import org.apache.lucene.util.FixedBitSet;
-import org.opensearch.index.compositeindex.datacube.Dimension;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNode;
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNodeType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
 
@@ -47,9 +47,25 @@ public class StarTreeFilter {
      *   First go over the star tree and try to match as many dimensions as possible
      *   For the remaining columns, use star-tree doc values to match them
      */
-    public static FixedBitSet getStarTreeResult(StarTreeValues starTreeValues, Map<String, Long> predicateEvaluators) throws IOException {
-        Map<String, Long> queryMap = predicateEvaluators != null ? predicateEvaluators : Collections.emptyMap();
-        StarTreeResult starTreeResult = traverseStarTree(starTreeValues, queryMap);
+    public static FixedBitSet getStarTreeResult(StarTreeValues starTreeValues, Map<String, DimensionFilter> predicateEvaluators)
+        throws IOException {
+        return getStarTreeResult(starTreeValues, predicateEvaluators, Collections.emptySet());
+    }
+
+    /**
+     *   Same as {@link #getStarTreeResult(StarTreeValues, Map)}, but never aggregates away the given group-by
+     *   dimensions, so that every matched star-tree document holds a value for each of them
+     */
+    public static FixedBitSet getStarTreeResult(
+        StarTreeValues starTreeValues,
+        Map<String, DimensionFilter> predicateEvaluators,
+        Set<String> groupByDimensions
+    ) throws IOException {
+        Map<String, DimensionFilter> queryMap = resolveKeywordDimensionFilters(
+            starTreeValues,
+            predicateEvaluators != null ? predicateEvaluators : Collections.emptyMap()
+        );
+        StarTreeResult starTreeResult = traverseStarTree(starTreeValues, queryMap, groupByDimensions);
 
         // Initialize FixedBitSet with size maxMatchedDoc + 1
         FixedBitSet bitSet = new FixedBitSet(starTreeResult.maxMatchedDoc + 1);
@@ -74,11 +90,9 @@ public class StarTreeFilter {
         for (String remainingPredicateColumn : starTreeResult.remainingPredicateColumns) {
             logger.debug("remainingPredicateColumn : {}, maxMatchedDoc : {} ", remainingPredicateColumn, starTreeResult.maxMatchedDoc);
 
-            SortedNumericStarTreeValuesIterator ndv = (SortedNumericStarTreeValuesIterator) starTreeValues.getDimensionValuesIterator(
-                remainingPredicateColumn
-            );
+            StarTreeValuesIterator ndv = starTreeValues.getDimensionValuesIterator(remainingPredicateColumn);
 
-            long queryValue = queryMap.get(remainingPredicateColumn); // Get the query value directly
+            DimensionFilter dimensionFilter = queryMap.get(remainingPredicateColumn);
 
             // Clear the temporary bit set before reuse
             tempBitSet.clear(0, starTreeResult.maxMatchedDoc + 1);
@@ -89,11 +103,11 @@ public class StarTreeFilter {
                     ? bitSet.nextSetBit(entryId + 1)
                     : DocIdSetIterator.NO_MORE_DOCS) {
                     if (ndv.advance(entryId) != StarTreeValuesIterator.NO_MORE_ENTRIES) {
-                        final int valuesCount = ndv.entryValueCount();
+                        final int valuesCount = entryValueCount(ndv);
                         for (int i = 0; i < valuesCount; i++) {
-                            long value = ndv.nextValue();
-                            // Compare the value with the query value
-                            if (value == queryValue) {
+                            long value = nextValue(ndv);
+                            // Check the value against the matching values of the dimension
+                            if (dimensionFilter.matches(value)) {
                                 tempBitSet.set(entryId);  // Set bit for the matching entryId
                                 break;  // No need to check other values for this entryId
                             }
@@ -109,43 +123,82 @@ public class StarTreeFilter {
         return bitSet;  // Return the final FixedBitSet with all matches
     }
 
+    /**
+     * Resolves the terms matched on keyword dimensions to the ordinals of the segment of the star-tree
+     */
+    private static Map<String, DimensionFilter> resolveKeywordDimensionFilters(
+        StarTreeValues starTreeValues,
+        Map<String, DimensionFilter> queryMap
+    ) throws IOException {
+        Map<String, DimensionFilter> resolvedQueryMap = null;
+        for (Map.Entry<String, DimensionFilter> entry : queryMap.entrySet()) {
+            if (entry.getValue().hasUnresolvedTerms()) {
+                if (resolvedQueryMap == null) {
+                    resolvedQueryMap = new HashMap<>(queryMap);
+                }
+                SortedSetStarTreeValuesIterator dimensionValues = (SortedSetStarTreeValuesIterator) starTreeValues
+                    .getDimensionValuesIterator(entry.getKey());
+                resolvedQueryMap.put(entry.getKey(), entry.getValue().resolveOrdinals(dimensionValues));
+            }
+        }
+        return resolvedQueryMap != null ? resolvedQueryMap : queryMap;
+    }
+
+    private static int entryValueCount(StarTreeValuesIterator iterator) throws IOException {
+        if (iterator instanceof SortedSetStarTreeValuesIterator) {
+            return ((SortedSetStarTreeValuesIterator) iterator).docValueCount();
+        }
+        return ((SortedNumericStarTreeValuesIterator) iterator).entryValueCount();
+    }
+
+    private static long nextValue(StarTreeValuesIterator iterator) throws IOException {
+        if (iterator instanceof SortedSetStarTreeValuesIterator) {
+            return ((SortedSetStarTreeValuesIterator) iterator).nextOrd();
+        }
+        return ((SortedNumericStarTreeValuesIterator) iterator).nextValue();
+    }
+
     /**
      * Helper method to traverse the star tree, get matching documents and keep track of all the
      * predicate dimensions that are not matched.
      */
-    private static StarTreeResult traverseStarTree(StarTreeValues starTreeValues, Map<String, Long> queryMap) throws IOException {
+    private static StarTreeResult traverseStarTree(
+        StarTreeValues starTreeValues,
+        Map<String, DimensionFilter> queryMap,
+        Set<String> groupByDimensions
+    ) throws IOException {
         DocIdSetBuilder docsWithField = new DocIdSetBuilder(starTreeValues.getStarTreeDocumentCount());
         DocIdSetBuilder.BulkAdder adder;
         Set<String> globalRemainingPredicateColumns = null;
         StarTreeNode starTree = starTreeValues.getRoot();
-        List<String> dimensionNames = starTreeValues.getStarTreeField()
-            .getDimensionsOrder()
-            .stream()
-            .map(Dimension::getField)
-            .collect(Collectors.toList());
+        // date dimensions span one star-tree level per calendar interval
+        List<String> dimensionNames = starTreeValues.getStarTreeField().getDimensionNames();
         boolean foundLeafNode = starTree.isLeaf();
         assert foundLeafNode == false; // root node is never leaf
         Queue<StarTreeNode> queue = new ArrayDeque<>();
         queue.add(starTree);
         int currentDimensionId = -1;
         Set<String> remainingPredicateColumns = new HashSet<>(queryMap.keySet());
+        Set<String> remainingGroupByColumns = new HashSet<>(groupByDimensions);
         int matchedDocsCountInStarTree = 0;
         int maxDocNum = -1;
         StarTreeNode starTreeNode;
         List<Integer> docIds = new ArrayList<>();
+        List<StarTreeNode> matchingChildren = new ArrayList<>();
 
         while ((starTreeNode = queue.poll()) != null) {
             int dimensionId = starTreeNode.getDimensionId();
             if (dimensionId > currentDimensionId) {
                 String dimension = dimensionNames.get(dimensionId);
                 remainingPredicateColumns.remove(dimension);
+                remainingGroupByColumns.remove(dimension);
                 if (foundLeafNode && globalRemainingPredicateColumns == null) {
                     globalRemainingPredicateColumns = new HashSet<>(remainingPredicateColumns);
                 }
                 currentDimensionId = dimensionId;
             }
 
-            if (remainingPredicateColumns.isEmpty()) {
+            if (remainingPredicateColumns.isEmpty() && remainingGroupByColumns.isEmpty()) {
                 int docId = starTreeNode.getAggregatedDocId();
                 docIds.add(docId);
                 matchedDocsCountInStarTree++;
@@ -164,14 +217,27 @@ public class StarTreeFilter {
 
             String childDimension = dimensionNames.get(dimensionId + 1);
             StarTreeNode starNode = null;
-            if (globalRemainingPredicateColumns == null || !globalRemainingPredicateColumns.contains(childDimension)) {
+            if ((globalRemainingPredicateColumns == null || !globalRemainingPredicateColumns.contains(childDimension))
+                && !groupByDimensions.contains(childDimension)) {
                 starNode = starTreeNode.getChildStarNode();
             }
 
             if (remainingPredicateColumns.contains(childDimension)) {
-                long queryValue = queryMap.get(childDimension); // Get the query value directly from the map
-                StarTreeNode matchingChild = starTreeNode.getChildForDimensionValue(queryValue);
-                if (matchingChild != null) {
+                DimensionFilter dimensionFilter = queryMap.get(childDimension);
+                matchingChildren.clear();
+                for (int i = 0; i < dimensionFilter.numRanges(); i++) {
+                    long low = dimensionFilter.getLow(i);
+                    long high = dimensionFilter.getHigh(i);
+                    if (low == high) {
+                        StarTreeNode matchingChild = starTreeNode.getChildForDimensionValue(low);
+                        if (matchingChild != null) {
+                            matchingChildren.add(matchingChild);
+                        }
+                    } else {
+                        starTreeNode.collectChildrenInRange(low, high, matchingChildren::add);
+                    }
+                }
+                for (StarTreeNode matchingChild : matchingChildren) {
                     queue.add(matchingChild);
                     foundLeafNode |= matchingChild.isLeaf();
                 }
@@ -0,0 +1,38 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.startree;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+
+import java.io.IOException;
+
+/**
+ * Implemented by aggregators that can compute their result from star-tree entries collected by a parent bucket aggregator
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public interface StarTreePreComputeCollector {
+
+    /**
+     * Returns a collector of star-tree entries for the segment
+     *
+     * @param ctx the segment
+     * @param starTree the star-tree field used for the request
+     * @param parent the collector of the parent bucket aggregation
+     * @return the collector, or null if there is nothing to collect
+     */
+    StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parent
+    ) throws IOException;
+}
@@ -13,7 +13,9 @@ import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Query class for querying star tree data structure.
@@ -30,10 +32,17 @@ public class StarTreeQueryContext {
     private final CompositeIndexFieldInfo starTree;
 
     /**
-     * Map of field name to a value to be queried for that field
+     * Map of star-tree dimension name to the dimension values matched by the query
      * This is used to filter the data based on the query
      */
-    private final Map<String, Long> queryMap;
+    private final Map<String, DimensionFilter> queryMap;
+
+    /**
+     * Dimensions the aggregations group by
+     * Star nodes of these dimensions are not used when traversing the star-tree, so that every matched entry
+     * carries a value for them
+     */
+    private final Set<String> groupByDimensions;
 
     /**
     * Cache for leaf results
@@ -42,9 +51,19 @@ public class StarTreeQueryContext {
     */
     private final FixedBitSet[] starTreeValues;
 
-    public StarTreeQueryContext(CompositeIndexFieldInfo starTree, Map<String, Long> queryMap, int numSegmentsCache) {
+    public StarTreeQueryContext(CompositeIndexFieldInfo starTree, Map<String, DimensionFilter> queryMap, int numSegmentsCache) {
+        this(starTree, queryMap, Collections.emptySet(), numSegmentsCache);
+    }
+
+    public StarTreeQueryContext(
+        CompositeIndexFieldInfo starTree,
+        Map<String, DimensionFilter> queryMap,
+        Set<String> groupByDimensions,
+        int numSegmentsCache
+    ) {
         this.starTree = starTree;
         this.queryMap = queryMap;
+        this.groupByDimensions = groupByDimensions;
         if (numSegmentsCache > -1) {
             starTreeValues = new FixedBitSet[numSegmentsCache];
         } else {
@@ -56,10 +75,14 @@ public class StarTreeQueryContext {
         return starTree;
     }
 
-    public Map<String, Long> getQueryMap() {
+    public Map<String, DimensionFilter> getQueryMap() {
         return queryMap;
     }
 
+    public Set<String> getGroupByDimensions() {
+        return groupByDimensions;
+    }
+
     public FixedBitSet[] getStarTreeValues() {
         return starTreeValues;
     }
@@ -124,6 +124,8 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         public static final String REMOTE_STATE_READ = "remote_state_read";
         public static final String INDEX_SEARCHER = "index_searcher";
         public static final String REMOTE_STATE_CHECKSUM = "remote_state_checksum";
+        public static final String REMOTE_PREFETCH = "remote_prefetch";
+        public static final String BULK_PARSE = "bulk_parse";
     }
 
     static Set<String> scalingThreadPoolKeys = new HashSet<>(Arrays.asList("max", "core"));
@@ -201,6 +203,8 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         map.put(Names.REMOTE_STATE_READ, ThreadPoolType.SCALING);
         map.put(Names.INDEX_SEARCHER, ThreadPoolType.RESIZABLE);
         map.put(Names.REMOTE_STATE_CHECKSUM, ThreadPoolType.FIXED);
+        map.put(Names.REMOTE_PREFETCH, ThreadPoolType.FIXED);
+        map.put(Names.BULK_PARSE, ThreadPoolType.FIXED);
         THREAD_POOL_TYPES = Collections.unmodifiableMap(map);
     }
 
@@ -322,6 +326,9 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             Names.REMOTE_STATE_CHECKSUM,
             new FixedExecutorBuilder(settings, Names.REMOTE_STATE_CHECKSUM, ClusterStateChecksum.COMPONENT_SIZE, 1000)
         );
+        builders.put(Names.REMOTE_PREFETCH, new FixedExecutorBuilder(settings, Names.REMOTE_PREFETCH, halfProcMaxAt10, 100));
+        // a short queue, as the write thread parses the documents that no parse thread picked up in time itself
+        builders.put(Names.BULK_PARSE, new FixedExecutorBuilder(settings, Names.BULK_PARSE, halfProcMaxAt10, halfProcMaxAt10));
 
         for (final ExecutorBuilder<?> builder : customBuilders) {
             if (builders.containsKey(builder.name())) {
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class StreamingBulkItemSplitterTests extends OpenSearchTestCase {
+
+    public void testItemsSpanningChunks() throws IOException {
+        final StringBuilder body = new StringBuilder();
+        final int numItems = randomIntBetween(1, 50);
+        final List<String> expectedIds = new ArrayList<>();
+        for (int i = 0; i < numItems; i++) {
+            final String id = Integer.toString(i);
+            expectedIds.add(id);
+            switch (randomIntBetween(0, 3)) {
+                case 0:
+                    body.append("{\"index\":{\"_index\":\"test\",\"_id\":\"").append(id).append("\"}}\n");
+                    body.append("{\"field\":\"").append(randomAlphaOfLengthBetween(1, 100)).append("\"}\n");
+                    break;
+                case 1:
+                    body.append("{\"create\":{\"_index\":\"test\",\"_id\":\"").append(id).append("\"}}\r\n");
+                    body.append("{\"field\":\"").append(randomAlphaOfLengthBetween(1, 100)).append("\"}\r\n");
+                    break;
+                case 2:
+                    body.append("{\"update\":{\"_index\":\"test\",\"_id\":\"").append(id).append("\"}}\n");
+                    body.append("{\"doc\":{\"field\":\"").append(randomAlphaOfLengthBetween(1, 100)).append("\"}}\n");
+                    break;
+                default:
+                    body.append("{\"delete\":{\"_index\":\"test\",\"_id\":\"").append(id).append("\"}}\n");
+                    break;
+            }
+        }
+        final byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+
+        final StreamingBulkItemSplitter splitter = new StreamingBulkItemSplitter(XContentType.JSON);
+        final BulkRequest bulkRequest = new BulkRequest();
+        final List<BytesReference> parts = new ArrayList<>();
+        int from = 0;
+        while (from < bytes.length) {
+            final int length = randomIntBetween(0, Math.min(bytes.length - from, 64));
+            final BytesReference items = splitter.append(new BytesArray(bytes, from, length));
+            parts.add(items);
+            // every part holds complete items only
+            bulkRequest.add(items, null, XContentType.JSON);
+            from += length;
+        }
+        assertEquals(0, splitter.remaining().length());
+        assertEquals(new BytesArray(bytes), CompositeBytesReference.of(parts.toArray(new BytesReference[0])));
+
+        assertEquals(numItems, bulkRequest.numberOfActions());
+        final List<String> ids = new ArrayList<>();
+        for (DocWriteRequest<?> request : bulkRequest.requests()) {
+            ids.add(request.id());
+            if (request instanceof IndexRequest) {
+                assertTrue(((IndexRequest) request).source().utf8ToString().startsWith("{\"field\":"));
+            }
+        }
+        assertEquals(expectedIds, ids);
+    }
+
+    public void testPendingBytesOutliveReleasedChunks() {
+        final byte[] item = "{\"index\":{\"_index\":\"test\",\"_id\":\"1\"}}\n{\"field\":\"value\"}\n".getBytes(StandardCharsets.UTF_8);
+        final StreamingBulkItemSplitter splitter = new StreamingBulkItemSplitter(XContentType.JSON);
+        final List<BytesReference> parts = new ArrayList<>();
+        int from = 0;
+        while (from < item.length) {
+            final int length = randomIntBetween(1, item.length - from);
+            final byte[] chunk = new byte[length];
+            System.arraycopy(item, from, chunk, 0, length);
+            // the items completed by the chunk are parsed before it is released
+            parts.add(new BytesArray(BytesReference.toBytes(splitter.append(new BytesArray(chunk)))));
+            splitter.copyPendingBytesOfLastChunk();
+            // the chunk is released, its buffer may be reused
+            Arrays.fill(chunk, (byte) 0);
+            from += length;
+        }
+        assertEquals(0, splitter.remaining().length());
+        assertEquals(new BytesArray(item), parts.get(parts.size() - 1));
+    }
+
+    public void testIncompleteItem() throws IOException {
+        final StreamingBulkItemSplitter splitter = new StreamingBulkItemSplitter(XContentType.JSON);
+        assertEquals(0, splitter.append(new BytesArray("{\"index\":{\"_index\":\"test\",\"_id\":\"1\"}}\n{\"fie")).length());
+        assertEquals(0, splitter.append(new BytesArray("ld\":\"value\"}")).length());
+        assertEquals("{\"index\":{\"_index\":\"test\",\"_id\":\"1\"}}\n{\"field\":\"value\"}", splitter.remaining().utf8ToString());
+
+        // the parser reports the missing newline of the incomplete item
+        final BulkRequest bulkRequest = new BulkRequest();
+        final IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> bulkRequest.add(splitter.remaining(), null, XContentType.JSON)
+        );
+        assertEquals("The bulk request must be terminated by a newline [\\n]", e.getMessage());
+
+        final BytesReference items = splitter.append(new BytesArray("\n{\"delete\":{\"_index\":\"test\",\"_id\":\"2\"}}\n"));
+        bulkRequest.add(items, null, XContentType.JSON);
+        assertEquals(2, bulkRequest.numberOfActions());
+        assertEquals(0, splitter.remaining().length());
+    }
+}
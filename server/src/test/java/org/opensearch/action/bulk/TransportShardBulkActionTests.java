@@ -63,12 +63,15 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressureService;
@@ -98,6 +101,7 @@ import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.BrokenBarrierException;
@@ -114,6 +118,7 @@ import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.any;
@@ -291,6 +296,135 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         latch.await();
     }
 
+    public void testParseBulkIndexRequestsAhead() throws Exception {
+        IndexShard shard = newStartedShard(true);
+
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(2, 4) * ParallelBulkItemParser.MIN_ITEMS_PER_THREAD];
+        for (int i = 0; i < items.length; i++) {
+            DocWriteRequest<IndexRequest> writeRequest = new IndexRequest("index").id("id_" + i)
+                .source(Requests.INDEX_CONTENT_TYPE)
+                .opType(DocWriteRequest.OpType.INDEX);
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        // parsing ahead on the calling thread parses all documents
+        ParallelBulkItemParser parser = ParallelBulkItemParser.fork(bulkShardRequest, shard, 2, Runnable::run);
+        assertNotNull(parser);
+        Engine.Index operation = parser.take(0);
+        assertNotNull(operation);
+        assertThat(operation.id(), equalTo("id_0"));
+        assertNull(parser.take(0));
+        assertNull(ParallelBulkItemParser.fork(bulkShardRequest, shard, 1, Runnable::run));
+
+        // when the parse thread pool rejects the helpers, the write thread parses all documents itself
+        ParallelBulkItemParser rejectedParser = ParallelBulkItemParser.fork(
+            bulkShardRequest,
+            shard,
+            2,
+            command -> ((AbstractRunnable) command).onRejection(new OpenSearchRejectedExecutionException("rejected"))
+        );
+        assertNotNull(rejectedParser);
+        assertNull(rejectedParser.take(0));
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest,
+            shard,
+            null,
+            threadPool::absoluteTimeInMillis,
+            new NoopMappingUpdatePerformer(),
+            listener -> {},
+            ActionListener.runAfter(ActionTestUtils.assertNoFailureListener(result -> {
+                BulkItemResponse[] responses = result.finalResponseIfSuccessful.getResponses();
+                assertThat(responses, arrayWithSize(items.length));
+                // operations are applied in the order of the request
+                for (int i = 0; i < items.length; i++) {
+                    assertFalse(responses[i].isFailed());
+                    assertThat(responses[i].getId(), equalTo("id_" + i));
+                    assertThat(responses[i].getResponse().getSeqNo(), equalTo((long) i));
+                }
+                try {
+                    assertDocCount(shard, items.length);
+                    closeShards(shard);
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            }), latch::countDown),
+            threadPool,
+            Names.WRITE,
+            randomIntBetween(2, 4),
+            randomBoolean()
+        );
+
+        latch.await();
+    }
+
+    public void testExecuteAppendOperationsTogether() throws Exception {
+        IndexShard shard = newStartedShard(true);
+
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(4, 32)];
+        int explicitId = randomIntBetween(1, items.length - 2);
+        int malformed = randomValueOtherThan(explicitId, () -> randomIntBetween(1, items.length - 1));
+        for (int i = 0; i < items.length; i++) {
+            IndexRequest writeRequest = new IndexRequest("index").source(Requests.INDEX_CONTENT_TYPE);
+            if (i == explicitId) {
+                writeRequest.id("explicit");
+            } else if (i == malformed) {
+                writeRequest.source(new BytesArray("{\"foo\": "), MediaTypeRegistry.JSON);
+            }
+            writeRequest.process(Version.CURRENT, null, "index");
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        // the items before the explicit id are executed together, up to a maximum size of their sources
+        BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard);
+        assertThat(context.prepareAppendOperations(TransportShardBulkAction.MAX_APPEND_OPERATIONS, 1), hasSize(1));
+        TransportShardBulkAction.executeAppendOperations(context);
+        for (int i = 0; i < Math.min(explicitId, malformed); i++) {
+            BulkItemResponse response = items[i].getPrimaryResponse();
+            assertNotNull(response);
+            assertFalse(response.isFailed());
+            assertThat(response.getResponse().getSeqNo(), equalTo((long) i));
+        }
+        assertNull(items[Math.min(explicitId, malformed)].getPrimaryResponse());
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        TransportShardBulkAction.performOnPrimary(
+            new BulkShardRequest(shardId, RefreshPolicy.NONE, Arrays.copyOfRange(items, Math.min(explicitId, malformed), items.length)),
+            shard,
+            null,
+            threadPool::absoluteTimeInMillis,
+            new NoopMappingUpdatePerformer(),
+            listener -> {},
+            ActionListener.runAfter(ActionTestUtils.assertNoFailureListener(result -> {
+                // operations are applied in the order of the request and fail on their own
+                for (int i = 0; i < items.length; i++) {
+                    BulkItemResponse response = items[i].getPrimaryResponse();
+                    if (i == malformed) {
+                        assertTrue(response.isFailed());
+                    } else {
+                        assertFalse(response.isFailed());
+                        assertThat(response.getResponse().getSeqNo(), equalTo((long) (i < malformed ? i : i - 1)));
+                    }
+                }
+                try {
+                    assertDocCount(shard, items.length - 1);
+                    closeShards(shard);
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            }), latch::countDown),
+            threadPool,
+            Names.WRITE,
+            1,
+            true
+        );
+
+        latch.await();
+    }
+
     public void testExecuteBulkIndexRequestWithMappingUpdates() throws Exception {
 
         BulkItemRequest[] items = new BulkItemRequest[1];
@@ -33,14 +33,18 @@
 package org.opensearch.action.search;
 
 import org.apache.logging.log4j.LogManager;
+import org.opensearch.Version;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.set.Sets;
@@ -53,6 +57,7 @@ import org.opensearch.core.tasks.resourcetracker.TaskResourceInfo;
 import org.opensearch.core.tasks.resourcetracker.TaskResourceUsage;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.index.shard.ShardNotFoundException;
+import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.internal.AliasFilter;
@@ -60,6 +65,9 @@ import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
 import org.opensearch.test.InternalAggregationTestCase;
 import org.opensearch.test.OpenSearchTestCase;
@@ -77,6 +85,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
@@ -93,6 +102,7 @@ import static org.opensearch.tasks.TaskResourceTrackingService.TASK_RESOURCE_USA
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.Mockito.mock;
 
 public class AbstractSearchAsyncActionTests extends OpenSearchTestCase {
 
@@ -702,6 +712,208 @@ public class AbstractSearchAsyncActionTests extends OpenSearchTestCase {
         assertThat(searchResponse.getSuccessfulShards(), equalTo(shards.length));
     }
 
+    public void testHedgedShardRequest() throws InterruptedException {
+        final ShardId shardId = new ShardId(new Index("test", UUID.randomUUID().toString()), 0);
+        final ResponseCollectorService responseCollectorService = new ResponseCollectorService(mock(ClusterService.class));
+        for (int i = 0; i < 10; i++) {
+            responseCollectorService.addShardCopyResponseTime(shardId, "slow", TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        final ShardSearchContextId slowContextId = new ShardSearchContextId(UUIDs.randomBase64UUID(), randomNonNegativeLong());
+        final AtomicReference<SearchActionListener<SearchPhaseResult>> slowListener = new AtomicReference<>();
+        final AtomicReference<Task> slowTask = new AtomicReference<>();
+        final AtomicReference<SearchShardTarget> winner = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<CancellableTask> cancelledTasks = new CopyOnWriteArrayList<>();
+        final TaskManager taskManager = newTaskManager(cancelledTasks);
+
+        SearchRequest searchRequest = new SearchRequest().allowPartialSearchResults(true);
+        AbstractSearchAsyncAction<SearchPhaseResult> action = new AbstractSearchAsyncAction<SearchPhaseResult>(
+            "test",
+            logger,
+            null,
+            (cluster, node) -> null,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            executor,
+            searchRequest,
+            ActionListener.wrap(response -> {}, e -> {}),
+            new GroupShardsIterator<>(List.of(new SearchShardIterator(null, shardId, List.of("slow", "fast"), null, null, null))),
+            new TransportSearchAction.SearchTimeProvider(0, System.nanoTime(), System::nanoTime),
+            ClusterState.EMPTY_STATE,
+            new SearchTask(0, "n/a", "n/a", () -> "test", null, Collections.emptyMap()),
+            new ArraySearchPhaseResults<>(1),
+            searchRequest.getMaxConcurrentShardRequests(),
+            SearchResponse.Clusters.EMPTY,
+            new SearchRequestContext(
+                new SearchRequestOperationsListener.CompositeListener(List.of(assertingListener), LogManager.getLogger()),
+                searchRequest,
+                () -> null
+            ),
+            NoopTracer.INSTANCE
+        ) {
+            @Override
+            protected SearchPhase getNextPhase(final SearchPhaseResults<SearchPhaseResult> results, SearchPhaseContext context) {
+                winner.set(results.getAtomicArray().get(0).getSearchShardTarget());
+                latch.countDown();
+                return null;
+            }
+
+            @Override
+            protected void executePhaseOnShard(
+                final SearchShardIterator shardIt,
+                final SearchShardTarget shard,
+                final Task parentTask,
+                final SearchActionListener<SearchPhaseResult> listener
+            ) {
+                if (shard.getNodeId().equals("slow")) {
+                    slowTask.set(parentTask);
+                }
+                super.executePhaseOnShard(shardIt, shard, parentTask, listener);
+            }
+
+            @Override
+            protected void executePhaseOnShard(
+                final SearchShardIterator shardIt,
+                final SearchShardTarget shard,
+                final SearchActionListener<SearchPhaseResult> listener
+            ) {
+                if (shard.getNodeId().equals("slow")) {
+                    slowListener.set(listener);
+                } else {
+                    listener.onResponse(new PhaseResult(new ShardSearchContextId(UUIDs.randomBase64UUID(), randomNonNegativeLong())));
+                }
+            }
+
+            @Override
+            public void sendReleaseSearchContext(
+                ShardSearchContextId contextId,
+                Transport.Connection connection,
+                OriginalIndices originalIndices
+            ) {
+                releasedContexts.add(contextId);
+            }
+        };
+        action.enableShardRequestHedging(newShardRequestHedging(responseCollectorService, taskManager));
+        action.run();
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(winner.get().getNodeId(), equalTo("fast"));
+
+        // the request of the slow copy is cancelled as soon as the fast copy responded
+        assertThat(slowTask.get(), instanceOf(ShardRequestHedging.ShardRequestTask.class));
+        assertEquals(List.of(slowTask.get()), cancelledTasks);
+        assertNotEquals(action.getTask().getId(), slowTask.get().getId());
+        assertEquals(action.getTask().getId(), slowTask.get().getParentTaskId().getId());
+
+        // the response of the slow copy is ignored, and its search context released
+        slowListener.get().onResponse(new PhaseResult(slowContextId));
+        assertTrue(releasedContexts.contains(slowContextId));
+        assertTrue(taskManager.getTasks().isEmpty());
+    }
+
+    public void testHedgedShardRequestFailures() throws InterruptedException {
+        final boolean slowCopySucceeds = randomBoolean();
+        final ShardId shardId = new ShardId(new Index("test", UUID.randomUUID().toString()), 0);
+        final ResponseCollectorService responseCollectorService = new ResponseCollectorService(mock(ClusterService.class));
+        for (int i = 0; i < 10; i++) {
+            responseCollectorService.addShardCopyResponseTime(shardId, "slow", TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        final AtomicReference<SearchActionListener<SearchPhaseResult>> slowListener = new AtomicReference<>();
+        final CountDownLatch hedgedRequestFailed = new CountDownLatch(1);
+        final AtomicReference<ShardSearchFailure[]> shardFailures = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<CancellableTask> cancelledTasks = new CopyOnWriteArrayList<>();
+        final TaskManager taskManager = newTaskManager(cancelledTasks);
+
+        SearchRequest searchRequest = new SearchRequest().allowPartialSearchResults(true);
+        AbstractSearchAsyncAction<SearchPhaseResult> action = new AbstractSearchAsyncAction<SearchPhaseResult>(
+            "test",
+            logger,
+            null,
+            (cluster, node) -> null,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            executor,
+            searchRequest,
+            ActionListener.wrap(response -> {}, e -> {}),
+            new GroupShardsIterator<>(List.of(new SearchShardIterator(null, shardId, List.of("slow", "fast"), null, null, null))),
+            new TransportSearchAction.SearchTimeProvider(0, System.nanoTime(), System::nanoTime),
+            ClusterState.EMPTY_STATE,
+            new SearchTask(0, "n/a", "n/a", () -> "test", null, Collections.emptyMap()),
+            new ArraySearchPhaseResults<>(1),
+            searchRequest.getMaxConcurrentShardRequests(),
+            SearchResponse.Clusters.EMPTY,
+            new SearchRequestContext(
+                new SearchRequestOperationsListener.CompositeListener(List.of(assertingListener), LogManager.getLogger()),
+                searchRequest,
+                () -> null
+            ),
+            NoopTracer.INSTANCE
+        ) {
+            @Override
+            protected SearchPhase getNextPhase(final SearchPhaseResults<SearchPhaseResult> results, SearchPhaseContext context) {
+                // called once every request of the shard is accounted for
+                shardFailures.set(buildShardFailures());
+                latch.countDown();
+                return null;
+            }
+
+            @Override
+            protected void executePhaseOnShard(
+                final SearchShardIterator shardIt,
+                final SearchShardTarget shard,
+                final SearchActionListener<SearchPhaseResult> listener
+            ) {
+                if (shard.getNodeId().equals("slow")) {
+                    slowListener.set(listener);
+                } else {
+                    listener.onFailure(new IllegalArgumentException("fast copy failed"));
+                    hedgedRequestFailed.countDown();
+                }
+            }
+        };
+        action.enableShardRequestHedging(newShardRequestHedging(responseCollectorService, taskManager));
+        action.run();
+        assertTrue(hedgedRequestFailed.await(10, TimeUnit.SECONDS));
+        // the phase waits for the request of the slow copy, which is still in flight
+        assertEquals(1, latch.getCount());
+
+        if (slowCopySucceeds) {
+            slowListener.get().onResponse(new PhaseResult(new ShardSearchContextId(UUIDs.randomBase64UUID(), randomNonNegativeLong())));
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            // the failure of the hedged request isn't reported since the shard succeeded
+            assertEquals(0, shardFailures.get().length);
+        } else {
+            slowListener.get().onFailure(new IllegalArgumentException("slow copy failed"));
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals(1, shardFailures.get().length);
+        }
+        // no request is in flight anymore once the shard is resolved, so there is nothing to cancel
+        assertTrue(cancelledTasks.isEmpty());
+        assertTrue(taskManager.getTasks().isEmpty());
+    }
+
+    private ShardRequestHedging newShardRequestHedging(ResponseCollectorService responseCollectorService, TaskManager taskManager) {
+        final DiscoveryNode localNode = new DiscoveryNode("local", buildNewFakeTransportAddress(), Version.CURRENT);
+        return new ShardRequestHedging(responseCollectorService, threadPool, taskManager, localNode, 95.0, TimeValue.ZERO, 1);
+    }
+
+    private TaskManager newTaskManager(List<CancellableTask> cancelledTasks) {
+        return new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet()) {
+            @Override
+            public void cancelTaskAndDescendants(
+                CancellableTask task,
+                String reason,
+                boolean waitForCompletion,
+                ActionListener<Void> listener
+            ) {
+                cancelledTasks.add(task);
+                listener.onResponse(null);
+            }
+        };
+    }
+
     public void testExecutePhaseOnShardFailure() throws InterruptedException {
         innerTestExecutePhaseOnShardFailure(false);
     }
@@ -889,6 +889,53 @@ public class MetadataCreateIndexServiceTests extends OpenSearchTestCase {
         assertThat(aggregatedIndexSettings.get("request_setting"), equalTo("value2"));
     }
 
+    public void testAggregateSettingsMakesDataStreamIndicesAppendOnly() {
+        ClusterState clusterState = ClusterState.builder(org.opensearch.cluster.ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .build();
+        final String backingIndexName = DataStream.getDefaultBackingIndexName("logs", 1);
+        request = new CreateIndexClusterStateUpdateRequest("create index", backingIndexName, backingIndexName).dataStreamName("logs");
+        Settings aggregatedIndexSettings = aggregateIndexSettings(
+            clusterState,
+            request,
+            Settings.EMPTY,
+            null,
+            Settings.EMPTY,
+            IndexScopedSettings.DEFAULT_SCOPED_SETTINGS,
+            randomShardLimitService(),
+            Collections.emptySet(),
+            clusterSettings
+        );
+        assertTrue(IndexSettings.INDEX_APPEND_ONLY_ENABLED_SETTING.get(aggregatedIndexSettings));
+
+        // templates can opt data streams out
+        aggregatedIndexSettings = aggregateIndexSettings(
+            clusterState,
+            request,
+            Settings.builder().put(IndexSettings.INDEX_APPEND_ONLY_ENABLED_SETTING.getKey(), false).build(),
+            null,
+            Settings.EMPTY,
+            IndexScopedSettings.DEFAULT_SCOPED_SETTINGS,
+            randomShardLimitService(),
+            Collections.emptySet(),
+            clusterSettings
+        );
+        assertFalse(IndexSettings.INDEX_APPEND_ONLY_ENABLED_SETTING.get(aggregatedIndexSettings));
+
+        request = new CreateIndexClusterStateUpdateRequest("create index", "test", "test");
+        aggregatedIndexSettings = aggregateIndexSettings(
+            clusterState,
+            request,
+            Settings.EMPTY,
+            null,
+            Settings.EMPTY,
+            IndexScopedSettings.DEFAULT_SCOPED_SETTINGS,
+            randomShardLimitService(),
+            Collections.emptySet(),
+            clusterSettings
+        );
+        assertFalse(IndexSettings.INDEX_APPEND_ONLY_ENABLED_SETTING.get(aggregatedIndexSettings));
+    }
+
     public void testInvalidAliasName() {
         final String[] invalidAliasNames = new String[] { "-alias1", "+alias2", "_alias3", "a#lias", "al:ias", ".", ".." };
         String aliasName = randomFrom(invalidAliasNames);
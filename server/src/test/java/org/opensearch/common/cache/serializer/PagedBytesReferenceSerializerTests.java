@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.serializer;
+
+import org.opensearch.common.Randomness;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.core.common.util.ByteArray;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+import java.util.Random;
+
+public class PagedBytesReferenceSerializerTests extends OpenSearchTestCase {
+    public void testEquality() throws Exception {
+        for (boolean compress : new boolean[] { false, true }) {
+            PagedBytesReferenceSerializer ser = new PagedBytesReferenceSerializer(compress);
+            for (BytesReference value : values()) {
+                byte[] serialized = ser.serialize(value);
+                assertTrue(ser.equals(value, serialized));
+                BytesReference deserialized = ser.deserialize(serialized);
+                assertEquals(value, deserialized);
+            }
+        }
+    }
+
+    public void testNotEqual() {
+        for (boolean compress : new boolean[] { false, true }) {
+            PagedBytesReferenceSerializer ser = new PagedBytesReferenceSerializer(compress);
+            byte[] serialized = ser.serialize(new BytesArray(new byte[] { 1, 2, 3 }));
+            assertFalse(ser.equals(new BytesArray(new byte[] { 1, 2, 4 }), serialized));
+            assertFalse(ser.equals(new BytesArray(new byte[] { 1, 2 }), serialized));
+            BytesReference composite = CompositeBytesReference.of(new BytesArray(new byte[] { 1 }), new BytesArray(new byte[] { 3 }));
+            assertFalse(ser.equals(composite, serialized));
+        }
+    }
+
+    public void testSlicedValue() {
+        PagedBytesReferenceSerializer ser = new PagedBytesReferenceSerializer(randomBoolean());
+        BytesReference slice = new BytesArray(new byte[] { 1, 2, 3, 4, 5 }).slice(1, 3);
+        byte[] serialized = ser.serialize(slice);
+        assertTrue(ser.equals(slice, serialized));
+        assertEquals(new BytesArray(new byte[] { 2, 3, 4 }), ser.deserialize(serialized));
+    }
+
+    public void testReadsBothEncodings() {
+        byte[] bytesValue = new byte[1000];
+        Randomness.get().nextBytes(bytesValue);
+        BytesReference value = new BytesArray(bytesValue);
+        byte[] uncompressed = new PagedBytesReferenceSerializer(false).serialize(value);
+        byte[] compressed = new PagedBytesReferenceSerializer(true).serialize(value);
+        assertEquals(PagedBytesReferenceSerializer.UNCOMPRESSED, uncompressed[0]);
+        assertEquals(PagedBytesReferenceSerializer.ZSTD, compressed[0]);
+        // values written before the setting changed remain readable
+        PagedBytesReferenceSerializer ser = new PagedBytesReferenceSerializer(randomBoolean());
+        assertEquals(value, ser.deserialize(uncompressed));
+        assertEquals(value, ser.deserialize(compressed));
+
+        expectThrows(IllegalArgumentException.class, () -> ser.deserialize(new byte[] { 42 }));
+    }
+
+    public void testCompressedValuesAreDeserializedIntoPages() {
+        PagedBytesReferenceSerializer ser = new PagedBytesReferenceSerializer(true);
+        // compressible value spanning several pages
+        byte[] bytesValue = new byte[PageCacheRecycler.PAGE_SIZE_IN_BYTES * 4];
+        for (int i = 0; i < bytesValue.length; i++) {
+            bytesValue[i] = (byte) (i % 7);
+        }
+        BytesReference value = new BytesArray(bytesValue);
+        byte[] serialized = ser.serialize(value);
+        assertTrue(serialized.length < bytesValue.length);
+        BytesReference deserialized = ser.deserialize(serialized);
+        assertEquals(value, deserialized);
+        assertFalse(deserialized.hasArray());
+    }
+
+    public void testNullValue() {
+        PagedBytesReferenceSerializer ser = new PagedBytesReferenceSerializer(randomBoolean());
+        assertNull(ser.serialize(null));
+        assertNull(ser.deserialize(null));
+        assertTrue(ser.equals(null, null));
+    }
+
+    private static List<BytesReference> values() {
+        byte[] bytesValue = new byte[1000];
+        Random rand = Randomness.get();
+        rand.nextBytes(bytesValue);
+
+        // We need the PagedBytesReference to be larger than the page size (16 KB) in order to actually create it
+        byte[] pbrValue = new byte[PageCacheRecycler.PAGE_SIZE_IN_BYTES * 2];
+        rand.nextBytes(pbrValue);
+        ByteArray arr = BigArrays.NON_RECYCLING_INSTANCE.newByteArray(pbrValue.length);
+        arr.set(0L, pbrValue, 0, pbrValue.length);
+        assert !arr.hasArray();
+
+        return List.of(
+            new BytesArray(bytesValue),
+            new BytesArray(new byte[] {}),
+            CompositeBytesReference.of(new BytesArray(bytesValue), new BytesArray(bytesValue)),
+            BytesReference.fromByteArray(arr, pbrValue.length),
+            new ReleasableBytesReference(new BytesArray(bytesValue), ReleasableBytesReference.NO_OP)
+        );
+    }
+}
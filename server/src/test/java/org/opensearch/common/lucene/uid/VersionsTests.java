@@ -37,8 +37,10 @@ import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.Version;
 import org.opensearch.common.lucene.Lucene;
@@ -53,8 +55,10 @@ import org.opensearch.test.VersionUtils;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.TreeSet;
 
 import static org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.loadDocIdAndVersion;
+import static org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.loadDocIdsAndVersions;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.nullValue;
 
@@ -214,6 +218,61 @@ public class VersionsTests extends OpenSearchTestCase {
         dir.close();
     }
 
+    /** Test that the batched lookup resolves every uid to the same document as the single uid lookup */
+    public void testBatchedLookup() throws Exception {
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(Lucene.STANDARD_ANALYZER).setMergePolicy(NoMergePolicy.INSTANCE));
+        final int numDocs = randomIntBetween(10, 100);
+        final int numSegments = randomIntBetween(1, 5);
+        for (int segment = 0; segment < numSegments; segment++) {
+            for (int i = 0; i < numDocs; i++) {
+                if (randomBoolean()) {
+                    Document doc = new Document();
+                    String id = Integer.toString(randomInt(2 * numDocs));
+                    doc.add(new Field(IdFieldMapper.NAME, id, IdFieldMapper.Defaults.FIELD_TYPE));
+                    doc.add(new NumericDocValuesField(VersionFieldMapper.NAME, randomLongBetween(1, 1000)));
+                    doc.add(new NumericDocValuesField(SeqNoFieldMapper.NAME, randomNonNegativeLong()));
+                    doc.add(new NumericDocValuesField(SeqNoFieldMapper.PRIMARY_TERM_NAME, randomLongBetween(1, Long.MAX_VALUE)));
+                    writer.addDocument(doc);
+                }
+            }
+            if (randomBoolean()) {
+                writer.deleteDocuments(new Term(IdFieldMapper.NAME, Integer.toString(randomInt(2 * numDocs))));
+            }
+            writer.commit();
+        }
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "_na_", 1));
+        TreeSet<BytesRef> uids = new TreeSet<>();
+        for (int i = 0; i < numDocs; i++) {
+            // ids up to 3 * numDocs include ids that were never indexed
+            uids.add(new BytesRef(Integer.toString(randomInt(3 * numDocs))));
+        }
+        BytesRef[] sortedUids = uids.toArray(new BytesRef[0]);
+        boolean loadSeqNo = randomBoolean();
+        VersionsAndSeqNoResolver.DocIdAndVersion[] results = loadDocIdsAndVersions(reader, IdFieldMapper.NAME, sortedUids, loadSeqNo);
+        assertEquals(sortedUids.length, results.length);
+        for (int i = 0; i < sortedUids.length; i++) {
+            VersionsAndSeqNoResolver.DocIdAndVersion expected = loadDocIdAndVersion(
+                reader,
+                new Term(IdFieldMapper.NAME, sortedUids[i]),
+                loadSeqNo
+            );
+            if (expected == null) {
+                assertThat(results[i], nullValue());
+            } else {
+                assertEquals(expected.docId, results[i].docId);
+                assertEquals(expected.docBase, results[i].docBase);
+                assertEquals(expected.version, results[i].version);
+                assertEquals(expected.seqNo, results[i].seqNo);
+                assertEquals(expected.primaryTerm, results[i].primaryTerm);
+            }
+        }
+        assertEquals(0, loadDocIdsAndVersions(reader, IdFieldMapper.NAME, new BytesRef[0], loadSeqNo).length);
+        reader.close();
+        writer.close();
+        dir.close();
+    }
+
     public void testLuceneVersionOnUnknownVersions() {
         // between two known versions, should use the lucene version of the previous version
         Version version = Version.fromString("2.1.50");
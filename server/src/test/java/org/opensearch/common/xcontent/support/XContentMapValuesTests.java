@@ -38,7 +38,9 @@ import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
@@ -88,6 +90,12 @@ public class XContentMapValuesTests extends AbstractFilteringTestCase {
             toMap(expected, xContentType, humanReadable),
             XContentMapValues.filter(toMap(actual, xContentType, humanReadable), sourceIncludes, sourceExcludes)
         );
+        ToXContentObject toXContent = (builder, params) -> actual.apply(builder);
+        assertEquals(
+            "Streamed filtered map must be equal to the expected map",
+            toMap(expected, xContentType, humanReadable),
+            streamingFilter(toXContent(toXContent, xContentType, humanReadable), xContentType, sourceIncludes, sourceExcludes)
+        );
     }
 
     @SuppressWarnings({ "unchecked" })
@@ -629,6 +637,57 @@ public class XContentMapValuesTests extends AbstractFilteringTestCase {
         assertEquals(expected, filtered);
     }
 
+    public void testStreamingFilterKeepsSamePropertiesAsMapFilter() throws IOException {
+        Map<String, Object> map = new HashMap<>();
+        map.put("foo.bar", 2);
+        map.put("foo", Collections.singletonMap("baz", 3));
+        map.put("quux", 5);
+        map.put("empty_array", Collections.emptyList());
+        map.put("empty_object", Collections.emptyMap());
+        map.put("photos", Arrays.asList("foo", "bar"));
+        map.put("photosCount", 2);
+        map.put("nested_arrays", Arrays.asList(Arrays.asList(1, Collections.singletonMap("include", 2)), Collections.emptyMap()));
+        Map<String, Object> object = new HashMap<>();
+        object.put("include", "bar");
+        object.put("exclude", Collections.singletonMap("inner", "baz"));
+        map.put("array", Arrays.asList(object, Collections.singletonMap("exclude", 1), "value"));
+        BytesReference source = toXContent((builder, params) -> builder.map(map), XContentType.JSON, false);
+
+        String[][] filters = new String[][] {
+            {},
+            { "foo" },
+            { "foo.bar" },
+            { "photosCount" },
+            { "empty_array.include", "empty_object.include" },
+            { "empty_array", "empty_array.include", "empty_object", "empty_object.include" },
+            { "array" },
+            { "array.include" },
+            { "*.include" },
+            { "nested_arrays.include" },
+            { "nested_arrays" } };
+        for (String[] includes : filters) {
+            for (String[] excludes : filters) {
+                assertEquals(
+                    "includes " + Arrays.toString(includes) + " excludes " + Arrays.toString(excludes),
+                    XContentMapValues.filter(map, includes, excludes),
+                    streamingFilter(source, XContentType.JSON, includes, excludes)
+                );
+            }
+        }
+    }
+
+    private static Map<String, Object> streamingFilter(BytesReference source, MediaType mediaType, String[] includes, String[] excludes)
+        throws IOException {
+        try (
+            XContentParser parser = mediaType.xContent()
+                .createParser(NamedXContentRegistry.EMPTY, DeprecationHandler.THROW_UNSUPPORTED_OPERATION, source.streamInput())
+        ) {
+            XContentBuilder builder = XContentBuilder.builder(mediaType.xContent());
+            XContentMapValues.streamingFilter(includes, excludes).accept(parser, builder);
+            return convertToMap(BytesReference.bytes(builder), true, mediaType).v2();
+        }
+    }
+
     private static Map<String, Object> toMap(Builder test, XContentType xContentType, boolean humanReadable) throws IOException {
         ToXContentObject toXContent = (builder, params) -> test.apply(builder);
         return convertToMap(toXContent(toXContent, xContentType, humanReadable), true, xContentType).v2();
@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.composite912.datacube.startree;
+
+import com.carrotsearch.randomizedtesting.annotations.ParametersFactory;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene912.Lucene912Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.BaseDocValuesFormatTestCase;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.apache.lucene.tests.util.LuceneTestCase;
+import org.apache.lucene.tests.util.TestUtil;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.FeatureFlags;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.codec.composite.CompositeIndexReader;
+import org.opensearch.index.codec.composite.composite912.Composite912Codec;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeTestUtils;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.opensearch.common.util.FeatureFlags.STAR_TREE_INDEX;
+import static org.opensearch.index.codec.composite912.datacube.startree.StarTreeDocValuesFormatTests.createMapperService;
+import static org.opensearch.index.codec.composite912.datacube.startree.StarTreeDocValuesFormatTests.topMapping;
+import static org.opensearch.index.compositeindex.datacube.startree.StarTreeTestUtils.assertStarTreeDocuments;
+
+/**
+ * Star tree doc values Lucene tests with keyword dimensions
+ */
+@LuceneTestCase.SuppressSysoutChecks(bugUrl = "we log a lot on purpose")
+public class StarTreeKeywordDocValuesFormatTests extends BaseDocValuesFormatTestCase {
+    MapperService mapperService = null;
+    StarTreeFieldConfiguration.StarTreeBuildMode buildMode;
+
+    public StarTreeKeywordDocValuesFormatTests(StarTreeFieldConfiguration.StarTreeBuildMode buildMode) {
+        this.buildMode = buildMode;
+    }
+
+    @ParametersFactory
+    public static Collection<Object[]> parameters() {
+        List<Object[]> parameters = new ArrayList<>();
+        parameters.add(new Object[] { StarTreeFieldConfiguration.StarTreeBuildMode.ON_HEAP });
+        parameters.add(new Object[] { StarTreeFieldConfiguration.StarTreeBuildMode.OFF_HEAP });
+        return parameters;
+    }
+
+    @BeforeClass
+    public static void createMapper() throws Exception {
+        FeatureFlags.initializeFeatureFlags(Settings.builder().put(STAR_TREE_INDEX, "true").build());
+    }
+
+    @AfterClass
+    public static void clearMapper() {
+        FeatureFlags.initializeFeatureFlags(Settings.EMPTY);
+    }
+
+    @After
+    public void teardown() throws IOException {
+        mapperService.close();
+    }
+
+    @Override
+    protected Codec getCodec() {
+        final Logger testLogger = LogManager.getLogger(StarTreeKeywordDocValuesFormatTests.class);
+
+        try {
+            mapperService = createMapperService(getKeywordMapping());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new Composite912Codec(Lucene912Codec.Mode.BEST_SPEED, mapperService, testLogger);
+    }
+
+    public void testStarTreeKeywordDocValues() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setMergePolicy(newLogMergePolicy());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+        iw.addDocument(getDocument(1, 1, "b"));
+        iw.addDocument(getDocument(2, 2, "a"));
+        // "z" is never the lowest term of a document, so it is not a value of the dimension
+        iw.addDocument(getDocument(3, 2, "a", "z"));
+        iw.flush();
+        iw.addDocument(getDocument(4, 1, "c"));
+        iw.addDocument(getDocument(5, 1, "b"));
+        iw.forceMerge(1);
+        iw.close();
+
+        DirectoryReader ir = maybeWrapWithMergingReader(DirectoryReader.open(directory));
+        TestUtil.checkReader(ir);
+        assertEquals(1, ir.leaves().size());
+
+        // Star tree documents, keyword dimension values are the ordinals of a, b and c
+        /**
+         * keyword sndv | [ sum, value_count[field]], doc_count
+         * [0, 2] | [5.0, 2.0, 2.0]
+         * [1, 1] | [6.0, 2.0, 2.0]
+         * [2, 1] | [4.0, 1.0, 1.0]
+         * [null, 1] | [10.0, 3.0, 3.0]
+         * [null, 2] | [5.0, 2.0, 2.0]
+         */
+        StarTreeDocument[] expectedStarTreeDocuments = new StarTreeDocument[5];
+        expectedStarTreeDocuments[0] = new StarTreeDocument(new Long[] { 0L, 2L }, new Double[] { 5.0, 2.0, 2.0 });
+        expectedStarTreeDocuments[1] = new StarTreeDocument(new Long[] { 1L, 1L }, new Double[] { 6.0, 2.0, 2.0 });
+        expectedStarTreeDocuments[2] = new StarTreeDocument(new Long[] { 2L, 1L }, new Double[] { 4.0, 1.0, 1.0 });
+        expectedStarTreeDocuments[3] = new StarTreeDocument(new Long[] { null, 1L }, new Double[] { 10.0, 3.0, 3.0 });
+        expectedStarTreeDocuments[4] = new StarTreeDocument(new Long[] { null, 2L }, new Double[] { 5.0, 2.0, 2.0 });
+
+        for (LeafReaderContext context : ir.leaves()) {
+            SegmentReader reader = Lucene.segmentReader(context.reader());
+            CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) reader.getDocValuesReader();
+            List<CompositeIndexFieldInfo> compositeIndexFields = starTreeDocValuesReader.getCompositeIndexFields();
+
+            for (CompositeIndexFieldInfo compositeIndexFieldInfo : compositeIndexFields) {
+                StarTreeValues starTreeValues = (StarTreeValues) starTreeDocValuesReader.getCompositeIndexValues(compositeIndexFieldInfo);
+                StarTreeDocument[] starTreeDocuments = StarTreeTestUtils.getSegmentsStarTreeDocuments(
+                    List.of(starTreeValues),
+                    List.of(NumberFieldMapper.NumberType.DOUBLE, NumberFieldMapper.NumberType.LONG, NumberFieldMapper.NumberType.LONG),
+                    reader.maxDoc()
+                );
+                assertStarTreeDocuments(starTreeDocuments, expectedStarTreeDocuments);
+
+                SortedSetStarTreeValuesIterator keywordValues = (SortedSetStarTreeValuesIterator) starTreeValues
+                    .getDimensionValuesIterator("keyword_dv");
+                assertEquals(3, keywordValues.getValueCount());
+                assertEquals(new BytesRef("a"), keywordValues.lookupOrd(0));
+                assertEquals(new BytesRef("b"), keywordValues.lookupOrd(1));
+                assertEquals(new BytesRef("c"), keywordValues.lookupOrd(2));
+                assertTrue(keywordValues.lookupTerm(new BytesRef("z")) < 0);
+            }
+        }
+        ir.close();
+        directory.close();
+    }
+
+    private static Document getDocument(int fieldValue, int sndvValue, String... keywordValues) {
+        Document doc = new Document();
+        for (String keywordValue : keywordValues) {
+            doc.add(new SortedSetDocValuesField("keyword_dv", new BytesRef(keywordValue)));
+        }
+        doc.add(new SortedNumericDocValuesField("sndv", sndvValue));
+        doc.add(new SortedNumericDocValuesField("field", fieldValue));
+        return doc;
+    }
+
+    public static XContentBuilder getKeywordMapping() throws IOException {
+        return topMapping(b -> {
+            b.startObject("composite");
+            b.startObject("startree");
+            b.field("type", "star_tree");
+            b.startObject("config");
+            b.field("max_leaf_docs", 1);
+            b.startArray("ordered_dimensions");
+            b.startObject();
+            b.field("name", "keyword_dv");
+            b.endObject();
+            b.startObject();
+            b.field("name", "sndv");
+            b.endObject();
+            b.endArray();
+            b.startArray("metrics");
+            b.startObject();
+            b.field("name", "field");
+            b.startArray("stats");
+            b.value("sum");
+            b.value("value_count");
+            b.endArray();
+            b.endObject();
+            b.endArray();
+            b.endObject();
+            b.endObject();
+            b.endObject();
+            b.startObject("properties");
+            b.startObject("keyword_dv");
+            b.field("type", "keyword");
+            b.endObject();
+            b.startObject("sndv");
+            b.field("type", "integer");
+            b.endObject();
+            b.startObject("field");
+            b.field("type", "integer");
+            b.endObject();
+            b.endObject();
+        });
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.CompactHyperLogLogPlusPlus;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class CardinalityValueAggregatorTests extends OpenSearchTestCase {
+
+    private final CardinalityValueAggregator aggregator = new CardinalityValueAggregator(NumberFieldMapper.NumberType.LONG);
+
+    public void testNullValues() {
+        assertNull(aggregator.getInitialAggregatedValueForSegmentDocValue(null));
+        assertNull(aggregator.mergeAggregatedValueAndSegmentValue(null, null));
+        assertNull(aggregator.mergeAggregatedValues(null, null));
+        assertNull(aggregator.getInitialAggregatedValue(null));
+        assertNull(aggregator.getIdentityMetricValue());
+    }
+
+    public void testMergeAggregatedValueAndSegmentValue() {
+        CompactHyperLogLogPlusPlus sketch = aggregator.getInitialAggregatedValueForSegmentDocValue(1L);
+        sketch = aggregator.mergeAggregatedValueAndSegmentValue(sketch, 2L);
+        sketch = aggregator.mergeAggregatedValueAndSegmentValue(sketch, 1L);
+        sketch = aggregator.mergeAggregatedValueAndSegmentValue(sketch, null);
+        assertEquals(2, sketch.cardinality(0));
+        assertEquals(1, aggregator.mergeAggregatedValueAndSegmentValue(null, 3L).cardinality(0));
+    }
+
+    public void testMergeAggregatedValues() {
+        CompactHyperLogLogPlusPlus first = aggregator.getInitialAggregatedValueForSegmentDocValue(1L);
+        CompactHyperLogLogPlusPlus second = aggregator.getInitialAggregatedValueForSegmentDocValue(2L);
+        CompactHyperLogLogPlusPlus merged = aggregator.mergeAggregatedValues(first, second);
+        assertSame(second, merged);
+        assertEquals(2, merged.cardinality(0));
+        // the incoming sketch is left untouched
+        assertEquals(1, first.cardinality(0));
+
+        CompactHyperLogLogPlusPlus copy = aggregator.mergeAggregatedValues(first, null);
+        assertNotSame(first, copy);
+        aggregator.mergeAggregatedValueAndSegmentValue(copy, 5L);
+        assertEquals(1, first.cardinality(0));
+        assertEquals(2, copy.cardinality(0));
+    }
+
+    public void testSerialization() throws IOException {
+        CompactHyperLogLogPlusPlus sketch = null;
+        int numValues = randomIntBetween(1, 10000);
+        for (int i = 0; i < numValues; i++) {
+            sketch = aggregator.mergeAggregatedValueAndSegmentValue(sketch, randomLong());
+        }
+        BytesRef bytes = aggregator.toBytesRef(sketch);
+        CompactHyperLogLogPlusPlus deserialized = aggregator.fromBytesRef(bytes);
+        assertEquals(sketch.precision(), deserialized.precision());
+        assertEquals(sketch.cardinality(0), deserialized.cardinality(0));
+    }
+
+    public void testFloatingPointValues() {
+        CardinalityValueAggregator doubleAggregator = new CardinalityValueAggregator(NumberFieldMapper.NumberType.DOUBLE);
+        CompactHyperLogLogPlusPlus sketch = doubleAggregator.getInitialAggregatedValueForSegmentDocValue(
+            NumericUtils.doubleToSortableLong(1.5)
+        );
+        sketch = doubleAggregator.mergeAggregatedValueAndSegmentValue(sketch, NumericUtils.doubleToSortableLong(2.5));
+        sketch = doubleAggregator.mergeAggregatedValueAndSegmentValue(sketch, NumericUtils.doubleToSortableLong(1.5));
+        assertEquals(2, sketch.cardinality(0));
+    }
+
+    public void testToAggregatedValueType() {
+        expectThrows(UnsupportedOperationException.class, () -> aggregator.toAggregatedValueType(1L));
+    }
+}
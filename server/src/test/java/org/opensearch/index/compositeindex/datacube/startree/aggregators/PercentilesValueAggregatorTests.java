@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class PercentilesValueAggregatorTests extends OpenSearchTestCase {
+
+    private final PercentilesValueAggregator aggregator = new PercentilesValueAggregator(NumberFieldMapper.NumberType.DOUBLE);
+
+    public void testNullValues() {
+        assertNull(aggregator.getInitialAggregatedValueForSegmentDocValue(null));
+        assertNull(aggregator.mergeAggregatedValueAndSegmentValue(null, null));
+        assertNull(aggregator.mergeAggregatedValues(null, null));
+        assertNull(aggregator.getInitialAggregatedValue(null));
+        assertNull(aggregator.getIdentityMetricValue());
+    }
+
+    public void testMergeAggregatedValueAndSegmentValue() {
+        TDigestState state = aggregator.getInitialAggregatedValueForSegmentDocValue(NumericUtils.doubleToSortableLong(1.0));
+        state = aggregator.mergeAggregatedValueAndSegmentValue(state, NumericUtils.doubleToSortableLong(3.0));
+        state = aggregator.mergeAggregatedValueAndSegmentValue(state, null);
+        assertEquals(2, state.size());
+        assertEquals(PercentilesValueAggregator.COMPRESSION, state.compression(), 0.0);
+        assertEquals(1.0, state.getMin(), 0.0);
+        assertEquals(3.0, state.getMax(), 0.0);
+    }
+
+    public void testMergeAggregatedValues() {
+        TDigestState first = aggregator.getInitialAggregatedValueForSegmentDocValue(NumericUtils.doubleToSortableLong(1.0));
+        TDigestState second = aggregator.getInitialAggregatedValueForSegmentDocValue(NumericUtils.doubleToSortableLong(2.0));
+        TDigestState merged = aggregator.mergeAggregatedValues(first, second);
+        assertSame(second, merged);
+        assertEquals(2, merged.size());
+        // the incoming sketch is left untouched
+        assertEquals(1, first.size());
+
+        TDigestState copy = aggregator.mergeAggregatedValues(first, null);
+        assertNotSame(first, copy);
+        aggregator.mergeAggregatedValueAndSegmentValue(copy, NumericUtils.doubleToSortableLong(5.0));
+        assertEquals(1, first.size());
+        assertEquals(2, copy.size());
+    }
+
+    public void testSerialization() throws IOException {
+        TDigestState state = null;
+        int numValues = randomIntBetween(1, 1000);
+        for (int i = 0; i < numValues; i++) {
+            state = aggregator.mergeAggregatedValueAndSegmentValue(state, NumericUtils.doubleToSortableLong(randomDouble()));
+        }
+        BytesRef bytes = aggregator.toBytesRef(state);
+        TDigestState deserialized = aggregator.fromBytesRef(bytes);
+        assertEquals(state.size(), deserialized.size());
+        assertEquals(state.getMin(), deserialized.getMin(), 0.0);
+        assertEquals(state.getMax(), deserialized.getMax(), 0.0);
+    }
+
+    public void testToAggregatedValueType() {
+        expectThrows(UnsupportedOperationException.class, () -> aggregator.toAggregatedValueType(1L));
+    }
+}
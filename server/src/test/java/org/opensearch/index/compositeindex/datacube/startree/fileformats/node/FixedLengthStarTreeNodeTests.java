@@ -21,7 +21,9 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils.ALL;
 import static org.mockito.Mockito.mock;
@@ -146,6 +148,28 @@ public class FixedLengthStarTreeNodeTests extends OpenSearchTestCase {
         assertEquals(dimensionValue, childNode.getDimensionValue());
     }
 
+    public void testCollectChildrenInRange() throws IOException {
+        List<Long> dimensionValues = new ArrayList<>();
+        starTreeNode.collectChildrenInRange(Long.MIN_VALUE, Long.MAX_VALUE, child -> dimensionValues.add(child.getDimensionValue()));
+        // star and null nodes are never collected
+        assertEquals(starTreeNode.getNumChildren() - 2, dimensionValues.size());
+        for (int i = 1; i < dimensionValues.size(); i++) {
+            assertTrue(dimensionValues.get(i - 1) < dimensionValues.get(i));
+        }
+
+        dimensionValues.clear();
+        starTreeNode.collectChildrenInRange(-1, 0, child -> dimensionValues.add(child.getDimensionValue()));
+        assertEquals(List.of(-1L, 0L), dimensionValues);
+
+        dimensionValues.clear();
+        starTreeNode.collectChildrenInRange(1, Long.MAX_VALUE, child -> dimensionValues.add(child.getDimensionValue()));
+        assertEquals(starTreeNode.getNumChildren() - 4, dimensionValues.size());
+
+        dimensionValues.clear();
+        starTreeNode.collectChildrenInRange(Long.MAX_VALUE - 1, Long.MAX_VALUE, child -> dimensionValues.add(child.getDimensionValue()));
+        assertTrue(dimensionValues.isEmpty());
+    }
+
     public void testGetChildrenIterator() throws IOException {
         Iterator<FixedLengthStarTreeNode> iterator = starTreeNode.getChildrenIterator();
         int count = 0;
@@ -18,6 +18,7 @@ import org.opensearch.test.OpenSearchTestCase;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class StarTreeUtilsTests extends OpenSearchTestCase {
@@ -49,6 +50,23 @@ public class StarTreeUtilsTests extends OpenSearchTestCase {
         }
     }
 
+    public void testGetFieldInfoListWithDocValuesTypes() {
+        List<String> fieldNames = Arrays.asList("field1", "field2", "field3");
+        FieldInfo[] actualFieldInfos = StarTreeUtils.getFieldInfoList(fieldNames, Map.of("field2", DocValuesType.SORTED_SET));
+        assertEquals(DocValuesType.SORTED_NUMERIC, actualFieldInfos[0].getDocValuesType());
+        assertEquals(DocValuesType.SORTED_SET, actualFieldInfos[1].getDocValuesType());
+        assertEquals(DocValuesType.SORTED_NUMERIC, actualFieldInfos[2].getDocValuesType());
+    }
+
+    public void testDimensionDocValuesTypeEncoding() {
+        for (DocValuesType docValuesType : List.of(DocValuesType.SORTED_NUMERIC, DocValuesType.SORTED_SET)) {
+            byte encoded = StarTreeUtils.encodeDimensionDocValuesType(docValuesType);
+            assertEquals(docValuesType, StarTreeUtils.decodeDimensionDocValuesType(encoded));
+        }
+        expectThrows(IllegalStateException.class, () -> StarTreeUtils.encodeDimensionDocValuesType(DocValuesType.BINARY));
+        expectThrows(IllegalStateException.class, () -> StarTreeUtils.decodeDimensionDocValuesType((byte) 2));
+    }
+
     public void testGetFieldInfo() {
         String fieldName = UUID.randomUUID().toString();
         int fieldNumber = randomInt();
@@ -45,6 +45,7 @@ import org.apache.lucene.document.KeywordField;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexCommit;
@@ -198,6 +199,7 @@ import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import java.util.function.ToLongBiFunction;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 import static java.util.Collections.shuffle;
@@ -1695,6 +1697,68 @@ public class InternalEngineTests extends EngineTestCase {
         assertThat(versionConflictEngineException.getStackTrace(), emptyArray());
     }
 
+    public void testPreloadDocVersions() throws IOException {
+        engine.index(indexForDoc(createParsedDoc("1", null)));
+        engine.index(indexForDoc(createParsedDoc("2", null)));
+        engine.index(indexForDoc(createParsedDoc("2", null)));
+        engine.delete(new Engine.Delete("2", newUid("2"), primaryTerm.get()));
+        engine.index(indexForDoc(createParsedDoc("4", null)));
+        engine.refresh("test");
+
+        engine.preloadDocVersions(
+            List.of(newUid("4").bytes(), newUid("1").bytes(), newUid("2").bytes(), newUid("3").bytes(), newUid("1").bytes())
+        );
+        // operations since the preload are found in the version map
+        assertThat(engine.index(indexForDoc(createParsedDoc("4", null))).getVersion(), equalTo(2L));
+        assertThat(engine.index(indexForDoc(createParsedDoc("4", null))).getVersion(), equalTo(3L));
+        // the other documents use the preloaded versions
+        Engine.Index create = new Engine.Index(
+            newUid("1"),
+            createParsedDoc("1", null),
+            UNASSIGNED_SEQ_NO,
+            primaryTerm.get(),
+            Versions.MATCH_DELETED,
+            VersionType.INTERNAL,
+            PRIMARY,
+            System.nanoTime(),
+            IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP,
+            false,
+            UNASSIGNED_SEQ_NO,
+            0
+        );
+        assertThat(engine.index(create).getFailure(), instanceOf(VersionConflictEngineException.class));
+        assertThat(engine.index(indexForDoc(createParsedDoc("2", null))).getVersion(), equalTo(4L));
+        assertThat(engine.index(indexForDoc(createParsedDoc("3", null))).getVersion(), equalTo(1L));
+
+        // preloaded versions are dropped on refresh
+        engine.preloadDocVersions(List.of(newUid("1").bytes(), newUid("5").bytes()));
+        engine.index(indexForDoc(createParsedDoc("5", null)));
+        engine.refresh("test");
+        assertThat(engine.index(indexForDoc(createParsedDoc("1", null))).getVersion(), equalTo(2L));
+        assertThat(engine.index(indexForDoc(createParsedDoc("5", null))).getVersion(), equalTo(2L));
+    }
+
+    public void testPreloadDocVersionsIsBounded() throws IOException {
+        engine.index(indexForDoc(createParsedDoc("1", null)));
+        engine.refresh("test");
+
+        int numDocs = InternalEngine.MAX_PRELOADED_VERSIONS + randomIntBetween(1, 100);
+        List<BytesRef> uids = new ArrayList<>(numDocs);
+        for (int i = 0; i < numDocs; i++) {
+            uids.add(newUid(Integer.toString(i)).bytes());
+        }
+        engine.preloadDocVersions(uids);
+        assertThat(engine.getPreloadedVersionCount(), equalTo(InternalEngine.MAX_PRELOADED_VERSIONS));
+        // the preloaded versions are taken by the operations
+        assertThat(engine.index(indexForDoc(createParsedDoc("1", null))).getVersion(), equalTo(2L));
+        assertThat(engine.index(indexForDoc(createParsedDoc("2", null))).getVersion(), equalTo(1L));
+
+        // the preloaded versions are dropped rather than accumulated beyond the limit
+        assertThat(engine.getPreloadedVersionCount(), equalTo(InternalEngine.MAX_PRELOADED_VERSIONS - 2));
+        engine.preloadDocVersions(uids.subList(0, 3));
+        assertThat(engine.getPreloadedVersionCount(), equalTo(3));
+    }
+
     public void testVersioningNewIndex() throws IOException {
         ParsedDocument doc = testParsedDocument("1", null, testDocument(), B_1, null);
         Engine.Index index = indexForDoc(doc);
@@ -4842,6 +4906,91 @@ public class InternalEngineTests extends EngineTestCase {
         }
     }
 
+    public void testIndexAllAppendsWithDocumentFailure() throws IOException {
+        final int numDocs = between(3, 100);
+        final Set<Integer> failingDocs = new HashSet<>(
+            randomSubsetOf(between(1, 3), IntStream.range(0, numDocs).boxed().collect(Collectors.toList()))
+        );
+        final List<Engine.Index> operations = new ArrayList<>();
+        for (int i = 0; i < numDocs; i++) {
+            final ParsedDocument doc = testParsedDocument(Integer.toString(i), null, testDocumentWithTextField(), B_1, null);
+            if (failingDocs.contains(i)) {
+                // an immense term fails the document without aborting the index writer
+                doc.rootDoc().add(new StringField("immense", randomAlphaOfLength(IndexWriter.MAX_TERM_LENGTH + 1), Field.Store.NO));
+            }
+            operations.add(appendOnlyPrimary(doc, false, i));
+        }
+        final List<Engine.IndexResult> results = engine.indexAll(operations);
+        assertThat(results, hasSize(numDocs));
+        for (int i = 0; i < numDocs; i++) {
+            final Engine.IndexResult result = results.get(i);
+            assertThat(result.getSeqNo(), equalTo((long) i));
+            assertNotNull(result.getTranslogLocation());
+            if (failingDocs.contains(i)) {
+                assertThat(result.getResultType(), equalTo(Engine.Result.Type.FAILURE));
+                assertThat(result.getFailure(), instanceOf(IllegalArgumentException.class));
+            } else {
+                assertThat(result.getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+                assertTrue(result.isCreated());
+            }
+        }
+        assertThat(engine.getProcessedLocalCheckpoint(), equalTo((long) numDocs - 1));
+        engine.refresh("test");
+        try (Engine.Searcher searcher = engine.acquireSearcher("test")) {
+            assertEquals(numDocs - failingDocs.size(), searcher.getIndexReader().numDocs());
+        }
+    }
+
+    public void testAppendOnlyIndexAppendsWithoutVersionMap() throws IOException {
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings(
+            "test",
+            Settings.builder()
+                .put(defaultSettings.getSettings())
+                .put(IndexSettings.INDEX_APPEND_ONLY_ENABLED_SETTING.getKey(), true)
+                .build()
+        );
+        try (
+            Store store = createStore();
+            InternalEngine engine = createEngine(indexSettings, store, createTempDir(), NoMergePolicy.INSTANCE)
+        ) {
+            final int numDocs = between(1, 20);
+            final List<Engine.Index> operations = new ArrayList<>();
+            for (int i = 0; i < numDocs; i++) {
+                final ParsedDocument doc = testParsedDocument(Integer.toString(i), null, testDocumentWithTextField(), B_1, null);
+                operations.add(appendOnlyPrimary(doc, false, i));
+            }
+            final List<Engine.IndexResult> results = new ArrayList<>();
+            if (randomBoolean()) {
+                results.addAll(engine.indexAll(operations));
+            } else {
+                for (Engine.Index operation : operations) {
+                    results.add(engine.index(operation));
+                }
+            }
+            for (Engine.IndexResult result : results) {
+                assertThat(result.getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+                assertTrue(result.isCreated());
+            }
+            // the appended documents are not in the version map, which is unsafe instead
+            assertFalse(engine.isSafeAccessRequired());
+            assertThat(engine.getVersionMap().values(), empty());
+            final ParsedDocument lastDoc = operations.get(numDocs - 1).parsedDoc();
+            try (Engine.GetResult getResult = engine.get(newGet(true, lastDoc), engine::acquireSearcher)) {
+                assertTrue(getResult.exists());
+            }
+
+            // a retry of an appended document overwrites it, and the following appends look up their documents
+            final Engine.Index retry = appendOnlyPrimary(lastDoc, true, numDocs - 1);
+            assertThat(engine.index(retry).getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+            final ParsedDocument nextDoc = testParsedDocument(Integer.toString(numDocs), null, testDocumentWithTextField(), B_1, null);
+            assertThat(engine.index(appendOnlyPrimary(nextDoc, false, numDocs - 1)).getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+            engine.refresh("test");
+            try (Engine.Searcher searcher = engine.acquireSearcher("test")) {
+                assertEquals(numDocs + 1, searcher.getIndexReader().numDocs());
+            }
+        }
+    }
+
     public Engine.Index randomAppendOnly(ParsedDocument doc, boolean retry, final long autoGeneratedIdTimestamp) {
         if (randomBoolean()) {
             return appendOnlyPrimary(doc, retry, autoGeneratedIdTimestamp);
@@ -355,6 +355,30 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         }
     }
 
+    public void testAppendedRefreshTransition() throws IOException {
+        LiveVersionMap map = new LiveVersionMap();
+        try (Releasable r = map.acquireLock(uid("1"))) {
+            map.maybePutAppendedUnderLock(uid("1"), randomIndexVersionValue());
+            assertTrue(map.isUnsafe());
+            assertNull(map.getUnderLock(uid("1")));
+            map.maybePutAppendedUnderLock(uid("1"), randomIndexVersionValue());
+            assertTrue(map.isUnsafe());
+            map.beforeRefresh();
+            map.afterRefresh(randomBoolean());
+            assertFalse(map.isUnsafe());
+
+            map.enforceSafeAccess();
+            map.maybePutAppendedUnderLock(uid("1"), randomIndexVersionValue());
+            assertFalse(map.isUnsafe());
+            assertNotNull(map.getUnderLock(uid("1")));
+            assertEquals(0, map.getAllTombstones().size());
+            map.beforeRefresh();
+            map.afterRefresh(randomBoolean());
+            assertNull(map.getUnderLock(uid("1")));
+            assertFalse(map.isUnsafe());
+        }
+    }
+
     public void testAddAndDeleteRefreshConcurrently() throws IOException, InterruptedException {
         LiveVersionMap map = new LiveVersionMap();
         int numIters = randomIntBetween(1000, 5000);
@@ -61,6 +61,7 @@ import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.FeatureFlags;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
@@ -75,7 +76,10 @@ import org.opensearch.index.mapper.NumberFieldMapper.NumberType;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.MultiValueMode;
+import org.opensearch.search.approximate.ApproximatePointRangeQuery;
+import org.opensearch.search.approximate.ApproximateScoreQuery;
 import org.opensearch.search.query.BitmapDocValuesQuery;
+import org.opensearch.test.FeatureFlagSetter;
 import org.junit.Before;
 
 import java.io.ByteArrayInputStream;
@@ -95,6 +99,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.either;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 
 public class NumberFieldTypeTests extends FieldTypeTestCase {
 
@@ -289,6 +294,29 @@ public class NumberFieldTypeTests extends FieldTypeTestCase {
         );
     }
 
+    public void testApproximateRangeQuery() {
+        FeatureFlagSetter.set(FeatureFlags.APPROXIMATE_POINT_RANGE_QUERY);
+        try {
+            for (NumberType type : NumberType.values()) {
+                MappedFieldType ft = new NumberFieldType("field", type);
+                Query query = ft.rangeQuery(1, 10, true, true, null, null, null, MOCK_QSC);
+                assertThat(query, instanceOf(ApproximateScoreQuery.class));
+                assertThat(((ApproximateScoreQuery) query).getOriginalQuery(), instanceOf(IndexOrDocValuesQuery.class));
+                ApproximatePointRangeQuery approximationQuery = (ApproximatePointRangeQuery) ((ApproximateScoreQuery) query)
+                    .getApproximationQuery();
+                assertArrayEquals(type.encodePoint(1), approximationQuery.pointRangeQuery.getLowerPoint());
+                assertArrayEquals(type.encodePoint(10), approximationQuery.pointRangeQuery.getUpperPoint());
+                assertThat(approximationQuery.toString(), containsString("10"));
+            }
+
+            // doc values only fields can't be approximated
+            MappedFieldType ft = new NumberFieldType("field", NumberType.DOUBLE, false, false, true, true, null, Collections.emptyMap());
+            assertThat(ft.rangeQuery(1, 10, true, true, null, null, null, MOCK_QSC), not(instanceOf(ApproximateScoreQuery.class)));
+        } finally {
+            FeatureFlagSetter.clear();
+        }
+    }
+
     public void testByteRangeQueryWithDecimalParts() {
         MappedFieldType ft = new NumberFieldMapper.NumberFieldType("field", NumberType.BYTE);
         assertEquals(
@@ -8,6 +8,7 @@
 
 package org.opensearch.index.mapper;
 
+import org.apache.lucene.index.DocValuesType;
 import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.Rounding;
 import org.opensearch.common.settings.ClusterSettings;
@@ -21,6 +22,7 @@ import org.opensearch.index.compositeindex.CompositeIndexValidator;
 import org.opensearch.index.compositeindex.datacube.DataCubeDateTimeUnit;
 import org.opensearch.index.compositeindex.datacube.DateDimension;
 import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.KeywordDimension;
 import org.opensearch.index.compositeindex.datacube.Metric;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.NumericDimension;
@@ -221,6 +223,19 @@ public class StarTreeMapperTests extends MapperTestCase {
         }
     }
 
+    public void testValidStarTreeWithKeywordDim() throws IOException {
+        MapperService mapperService = createMapperService(getMinMappingWithKeywordDim());
+        Set<CompositeMappedFieldType> compositeFieldTypes = mapperService.getCompositeFieldTypes();
+        for (CompositeMappedFieldType type : compositeFieldTypes) {
+            StarTreeMapper.StarTreeFieldType starTreeFieldType = (StarTreeMapper.StarTreeFieldType) type;
+            assertEquals("status", starTreeFieldType.getDimensions().get(0).getField());
+            assertTrue(starTreeFieldType.getDimensions().get(0) instanceof NumericDimension);
+            assertEquals("keyword_dv", starTreeFieldType.getDimensions().get(1).getField());
+            assertTrue(starTreeFieldType.getDimensions().get(1) instanceof KeywordDimension);
+            assertEquals(DocValuesType.SORTED_SET, starTreeFieldType.getDimensions().get(1).getDocValuesType());
+        }
+    }
+
     public void testValidStarTreeDefaults() throws IOException {
         MapperService mapperService = createMapperService(getMinMapping());
         Set<CompositeMappedFieldType> compositeFieldTypes = mapperService.getCompositeFieldTypes();
@@ -502,6 +517,12 @@ public class StarTreeMapperTests extends MapperTestCase {
         assertEquals(n1, n2);
         n2 = new NumericDimension("name1");
         assertNotEquals(n1, n2);
+        KeywordDimension k1 = new KeywordDimension("name");
+        KeywordDimension k2 = new KeywordDimension("name");
+        assertEquals(k1, k2);
+        k2 = new KeywordDimension("name1");
+        assertNotEquals(k1, k2);
+        assertNotEquals(n1, k1);
     }
 
     public void testReadDimensions() {
@@ -510,6 +531,9 @@ public class StarTreeMapperTests extends MapperTestCase {
         assertEquals(r1, r2);
         r2 = new ReadDimension("name1");
         assertNotEquals(r1, r2);
+        r2 = new ReadDimension("name", DocValuesType.SORTED_SET);
+        assertNotEquals(r1, r2);
+        assertEquals(DocValuesType.SORTED_SET, r2.getDocValuesType());
     }
 
     public void testStarTreeField() {
@@ -831,6 +855,42 @@ public class StarTreeMapperTests extends MapperTestCase {
         return getMinMapping(false, false, false, false, false);
     }
 
+    private XContentBuilder getMinMappingWithKeywordDim() throws IOException {
+        return topMapping(b -> {
+            b.startObject("composite");
+            b.startObject("startree");
+            b.field("type", "star_tree");
+            b.startObject("config");
+            b.startArray("ordered_dimensions");
+            b.startObject();
+            b.field("name", "status");
+            b.endObject();
+            b.startObject();
+            b.field("name", "keyword_dv");
+            b.endObject();
+            b.endArray();
+            b.startArray("metrics");
+            b.startObject();
+            b.field("name", "metric_field");
+            b.endObject();
+            b.endArray();
+            b.endObject();
+            b.endObject();
+            b.endObject();
+            b.startObject("properties");
+            b.startObject("status");
+            b.field("type", "integer");
+            b.endObject();
+            b.startObject("keyword_dv");
+            b.field("type", "keyword");
+            b.endObject();
+            b.startObject("metric_field");
+            b.field("type", "integer");
+            b.endObject();
+            b.endObject();
+        });
+    }
+
     private XContentBuilder getMinMappingWithDateDims(boolean calendarIntervalsExceeded, boolean dateDimsAbsent, boolean additionalDim)
         throws IOException {
         return topMapping(b -> {
@@ -1090,7 +1150,7 @@ public class StarTreeMapperTests extends MapperTestCase {
             if (!invalidDimType) {
                 b.field("type", "integer");
             } else {
-                b.field("type", "keyword");
+                b.field("type", "text");
             }
             b.endObject();
             b.startObject("metric_field");
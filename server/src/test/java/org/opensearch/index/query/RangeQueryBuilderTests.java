@@ -270,6 +270,9 @@ public class RangeQueryBuilderTests extends AbstractQueryTestCase<RangeQueryBuil
                     query
                 );
             } else if (expectedFieldName.equals(INT_FIELD_NAME)) {
+                if (query instanceof ApproximateScoreQuery) {
+                    query = ((ApproximateScoreQuery) query).getOriginalQuery();
+                }
                 assertThat(query, instanceOf(IndexOrDocValuesQuery.class));
                 query = ((IndexOrDocValuesQuery) query).getIndexQuery();
                 assertThat(query, instanceOf(PointRangeQuery.class));
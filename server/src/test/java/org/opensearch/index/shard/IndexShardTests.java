@@ -78,6 +78,7 @@ import org.opensearch.common.io.PathUtils;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
@@ -96,6 +97,7 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.VersionType;
 import org.opensearch.index.codec.CodecService;
 import org.opensearch.index.engine.CommitStats;
 import org.opensearch.index.engine.DocIdSeqNoAndSource;
@@ -108,6 +110,7 @@ import org.opensearch.index.engine.InternalEngineFactory;
 import org.opensearch.index.engine.NRTReplicationEngine;
 import org.opensearch.index.engine.NRTReplicationEngineFactory;
 import org.opensearch.index.engine.ReadOnlyEngine;
+import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.index.fielddata.FieldDataStats;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
@@ -142,6 +145,7 @@ import org.opensearch.index.translog.RemoteTranslogStats;
 import org.opensearch.index.translog.TestTranslog;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.index.translog.TranslogSyncStats;
 import org.opensearch.index.translog.listener.TranslogEventListener;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
@@ -1666,6 +1670,41 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testAsyncFsyncWithGroupCommit() throws Exception {
+        IndexShard shard = newStartedShard(
+            true,
+            Settings.builder()
+                .put(IndexSettings.INDEX_TRANSLOG_GROUP_COMMIT_SETTING.getKey(), true)
+                .put(IndexSettings.INDEX_TRANSLOG_GROUP_COMMIT_WINDOW_SETTING.getKey(), TimeValue.timeValueMillis(randomIntBetween(0, 10)))
+                .build()
+        );
+        final int numDocs = randomIntBetween(1, 20);
+        final CountDownLatch latch = new CountDownLatch(numDocs);
+        final Set<String> syncThreads = ConcurrentCollections.newConcurrentSet();
+        for (int i = 0; i < numDocs; i++) {
+            Engine.IndexResult result = indexDoc(shard, "_doc", Integer.toString(i));
+            shard.sync(result.getTranslogLocation(), ex -> {
+                assertNull(ex);
+                syncThreads.add(Thread.currentThread().getName());
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        // the syncs are performed on the translog sync thread pool rather than on the indexing thread
+        for (String syncThread : syncThreads) {
+            assertThat(syncThread, containsString("[" + ThreadPool.Names.TRANSLOG_SYNC + "]"));
+        }
+        assertFalse(shard.isSyncNeeded());
+
+        TranslogSyncStats syncStats = shard.translogStats().getSyncStats();
+        assertThat(syncStats.getTotal(), greaterThanOrEqualTo(1L));
+        assertThat(syncStats.getTotal(), lessThanOrEqualTo((long) numDocs));
+        assertEquals(syncStats.getTotal(), Arrays.stream(syncStats.getGroupSizes()).sum());
+        assertEquals(syncStats.getTotal(), Arrays.stream(syncStats.getLatencies()).sum());
+
+        closeShards(shard);
+    }
+
     public void testMinimumCompatVersion() throws IOException {
         Version versionCreated = VersionUtils.randomVersion(random());
         Settings settings = Settings.builder()
@@ -1903,6 +1942,68 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testAppendOnlyIndex() throws IOException {
+        final Settings settings = Settings.builder().put(IndexSettings.INDEX_APPEND_ONLY_ENABLED_SETTING.getKey(), true).build();
+        final IndexShard shard = newStartedShard(true, settings);
+        final String index = shard.shardId().getIndexName();
+
+        // documents with auto-generated ids and documents created with an explicit id are indexed
+        Engine.IndexResult result = shard.applyIndexOperationOnPrimary(
+            Versions.MATCH_ANY,
+            VersionType.INTERNAL,
+            new SourceToParse(index, "auto", new BytesArray("{}"), MediaTypeRegistry.JSON),
+            SequenceNumbers.UNASSIGNED_SEQ_NO,
+            0,
+            randomNonNegativeLong(),
+            false
+        );
+        assertEquals(Engine.Result.Type.SUCCESS, result.getResultType());
+        result = shard.applyIndexOperationOnPrimary(
+            Versions.MATCH_DELETED,
+            VersionType.INTERNAL,
+            new SourceToParse(index, "1", new BytesArray("{}"), MediaTypeRegistry.JSON),
+            SequenceNumbers.UNASSIGNED_SEQ_NO,
+            0,
+            IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP,
+            false
+        );
+        assertEquals(Engine.Result.Type.SUCCESS, result.getResultType());
+        assertTrue(result.isCreated());
+
+        // creating a document that exists fails with a version conflict
+        result = shard.applyIndexOperationOnPrimary(
+            Versions.MATCH_DELETED,
+            VersionType.INTERNAL,
+            new SourceToParse(index, "1", new BytesArray("{}"), MediaTypeRegistry.JSON),
+            SequenceNumbers.UNASSIGNED_SEQ_NO,
+            0,
+            IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP,
+            false
+        );
+        assertEquals(Engine.Result.Type.FAILURE, result.getResultType());
+        assertThat(result.getFailure(), instanceOf(VersionConflictEngineException.class));
+
+        // overwriting, updating and deleting documents is rejected
+        result = shard.applyIndexOperationOnPrimary(
+            Versions.MATCH_ANY,
+            VersionType.INTERNAL,
+            new SourceToParse(index, "1", new BytesArray("{}"), MediaTypeRegistry.JSON),
+            SequenceNumbers.UNASSIGNED_SEQ_NO,
+            0,
+            IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP,
+            false
+        );
+        assertEquals(Engine.Result.Type.FAILURE, result.getResultType());
+        assertThat(result.getFailure().getMessage(), containsString("documents can only be created, not overwritten or updated"));
+        final Engine.DeleteResult deleteResult = deleteDoc(shard, "1");
+        assertEquals(Engine.Result.Type.FAILURE, deleteResult.getResultType());
+        assertThat(deleteResult.getFailure().getMessage(), containsString("documents can't be deleted"));
+
+        shard.refresh("test");
+        assertDocCount(shard, 2);
+        closeShards(shard);
+    }
+
     public void testIndexingOperationsListeners() throws IOException {
         IndexShard shard = newStartedShard(true);
         indexDoc(shard, "_doc", "0", "{\"foo\" : \"bar\"}");
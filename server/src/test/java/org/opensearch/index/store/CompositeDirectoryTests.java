@@ -22,12 +22,15 @@ import org.opensearch.index.store.remote.file.OnDemandBlockSnapshotIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheFactory;
 import org.opensearch.index.store.remote.filecache.FileCachedIndexInput;
+import org.opensearch.index.store.remote.utils.BlobFetchRequest;
 import org.opensearch.index.store.remote.utils.FileTypeUtils;
+import org.opensearch.index.store.remote.utils.TransferManager;
 import org.junit.Before;
 
 import java.io.IOException;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
@@ -141,6 +144,37 @@ public class CompositeDirectoryTests extends BaseRemoteSegmentStoreDirectoryTest
         assertTrue(compositeDirectory.openInput(FILE_PRESENT_IN_REMOTE_ONLY, IOContext.DEFAULT) instanceof OnDemandBlockSnapshotIndexInput);
     }
 
+    public void testOpenInputWithReadAhead() throws IOException {
+        // Read-ahead is disabled unless a prefetch executor is given
+        assertEquals(0, compositeDirectory.getTransferManager().getMaxReadAheadBlocks());
+
+        List<Runnable> prefetches = new ArrayList<>();
+        CompositeDirectory prefetchingDirectory = new CompositeDirectory(
+            localDirectory,
+            remoteSegmentStoreDirectory,
+            fileCache,
+            prefetches::add,
+            4
+        );
+        TransferManager transferManager = prefetchingDirectory.getTransferManager();
+        assertEquals(4, transferManager.getMaxReadAheadBlocks());
+
+        // Files only present in Remote are read in blocks, which are read ahead on the prefetch executor
+        IndexInput remoteInput = prefetchingDirectory.openInput(FILE_PRESENT_IN_REMOTE_ONLY, IOContext.DEFAULT);
+        assertTrue(remoteInput instanceof OnDemandBlockSnapshotIndexInput);
+        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder()
+            .fileName(FILE_PRESENT_IN_REMOTE_ONLY + "_block_1")
+            .directory(localDirectory)
+            .blobParts(List.of(new BlobFetchRequest.BlobPart(FILE_PRESENT_IN_REMOTE_ONLY, 0, 1)))
+            .build();
+        transferManager.prefetchBlob(blobFetchRequest);
+        // The same block is only prefetched once while the first prefetch is pending
+        transferManager.prefetchBlob(blobFetchRequest);
+        assertEquals(1, prefetches.size());
+        assertEquals(1L, fileCache.fileCacheStats().getPrefetchRequested());
+        remoteInput.close();
+    }
+
     public void testClose() throws IOException {
         // Similar to delete, when close is called existing openInput should be able to function properly but new requests should not be
         // served
@@ -28,13 +28,18 @@ import org.opensearch.index.store.remote.utils.BlobFetchRequest;
 import org.opensearch.index.store.remote.utils.TransferManager;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
+import org.mockito.ArgumentCaptor;
 
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -102,6 +107,34 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
         );
     }
 
+    public void testSequentialReadAhead() throws Exception {
+        final int blockSizeShift = 20;
+        final int blockSize = 1 << blockSizeShift;
+        when(transferManager.getMaxReadAheadBlocks()).thenReturn(4);
+        final OnDemandBlockSnapshotIndexInput blockedSnapshotFile = createOnDemandBlockSnapshotIndexInput(blockSizeShift);
+
+        // the window grows from 1 to 4 blocks while reading sequentially
+        for (int blockId = 0; blockId <= 4; blockId++) {
+            blockedSnapshotFile.seek((long) blockId * blockSize);
+        }
+        // a random access resets the window
+        blockedSnapshotFile.seek(20L * blockSize);
+        blockedSnapshotFile.seek(21L * blockSize);
+        // the last blocks are not read ahead past the end of the file
+        for (int blockId = 25; blockId < FILE_SIZE / blockSize; blockId++) {
+            blockedSnapshotFile.seek((long) blockId * blockSize);
+        }
+        blockedSnapshotFile.close();
+
+        final ArgumentCaptor<BlobFetchRequest> captor = ArgumentCaptor.forClass(BlobFetchRequest.class);
+        verify(transferManager, atLeastOnce()).prefetchBlob(captor.capture());
+        final List<String> prefetched = captor.getAllValues().stream().map(BlobFetchRequest::getFileName).collect(Collectors.toList());
+        final List<String> expected = IntStream.of(2, 3, 4, 5, 6, 7, 8, 22, 27)
+            .mapToObj(blockId -> BLOCK_FILE_PREFIX + "_block_" + blockId)
+            .collect(Collectors.toList());
+        assertEquals(expected, prefetched);
+    }
+
     private void verifyChunkedRepository(long blockSize, long repositoryChunkSize, long fileSize) throws IOException {
         when(transferManager.fetchBlob(any())).thenReturn(new ByteArrayIndexInput("test", new byte[(int) blockSize]));
         try (
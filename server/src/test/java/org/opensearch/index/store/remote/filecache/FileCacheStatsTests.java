@@ -46,7 +46,11 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
             usage.usage(),
             stats.evictionWeight(),
             stats.hitCount(),
-            stats.missCount()
+            stats.missCount(),
+            randomLongBetween(0, 10000),
+            randomLongBetween(0, 10000),
+            randomLongBetween(0, 10000),
+            randomLongBetween(0, 10000)
         );
     }
 
@@ -64,6 +68,10 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
         assertEquals(original.getEvicted(), deserialized.getEvicted());
         assertEquals(original.getCacheHits(), deserialized.getCacheHits());
         assertEquals(original.getCacheMisses(), deserialized.getCacheMisses());
+        assertEquals(original.getPrefetchRequested(), deserialized.getPrefetchRequested());
+        assertEquals(original.getPrefetchCompleted(), deserialized.getPrefetchCompleted());
+        assertEquals(original.getPrefetchRejected(), deserialized.getPrefetchRejected());
+        assertEquals(original.getPrefetchFailed(), deserialized.getPrefetchFailed());
     }
 
     public void testFileCacheStatsSerialization() throws IOException {
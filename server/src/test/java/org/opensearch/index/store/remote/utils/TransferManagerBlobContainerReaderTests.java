@@ -9,10 +9,13 @@
 package org.opensearch.index.store.remote.utils;
 
 import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.index.store.remote.filecache.FileCacheStats;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -40,4 +43,48 @@ public class TransferManagerBlobContainerReaderTests extends TransferManagerTest
             return new ByteArrayInputStream(createData());
         }).when(blobContainer).readBlob(eq("blocking-blob"), anyLong(), anyLong());
     }
+
+    public void testPrefetchBlob() throws IOException {
+        final TransferManager prefetchingTransferManager = new TransferManager(blobContainer::readBlob, fileCache, Runnable::run, 4);
+        assertEquals(4, prefetchingTransferManager.getMaxReadAheadBlocks());
+        prefetchingTransferManager.prefetchBlob(blobFetchRequest("blob", "prefetched"));
+        // the prefetched block stays in the cache without being referenced
+        assertEquals(EIGHT_MB, fileCache.usage().usage());
+        assertEquals(0L, fileCache.usage().activeUsage());
+
+        mockExceptionWhileReading();
+        prefetchingTransferManager.prefetchBlob(blobFetchRequest("failure-blob", "failed"));
+        final FileCacheStats stats = fileCache.fileCacheStats();
+        assertEquals(2L, stats.getPrefetchRequested());
+        assertEquals(1L, stats.getPrefetchCompleted());
+        assertEquals(1L, stats.getPrefetchFailed());
+        assertEquals(0L, stats.getPrefetchRejected());
+    }
+
+    public void testPrefetchBlobRejected() {
+        final TransferManager prefetchingTransferManager = new TransferManager(blobContainer::readBlob, fileCache, command -> {
+            throw new RejectedExecutionException("rejected");
+        }, 4);
+        prefetchingTransferManager.prefetchBlob(blobFetchRequest("blob", "rejected"));
+        assertEquals(0L, fileCache.usage().usage());
+        final FileCacheStats stats = fileCache.fileCacheStats();
+        assertEquals(1L, stats.getPrefetchRequested());
+        assertEquals(1L, stats.getPrefetchRejected());
+        assertEquals(0L, stats.getPrefetchCompleted());
+    }
+
+    public void testPrefetchDisabledWithoutExecutor() {
+        assertEquals(0, transferManager.getMaxReadAheadBlocks());
+        transferManager.prefetchBlob(blobFetchRequest("blob", "file"));
+        assertEquals(0L, fileCache.usage().usage());
+        assertEquals(0L, fileCache.fileCacheStats().getPrefetchRequested());
+    }
+
+    private BlobFetchRequest blobFetchRequest(String blobName, String fileName) {
+        return BlobFetchRequest.builder()
+            .fileName(fileName)
+            .directory(directory)
+            .blobParts(List.of(new BlobFetchRequest.BlobPart(blobName, 0, EIGHT_MB)))
+            .build();
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ClockCacheTests extends RefCountedCacheTestCase {
+    public ClockCacheTests() {
+        super(new ClockCache<>(CAPACITY, n -> {}, value -> value));
+    }
+
+    public void testScanDoesNotEvictReusedEntries() {
+        final ClockCache<String, Long> cache = new ClockCache<>(CAPACITY, n -> {}, value -> value);
+        cache.put("hot", 25L);
+        cache.decRef("hot");
+        assertEquals(25L, (long) cache.get("hot"));
+        cache.decRef("hot");
+
+        // a scan over many entries which are only used once
+        for (int i = 0; i < 20; i++) {
+            final String key = "scan-" + i;
+            cache.put(key, 25L);
+            cache.decRef(key);
+        }
+        assertEquals(25L, (long) cache.get("hot"));
+        cache.decRef("hot");
+    }
+
+    public void testEntriesAddedAgainSurviveLonger() {
+        final ClockCache<String, Long> cache = new ClockCache<>(CAPACITY, n -> {}, value -> value);
+        cache.put("1", 25L);
+        cache.decRef("1");
+        cache.remove("1");
+        // "1" was already added once, so it is now evicted after "2" although "2" is more recent
+        cache.put("1", 25L);
+        cache.decRef("1");
+        for (int i = 2; i <= 4; i++) {
+            final String key = Integer.toString(i);
+            cache.put(key, 25L);
+            cache.decRef(key);
+        }
+        assertNull(cache.get("2"));
+        assertNotNull(cache.get("1"));
+    }
+
+    public void testConcurrentReferenceCounting() throws InterruptedException {
+        final AtomicInteger removals = new AtomicInteger();
+        final ClockCache<String, Long> cache = new ClockCache<>(CAPACITY, n -> removals.incrementAndGet(), value -> value);
+        final int numKeys = 10;
+        for (int i = 0; i < numKeys; i++) {
+            final String key = Integer.toString(i);
+            cache.put(key, 20L);
+            cache.decRef(key);
+        }
+        final Thread[] threads = new Thread[randomIntBetween(2, 8)];
+        final CountDownLatch latch = new CountDownLatch(1);
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < 1000; i++) {
+                    final String key = Integer.toString(randomIntBetween(0, numKeys));
+                    if (cache.get(key) == null) {
+                        cache.put(key, 20L);
+                    }
+                    cache.decRef(key);
+                }
+            });
+            threads[t].start();
+        }
+        latch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // every reference was released
+        assertEquals(0L, cache.usage().activeUsage());
+        assertEquals(20L * cache.size(), cache.usage().usage());
+        assertEquals(threads.length * 1000L, cache.stats().hitCount() + cache.stats().missCount());
+        assertEquals(cache.stats().evictionCount(), removals.get());
+    }
+}
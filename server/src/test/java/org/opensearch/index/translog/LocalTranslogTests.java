@@ -526,6 +526,13 @@ public class LocalTranslogTests extends OpenSearchTestCase {
                         + 271
                         + ",\"earliest_last_modified_age\":"
                         + stats.getEarliestLastModifiedAge()
+                        + ",\"sync\":{\"total\":0,\"total_time_in_millis\":0,\"group_size\":["
+                        + "{\"lte\":1,\"count\":0},{\"lte\":2,\"count\":0},{\"lte\":4,\"count\":0},{\"lte\":8,\"count\":0},"
+                        + "{\"lte\":16,\"count\":0},{\"lte\":32,\"count\":0},{\"lte\":64,\"count\":0},{\"lte\":128,\"count\":0},"
+                        + "{\"lte\":256,\"count\":0},{\"lte\":512,\"count\":0},{\"gt\":512,\"count\":0}],\"latency_in_millis\":["
+                        + "{\"lte\":1,\"count\":0},{\"lte\":2,\"count\":0},{\"lte\":5,\"count\":0},{\"lte\":10,\"count\":0},"
+                        + "{\"lte\":20,\"count\":0},{\"lte\":50,\"count\":0},{\"lte\":100,\"count\":0},{\"lte\":200,\"count\":0},"
+                        + "{\"lte\":500,\"count\":0},{\"lte\":1000,\"count\":0},{\"gt\":1000,\"count\":0}]}"
                         + ",\"remote_store\":{\"upload\":{"
                         + "\"total_uploads\":{\"started\":0,\"failed\":0,\"succeeded\":0},"
                         + "\"total_upload_size\":{\"started_bytes\":0,\"failed_bytes\":0,\"succeeded_bytes\":0}"
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class TranslogSyncStatsTests extends OpenSearchTestCase {
+
+    public void testTracker() {
+        TranslogSyncTracker tracker = new TranslogSyncTracker();
+        tracker.onSync(1, TimeUnit.MICROSECONDS.toNanos(300));
+        tracker.onSync(3, TimeUnit.MILLISECONDS.toNanos(3));
+        tracker.onSync(4, TimeUnit.MILLISECONDS.toNanos(5));
+        tracker.onSync(1000, TimeUnit.SECONDS.toNanos(2));
+
+        TranslogSyncStats stats = tracker.stats();
+        assertEquals(4, stats.getTotal());
+        assertEquals(2008, stats.getTotalTime().millis());
+        assertArrayEquals(new long[] { 1, 0, 2, 0, 0, 0, 0, 0, 0, 0, 1 }, stats.getGroupSizes());
+        assertArrayEquals(new long[] { 1, 0, 2, 0, 0, 0, 0, 0, 0, 0, 1 }, stats.getLatencies());
+    }
+
+    public void testSerialization() throws IOException {
+        TranslogSyncStats stats = randomStats();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            stats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                TranslogSyncStats copy = new TranslogSyncStats(in);
+                assertEquals(stats.getTotal(), copy.getTotal());
+                assertEquals(stats.getTotalTime(), copy.getTotalTime());
+                assertArrayEquals(stats.getGroupSizes(), copy.getGroupSizes());
+                assertArrayEquals(stats.getLatencies(), copy.getLatencies());
+            }
+        }
+    }
+
+    public void testAdd() {
+        TranslogSyncStats stats = randomStats();
+        TranslogSyncStats other = randomStats();
+        long total = stats.getTotal();
+        long totalTimeInMillis = stats.getTotalTime().millis();
+        long[] groupSizes = stats.getGroupSizes();
+        long[] latencies = stats.getLatencies();
+
+        stats.add(other);
+        assertEquals(total + other.getTotal(), stats.getTotal());
+        assertEquals(totalTimeInMillis + other.getTotalTime().millis(), stats.getTotalTime().millis());
+        for (int i = 0; i < groupSizes.length; i++) {
+            assertEquals(groupSizes[i] + other.getGroupSizes()[i], stats.getGroupSizes()[i]);
+        }
+        for (int i = 0; i < latencies.length; i++) {
+            assertEquals(latencies[i] + other.getLatencies()[i], stats.getLatencies()[i]);
+        }
+        stats.add(null);
+    }
+
+    public void testInvalidBuckets() {
+        expectThrows(IllegalArgumentException.class, () -> new TranslogSyncStats(0, 0, new long[1], new long[11]));
+        expectThrows(IllegalArgumentException.class, () -> new TranslogSyncStats(0, 0, new long[11], new long[1]));
+    }
+
+    private static TranslogSyncStats randomStats() {
+        TranslogSyncTracker tracker = new TranslogSyncTracker();
+        int numSyncs = randomIntBetween(0, 100);
+        for (int i = 0; i < numSyncs; i++) {
+            tracker.onSync(randomIntBetween(1, 1024), randomLongBetween(0, TimeUnit.SECONDS.toNanos(2)));
+        }
+        return tracker.stats();
+    }
+}
@@ -36,6 +36,7 @@ import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
@@ -80,6 +81,12 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         // Shards that are currently throttled
         final Set<IndexShard> throttled = new HashSet<>();
 
+        // How long writing each shard's indexing buffer takes
+        final Map<IndexShard, Long> refreshNanos = new HashMap<>();
+
+        // The current time, which only moves when advanced by tests
+        long nowNanos;
+
         MockController(Settings settings) {
             super(
                 Settings.builder()
@@ -119,11 +126,17 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         @Override
         protected void checkIdle(IndexShard shard, long inactiveTimeNS) {}
 
+        @Override
+        protected long relativeTimeInNanos() {
+            return nowNanos;
+        }
+
         @Override
         public void writeIndexingBufferAsync(IndexShard shard) {
             long bytes = indexBufferRAMBytesUsed.put(shard, 0L);
             writingBytes.put(shard, writingBytes.get(shard) + bytes);
             indexBufferRAMBytesUsed.put(shard, 0L);
+            indexingBufferWritten(shard, bytes, refreshNanos.getOrDefault(shard, 0L));
         }
 
         @Override
@@ -364,6 +377,92 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         closeShards(shard0, shard1);
     }
 
+    public void testAdaptiveBufferSharing() throws Exception {
+        MockController controller = new MockController(
+            Settings.builder()
+                .put("indices.memory.index_buffer_size", "20mb")
+                .put("indices.memory.adaptive.enabled", true)
+                .put("indices.memory.adaptive.flush_threshold", 0.5)
+                .build()
+        );
+        IndexShard cold = newStartedShard();
+        IndexShard hot = newStartedShard();
+        controller.simulateIndexing(cold);
+        for (int i = 0; i < 9; i++) {
+            controller.simulateIndexing(hot);
+        }
+
+        // We are using 10 MB, which is the flush threshold, so nothing is written yet:
+        controller.assertBuffer(cold, 1);
+        controller.assertBuffer(hot, 9);
+        controller.assertWriting(hot, 0);
+
+        // Going over the flush threshold writes the hot shard, well before the 20 MB budget is exhausted:
+        controller.simulateIndexing(hot);
+        controller.assertWriting(hot, 10);
+        controller.assertBuffer(hot, 0);
+        controller.assertWriting(cold, 0);
+        controller.assertBuffer(cold, 1);
+
+        for (int i = 0; i < 10; i++) {
+            controller.simulateIndexing(hot);
+        }
+        controller.assertWriting(hot, 20);
+        controller.assertNotThrottled(hot);
+
+        // Segment writing can't keep up, but only the hot shard is over its share and throttled:
+        for (int i = 0; i < 10; i++) {
+            controller.simulateIndexing(hot);
+        }
+        controller.assertWriting(hot, 30);
+        controller.assertThrottled(hot);
+        controller.assertNotThrottled(cold);
+        controller.assertBuffer(cold, 1);
+
+        controller.doneWriting(hot);
+        controller.forceCheck();
+        controller.assertNotThrottled(hot);
+        closeShards(cold, hot);
+    }
+
+    public void testAdaptiveRefreshCostSampling() throws Exception {
+        MockController controller = new MockController(
+            Settings.builder()
+                .put("indices.memory.index_buffer_size", "20mb")
+                .put("indices.memory.adaptive.enabled", true)
+                .put("indices.memory.adaptive.flush_threshold", 0.5)
+                .build()
+        );
+        IndexShard shard = newStartedShard();
+        // Writing the indexing buffer to disk takes a second per megabyte, as long as it takes to index a megabyte:
+        controller.refreshNanos.put(shard, TimeValue.timeValueSeconds(11).nanos());
+        for (int i = 0; i < 10; i++) {
+            simulateIndexingForOneSecond(controller, shard);
+        }
+
+        // Without a sampled refresh cost, the shard is only written once it goes over the flush threshold:
+        controller.assertWriting(shard, 0);
+        simulateIndexingForOneSecond(controller, shard);
+        controller.assertWriting(shard, 11);
+        controller.assertBuffer(shard, 0);
+
+        // The sampled refresh cost projects that the buffer doubles while it is written, so it is written at half the threshold:
+        for (int i = 0; i < 5; i++) {
+            simulateIndexingForOneSecond(controller, shard);
+        }
+        controller.assertWriting(shard, 11);
+        controller.assertBuffer(shard, 5);
+        simulateIndexingForOneSecond(controller, shard);
+        controller.assertWriting(shard, 17);
+        controller.assertBuffer(shard, 0);
+        closeShards(shard);
+    }
+
+    private static void simulateIndexingForOneSecond(MockController controller, IndexShard shard) {
+        controller.nowNanos += TimeValue.timeValueSeconds(1).nanos();
+        controller.simulateIndexing(shard);
+    }
+
     public void testTranslogRecoveryWorksWithIMC() throws IOException {
         IndexShard shard = newStartedShard(true);
         for (int i = 0; i < 100; i++) {
@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.cache.module.CacheModule;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+public class IndicesFilterCacheTests extends OpenSearchTestCase {
+
+    private static QueryCachingPolicy neverCachePolicy() {
+        return new QueryCachingPolicy() {
+            @Override
+            public void onUse(Query query) {
+
+            }
+
+            @Override
+            public boolean shouldCache(Query query) {
+                return false;
+            }
+        };
+    }
+
+    private static IndicesFilterCache newFilterCache() {
+        return new IndicesFilterCache(Settings.EMPTY, new CacheModule(new ArrayList<>(), Settings.EMPTY).getCacheService());
+    }
+
+    public void testNormalize() {
+        Query pointQuery = LongPoint.newRangeQuery("field", 10, 20);
+        Query dvQuery = SortedNumericDocValuesField.newSlowRangeQuery("field", 10, 20);
+        assertSame(pointQuery, IndicesFilterCache.normalize(pointQuery));
+        assertSame(pointQuery, IndicesFilterCache.normalize(new IndexOrDocValuesQuery(pointQuery, dvQuery)));
+        assertNull(IndicesFilterCache.normalize(dvQuery));
+        assertNull(IndicesFilterCache.normalize(new TermQuery(new Term("field", "value"))));
+        assertNull(IndicesFilterCache.normalize(new IndexOrDocValuesQuery(new TermQuery(new Term("field", "value")), dvQuery)));
+    }
+
+    public void testFilterClausesAreSharedAcrossRequests() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        for (int i = 0; i < 100; i++) {
+            Document doc = new Document();
+            doc.add(new LongPoint("timestamp", i));
+            doc.add(new SortedNumericDocValuesField("timestamp", i));
+            doc.add(new StringField("color", i % 2 == 0 ? "red" : "blue", Field.Store.NO));
+            w.addDocument(doc);
+        }
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        // the filter cache does not depend on the caching policy
+        s.setQueryCachingPolicy(neverCachePolicy());
+
+        IndicesFilterCache filterCache = newFilterCache();
+        IndicesQueryCache cache = new IndicesQueryCache(Settings.EMPTY, filterCache);
+        s.setQueryCache(cache);
+
+        Query range = new IndexOrDocValuesQuery(
+            LongPoint.newRangeQuery("timestamp", 10, 29),
+            SortedNumericDocValuesField.newSlowRangeQuery("timestamp", 10, 29)
+        );
+        assertEquals(20, s.search(new ConstantScoreQuery(range), 100).totalHits.value);
+        final long cachedSegments = filterCache.count();
+        assertEquals(r.leaves().size(), cachedSegments);
+
+        // a different request sharing the same range clause reuses the cached entries
+        Query bool = new BooleanQuery.Builder().add(LongPoint.newRangeQuery("timestamp", 10, 29), BooleanClause.Occur.FILTER)
+            .add(new TermQuery(new Term("color", "red")), BooleanClause.Occur.FILTER)
+            .build();
+        assertEquals(10, s.search(new ConstantScoreQuery(bool), 100).totalHits.value);
+        assertEquals(cachedSegments, filterCache.count());
+
+        // a new range adds new entries
+        assertEquals(5, s.search(new ConstantScoreQuery(LongPoint.newRangeQuery("timestamp", 0, 4)), 100).totalHits.value);
+        assertEquals(2 * cachedSegments, filterCache.count());
+
+        cache.clearIndex("index");
+        assertEquals(0, filterCache.count());
+
+        assertEquals(20, s.search(new ConstantScoreQuery(range), 100).totalHits.value);
+        assertEquals(cachedSegments, filterCache.count());
+
+        // closing the reader invalidates the entries of its segments
+        IOUtils.close(r, dir);
+        assertEquals(0, filterCache.count());
+
+        cache.onClose(shard);
+        cache.close();
+        filterCache.close();
+    }
+
+    public void testOnClose() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        Document doc = new Document();
+        doc.add(new LongPoint("timestamp", 1));
+        w.addDocument(doc);
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        s.setQueryCachingPolicy(neverCachePolicy());
+
+        IndicesFilterCache filterCache = newFilterCache();
+        IndicesQueryCache cache = new IndicesQueryCache(Settings.EMPTY, filterCache);
+        s.setQueryCache(cache);
+
+        assertEquals(1, s.search(new ConstantScoreQuery(LongPoint.newRangeQuery("timestamp", 0, 10)), 10).totalHits.value);
+        assertEquals(1, filterCache.count());
+
+        filterCache.onClose(shard);
+        assertEquals(0, filterCache.count());
+
+        IOUtils.close(r, dir);
+        cache.onClose(shard);
+        cache.close();
+        filterCache.close();
+    }
+}
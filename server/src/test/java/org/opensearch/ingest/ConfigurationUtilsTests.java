@@ -269,6 +269,17 @@ public class ConfigurationUtilsTests extends OpenSearchTestCase {
         verify(scriptService, times(0)).compile(any(), any());
     }
 
+    public void testConstantTemplateValue() {
+        ScriptService scriptService = mock(ScriptService.class);
+        when(scriptService.isLangSupported(anyString())).thenReturn(true);
+        when(scriptService.compile(any(), any())).thenReturn(new TestTemplateService.MockTemplateScript.Factory("compiled"));
+        String propertyValue = randomAlphaOfLength(10);
+        TemplateScript.Factory constant = ConfigurationUtils.compileTemplate("type", "tag", "field", propertyValue, scriptService);
+        assertThat(ConfigurationUtils.constantTemplateValue(constant), equalTo(propertyValue));
+        TemplateScript.Factory template = ConfigurationUtils.compileTemplate("type", "tag", "field", "{{field}}", scriptService);
+        assertNull(ConfigurationUtils.constantTemplateValue(template));
+    }
+
     public void testScriptShouldCompile() {
         ScriptService scriptService = mock(ScriptService.class);
         when(scriptService.isLangSupported(anyString())).thenReturn(true);
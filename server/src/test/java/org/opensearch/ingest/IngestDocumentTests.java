@@ -270,6 +270,30 @@ public class IngestDocumentTests extends OpenSearchTestCase {
         assertTrue(ingestDocument.hasField("_source._ingest.timestamp"));
     }
 
+    public void testFieldPath() {
+        IngestDocument.FieldPath fizzBuzz = new IngestDocument.FieldPath("fizz.buzz");
+        IngestDocument.FieldPath timestamp = new IngestDocument.FieldPath("_ingest.timestamp");
+        IngestDocument.FieldPath newField = new IngestDocument.FieldPath("_source.fizz.new_field");
+        IngestDocument copy = new IngestDocument(ingestDocument);
+        for (IngestDocument document : Arrays.asList(ingestDocument, copy)) {
+            assertTrue(document.hasField(fizzBuzz, false));
+            assertThat(document.getFieldValue(fizzBuzz, String.class), equalTo("hello world"));
+            assertThat(document.getFieldValue(timestamp, ZonedDateTime.class), equalTo(BOGUS_TIMESTAMP));
+            assertNull(document.getFieldValue(newField, String.class, true));
+            document.setFieldValue(newField, "value");
+            assertThat(document.getFieldValue("fizz.new_field", String.class), equalTo("value"));
+            document.removeField(fizzBuzz);
+            assertFalse(document.hasField(fizzBuzz, false));
+        }
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> ingestDocument.getFieldValue(fizzBuzz, String.class)
+        );
+        assertThat(e.getMessage(), equalTo("field [buzz] not present as part of path [fizz.buzz]"));
+        e = expectThrows(IllegalArgumentException.class, () -> new IngestDocument.FieldPath("_source."));
+        assertThat(e.getMessage(), equalTo("path [_source.] is not valid"));
+    }
+
     public void testListHasField() {
         assertTrue(ingestDocument.hasField("list.0.field"));
     }
@@ -52,9 +52,11 @@ public class IngestStatsTests extends OpenSearchTestCase {
         OperationStats totalStats = new OperationStats(50, 100, 200, 300);
         List<IngestStats.PipelineStat> pipelineStats = createPipelineStats();
         Map<String, List<IngestStats.ProcessorStat>> processorStats = createProcessorStats(pipelineStats);
-        IngestStats ingestStats = new IngestStats(totalStats, pipelineStats, processorStats);
+        Map<String, IngestStats.CacheStat> cacheStats = Collections.singletonMap("geoip", new IngestStats.CacheStat(90, 10, 5, 20));
+        IngestStats ingestStats = new IngestStats(totalStats, pipelineStats, processorStats, cacheStats);
         IngestStats serializedStats = serialize(ingestStats);
         assertIngestStats(ingestStats, serializedStats, true, true);
+        assertEquals(cacheStats, serializedStats.getCacheStats());
     }
 
     private List<IngestStats.PipelineStat> createPipelineStats() {
@@ -56,6 +56,7 @@ import org.opensearch.env.NodeEnvironment;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.engine.Engine.Searcher;
 import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.breaker.BreakerSettings;
 import org.opensearch.monitor.fs.FsInfo;
@@ -421,6 +422,25 @@ public class NodeTests extends OpenSearchTestCase {
             FsInfo.Path cachePathInfo = fsInfo.iterator().next();
             assertEquals(cachePathInfo.getFileCacheReserved().getBytes(), fileCacheNodePath.fileCacheReservedSize.getBytes());
         }
+
+        // Test the LRU eviction policy can still be selected
+        Settings lruSettings = Settings.builder()
+            .put(searchRoleSettingsWithConfig)
+            .put(Node.NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING.getKey(), "lru")
+            .build();
+        assertEquals(SegmentedCache.EvictionPolicy.LRU, Node.NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING.get(lruSettings));
+        try (MockNode mockNode = new MockNode(lruSettings, plugins)) {
+            NodeEnvironment.NodePath fileCacheNodePath = mockNode.getNodeEnvironment().fileCacheNodePath();
+            assertEquals(cacheSize.getBytes(), fileCacheNodePath.fileCacheReservedSize.getBytes());
+        }
+        assertEquals(SegmentedCache.EvictionPolicy.CLOCK, Node.NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING.get(Settings.EMPTY));
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> Node.NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING.get(
+                Settings.builder().put(Node.NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING.getKey(), "fifo").build()
+            )
+        );
+        assertEquals("node.search.cache.eviction_policy must be one of [lru, clock] but was: fifo", e.getMessage());
     }
 
     public void testTelemetryAwarePlugins() throws IOException {
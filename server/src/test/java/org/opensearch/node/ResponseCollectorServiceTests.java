@@ -41,6 +41,8 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.test.ClusterServiceUtils;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.TestThreadPool;
@@ -49,6 +51,7 @@ import org.junit.After;
 import org.junit.Before;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.Matchers.equalTo;
@@ -87,6 +90,35 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
         assertThat(nodeStats.get("node1").serviceTime, equalTo(10.0));
     }
 
+    public void testShardCopyResponseTimePercentile() {
+        ShardId shardId = new ShardId(new Index("index", "index-uuid"), 0);
+        assertThat(collector.getShardCopyResponseTimePercentile(shardId, "node1", 95), equalTo(-1L));
+        for (int i = 1; i < ResponseCollectorService.MIN_SHARD_COPY_RESPONSE_TIME_SAMPLES; i++) {
+            collector.addShardCopyResponseTime(shardId, "node1", i);
+        }
+        // too few samples
+        assertThat(collector.getShardCopyResponseTimePercentile(shardId, "node1", 95), equalTo(-1L));
+
+        for (int i = ResponseCollectorService.MIN_SHARD_COPY_RESPONSE_TIME_SAMPLES; i <= 100; i++) {
+            collector.addShardCopyResponseTime(shardId, "node1", i);
+        }
+        // only the most recent samples are kept
+        int oldest = 100 - ResponseCollectorService.SHARD_COPY_RESPONSE_TIME_SAMPLES + 1;
+        assertThat(collector.getShardCopyResponseTimePercentile(shardId, "node1", 0), equalTo((long) oldest));
+        assertThat(collector.getShardCopyResponseTimePercentile(shardId, "node1", 50), equalTo((long) oldest + 15));
+        assertThat(collector.getShardCopyResponseTimePercentile(shardId, "node1", 100), equalTo(100L));
+        assertThat(collector.getShardCopyResponseTimePercentile(shardId, "node2", 95), equalTo(-1L));
+        assertThat(collector.getShardCopyResponseTimePercentile(new ShardId(shardId.getIndex(), 1), "node1", 95), equalTo(-1L));
+
+        collector.removeIndices(Set.of(shardId.getIndex()));
+        assertThat(collector.getShardCopyResponseTimePercentile(shardId, "node1", 95), equalTo(-1L));
+        for (int i = 0; i < ResponseCollectorService.MIN_SHARD_COPY_RESPONSE_TIME_SAMPLES; i++) {
+            collector.addShardCopyResponseTime(shardId, "node1", i);
+        }
+        collector.removeNode("node1");
+        assertThat(collector.getShardCopyResponseTimePercentile(shardId, "node1", 95), equalTo(-1L));
+    }
+
     /*
      * Test that concurrently adding values and removing nodes does not cause exceptions
      */
@@ -8,6 +8,7 @@
 
 package org.opensearch.search;
 
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.admin.indices.create.CreateIndexRequestBuilder;
 import org.opensearch.action.search.SearchRequest;
@@ -18,11 +19,15 @@ import org.opensearch.core.common.Strings;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 import org.opensearch.index.codec.composite912.datacube.startree.StarTreeDocValuesFormatTests;
+import org.opensearch.index.codec.composite912.datacube.startree.StarTreeKeywordDocValuesFormatTests;
 import org.opensearch.index.compositeindex.CompositeIndexSettings;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeIndexSettings;
 import org.opensearch.index.mapper.CompositeMappedFieldType;
+import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
+import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.search.aggregations.AggregationBuilders;
@@ -31,11 +36,14 @@ import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.ReaderContext;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.startree.DimensionFilter;
 import org.opensearch.search.startree.StarTreeQueryContext;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -89,7 +97,7 @@ public class SearchServiceStarTreeTests extends OpenSearchSingleNodeTestCase {
             "startree",
             CompositeMappedFieldType.CompositeFieldType.STAR_TREE
         );
-        Map<String, Long> expectedQueryMap = null;
+        Map<String, DimensionFilter> expectedQueryMap = null;
         assertStarTreeContext(request, sourceBuilder, new StarTreeQueryContext(expectedStarTree, expectedQueryMap, -1), -1);
 
         // Case 4: MatchAllQuery and aggregations present, but postFilter specified, should not use star tree
@@ -103,7 +111,7 @@ public class SearchServiceStarTreeTests extends OpenSearchSingleNodeTestCase {
         sourceBuilder = new SearchSourceBuilder().size(0)
             .query(new TermQueryBuilder("sndv", 1))
             .aggregation(AggregationBuilders.max("test").field("field"));
-        expectedQueryMap = Map.of("sndv", 1L);
+        expectedQueryMap = Map.of("sndv", DimensionFilter.exactMatch(1));
         assertStarTreeContext(request, sourceBuilder, new StarTreeQueryContext(expectedStarTree, expectedQueryMap, -1), -1);
 
         // Case 6: TermQuery and multiple aggregations present, should use star tree & initialize cache
@@ -111,13 +119,137 @@ public class SearchServiceStarTreeTests extends OpenSearchSingleNodeTestCase {
             .query(new TermQueryBuilder("sndv", 1))
             .aggregation(AggregationBuilders.max("test").field("field"))
             .aggregation(AggregationBuilders.sum("test2").field("field"));
-        expectedQueryMap = Map.of("sndv", 1L);
+        expectedQueryMap = Map.of("sndv", DimensionFilter.exactMatch(1));
         assertStarTreeContext(request, sourceBuilder, new StarTreeQueryContext(expectedStarTree, expectedQueryMap, 0), 0);
 
         // Case 7: No query, metric aggregations present, should use star tree
         sourceBuilder = new SearchSourceBuilder().size(0).aggregation(AggregationBuilders.max("test").field("field"));
         assertStarTreeContext(request, sourceBuilder, new StarTreeQueryContext(expectedStarTree, null, -1), -1);
 
+        // Case 8: Terms aggregation on a dimension with metric sub-aggregations, should use star tree and group by the dimension
+        sourceBuilder = new SearchSourceBuilder().size(0)
+            .query(new TermQueryBuilder("dv", 1))
+            .aggregation(
+                AggregationBuilders.terms("terms")
+                    .field("sndv")
+                    .subAggregation(AggregationBuilders.max("max").field("field"))
+                    .subAggregation(AggregationBuilders.avg("avg").field("field"))
+            );
+        expectedQueryMap = Map.of("dv", DimensionFilter.exactMatch(1));
+        assertStarTreeContext(request, sourceBuilder, new StarTreeQueryContext(expectedStarTree, expectedQueryMap, Set.of("sndv"), -1), -1);
+
+        // Case 9: Terms aggregation on a field that is not a dimension, should not use star tree
+        sourceBuilder = new SearchSourceBuilder().size(0)
+            .aggregation(AggregationBuilders.terms("terms").field("field").subAggregation(AggregationBuilders.max("max").field("field")));
+        assertStarTreeContext(request, sourceBuilder, null, -1);
+
+        // Case 10: Terms aggregation with a sub-aggregation that is not a metric, should not use star tree
+        sourceBuilder = new SearchSourceBuilder().size(0)
+            .aggregation(AggregationBuilders.terms("terms").field("sndv").subAggregation(AggregationBuilders.terms("sub").field("dv")));
+        assertStarTreeContext(request, sourceBuilder, null, -1);
+
+        // Case 11: Range and terms queries in a bool conjunction, should use star tree
+        sourceBuilder = new SearchSourceBuilder().size(0)
+            .query(
+                new BoolQueryBuilder().filter(new RangeQueryBuilder("sndv").gte(1).lt(10))
+                    .filter(new RangeQueryBuilder("sndv").gt(2))
+                    .must(new TermsQueryBuilder("dv", 3, 1, 3))
+            )
+            .aggregation(AggregationBuilders.max("test").field("field"));
+        expectedQueryMap = Map.of("sndv", DimensionFilter.range(3, 9), "dv", DimensionFilter.exactMatch(List.of(1L, 3L)));
+        assertStarTreeContext(request, sourceBuilder, new StarTreeQueryContext(expectedStarTree, expectedQueryMap, -1), -1);
+
+        // Case 12: Disjunction, should not use star tree
+        sourceBuilder = new SearchSourceBuilder().size(0)
+            .query(new BoolQueryBuilder().should(new TermQueryBuilder("sndv", 1)).should(new TermQueryBuilder("dv", 1)))
+            .aggregation(AggregationBuilders.max("test").field("field"));
+        assertStarTreeContext(request, sourceBuilder, null, -1);
+
+        // Case 13: Range query on a field that is not a dimension, should not use star tree
+        sourceBuilder = new SearchSourceBuilder().size(0)
+            .query(new RangeQueryBuilder("field").gte(1))
+            .aggregation(AggregationBuilders.max("test").field("field"));
+        assertStarTreeContext(request, sourceBuilder, null, -1);
+
+        setStarTreeIndexSetting(null);
+    }
+
+    public void testParseKeywordDimensionQueryToStarTreeQuery() throws IOException {
+        FeatureFlags.initializeFeatureFlags(Settings.builder().put(FeatureFlags.STAR_TREE_INDEX, true).build());
+        setStarTreeIndexSetting("true");
+
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
+            .put(StarTreeIndexSettings.IS_COMPOSITE_INDEX_SETTING.getKey(), true)
+            .build();
+        CreateIndexRequestBuilder builder = client().admin()
+            .indices()
+            .prepareCreate("test")
+            .setSettings(settings)
+            .setMapping(StarTreeKeywordDocValuesFormatTests.getKeywordMapping());
+        createIndex("test", builder);
+
+        IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        IndexService indexService = indicesService.indexServiceSafe(resolveIndex("test"));
+        IndexShard indexShard = indexService.getShard(0);
+        ShardSearchRequest request = new ShardSearchRequest(
+            OriginalIndices.NONE,
+            new SearchRequest().allowPartialSearchResults(true),
+            indexShard.shardId(),
+            1,
+            new AliasFilter(null, Strings.EMPTY_ARRAY),
+            1.0f,
+            -1,
+            null,
+            null
+        );
+        CompositeIndexFieldInfo expectedStarTree = new CompositeIndexFieldInfo(
+            "startree",
+            CompositeMappedFieldType.CompositeFieldType.STAR_TREE
+        );
+
+        // Case 1: TermQuery on a keyword dimension, should use star tree with the term to resolve per segment
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().size(0)
+            .query(new TermQueryBuilder("keyword_dv", "a"))
+            .aggregation(AggregationBuilders.sum("test").field("field"));
+        Map<String, DimensionFilter> expectedQueryMap = Map.of("keyword_dv", DimensionFilter.termMatch(List.of(new BytesRef("a"))));
+        assertStarTreeContext(request, sourceBuilder, new StarTreeQueryContext(expectedStarTree, expectedQueryMap, -1), -1);
+
+        // Case 2: TermsQueries in a conjunction on the same keyword dimension, should intersect the terms
+        sourceBuilder = new SearchSourceBuilder().size(0)
+            .query(
+                new BoolQueryBuilder().filter(new TermsQueryBuilder("keyword_dv", "b", "a", "c"))
+                    .filter(new TermsQueryBuilder("keyword_dv", "b", "c", "d"))
+            )
+            .aggregation(AggregationBuilders.sum("test").field("field"));
+        expectedQueryMap = Map.of("keyword_dv", DimensionFilter.termMatch(List.of(new BytesRef("b"), new BytesRef("c"))));
+        assertStarTreeContext(request, sourceBuilder, new StarTreeQueryContext(expectedStarTree, expectedQueryMap, -1), -1);
+
+        // Case 3: Case-insensitive TermQuery on a keyword dimension, should not use star tree
+        sourceBuilder = new SearchSourceBuilder().size(0)
+            .query(new TermQueryBuilder("keyword_dv", "a").caseInsensitive(true))
+            .aggregation(AggregationBuilders.sum("test").field("field"));
+        assertStarTreeContext(request, sourceBuilder, null, -1);
+
+        // Case 4: RangeQuery on a keyword dimension, should not use star tree
+        sourceBuilder = new SearchSourceBuilder().size(0)
+            .query(new RangeQueryBuilder("keyword_dv").gte("a"))
+            .aggregation(AggregationBuilders.sum("test").field("field"));
+        assertStarTreeContext(request, sourceBuilder, null, -1);
+
+        // Case 5: Terms aggregation on a keyword dimension, should use star tree
+        sourceBuilder = new SearchSourceBuilder().size(0)
+            .aggregation(
+                AggregationBuilders.terms("terms").field("keyword_dv").subAggregation(AggregationBuilders.sum("sum").field("field"))
+            );
+        assertStarTreeContext(request, sourceBuilder, new StarTreeQueryContext(expectedStarTree, null, Set.of("keyword_dv"), -1), -1);
+
+        // Case 6: Terms aggregation on a keyword dimension not collected by global ordinals, should not use star tree
+        sourceBuilder = new SearchSourceBuilder().size(0)
+            .aggregation(AggregationBuilders.terms("terms").field("keyword_dv").executionHint("map"));
+        assertStarTreeContext(request, sourceBuilder, null, -1);
+
         setStarTreeIndexSetting(null);
     }
 
@@ -148,6 +280,7 @@ public class SearchServiceStarTreeTests extends OpenSearchSingleNodeTestCase {
                 assertEquals(expectedContext.getStarTree().getType(), actualContext.getStarTree().getType());
                 assertEquals(expectedContext.getStarTree().getField(), actualContext.getStarTree().getField());
                 assertEquals(expectedContext.getQueryMap(), actualContext.getQueryMap());
+                assertEquals(expectedContext.getGroupByDimensions(), actualContext.getGroupByDimensions());
                 if (expectedCacheUsage > -1) {
                     assertEquals(expectedCacheUsage, actualContext.getStarTreeValues().length);
                 } else {
@@ -35,6 +35,7 @@ package org.opensearch.search.aggregations.bucket.terms;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.ParsedMultiBucketAggregation;
 
@@ -180,6 +181,39 @@ public class StringTermsTests extends InternalTermsTestCase {
         }
     }
 
+    public void testPartialReduceByKeyStopsAtRequiredSize() {
+        TermsAggregator.BucketCountThresholds bucketCountThresholds = new TermsAggregator.BucketCountThresholds(0, 0, 2, 3);
+        List<InternalAggregation> shardResults = new ArrayList<>();
+        int numShards = randomIntBetween(2, 10);
+        for (int i = 0; i < numShards; i++) {
+            List<StringTerms.Bucket> buckets = new ArrayList<>();
+            for (String term : new String[] { "a", "b", "c" }) {
+                buckets.add(new StringTerms.Bucket(new BytesRef(term), 1, InternalAggregations.EMPTY, false, 0, DocValueFormat.RAW));
+            }
+            shardResults.add(
+                new StringTerms(
+                    "terms",
+                    BucketOrder.key(true),
+                    BucketOrder.key(true),
+                    null,
+                    DocValueFormat.RAW,
+                    3,
+                    false,
+                    0,
+                    buckets,
+                    0,
+                    bucketCountThresholds
+                )
+            );
+        }
+        StringTerms reduced = (StringTerms) shardResults.get(0).reduce(shardResults, emptyReduceContextBuilder().forPartialReduction());
+        assertEquals(2, reduced.getBuckets().size());
+        assertEquals("a", reduced.getBuckets().get(0).getKeyAsString());
+        assertEquals(numShards, reduced.getBuckets().get(0).getDocCount());
+        assertEquals("b", reduced.getBuckets().get(1).getKeyAsString());
+        assertEquals(numShards, reduced.getBuckets().get(1).getDocCount());
+    }
+
     private BytesRef[] generateRandomDict() {
         Set<BytesRef> terms = new HashSet<>();
         int numTerms = randomIntBetween(2, 100);
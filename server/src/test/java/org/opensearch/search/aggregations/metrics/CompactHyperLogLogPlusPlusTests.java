@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.opensearch.search.aggregations.metrics.AbstractHyperLogLog.MIN_PRECISION;
+
+public class CompactHyperLogLogPlusPlusTests extends OpenSearchTestCase {
+
+    public void testSameCardinalityAsHyperLogLogPlusPlus() {
+        final int p = randomIntBetween(MIN_PRECISION, 16);
+        final CompactHyperLogLogPlusPlus compact = new CompactHyperLogLogPlusPlus(p);
+        try (HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            final int numValues = randomIntBetween(1, 100000);
+            final int maxValue = randomIntBetween(1, randomBoolean() ? 1000 : 1000000);
+            for (int i = 0; i < numValues; ++i) {
+                final long hash = BitMixer.mix64(randomInt(maxValue));
+                compact.collect(0, hash);
+                counts.collect(0, hash);
+                if (randomInt(100) == 0) {
+                    assertEquals(counts.cardinality(0), compact.cardinality(0));
+                }
+            }
+            assertEquals(counts.getAlgorithm(0), compact.getAlgorithm(0));
+            assertEquals(counts.cardinality(0), compact.cardinality(0));
+        }
+    }
+
+    public void testSerialization() throws IOException {
+        final int p = randomIntBetween(MIN_PRECISION, 16);
+        final CompactHyperLogLogPlusPlus compact = new CompactHyperLogLogPlusPlus(p);
+        final int numValues = randomIntBetween(0, randomBoolean() ? 100 : 100000);
+        for (int i = 0; i < numValues; ++i) {
+            compact.collect(0, BitMixer.mix64(randomLong()));
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            compact.writeTo(0, out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                final CompactHyperLogLogPlusPlus deserialized = CompactHyperLogLogPlusPlus.readFrom(in);
+                assertEquals(p, deserialized.precision());
+                assertEquals(compact.getAlgorithm(0), deserialized.getAlgorithm(0));
+                assertEquals(compact.cardinality(0), deserialized.cardinality(0));
+            }
+            // the serialized form is compatible with the big arrays based counter
+            try (
+                StreamInput in = out.bytes().streamInput();
+                AbstractHyperLogLogPlusPlus deserialized = AbstractHyperLogLogPlusPlus.readFrom(in, BigArrays.NON_RECYCLING_INSTANCE)
+            ) {
+                assertEquals(compact.cardinality(0), deserialized.cardinality(0));
+            }
+        }
+    }
+
+    public void testMerge() {
+        final int p = randomIntBetween(MIN_PRECISION, 16);
+        try (
+            HyperLogLogPlusPlus single = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 1);
+            HyperLogLogPlusPlus merged = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 1)
+        ) {
+            final CompactHyperLogLogPlusPlus[] multi = new CompactHyperLogLogPlusPlus[randomIntBetween(2, 20)];
+            for (int i = 0; i < multi.length; ++i) {
+                multi[i] = new CompactHyperLogLogPlusPlus(p);
+            }
+            final int numValues = randomIntBetween(1, 100000);
+            final int maxValue = randomIntBetween(1, randomBoolean() ? 1000 : 1000000);
+            for (int i = 0; i < numValues; ++i) {
+                final long hash = BitMixer.mix64(randomInt(maxValue));
+                single.collect(0, hash);
+                multi[randomInt(multi.length - 1)].collect(0, hash);
+            }
+            final CompactHyperLogLogPlusPlus compactMerged = new CompactHyperLogLogPlusPlus(p);
+            for (CompactHyperLogLogPlusPlus counts : multi) {
+                compactMerged.merge(counts, 0);
+                merged.merge(0, counts, 0);
+            }
+            assertEquals(single.cardinality(0), merged.cardinality(0));
+            assertEquals(single.cardinality(0), compactMerged.cardinality(0));
+
+            final CompactHyperLogLogPlusPlus fromSingle = new CompactHyperLogLogPlusPlus(p);
+            fromSingle.merge(single, 0);
+            assertEquals(single.cardinality(0), fromSingle.cardinality(0));
+        }
+    }
+
+    public void testCopy() {
+        final CompactHyperLogLogPlusPlus counts = new CompactHyperLogLogPlusPlus(MIN_PRECISION);
+        counts.collect(0, BitMixer.mix64(1));
+        final CompactHyperLogLogPlusPlus copy = counts.copy();
+        copy.collect(0, BitMixer.mix64(2));
+        assertEquals(1, counts.cardinality(0));
+        assertEquals(2, copy.cardinality(0));
+    }
+
+    public void testMergeDifferentPrecisions() {
+        final CompactHyperLogLogPlusPlus counts = new CompactHyperLogLogPlusPlus(MIN_PRECISION);
+        final CompactHyperLogLogPlusPlus other = new CompactHyperLogLogPlusPlus(MIN_PRECISION + 1);
+        expectThrows(IllegalArgumentException.class, () -> counts.merge(other, 0));
+    }
+}
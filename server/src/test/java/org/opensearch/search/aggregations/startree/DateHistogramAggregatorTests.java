@@ -0,0 +1,358 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.startree;
+
+import com.carrotsearch.randomizedtesting.RandomizedTest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene912.Lucene912Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.common.Rounding;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.FeatureFlags;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.codec.composite.CompositeIndexReader;
+import org.opensearch.index.codec.composite.composite912.Composite912Codec;
+import org.opensearch.index.codec.composite912.datacube.startree.StarTreeDocValuesFormatTests;
+import org.opensearch.index.compositeindex.datacube.DateDimension;
+import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.Metric;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitAdapter;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.search.aggregations.Aggregation;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.histogram.InternalDateHistogram;
+import org.opensearch.search.aggregations.metrics.InternalAvg;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.search.aggregations.metrics.InternalMin;
+import org.opensearch.search.aggregations.metrics.InternalSum;
+import org.opensearch.search.aggregations.metrics.InternalValueCount;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.opensearch.search.aggregations.AggregationBuilders.avg;
+import static org.opensearch.search.aggregations.AggregationBuilders.count;
+import static org.opensearch.search.aggregations.AggregationBuilders.dateHistogram;
+import static org.opensearch.search.aggregations.AggregationBuilders.max;
+import static org.opensearch.search.aggregations.AggregationBuilders.min;
+import static org.opensearch.search.aggregations.AggregationBuilders.sum;
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+
+public class DateHistogramAggregatorTests extends AggregatorTestCase {
+
+    private static final String TIMESTAMP_FIELD = "@timestamp";
+    private static final String STATUS = "status";
+    private static final String SIZE = "size";
+    private static final MappedFieldType TIMESTAMP_MAPPED_FIELD = new DateFieldMapper.DateFieldType(TIMESTAMP_FIELD);
+    private static final MappedFieldType STATUS_MAPPED_FIELD = new NumberFieldMapper.NumberFieldType(
+        STATUS,
+        NumberFieldMapper.NumberType.LONG
+    );
+    private static final MappedFieldType SIZE_MAPPED_FIELD = new NumberFieldMapper.NumberFieldType(SIZE, NumberFieldMapper.NumberType.LONG);
+    // 2024-01-01T00:00:00Z
+    private static final long START_MILLIS = 1704067200000L;
+
+    @Before
+    public void setup() {
+        FeatureFlags.initializeFeatureFlags(Settings.builder().put(FeatureFlags.STAR_TREE_INDEX, true).build());
+    }
+
+    @After
+    public void teardown() throws IOException {
+        FeatureFlags.initializeFeatureFlags(Settings.EMPTY);
+    }
+
+    protected Codec getCodec() {
+        final Logger testLogger = LogManager.getLogger(DateHistogramAggregatorTests.class);
+        MapperService mapperService;
+        try {
+            mapperService = StarTreeDocValuesFormatTests.createMapperService(getDateDimensionMapping());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new Composite912Codec(Lucene912Codec.Mode.BEST_SPEED, mapperService, testLogger);
+    }
+
+    public void testStarTreeDateHistogram() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setCodec(getCodec());
+        conf.setMergePolicy(newLogMergePolicy());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+
+        Random random = RandomizedTest.getRandom();
+        int totalDocs = 100;
+        // Index 100 random documents spread over a year
+        for (int i = 0; i < totalDocs; i++) {
+            Document doc = new Document();
+            long timestamp = START_MILLIS + random.nextInt(365 * 24) * 3600_000L + random.nextInt(3600_000);
+            doc.add(new SortedNumericDocValuesField(TIMESTAMP_FIELD, timestamp));
+            doc.add(new LongPoint(TIMESTAMP_FIELD, timestamp));
+            if (random.nextBoolean()) {
+                doc.add(new SortedNumericDocValuesField(STATUS, random.nextInt(5))); // Random long between 0 and 4
+            }
+            if (random.nextBoolean()) {
+                doc.add(new SortedNumericDocValuesField(SIZE, random.nextInt(50))); // Random long between 0 and 49
+            }
+            iw.addDocument(doc);
+        }
+
+        if (randomBoolean()) {
+            iw.forceMerge(1);
+        }
+        iw.close();
+
+        DirectoryReader ir = DirectoryReader.open(directory);
+        initValuesSourceRegistry();
+        LeafReaderContext context = ir.leaves().get(0);
+
+        SegmentReader reader = Lucene.segmentReader(context.reader());
+        IndexSearcher indexSearcher = newSearcher(reader, false, false);
+        CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) reader.getDocValuesReader();
+
+        List<CompositeIndexFieldInfo> compositeIndexFields = starTreeDocValuesReader.getCompositeIndexFields();
+        CompositeIndexFieldInfo starTree = compositeIndexFields.get(0);
+
+        List<Dimension> supportedDimensions = List.of(
+            new DateDimension(
+                TIMESTAMP_FIELD,
+                List.of(
+                    new DateTimeUnitAdapter(Rounding.DateTimeUnit.DAY_OF_MONTH),
+                    new DateTimeUnitAdapter(Rounding.DateTimeUnit.MONTH_OF_YEAR)
+                ),
+                DateFieldMapper.Resolution.MILLISECONDS
+            ),
+            new NumericDimension(STATUS)
+        );
+        List<Metric> supportedMetrics = List.of(
+            new Metric(SIZE, List.of(MetricStat.SUM, MetricStat.VALUE_COUNT, MetricStat.AVG, MetricStat.MIN, MetricStat.MAX))
+        );
+
+        // weeks and days are re-rounded from the day sub-dimension, years from the month sub-dimension
+        List<DateHistogramInterval> intervals = List.of(
+            DateHistogramInterval.DAY,
+            DateHistogramInterval.WEEK,
+            DateHistogramInterval.MONTH,
+            DateHistogramInterval.YEAR
+        );
+
+        for (int cases = 0; cases < 10; cases++) {
+            DateHistogramInterval interval = randomFrom(intervals);
+            Query query;
+            QueryBuilder queryBuilder;
+            if (randomBoolean()) {
+                // match-all query
+                query = new MatchAllDocsQuery();
+                queryBuilder = null; // no predicates
+            } else {
+                long queryValue = random.nextInt(5);
+                query = SortedNumericDocValuesField.newSlowExactQuery(STATUS, queryValue);
+                queryBuilder = new TermQueryBuilder(STATUS, queryValue);
+            }
+
+            testCase(
+                indexSearcher,
+                query,
+                queryBuilder,
+                dateHistogram("by_date").field(TIMESTAMP_FIELD).calendarInterval(interval).subAggregation(sum("_name").field(SIZE)),
+                starTree,
+                supportedDimensions,
+                supportedMetrics,
+                verifyBuckets(InternalSum::getValue)
+            );
+            testCase(
+                indexSearcher,
+                query,
+                queryBuilder,
+                dateHistogram("by_date").field(TIMESTAMP_FIELD).calendarInterval(interval).subAggregation(max("_name").field(SIZE)),
+                starTree,
+                supportedDimensions,
+                supportedMetrics,
+                verifyBuckets(InternalMax::getValue)
+            );
+            testCase(
+                indexSearcher,
+                query,
+                queryBuilder,
+                dateHistogram("by_date").field(TIMESTAMP_FIELD).calendarInterval(interval).subAggregation(min("_name").field(SIZE)),
+                starTree,
+                supportedDimensions,
+                supportedMetrics,
+                verifyBuckets(InternalMin::getValue)
+            );
+            testCase(
+                indexSearcher,
+                query,
+                queryBuilder,
+                dateHistogram("by_date").field(TIMESTAMP_FIELD).calendarInterval(interval).subAggregation(count("_name").field(SIZE)),
+                starTree,
+                supportedDimensions,
+                supportedMetrics,
+                verifyBuckets(InternalValueCount::getValue)
+            );
+            testCase(
+                indexSearcher,
+                query,
+                queryBuilder,
+                dateHistogram("by_date").field(TIMESTAMP_FIELD).calendarInterval(interval).subAggregation(avg("_name").field(SIZE)),
+                starTree,
+                supportedDimensions,
+                supportedMetrics,
+                verifyBuckets(InternalAvg::getValue)
+            );
+        }
+
+        ir.close();
+        directory.close();
+    }
+
+    /**
+     * Verifies that both histograms have the same buckets, with the same doc counts and sub-aggregation values
+     */
+    <T extends Aggregation, R extends Number> BiConsumer<InternalDateHistogram, InternalDateHistogram> verifyBuckets(
+        Function<T, R> valueExtractor
+    ) {
+        return (expectedHistogram, actualHistogram) -> {
+            List<? extends MultiBucketsAggregation.Bucket> expectedBuckets = expectedHistogram.getBuckets();
+            List<? extends MultiBucketsAggregation.Bucket> actualBuckets = actualHistogram.getBuckets();
+            assertEquals(expectedBuckets.size(), actualBuckets.size());
+            for (int i = 0; i < expectedBuckets.size(); i++) {
+                MultiBucketsAggregation.Bucket expected = expectedBuckets.get(i);
+                MultiBucketsAggregation.Bucket actual = actualBuckets.get(i);
+                assertEquals(expected.getKey(), actual.getKey());
+                assertEquals(expected.getDocCount(), actual.getDocCount());
+                T expectedMetric = expected.getAggregations().get("_name");
+                T actualMetric = actual.getAggregations().get("_name");
+                assertEquals(valueExtractor.apply(expectedMetric).doubleValue(), valueExtractor.apply(actualMetric).doubleValue(), 0.0f);
+            }
+        };
+    }
+
+    private <T extends AggregationBuilder> void testCase(
+        IndexSearcher searcher,
+        Query query,
+        QueryBuilder queryBuilder,
+        T aggBuilder,
+        CompositeIndexFieldInfo starTree,
+        List<Dimension> supportedDimensions,
+        List<Metric> supportedMetrics,
+        BiConsumer<InternalDateHistogram, InternalDateHistogram> verify
+    ) throws IOException {
+        InternalDateHistogram starTreeAggregation = searchAndReduceStarTree(
+            createIndexSettings(),
+            searcher,
+            query,
+            queryBuilder,
+            aggBuilder,
+            starTree,
+            supportedDimensions,
+            supportedMetrics,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            TIMESTAMP_MAPPED_FIELD,
+            STATUS_MAPPED_FIELD,
+            SIZE_MAPPED_FIELD
+        );
+        InternalDateHistogram expectedAggregation = searchAndReduceStarTree(
+            createIndexSettings(),
+            searcher,
+            query,
+            queryBuilder,
+            aggBuilder,
+            null,
+            null,
+            null,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            TIMESTAMP_MAPPED_FIELD,
+            STATUS_MAPPED_FIELD,
+            SIZE_MAPPED_FIELD
+        );
+        verify.accept(expectedAggregation, starTreeAggregation);
+    }
+
+    private static XContentBuilder getDateDimensionMapping() throws IOException {
+        return StarTreeDocValuesFormatTests.topMapping(b -> {
+            b.startObject("composite");
+            b.startObject("startree");
+            b.field("type", "star_tree");
+            b.startObject("config");
+            b.field("max_leaf_docs", 1);
+            b.startObject("date_dimension");
+            b.field("name", TIMESTAMP_FIELD);
+            b.startArray("calendar_intervals");
+            b.value("day");
+            b.value("month");
+            b.endArray();
+            b.endObject();
+            b.startArray("ordered_dimensions");
+            b.startObject();
+            b.field("name", STATUS);
+            b.endObject();
+            b.endArray();
+            b.startArray("metrics");
+            b.startObject();
+            b.field("name", SIZE);
+            b.startArray("stats");
+            b.value("sum");
+            b.value("value_count");
+            b.value("avg");
+            b.value("min");
+            b.value("max");
+            b.endArray();
+            b.endObject();
+            b.endArray();
+            b.endObject();
+            b.endObject();
+            b.endObject();
+            b.startObject("properties");
+            b.startObject(TIMESTAMP_FIELD);
+            b.field("type", "date");
+            b.endObject();
+            b.startObject(STATUS);
+            b.field("type", "integer");
+            b.endObject();
+            b.startObject(SIZE);
+            b.field("type", "integer");
+            b.endObject();
+            b.endObject();
+        });
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.startree;
+
+import com.carrotsearch.randomizedtesting.RandomizedTest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene912.Lucene912Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.FeatureFlags;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.codec.composite.CompositeIndexReader;
+import org.opensearch.index.codec.composite.composite912.Composite912Codec;
+import org.opensearch.index.codec.composite912.datacube.startree.StarTreeDocValuesFormatTests;
+import org.opensearch.index.codec.composite912.datacube.startree.StarTreeKeywordDocValuesFormatTests;
+import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.KeywordDimension;
+import org.opensearch.index.compositeindex.datacube.Metric;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.search.aggregations.Aggregation;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.bucket.terms.InternalTerms;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.metrics.InternalSum;
+import org.opensearch.search.aggregations.metrics.InternalValueCount;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.opensearch.search.aggregations.AggregationBuilders.count;
+import static org.opensearch.search.aggregations.AggregationBuilders.sum;
+import static org.opensearch.search.aggregations.AggregationBuilders.terms;
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+
+public class KeywordTermsAggregatorTests extends AggregatorTestCase {
+
+    private static final String FIELD_NAME = "field";
+    private static final String KEYWORD = "keyword_dv";
+    private static final String SNDV = "sndv";
+    private static final String[] TERMS = { "a", "b", "c", "d", "e" };
+    private static final NumberFieldMapper.NumberType DEFAULT_FIELD_TYPE = NumberFieldMapper.NumberType.LONG;
+    private static final MappedFieldType DEFAULT_MAPPED_FIELD = new NumberFieldMapper.NumberFieldType(FIELD_NAME, DEFAULT_FIELD_TYPE);
+    private static final MappedFieldType KEYWORD_MAPPED_FIELD = new KeywordFieldMapper.KeywordFieldType(KEYWORD);
+    private static final MappedFieldType SNDV_MAPPED_FIELD = new NumberFieldMapper.NumberFieldType(SNDV, DEFAULT_FIELD_TYPE);
+
+    @Before
+    public void setup() {
+        FeatureFlags.initializeFeatureFlags(Settings.builder().put(FeatureFlags.STAR_TREE_INDEX, true).build());
+    }
+
+    @After
+    public void teardown() throws IOException {
+        FeatureFlags.initializeFeatureFlags(Settings.EMPTY);
+    }
+
+    protected Codec getCodec() {
+        final Logger testLogger = LogManager.getLogger(KeywordTermsAggregatorTests.class);
+        MapperService mapperService;
+        try {
+            mapperService = StarTreeDocValuesFormatTests.createMapperService(StarTreeKeywordDocValuesFormatTests.getKeywordMapping());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new Composite912Codec(Lucene912Codec.Mode.BEST_SPEED, mapperService, testLogger);
+    }
+
+    public void testStarTreeKeywordTerms() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setCodec(getCodec());
+        conf.setMergePolicy(newLogMergePolicy());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+
+        Random random = RandomizedTest.getRandom();
+        int totalDocs = 100;
+        int val;
+
+        // Index 100 random documents, with at most one keyword each as the star-tree only indexes the lowest term of a document
+        for (int i = 0; i < totalDocs; i++) {
+            Document doc = new Document();
+            if (random.nextBoolean()) {
+                doc.add(new SortedSetDocValuesField(KEYWORD, new BytesRef(TERMS[random.nextInt(TERMS.length)])));
+            }
+            if (random.nextBoolean()) {
+                val = random.nextInt(10) - 5; // Random long between -5 and 4
+                doc.add(new SortedNumericDocValuesField(SNDV, val));
+            }
+            if (random.nextBoolean()) {
+                val = random.nextInt(50); // Random long between 0 and 49
+                doc.add(new SortedNumericDocValuesField(FIELD_NAME, val));
+            }
+            iw.addDocument(doc);
+        }
+
+        if (randomBoolean()) {
+            iw.forceMerge(1);
+        }
+        iw.close();
+
+        DirectoryReader ir = DirectoryReader.open(directory);
+        initValuesSourceRegistry();
+        LeafReaderContext context = ir.leaves().get(0);
+
+        SegmentReader reader = Lucene.segmentReader(context.reader());
+        IndexSearcher indexSearcher = newSearcher(reader, false, false);
+        CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) reader.getDocValuesReader();
+
+        List<CompositeIndexFieldInfo> compositeIndexFields = starTreeDocValuesReader.getCompositeIndexFields();
+        CompositeIndexFieldInfo starTree = compositeIndexFields.get(0);
+
+        List<Dimension> supportedDimensions = List.of(new KeywordDimension(KEYWORD), new NumericDimension(SNDV));
+        List<Metric> supportedMetrics = List.of(new Metric(FIELD_NAME, List.of(MetricStat.SUM, MetricStat.VALUE_COUNT)));
+
+        for (int cases = 0; cases < 20; cases++) {
+            // terms on the keyword dimension, optionally filtered on the numeric one
+            Query query;
+            QueryBuilder queryBuilder;
+            if (randomBoolean()) {
+                // match-all query
+                query = new MatchAllDocsQuery();
+                queryBuilder = null; // no predicates
+            } else {
+                long queryValue = random.nextInt(10) - 5;
+                query = SortedNumericDocValuesField.newSlowExactQuery(SNDV, queryValue);
+                queryBuilder = new TermQueryBuilder(SNDV, queryValue);
+            }
+
+            // the size covers all the terms, so that both sides return every bucket
+            testCase(
+                indexSearcher,
+                query,
+                queryBuilder,
+                terms("by_term").field(KEYWORD).size(10),
+                starTree,
+                supportedDimensions,
+                supportedMetrics,
+                verifyBuckets(null)
+            );
+            testCase(
+                indexSearcher,
+                query,
+                queryBuilder,
+                terms("by_term").field(KEYWORD).size(10).subAggregation(sum("_name").field(FIELD_NAME)),
+                starTree,
+                supportedDimensions,
+                supportedMetrics,
+                verifyBuckets(InternalSum::getValue)
+            );
+            testCase(
+                indexSearcher,
+                query,
+                queryBuilder,
+                terms("by_term").field(KEYWORD).size(10).subAggregation(count("_name").field(FIELD_NAME)),
+                starTree,
+                supportedDimensions,
+                supportedMetrics,
+                verifyBuckets(InternalValueCount::getValue)
+            );
+        }
+
+        ir.close();
+        directory.close();
+    }
+
+    /**
+     * Verifies that both terms aggregations have the same buckets, with the same doc counts and sub-aggregation values if the
+     * value extractor is given
+     */
+    <T extends Aggregation, R extends Number> BiConsumer<InternalTerms<?, ?>, InternalTerms<?, ?>> verifyBuckets(
+        Function<T, R> valueExtractor
+    ) {
+        return (expectedTerms, actualTerms) -> {
+            List<? extends Terms.Bucket> expectedBuckets = expectedTerms.getBuckets();
+            List<? extends Terms.Bucket> actualBuckets = actualTerms.getBuckets();
+            assertEquals(expectedBuckets.size(), actualBuckets.size());
+            for (int i = 0; i < expectedBuckets.size(); i++) {
+                Terms.Bucket expected = expectedBuckets.get(i);
+                Terms.Bucket actual = actualBuckets.get(i);
+                assertEquals(expected.getKeyAsString(), actual.getKeyAsString());
+                assertEquals(expected.getDocCount(), actual.getDocCount());
+                if (valueExtractor != null) {
+                    T expectedMetric = expected.getAggregations().get("_name");
+                    T actualMetric = actual.getAggregations().get("_name");
+                    assertEquals(
+                        valueExtractor.apply(expectedMetric).doubleValue(),
+                        valueExtractor.apply(actualMetric).doubleValue(),
+                        0.0f
+                    );
+                }
+            }
+        };
+    }
+
+    private <T extends AggregationBuilder> void testCase(
+        IndexSearcher searcher,
+        Query query,
+        QueryBuilder queryBuilder,
+        T aggBuilder,
+        CompositeIndexFieldInfo starTree,
+        List<Dimension> supportedDimensions,
+        List<Metric> supportedMetrics,
+        BiConsumer<InternalTerms<?, ?>, InternalTerms<?, ?>> verify
+    ) throws IOException {
+        InternalTerms<?, ?> starTreeAggregation = searchAndReduceStarTree(
+            createIndexSettings(),
+            searcher,
+            query,
+            queryBuilder,
+            aggBuilder,
+            starTree,
+            supportedDimensions,
+            supportedMetrics,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            DEFAULT_MAPPED_FIELD,
+            KEYWORD_MAPPED_FIELD,
+            SNDV_MAPPED_FIELD
+        );
+        InternalTerms<?, ?> expectedAggregation = searchAndReduceStarTree(
+            createIndexSettings(),
+            searcher,
+            query,
+            queryBuilder,
+            aggBuilder,
+            null,
+            null,
+            null,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            DEFAULT_MAPPED_FIELD,
+            KEYWORD_MAPPED_FIELD,
+            SNDV_MAPPED_FIELD
+        );
+        verify.accept(expectedAggregation, starTreeAggregation);
+    }
+}
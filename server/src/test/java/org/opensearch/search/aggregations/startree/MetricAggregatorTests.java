@@ -75,6 +75,10 @@ public class MetricAggregatorTests extends AggregatorTestCase {
     private static final String FIELD_NAME = "field";
     private static final NumberFieldMapper.NumberType DEFAULT_FIELD_TYPE = NumberFieldMapper.NumberType.LONG;
     private static final MappedFieldType DEFAULT_MAPPED_FIELD = new NumberFieldMapper.NumberFieldType(FIELD_NAME, DEFAULT_FIELD_TYPE);
+    private static final String SNDV = "sndv";
+    private static final String DV = "dv";
+    private static final MappedFieldType SNDV_MAPPED_FIELD = new NumberFieldMapper.NumberFieldType(SNDV, DEFAULT_FIELD_TYPE);
+    private static final MappedFieldType DV_MAPPED_FIELD = new NumberFieldMapper.NumberFieldType(DV, DEFAULT_FIELD_TYPE);
 
     @Before
     public void setup() {
@@ -106,8 +110,6 @@ public class MetricAggregatorTests extends AggregatorTestCase {
 
         Random random = RandomizedTest.getRandom();
         int totalDocs = 100;
-        final String SNDV = "sndv";
-        final String DV = "dv";
         int val;
 
         List<Document> docs = new ArrayList<>();
@@ -298,7 +300,9 @@ public class MetricAggregatorTests extends AggregatorTestCase {
             supportedDimensions,
             DEFAULT_MAX_BUCKETS,
             false,
-            DEFAULT_MAPPED_FIELD
+            DEFAULT_MAPPED_FIELD,
+            SNDV_MAPPED_FIELD,
+            DV_MAPPED_FIELD
         );
         V expectedAggregation = searchAndReduceStarTree(
             createIndexSettings(),
@@ -310,7 +314,9 @@ public class MetricAggregatorTests extends AggregatorTestCase {
             null,
             DEFAULT_MAX_BUCKETS,
             false,
-            DEFAULT_MAPPED_FIELD
+            DEFAULT_MAPPED_FIELD,
+            SNDV_MAPPED_FIELD,
+            DV_MAPPED_FIELD
         );
         verify.accept(expectedAggregation, starTreeAggregation);
     }
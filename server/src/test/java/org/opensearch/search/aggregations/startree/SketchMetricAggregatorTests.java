@@ -0,0 +1,391 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.startree;
+
+import com.carrotsearch.randomizedtesting.RandomizedTest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene912.Lucene912Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.FeatureFlags;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.codec.composite.CompositeIndexReader;
+import org.opensearch.index.codec.composite.composite912.Composite912Codec;
+import org.opensearch.index.codec.composite912.datacube.startree.StarTreeDocValuesFormatTests;
+import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.Metric;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
+import org.opensearch.search.aggregations.bucket.terms.InternalTerms;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.metrics.InternalCardinality;
+import org.opensearch.search.aggregations.metrics.InternalTDigestPercentiles;
+import org.opensearch.search.aggregations.metrics.Percentile;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryContext;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+import static org.opensearch.search.aggregations.AggregationBuilders.cardinality;
+import static org.opensearch.search.aggregations.AggregationBuilders.percentiles;
+import static org.opensearch.search.aggregations.AggregationBuilders.terms;
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+
+/**
+ * Compares the cardinality and percentiles aggregations computed from the sketches of the star-tree with the ones computed from
+ * the doc values of the segment.
+ */
+public class SketchMetricAggregatorTests extends AggregatorTestCase {
+
+    private static final String FIELD_NAME = "field";
+    private static final String SNDV = "sndv";
+    private static final String DV = "dv";
+    private static final NumberFieldMapper.NumberType DEFAULT_FIELD_TYPE = NumberFieldMapper.NumberType.LONG;
+    private static final MappedFieldType DEFAULT_MAPPED_FIELD = new NumberFieldMapper.NumberFieldType(FIELD_NAME, DEFAULT_FIELD_TYPE);
+    private static final MappedFieldType SNDV_MAPPED_FIELD = new NumberFieldMapper.NumberFieldType(SNDV, DEFAULT_FIELD_TYPE);
+    private static final MappedFieldType DV_MAPPED_FIELD = new NumberFieldMapper.NumberFieldType(DV, DEFAULT_FIELD_TYPE);
+
+    private static final List<Dimension> SUPPORTED_DIMENSIONS = List.of(new NumericDimension(SNDV), new NumericDimension(DV));
+    private static final List<Metric> SUPPORTED_METRICS = List.of(
+        new Metric(FIELD_NAME, List.of(MetricStat.CARDINALITY, MetricStat.PERCENTILES))
+    );
+
+    private Directory directory;
+    private DirectoryReader indexReader;
+    private IndexSearcher indexSearcher;
+    private CompositeIndexFieldInfo starTree;
+
+    @Before
+    public void setup() {
+        FeatureFlags.initializeFeatureFlags(Settings.builder().put(FeatureFlags.STAR_TREE_INDEX, true).build());
+    }
+
+    @After
+    public void teardown() throws IOException {
+        if (indexReader != null) {
+            indexReader.close();
+        }
+        if (directory != null) {
+            directory.close();
+        }
+        FeatureFlags.initializeFeatureFlags(Settings.EMPTY);
+    }
+
+    protected Codec getCodec() {
+        final Logger testLogger = LogManager.getLogger(SketchMetricAggregatorTests.class);
+        MapperService mapperService;
+        try {
+            mapperService = StarTreeDocValuesFormatTests.createMapperService(getSketchMapping());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new Composite912Codec(Lucene912Codec.Mode.BEST_SPEED, mapperService, testLogger);
+    }
+
+    private static XContentBuilder getSketchMapping() throws IOException {
+        return StarTreeDocValuesFormatTests.topMapping(b -> {
+            b.startObject("composite");
+            b.startObject("startree");
+            b.field("type", "star_tree");
+            b.startObject("config");
+            b.field("max_leaf_docs", 1);
+            b.startArray("ordered_dimensions");
+            b.startObject();
+            b.field("name", SNDV);
+            b.endObject();
+            b.startObject();
+            b.field("name", DV);
+            b.endObject();
+            b.endArray();
+            b.startArray("metrics");
+            b.startObject();
+            b.field("name", FIELD_NAME);
+            b.startArray("stats");
+            b.value("cardinality");
+            b.value("percentiles");
+            b.endArray();
+            b.endObject();
+            b.endArray();
+            b.endObject();
+            b.endObject();
+            b.endObject();
+            b.startObject("properties");
+            b.startObject(SNDV);
+            b.field("type", "integer");
+            b.endObject();
+            b.startObject(DV);
+            b.field("type", "integer");
+            b.endObject();
+            b.startObject(FIELD_NAME);
+            b.field("type", "integer");
+            b.endObject();
+            b.endObject();
+        });
+    }
+
+    private void indexRandomDocs() throws IOException {
+        directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setCodec(getCodec());
+        conf.setMergePolicy(newLogMergePolicy());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+
+        Random random = RandomizedTest.getRandom();
+        int totalDocs = 100;
+        int val;
+
+        // Index 100 random documents
+        for (int i = 0; i < totalDocs; i++) {
+            Document doc = new Document();
+            if (random.nextBoolean()) {
+                val = random.nextInt(10) - 5; // Random long between -5 and 4
+                doc.add(new SortedNumericDocValuesField(SNDV, val));
+            }
+            if (random.nextBoolean()) {
+                val = random.nextInt(20) - 10; // Random long between -10 and 9
+                doc.add(new SortedNumericDocValuesField(DV, val));
+            }
+            if (random.nextBoolean()) {
+                val = random.nextInt(50); // Random long between 0 and 49
+                doc.add(new SortedNumericDocValuesField(FIELD_NAME, val));
+            }
+            iw.addDocument(doc);
+        }
+
+        if (randomBoolean()) {
+            iw.forceMerge(1);
+        }
+        iw.close();
+
+        indexReader = DirectoryReader.open(directory);
+        initValuesSourceRegistry();
+        LeafReaderContext context = indexReader.leaves().get(0);
+
+        SegmentReader reader = Lucene.segmentReader(context.reader());
+        indexSearcher = newSearcher(reader, false, false);
+        CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) reader.getDocValuesReader();
+        starTree = starTreeDocValuesReader.getCompositeIndexFields().get(0);
+    }
+
+    public void testStarTreeSketchMetrics() throws IOException {
+        indexRandomDocs();
+        Random random = RandomizedTest.getRandom();
+
+        for (int cases = 0; cases < 20; cases++) {
+            Query query;
+            QueryBuilder queryBuilder;
+            if (cases == 0) {
+                // match-all query
+                query = new MatchAllDocsQuery();
+                queryBuilder = null; // no predicates
+            } else {
+                String queryField;
+                long queryValue;
+                if (randomBoolean()) {
+                    queryField = SNDV;
+                    queryValue = random.nextInt(10) - 5;
+                } else {
+                    queryField = DV;
+                    queryValue = random.nextInt(20) - 10;
+                }
+                query = SortedNumericDocValuesField.newSlowExactQuery(queryField, queryValue);
+                queryBuilder = new TermQueryBuilder(queryField, queryValue);
+            }
+
+            testCase(query, queryBuilder, cardinality("_name").field(FIELD_NAME), null, this::verifyCardinality);
+            testCase(query, queryBuilder, percentiles("_name").field(FIELD_NAME), null, this::verifyPercentiles);
+        }
+    }
+
+    public void testStarTreeSketchMetricsUnderTerms() throws IOException {
+        indexRandomDocs();
+        Random random = RandomizedTest.getRandom();
+
+        for (int cases = 0; cases < 20; cases++) {
+            // terms on one dimension, optionally filtered on the other one
+            String termsField;
+            String queryField;
+            long queryValue;
+            if (randomBoolean()) {
+                termsField = SNDV;
+                queryField = DV;
+                queryValue = random.nextInt(20) - 10;
+            } else {
+                termsField = DV;
+                queryField = SNDV;
+                queryValue = random.nextInt(10) - 5;
+            }
+            Query query;
+            QueryBuilder queryBuilder;
+            if (randomBoolean()) {
+                // match-all query
+                query = new MatchAllDocsQuery();
+                queryBuilder = null; // no predicates
+            } else {
+                query = SortedNumericDocValuesField.newSlowExactQuery(queryField, queryValue);
+                queryBuilder = new TermQueryBuilder(queryField, queryValue);
+            }
+
+            // the size covers all the terms, so that both sides return every bucket
+            testCase(
+                query,
+                queryBuilder,
+                terms("by_term").field(termsField).size(20).subAggregation(cardinality("_name").field(FIELD_NAME)),
+                SUPPORTED_METRICS,
+                verifyBuckets(this::verifyCardinality)
+            );
+            testCase(
+                query,
+                queryBuilder,
+                terms("by_term").field(termsField).size(20).subAggregation(percentiles("_name").field(FIELD_NAME)),
+                SUPPORTED_METRICS,
+                verifyBuckets(this::verifyPercentiles)
+            );
+        }
+    }
+
+    /**
+     * The star-tree only holds sketches of the default precision and compression, other settings are served by the doc values
+     */
+    public void testStarTreeSketchSettings() throws IOException {
+        indexRandomDocs();
+
+        assertNotNull(starTreeQueryContext(terms("by_term").field(SNDV).subAggregation(cardinality("_name").field(FIELD_NAME))));
+        assertNotNull(starTreeQueryContext(terms("by_term").field(SNDV).subAggregation(percentiles("_name").field(FIELD_NAME))));
+        assertNull(
+            starTreeQueryContext(
+                terms("by_term").field(SNDV).subAggregation(cardinality("_name").field(FIELD_NAME).precisionThreshold(100))
+            )
+        );
+        assertNull(
+            starTreeQueryContext(terms("by_term").field(SNDV).subAggregation(percentiles("_name").field(FIELD_NAME).compression(50)))
+        );
+    }
+
+    private StarTreeQueryContext starTreeQueryContext(AggregationBuilder aggBuilder) throws IOException {
+        SearchContext searchContext = createSearchContextWithStarTreeContext(
+            indexSearcher,
+            createIndexSettings(),
+            new MatchAllDocsQuery(),
+            null,
+            aggBuilder,
+            starTree,
+            SUPPORTED_DIMENSIONS,
+            SUPPORTED_METRICS,
+            new MultiBucketConsumer(DEFAULT_MAX_BUCKETS, new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)),
+            DEFAULT_MAPPED_FIELD,
+            SNDV_MAPPED_FIELD,
+            DV_MAPPED_FIELD
+        );
+        return searchContext.getStarTreeQueryContext();
+    }
+
+    private void verifyCardinality(InternalCardinality expected, InternalCardinality actual) {
+        assertEquals(expected.getValue(), actual.getValue(), 0.0f);
+    }
+
+    /**
+     * Few enough values are indexed for every value to be kept as a centroid of its own, whether the TDigest is built from the
+     * values or merged from the sketches of the star-tree, so both yield the same percentiles
+     */
+    private void verifyPercentiles(InternalTDigestPercentiles expected, InternalTDigestPercentiles actual) {
+        for (Percentile percentile : expected) {
+            assertEquals(percentile.getValue(), actual.percentile(percentile.getPercent()), 1e-6);
+        }
+    }
+
+    /**
+     * Verifies that both terms aggregations have the same buckets, with the same doc counts and sub-aggregations
+     */
+    private <T extends InternalAggregation> BiConsumer<InternalTerms<?, ?>, InternalTerms<?, ?>> verifyBuckets(BiConsumer<T, T> verify) {
+        return (expectedTerms, actualTerms) -> {
+            List<? extends Terms.Bucket> expectedBuckets = expectedTerms.getBuckets();
+            List<? extends Terms.Bucket> actualBuckets = actualTerms.getBuckets();
+            assertEquals(expectedBuckets.size(), actualBuckets.size());
+            for (int i = 0; i < expectedBuckets.size(); i++) {
+                Terms.Bucket expected = expectedBuckets.get(i);
+                Terms.Bucket actual = actualBuckets.get(i);
+                assertEquals(expected.getKey(), actual.getKey());
+                assertEquals(expected.getDocCount(), actual.getDocCount());
+                verify.accept(expected.getAggregations().get("_name"), actual.getAggregations().get("_name"));
+            }
+        };
+    }
+
+    private <T extends AggregationBuilder, V extends InternalAggregation> void testCase(
+        Query query,
+        QueryBuilder queryBuilder,
+        T aggBuilder,
+        List<Metric> supportedMetrics,
+        BiConsumer<V, V> verify
+    ) throws IOException {
+        V starTreeAggregation = searchAndReduceStarTree(
+            createIndexSettings(),
+            indexSearcher,
+            query,
+            queryBuilder,
+            aggBuilder,
+            starTree,
+            SUPPORTED_DIMENSIONS,
+            supportedMetrics,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            DEFAULT_MAPPED_FIELD,
+            SNDV_MAPPED_FIELD,
+            DV_MAPPED_FIELD
+        );
+        V expectedAggregation = searchAndReduceStarTree(
+            createIndexSettings(),
+            indexSearcher,
+            query,
+            queryBuilder,
+            aggBuilder,
+            null,
+            null,
+            null,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            DEFAULT_MAPPED_FIELD,
+            SNDV_MAPPED_FIELD,
+            DV_MAPPED_FIELD
+        );
+        verify.accept(expectedAggregation, starTreeAggregation);
+    }
+}
@@ -38,12 +38,14 @@ import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.startree.DimensionFilter;
 import org.opensearch.search.startree.StarTreeFilter;
 import org.junit.After;
 import org.junit.Before;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -167,6 +169,30 @@ public class StarTreeFilterTests extends AggregatorTestCase {
         assertEquals(0, docCount);
         assertEquals(docCount, starTreeDocCount);
 
+        // range filter - matches docs
+        starTreeDocCount = getDocCountFromStarTree(starTreeDocValuesReader, context, Map.of(SNDV, DimensionFilter.range(10, 19)));
+        assertEquals(10, starTreeDocCount);
+
+        // range filter on 3rd field in ordered dimension combined with a range filter - matches docs
+        starTreeDocCount = getDocCountFromStarTree(
+            starTreeDocValuesReader,
+            context,
+            Map.of(SNDV, DimensionFilter.range(10, 19), DV, DimensionFilter.range(0, 29))
+        );
+        assertEquals(5, starTreeDocCount);
+
+        // multiple values filter - matches docs, missing values are ignored
+        starTreeDocCount = getDocCountFromStarTree(
+            starTreeDocValuesReader,
+            context,
+            Map.of(DV, DimensionFilter.exactMatch(List.of(0L, 3L, 4L, 198L, 200L)))
+        );
+        assertEquals(3, starTreeDocCount);
+
+        // range filter - does not match docs
+        starTreeDocCount = getDocCountFromStarTree(starTreeDocValuesReader, context, Map.of(SNDV, DimensionFilter.range(100, 200)));
+        assertEquals(0, starTreeDocCount);
+
         // non-dimension fields in filter - should throw IllegalArgumentException
         expectThrows(
             IllegalArgumentException.class,
@@ -217,6 +243,16 @@ public class StarTreeFilterTests extends AggregatorTestCase {
     // Returns count of documents in the star tree having field SNDV & applied filters
     private long getDocCountFromStarTree(CompositeIndexReader starTreeDocValuesReader, Map<String, Long> filters, LeafReaderContext context)
         throws IOException {
+        Map<String, DimensionFilter> dimensionFilters = new HashMap<>();
+        filters.forEach((dimension, value) -> dimensionFilters.put(dimension, DimensionFilter.exactMatch(value)));
+        return getDocCountFromStarTree(starTreeDocValuesReader, context, dimensionFilters);
+    }
+
+    private long getDocCountFromStarTree(
+        CompositeIndexReader starTreeDocValuesReader,
+        LeafReaderContext context,
+        Map<String, DimensionFilter> filters
+    ) throws IOException {
         List<CompositeIndexFieldInfo> compositeIndexFields = starTreeDocValuesReader.getCompositeIndexFields();
         CompositeIndexFieldInfo starTree = compositeIndexFields.get(0);
         StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(context, starTree);
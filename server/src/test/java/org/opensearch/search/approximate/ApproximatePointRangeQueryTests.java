@@ -12,19 +12,35 @@ import com.carrotsearch.randomizedtesting.generators.RandomNumbers;
 
 import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoubleDocValuesField;
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.TotalHits.Relation;
+import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.search.aggregations.SearchContextAggregations;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.ScoreSortBuilder;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -33,6 +49,7 @@ import java.io.IOException;
 import static java.util.Arrays.asList;
 import static org.apache.lucene.document.LongPoint.pack;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class ApproximatePointRangeQueryTests extends OpenSearchTestCase {
 
@@ -79,6 +96,40 @@ public class ApproximatePointRangeQueryTests extends OpenSearchTestCase {
         }
     }
 
+    public void testApproximateRangeSkipsDisjointSegments() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter iw = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int segment = 0; segment < 3; segment++) {
+                    for (int i = 0; i < 100; i++) {
+                        Document doc = new Document();
+                        doc.add(new LongPoint("point", segment * 1000 + i));
+                        iw.addDocument(doc);
+                    }
+                    iw.commit();
+                }
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                assertEquals(3, reader.leaves().size());
+                Query approximateQuery = new ApproximatePointRangeQuery("point", pack(1050).bytes, pack(1150).bytes, 1) {
+                    protected String toString(int dimension, byte[] value) {
+                        return Long.toString(LongPoint.decodeDimension(value, 0));
+                    }
+                };
+                IndexSearcher searcher = new IndexSearcher(reader);
+                Weight weight = approximateQuery.createWeight(searcher, ScoreMode.COMPLETE_NO_SCORES, 1f);
+                for (LeafReaderContext leaf : reader.leaves()) {
+                    long minValue = LongPoint.decodeDimension(leaf.reader().getPointValues("point").getMinPackedValue(), 0);
+                    if (minValue == 1000) {
+                        assertNotNull(weight.scorerSupplier(leaf));
+                    } else {
+                        assertNull(weight.scorerSupplier(leaf));
+                    }
+                }
+                assertEquals(new TotalHits(50, TotalHits.Relation.EQUAL_TO), searcher.search(approximateQuery, 10).totalHits);
+            }
+        }
+    }
+
     public void testApproximateRangeWithDefaultSize() throws IOException {
         try (Directory directory = newDirectory()) {
             try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory, new WhitespaceAnalyzer())) {
@@ -311,6 +362,89 @@ public class ApproximatePointRangeQueryTests extends OpenSearchTestCase {
         }
     }
 
+    public void testApproximateIntRangeShortCircuitAscSort() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory, new WhitespaceAnalyzer())) {
+                int numPoints = 1000;
+                for (int i = 0; i < numPoints; i++) {
+                    iw.addDocument(asList(new IntPoint("point", i), new NumericDocValuesField("point", i)));
+                }
+                iw.flush();
+                iw.forceMerge(1);
+                try (IndexReader reader = iw.getReader()) {
+                    int lower = 0;
+                    int upper = 20;
+                    Query approximateQuery = new ApproximatePointRangeQuery(
+                        "point",
+                        IntPoint.pack(lower).bytes,
+                        IntPoint.pack(upper).bytes,
+                        1,
+                        10,
+                        SortOrder.ASC
+                    ) {
+                        protected String toString(int dimension, byte[] value) {
+                            return Integer.toString(IntPoint.decodeDimension(value, 0));
+                        }
+                    };
+                    Query query = IntPoint.newRangeQuery("point", lower, upper);
+
+                    IndexSearcher searcher = new IndexSearcher(reader);
+                    Sort sort = new Sort(new SortField("point", SortField.Type.INT));
+                    TopDocs topDocs = searcher.search(approximateQuery, 10, sort);
+                    TopDocs topDocs1 = searcher.search(query, 10, sort);
+
+                    assertEquals(topDocs.totalHits, new TotalHits(10, TotalHits.Relation.EQUAL_TO));
+                    assertEquals(topDocs1.totalHits, new TotalHits(21, TotalHits.Relation.EQUAL_TO));
+                    for (int i = 0; i < 10; i++) {
+                        assertEquals(topDocs1.scoreDocs[i].doc, topDocs.scoreDocs[i].doc);
+                    }
+                }
+            }
+        }
+    }
+
+    public void testApproximateDoubleRangeShortCircuitAscSort() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory, new WhitespaceAnalyzer())) {
+                int numPoints = 1000;
+                for (int i = 0; i < numPoints; i++) {
+                    double value = (i - 500) / 4.0;
+                    iw.addDocument(asList(new DoublePoint("point", value), new DoubleDocValuesField("point", value)));
+                }
+                iw.flush();
+                iw.forceMerge(1);
+                try (IndexReader reader = iw.getReader()) {
+                    double lower = -100;
+                    double upper = 100;
+                    Query approximateQuery = new ApproximatePointRangeQuery(
+                        "point",
+                        DoublePoint.pack(lower).bytes,
+                        DoublePoint.pack(upper).bytes,
+                        1,
+                        10,
+                        SortOrder.ASC
+                    ) {
+                        protected String toString(int dimension, byte[] value) {
+                            return Double.toString(DoublePoint.decodeDimension(value, 0));
+                        }
+                    };
+                    Query query = DoublePoint.newRangeQuery("point", lower, upper);
+
+                    IndexSearcher searcher = new IndexSearcher(reader);
+                    Sort sort = new Sort(new SortField("point", SortField.Type.DOUBLE));
+                    TopDocs topDocs = searcher.search(approximateQuery, 10, sort);
+                    TopDocs topDocs1 = searcher.search(query, 10, sort);
+
+                    assertEquals(topDocs.totalHits, new TotalHits(10, TotalHits.Relation.EQUAL_TO));
+                    assertEquals(topDocs1.totalHits, new TotalHits(801, TotalHits.Relation.EQUAL_TO));
+                    for (int i = 0; i < 10; i++) {
+                        assertEquals(topDocs1.scoreDocs[i].doc, topDocs.scoreDocs[i].doc);
+                    }
+                }
+            }
+        }
+    }
+
     public void testSize() {
         ApproximatePointRangeQuery query = new ApproximatePointRangeQuery("point", pack(0).bytes, pack(20).bytes, 1) {
             protected String toString(int dimension, byte[] value) {
@@ -357,4 +491,79 @@ public class ApproximatePointRangeQueryTests extends OpenSearchTestCase {
         SearchContext searchContext = mock(SearchContext.class);
         assertTrue(queryCanApproximate.canApproximate(searchContext));
     }
+
+    public void testCanApproximateWithSort() {
+        ApproximatePointRangeQuery query = new ApproximatePointRangeQuery("point", pack(0).bytes, pack(20).bytes, 1) {
+            protected String toString(int dimension, byte[] value) {
+                return Long.toString(LongPoint.decodeDimension(value, 0));
+            }
+        };
+        SearchSourceBuilder source = new SearchSourceBuilder().query(new RangeQueryBuilder("point").from(0).to(20))
+            .sort(new FieldSortBuilder("point").order(SortOrder.DESC))
+            .trackTotalHits(false)
+            .size(10);
+        SearchContext searchContext = mockSearchContext(source);
+        assertTrue(query.canApproximate(searchContext));
+        assertEquals(10, query.getSize());
+        assertEquals(SortOrder.DESC, query.getSortOrder());
+
+        // the approximation can only collect the top documents of the range field
+        source.sorts().clear();
+        source.sort(new FieldSortBuilder("other").order(SortOrder.DESC));
+        assertFalse(query.canApproximate(mockSearchContext(source)));
+
+        source.sorts().clear();
+        source.sort(new FieldSortBuilder("point").missing("_first"));
+        assertFalse(query.canApproximate(mockSearchContext(source)));
+
+        source.sorts().clear();
+        source.sort(new ScoreSortBuilder());
+        assertTrue(query.canApproximate(mockSearchContext(source)));
+
+        // the range must be the whole query
+        source.sorts().clear();
+        source.query(new BoolQueryBuilder().filter(new RangeQueryBuilder("point").from(0).to(20)));
+        assertFalse(query.canApproximate(mockSearchContext(source)));
+
+        // aggregations need every matching document
+        source.query(new RangeQueryBuilder("point").from(0).to(20));
+        searchContext = mockSearchContext(source);
+        when(searchContext.aggregations()).thenReturn(mock(SearchContextAggregations.class));
+        assertFalse(query.canApproximate(searchContext));
+    }
+
+    public void testCanApproximateSizeCoversTrackedTotalHits() {
+        ApproximatePointRangeQuery query = new ApproximatePointRangeQuery("point", pack(0).bytes, pack(20).bytes, 1) {
+            protected String toString(int dimension, byte[] value) {
+                return Long.toString(LongPoint.decodeDimension(value, 0));
+            }
+        };
+        SearchSourceBuilder source = new SearchSourceBuilder().query(new RangeQueryBuilder("point").from(0).to(20)).size(0);
+
+        source.trackTotalHits(false);
+        assertTrue(query.canApproximate(mockSearchContext(source)));
+        assertEquals(SearchContext.DEFAULT_TRACK_TOTAL_HITS_UP_TO, query.getSize());
+
+        source.trackTotalHits(true);
+        assertTrue(query.canApproximate(mockSearchContext(source)));
+        assertEquals(Integer.MAX_VALUE, query.getSize());
+
+        source.trackTotalHitsUpTo(20_000);
+        assertTrue(query.canApproximate(mockSearchContext(source)));
+        assertEquals(20_000, query.getSize());
+
+        source.size(30_000);
+        assertTrue(query.canApproximate(mockSearchContext(source)));
+        assertEquals(30_000, query.getSize());
+    }
+
+    private static SearchContext mockSearchContext(SearchSourceBuilder source) {
+        SearchContext searchContext = mock(SearchContext.class);
+        ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.source()).thenReturn(source);
+        when(searchContext.request()).thenReturn(request);
+        when(searchContext.size()).thenReturn(source.size());
+        when(searchContext.trackTotalHitsUpTo()).thenReturn(source.trackTotalHitsUpTo());
+        return searchContext;
+    }
 }
@@ -37,6 +37,7 @@ import org.apache.lucene.codecs.StoredFieldsReader;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.FilterDirectoryReader;
@@ -50,6 +51,7 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
@@ -61,8 +63,12 @@ import org.apache.lucene.search.QueryVisitor;
 import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHitCountCollectorManager;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.Accountable;
@@ -80,15 +86,25 @@ import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.cache.bitset.BitsetFilterCache;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.SearchOperationListener;
+import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchService;
+import org.opensearch.search.SearchSortValuesAndFormats;
 import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortAndFormats;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.test.IndexSettingsModule;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -101,6 +117,7 @@ import static org.opensearch.search.internal.ExitableDirectoryReader.ExitablePoi
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitableTerms;
 import static org.opensearch.search.internal.IndexReaderUtils.getLeaves;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -428,6 +445,185 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
         }
     }
 
+    public void testIntraSegmentSearch() throws Exception {
+        final int numDocs = 2 * CostBalancedSliceSupplier.MIN_DOCS_PER_PARTITION + randomIntBetween(0, 1000);
+        try (
+            Directory directory = newDirectory();
+            IndexWriter iw = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()))
+        ) {
+            for (int i = 0; i < numDocs; ++i) {
+                Document document = new Document();
+                document.add(new StringField("even", i % 2 == 0 ? "yes" : "no", Field.Store.NO));
+                iw.addDocument(document);
+            }
+            iw.forceMerge(1);
+            try (DirectoryReader directoryReader = DirectoryReader.open(iw)) {
+                SearchContext searchContext = mock(SearchContext.class);
+                IndexShard indexShard = mock(IndexShard.class);
+                when(searchContext.indexShard()).thenReturn(indexShard);
+                when(indexShard.getSearchOperationListener()).thenReturn(new SearchOperationListener() {
+                });
+                when(searchContext.bucketCollectorProcessor()).thenReturn(SearchContext.NO_OP_BUCKET_COLLECTOR_PROCESSOR);
+                when(searchContext.shouldUseConcurrentSearch()).thenReturn(true);
+                when(searchContext.shouldUseIntraSegmentSearch()).thenReturn(true);
+                when(searchContext.getTargetMaxSliceCount()).thenReturn(4);
+                ContextIndexSearcher searcher = new ContextIndexSearcher(
+                    directoryReader,
+                    IndexSearcher.getDefaultSimilarity(),
+                    IndexSearcher.getDefaultQueryCache(),
+                    IndexSearcher.getDefaultQueryCachingPolicy(),
+                    randomBoolean(),
+                    null,
+                    searchContext
+                );
+                if (randomBoolean()) {
+                    searcher.addQueryCancellation(() -> {});
+                }
+                assertEquals(1, directoryReader.leaves().size());
+
+                // the single segment is split into two partitions, each collected by its own collector exactly once
+                CollectorManager<DocCollector, List<FixedBitSet>> manager = new CollectorManager<>() {
+                    @Override
+                    public DocCollector newCollector() {
+                        return new DocCollector(numDocs);
+                    }
+
+                    @Override
+                    public List<FixedBitSet> reduce(Collection<DocCollector> collectors) {
+                        List<FixedBitSet> docs = new ArrayList<>();
+                        for (DocCollector collector : collectors) {
+                            docs.add(collector.docs);
+                        }
+                        return docs;
+                    }
+                };
+                List<FixedBitSet> collected = searcher.search(new MatchAllDocsQuery(), manager);
+                assertEquals(2, collected.size());
+                FixedBitSet allDocs = new FixedBitSet(numDocs);
+                for (FixedBitSet docs : collected) {
+                    assertThat(docs.cardinality(), greaterThan(0));
+                    assertFalse(allDocs.intersects(docs));
+                    allDocs.or(docs);
+                }
+                assertEquals(numDocs, allDocs.cardinality());
+                assertFalse(ContextIndexSearcher.isCollectingLeafPartition());
+
+                // the counts of the segment are not used for its partitions
+                assertEquals(numDocs, (int) searcher.search(new MatchAllDocsQuery(), new TotalHitCountCollectorManager()));
+                Query oddQuery = new TermQuery(new Term("even", "no"));
+                assertEquals(numDocs / 2, (int) searcher.search(oddQuery, new TotalHitCountCollectorManager()));
+            }
+        }
+    }
+
+    public void testSegmentsSortedAndSkippedByPrimarySort() throws Exception {
+        try (
+            Directory directory = newDirectory();
+            IndexWriter iw = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))
+        ) {
+            // segments with the values [0, 100), [1000, 1100) and [2000, 2100)
+            for (int segment = 0; segment < 3; segment++) {
+                for (int i = 0; i < 100; i++) {
+                    Document document = new Document();
+                    document.add(new LongPoint("value", segment * 1000 + i));
+                    iw.addDocument(document);
+                }
+                iw.commit();
+            }
+            try (DirectoryReader directoryReader = DirectoryReader.open(iw)) {
+                assertEquals(3, directoryReader.leaves().size());
+                SearchContext searchContext = mock(SearchContext.class);
+                IndexShard indexShard = mock(IndexShard.class);
+                when(searchContext.indexShard()).thenReturn(indexShard);
+                when(indexShard.getSearchOperationListener()).thenReturn(new SearchOperationListener() {
+                });
+                when(searchContext.bucketCollectorProcessor()).thenReturn(SearchContext.NO_OP_BUCKET_COLLECTOR_PROCESSOR);
+                QueryShardContext queryShardContext = mock(QueryShardContext.class);
+                when(queryShardContext.fieldMapper("value")).thenReturn(
+                    new NumberFieldMapper.NumberFieldType("value", NumberFieldMapper.NumberType.LONG)
+                );
+                when(searchContext.getQueryShardContext()).thenReturn(queryShardContext);
+                when(searchContext.size()).thenReturn(10);
+                Sort sort = new Sort(new SortField("value", SortField.Type.LONG, true));
+                when(searchContext.sort()).thenReturn(new SortAndFormats(sort, new DocValueFormat[] { DocValueFormat.RAW }));
+                ShardSearchRequest request = mock(ShardSearchRequest.class);
+                when(request.source()).thenReturn(new SearchSourceBuilder().sort(new FieldSortBuilder("value").order(SortOrder.DESC)));
+                when(searchContext.request()).thenReturn(request);
+                ContextIndexSearcher searcher = new ContextIndexSearcher(
+                    directoryReader,
+                    IndexSearcher.getDefaultSimilarity(),
+                    IndexSearcher.getDefaultQueryCache(),
+                    IndexSearcher.getDefaultQueryCachingPolicy(),
+                    true,
+                    null,
+                    searchContext
+                );
+
+                // the segments with the highest values are collected first
+                LeafOrdCollector collector = new LeafOrdCollector();
+                searcher.search(new MatchAllDocsQuery(), collector);
+                assertEquals(List.of(2, 1, 0), collector.ords);
+
+                // the segment whose values are all below the bottom sort value of the other shards is skipped
+                when(request.getBottomSortValues()).thenReturn(
+                    new SearchSortValuesAndFormats(new Object[] { 1050L }, new DocValueFormat[] { DocValueFormat.RAW })
+                );
+                when(searchContext.trackTotalHitsUpTo()).thenReturn(SearchContext.TRACK_TOTAL_HITS_DISABLED);
+                collector = new LeafOrdCollector();
+                searcher.search(new MatchAllDocsQuery(), collector);
+                assertEquals(List.of(2, 1), collector.ords);
+
+                // unless the total hits are tracked
+                when(searchContext.trackTotalHitsUpTo()).thenReturn(SearchContext.DEFAULT_TRACK_TOTAL_HITS_UP_TO);
+                collector = new LeafOrdCollector();
+                searcher.search(new MatchAllDocsQuery(), collector);
+                assertEquals(List.of(2, 1, 0), collector.ords);
+            }
+        }
+    }
+
+    private static class LeafOrdCollector extends SimpleCollector {
+        private final List<Integer> ords = new ArrayList<>();
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) {
+            ords.add(context.ord);
+        }
+
+        @Override
+        public void collect(int doc) {}
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+
+    private static class DocCollector extends SimpleCollector {
+        private final FixedBitSet docs;
+        private int docBase;
+
+        DocCollector(int numDocs) {
+            this.docs = new FixedBitSet(numDocs);
+        }
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) {
+            assertTrue(ContextIndexSearcher.isCollectingLeafPartition());
+            docBase = context.docBase;
+        }
+
+        @Override
+        public void collect(int doc) {
+            docs.set(docBase + doc);
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+
     private SparseFixedBitSet query(LeafReaderContext leaf, String field, String value) throws IOException {
         SparseFixedBitSet sparseFixedBitSet = new SparseFixedBitSet(leaf.reader().maxDoc());
         TermsEnum tenum = leaf.reader().terms(field).iterator();
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.Directory;
+import org.opensearch.search.internal.CostBalancedSliceSupplier.LeafPartition;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.opensearch.search.internal.IndexReaderUtils.getLeaves;
+
+public class CostBalancedSliceSupplierTests extends OpenSearchTestCase {
+
+    public void testNegativeSliceCount() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CostBalancedSliceSupplier.getSlices(new ArrayList<>(), new long[0], randomIntBetween(-3, 0), 1)
+        );
+    }
+
+    public void testEmptyLeaves() {
+        assertEquals(0, CostBalancedSliceSupplier.getSlices(new ArrayList<>(), new long[0], 2, 1).size());
+    }
+
+    public void testSlicesBalanceCost() throws Exception {
+        List<LeafReaderContext> leaves = getLeaves(9);
+        long[] costs = new long[] { 1, 1, 8, 1, 1, 1, 1, 1, 1 };
+        List<List<LeafPartition>> slices = CostBalancedSliceSupplier.getSlices(leaves, costs, 2, 1);
+        assertEquals(2, slices.size());
+        for (List<LeafPartition> slice : slices) {
+            long cost = 0;
+            for (LeafPartition partition : slice) {
+                assertTrue(partition.isWholeLeaf());
+                cost += partition.cost;
+            }
+            assertEquals(8, cost);
+        }
+        // the costly leaf is alone in its slice
+        assertEquals(1, slices.stream().filter(slice -> slice.size() == 1).count());
+    }
+
+    public void testLargeLeafIsPartitioned() throws Exception {
+        final int numDocs = randomIntBetween(100, 1000);
+        try (
+            Directory directory = newDirectory();
+            IndexWriter iw = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()))
+        ) {
+            for (int i = 0; i < numDocs; ++i) {
+                Document document = new Document();
+                document.add(new StringField("field", "value" + i, Field.Store.NO));
+                iw.addDocument(document);
+            }
+            iw.forceMerge(1);
+            try (DirectoryReader directoryReader = DirectoryReader.open(iw)) {
+                List<LeafReaderContext> leaves = directoryReader.leaves();
+                assertEquals(1, leaves.size());
+
+                // too small to be partitioned
+                List<List<LeafPartition>> slices = CostBalancedSliceSupplier.getSlices(leaves, new long[] { numDocs }, 4, numDocs);
+                assertEquals(1, slices.size());
+                assertTrue(slices.get(0).get(0).isWholeLeaf());
+
+                // one partition per slice, covering all the documents of the leaf
+                slices = CostBalancedSliceSupplier.getSlices(leaves, new long[] { numDocs }, 4, 10);
+                assertEquals(4, slices.size());
+                List<LeafPartition> partitions = new ArrayList<>();
+                for (List<LeafPartition> slice : slices) {
+                    assertEquals(1, slice.size());
+                    partitions.add(slice.get(0));
+                }
+                partitions.sort((a, b) -> Integer.compare(a.minDoc, b.minDoc));
+                int nextDoc = 0;
+                for (LeafPartition partition : partitions) {
+                    assertFalse(partition.isWholeLeaf());
+                    assertEquals(nextDoc, partition.minDoc);
+                    nextDoc = partition.maxDoc;
+                }
+                assertEquals(DocIdSetIterator.NO_MORE_DOCS, nextDoc);
+            }
+        }
+    }
+
+    public void testPartitionsOfLeafAreInDifferentSlices() throws Exception {
+        final int numDocs = 100;
+        try (
+            Directory directory = newDirectory();
+            IndexWriter iw = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()))
+        ) {
+            for (int i = 0; i < numDocs; ++i) {
+                Document document = new Document();
+                document.add(new StringField("field", "value" + i, Field.Store.NO));
+                iw.addDocument(document);
+            }
+            iw.forceMerge(1);
+            for (int i = 0; i < 3; ++i) {
+                Document document = new Document();
+                document.add(new StringField("field", "small" + i, Field.Store.NO));
+                iw.addDocument(document);
+                iw.commit();
+            }
+            try (DirectoryReader directoryReader = DirectoryReader.open(iw)) {
+                List<LeafReaderContext> leaves = directoryReader.leaves();
+                LeafReaderContext largeLeaf = leaves.stream().filter(leaf -> leaf.reader().maxDoc() == numDocs).findFirst().get();
+                long[] costs = new long[leaves.size()];
+                Arrays.fill(costs, 1);
+                costs[largeLeaf.ord] = numDocs;
+                int targetMaxSlice = randomIntBetween(2, 6);
+                List<List<LeafPartition>> slices = CostBalancedSliceSupplier.getSlices(leaves, costs, targetMaxSlice, 1);
+                int partitionsOfLargeLeaf = 0;
+                for (List<LeafPartition> slice : slices) {
+                    int ord = -1;
+                    for (LeafPartition partition : slice) {
+                        // ordered by leaf, and at most one partition of a leaf per slice
+                        assertTrue(partition.ctx.ord > ord);
+                        ord = partition.ctx.ord;
+                        if (partition.ctx == largeLeaf) {
+                            partitionsOfLargeLeaf++;
+                        }
+                    }
+                }
+                assertEquals(targetMaxSlice, partitionsOfLargeLeaf);
+            }
+        }
+    }
+}
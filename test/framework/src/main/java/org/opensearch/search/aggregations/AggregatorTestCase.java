@@ -93,6 +93,7 @@ import org.opensearch.index.cache.bitset.BitsetFilterCache.Listener;
 import org.opensearch.index.cache.query.DisabledQueryCache;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.Metric;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeQueryHelper;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
@@ -348,6 +349,7 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
         IndexSettings indexSettings,
         CompositeIndexFieldInfo starTree,
         List<Dimension> supportedDimensions,
+        List<Metric> supportedMetrics,
         MultiBucketConsumer bucketConsumer,
         MappedFieldType... fieldTypes
     ) throws IOException {
@@ -358,8 +360,10 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
                 indexSettings,
                 query,
                 queryBuilder,
+                aggregationBuilder,
                 starTree,
                 supportedDimensions,
+                supportedMetrics,
                 bucketConsumer,
                 fieldTypes
             );
@@ -382,13 +386,19 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
         return createSearchContext(indexSearcher, indexSettings, query, bucketConsumer, new NoneCircuitBreakerService(), fieldTypes);
     }
 
+    /**
+     * Create a {@linkplain SearchContext} with a star-tree query context for testing an {@link Aggregator}. If the metrics of the
+     * star-tree are given, the aggregation must be supported by the star-tree, otherwise only the query is checked.
+     */
     protected SearchContext createSearchContextWithStarTreeContext(
         IndexSearcher indexSearcher,
         IndexSettings indexSettings,
         Query query,
         QueryBuilder queryBuilder,
+        AggregationBuilder aggregationBuilder,
         CompositeIndexFieldInfo starTree,
         List<Dimension> supportedDimensions,
+        List<Metric> supportedMetrics,
         MultiBucketConsumer bucketConsumer,
         MappedFieldType... fieldTypes
     ) throws IOException {
@@ -406,7 +416,6 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
         AggregatorFactories aggregatorFactories = mock(AggregatorFactories.class);
         when(searchContext.aggregations()).thenReturn(searchContextAggregations);
         when(searchContextAggregations.factories()).thenReturn(aggregatorFactories);
-        when(aggregatorFactories.getFactories()).thenReturn(new AggregatorFactory[] {});
 
         CompositeDataCubeFieldType compositeMappedFieldType = mock(CompositeDataCubeFieldType.class);
         when(compositeMappedFieldType.name()).thenReturn(starTree.getField());
@@ -414,9 +423,23 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
         Set<CompositeMappedFieldType> compositeFieldTypes = Set.of(compositeMappedFieldType);
 
         when((compositeMappedFieldType).getDimensions()).thenReturn(supportedDimensions);
+        if (supportedMetrics != null) {
+            when(compositeMappedFieldType.getMetrics()).thenReturn(supportedMetrics);
+            QueryShardContext queryShardContext = searchContext.getQueryShardContext();
+            AggregatorFactory aggregatorFactory = aggregationBuilder.rewrite(queryShardContext).build(queryShardContext, null);
+            when(aggregatorFactories.getFactories()).thenReturn(new AggregatorFactory[] { aggregatorFactory });
+        } else {
+            when(aggregatorFactories.getFactories()).thenReturn(new AggregatorFactory[] {});
+        }
         MapperService mapperService = mock(MapperService.class);
         when(mapperService.getCompositeFieldTypes()).thenReturn(compositeFieldTypes);
         when(searchContext.mapperService()).thenReturn(mapperService);
+        // star-tree predicates are resolved against the mapped types of the queried fields
+        registerFieldTypes(
+            searchContext,
+            mapperService,
+            Arrays.stream(fieldTypes).filter(Objects::nonNull).collect(Collectors.toMap(MappedFieldType::name, Function.identity()))
+        );
 
         SearchSourceBuilder sb = new SearchSourceBuilder().query(queryBuilder);
         StarTreeQueryContext starTreeQueryContext = StarTreeQueryHelper.getStarTreeQueryContext(searchContext, sb);
@@ -743,6 +766,38 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
         int maxBucket,
         boolean hasNested,
         MappedFieldType... fieldTypes
+    ) throws IOException {
+        return searchAndReduceStarTree(
+            indexSettings,
+            searcher,
+            query,
+            queryBuilder,
+            builder,
+            compositeIndexFieldInfo,
+            supportedDimensions,
+            null,
+            maxBucket,
+            hasNested,
+            fieldTypes
+        );
+    }
+
+    /**
+     * Searches and reduces the aggregation using the given star-tree, or doc values if the star-tree is null. The aggregation is
+     * checked against the star-tree metrics if they are given, which bucket aggregations need to resolve their star-tree dimension.
+     */
+    protected <A extends InternalAggregation, C extends Aggregator> A searchAndReduceStarTree(
+        IndexSettings indexSettings,
+        IndexSearcher searcher,
+        Query query,
+        QueryBuilder queryBuilder,
+        AggregationBuilder builder,
+        CompositeIndexFieldInfo compositeIndexFieldInfo,
+        List<Dimension> supportedDimensions,
+        List<Metric> supportedMetrics,
+        int maxBucket,
+        boolean hasNested,
+        MappedFieldType... fieldTypes
     ) throws IOException {
         query = query.rewrite(searcher);
         final IndexReaderContext ctx = searcher.getTopReaderContext();
@@ -764,6 +819,7 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
             indexSettings,
             compositeIndexFieldInfo,
             supportedDimensions,
+            supportedMetrics,
             bucketConsumer,
             fieldTypes
         );